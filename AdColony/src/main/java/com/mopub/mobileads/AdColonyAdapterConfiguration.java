@@ -11,7 +11,6 @@ import androidx.annotation.Nullable;
 import com.adcolony.sdk.AdColony;
 import com.adcolony.sdk.AdColonyAppOptions;
 import com.adcolony.sdk.AdColonyAdOptions;
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.DataKeys;
 import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
@@ -28,7 +27,7 @@ import java.util.Map;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
-public class AdColonyAdapterConfiguration extends BaseAdapterConfiguration {
+public class AdColonyAdapterConfiguration extends CachingAdapterConfiguration {
 
     // Adapter's keys
     private static final String ADAPTER_NAME = AdColonyAdapterConfiguration.class.getSimpleName();
@@ -86,6 +85,10 @@ public class AdColonyAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        if (LazyNetworkInitializer.deferIfEnabled(this, context, configuration, listener)) {
+            return;
+        }
+
         boolean networkInitializationSucceeded = false;
 
         synchronized (AdColonyAdapterConfiguration.class) {
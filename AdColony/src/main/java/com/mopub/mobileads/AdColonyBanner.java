@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.view.View;
 
 import androidx.annotation.NonNull;
@@ -18,6 +16,7 @@ import com.adcolony.sdk.AdColonyZone;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.util.Json;
+import com.mopub.mobileads.adcolony.BuildConfig;
 
 import java.util.Map;
 
@@ -32,11 +31,38 @@ public class AdColonyBanner extends BaseAd {
 
     private static final String ADAPTER_NAME = AdColonyBanner.class.getSimpleName();
 
+    // Events handled on the main thread by mMainThreadCallback.
+    private static final int EVENT_REQUEST_FILLED = 0;
+    private static final int EVENT_REQUEST_NOT_FILLED = 1;
+
     private AdColonyAdViewListener mAdColonyBannerListener;
-    private final Handler mHandler;
 
     @NonNull
     private AdColonyAdapterConfiguration mAdColonyAdapterConfiguration;
+
+    private final MainThreadDispatcher.Callback mMainThreadCallback = new MainThreadDispatcher.Callback() {
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            switch (event) {
+                case EVENT_REQUEST_FILLED:
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoaded();
+                    }
+                    MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                    break;
+                case EVENT_REQUEST_NOT_FILLED:
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
+                            MoPubErrorCode.NETWORK_NO_FILL);
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
     private AdColonyAdView mAdColonyAdView;
 
     @NonNull
@@ -53,13 +79,15 @@ public class AdColonyBanner extends BaseAd {
     }
 
     public AdColonyBanner() {
-        mHandler = new Handler(Looper.getMainLooper());
         mAdColonyAdapterConfiguration = new AdColonyAdapterConfiguration();
     }
 
     @Override
     protected void load(@NonNull final Context context,
                         @NonNull final AdData adData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         if (!(context instanceof Activity)) {
             MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR.getIntCode(), MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Aborting Ad Colony banner load request as the context calling it is not an instance of Activity.");
@@ -133,6 +161,8 @@ public class AdColonyBanner extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mAdColonyAdView != null) {
             mAdColonyAdView.destroy();
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Banner destroyed");
@@ -157,30 +187,13 @@ public class AdColonyBanner extends BaseAd {
                 @Override
                 public void onRequestFilled(final AdColonyAdView adColonyAdView) {
                     mAdColonyAdView = adColonyAdView;
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mLoadListener != null) {
-                                mLoadListener.onAdLoaded();
-                            }
-                            MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_REQUEST_FILLED, null);
                 }
 
                 @Override
                 public void onRequestNotFilled(AdColonyZone zone) {
                     super.onRequestNotFilled(zone);
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mLoadListener != null) {
-                                mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                            }
-                            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                                    MoPubErrorCode.NETWORK_NO_FILL);
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_REQUEST_NOT_FILLED, null);
                 }
 
                 @Override
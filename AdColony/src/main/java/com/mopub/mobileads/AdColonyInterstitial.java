@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -16,6 +14,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.util.Json;
+import com.mopub.mobileads.adcolony.BuildConfig;
 
 import java.util.Map;
 
@@ -32,8 +31,15 @@ public class AdColonyInterstitial extends BaseAd {
 
     private static final String ADAPTER_NAME = AdColonyInterstitial.class.getSimpleName();
 
+    // Events handled on the main thread by mMainThreadCallback. A failure raised from inside show()
+    // is posted, so it reaches MoPub after show() has returned.
+    private static final int EVENT_SHOW_FAILED = 0;
+    private static final int EVENT_REQUEST_FILLED = 1;
+    private static final int EVENT_REQUEST_NOT_FILLED = 2;
+    private static final int EVENT_CLOSED = 3;
+    private static final int EVENT_OPENED = 4;
+
     private AdColonyInterstitialListener mAdColonyInterstitialListener;
-    private final Handler mHandler;
     private com.adcolony.sdk.AdColonyInterstitial mAdColonyInterstitial;
 
     @NonNull
@@ -52,8 +58,49 @@ public class AdColonyInterstitial extends BaseAd {
     @NonNull
     private AdColonyAdapterConfiguration mAdColonyAdapterConfiguration;
 
+    private final MainThreadDispatcher.Callback mMainThreadCallback = new MainThreadDispatcher.Callback() {
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            switch (event) {
+                case EVENT_SHOW_FAILED:
+                    if (mInteractionListener != null) {
+                        mInteractionListener.onAdFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    MoPubLog.log(getAdNetworkId(), SHOW_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
+                            MoPubErrorCode.NETWORK_NO_FILL);
+                    break;
+                case EVENT_REQUEST_FILLED:
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoaded();
+                    }
+                    MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                    break;
+                case EVENT_REQUEST_NOT_FILLED:
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
+                            MoPubErrorCode.NETWORK_NO_FILL);
+                    break;
+                case EVENT_CLOSED:
+                    if (mInteractionListener != null) {
+                        mInteractionListener.onAdDismissed();
+                    }
+                    break;
+                case EVENT_OPENED:
+                    if (mInteractionListener != null) {
+                        mInteractionListener.onAdShown();
+                        mInteractionListener.onAdImpression();
+                    }
+                    MoPubLog.log(getAdNetworkId(), SHOW_SUCCESS, ADAPTER_NAME);
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
     public AdColonyInterstitial() {
-        mHandler = new Handler(Looper.getMainLooper());
         mAdColonyAdapterConfiguration = new AdColonyAdapterConfiguration();
     }
 
@@ -63,6 +110,9 @@ public class AdColonyInterstitial extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         if (!(context instanceof Activity)) {
@@ -124,16 +174,7 @@ public class AdColonyInterstitial extends BaseAd {
     protected void show() {
         MoPubLog.log(getAdNetworkId(), SHOW_ATTEMPTED, ADAPTER_NAME);
         if (mAdColonyInterstitial == null || mAdColonyInterstitial.isExpired()) {
-            mHandler.post(new Runnable() {
-                @Override
-                public void run() {
-                    if (mInteractionListener != null) {
-                        mInteractionListener.onAdFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                    }
-                    MoPubLog.log(getAdNetworkId(), SHOW_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                            MoPubErrorCode.NETWORK_NO_FILL);
-                }
-            });
+            MainThreadDispatcher.post(mMainThreadCallback, EVENT_SHOW_FAILED, null);
         } else {
             mAdColonyInterstitial.show();
         }
@@ -141,6 +182,8 @@ public class AdColonyInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mAdColonyInterstitial != null) {
             mAdColonyInterstitial.destroy();
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "AdColony interstitial destroyed");
@@ -163,56 +206,23 @@ public class AdColonyInterstitial extends BaseAd {
                 @Override
                 public void onRequestFilled(@NonNull com.adcolony.sdk.AdColonyInterstitial adColonyInterstitial) {
                     mAdColonyInterstitial = adColonyInterstitial;
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mLoadListener != null) {
-                                mLoadListener.onAdLoaded();
-                            }
-                            MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_REQUEST_FILLED, null);
                 }
 
                 @Override
                 public void onRequestNotFilled(@NonNull AdColonyZone zone) {
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mLoadListener != null) {
-                                mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                            }
-                            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                                    MoPubErrorCode.NETWORK_NO_FILL);
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_REQUEST_NOT_FILLED, null);
                 }
 
                 @Override
                 public void onClosed(@NonNull com.adcolony.sdk.AdColonyInterstitial ad) {
                     MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "AdColony interstitial ad has been dismissed");
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mInteractionListener != null) {
-                                mInteractionListener.onAdDismissed();
-                            }
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_CLOSED, null);
                 }
 
                 @Override
                 public void onOpened(@NonNull com.adcolony.sdk.AdColonyInterstitial ad) {
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mInteractionListener != null) {
-                                mInteractionListener.onAdShown();
-                                mInteractionListener.onAdImpression();
-                            }
-                            MoPubLog.log(getAdNetworkId(), SHOW_SUCCESS, ADAPTER_NAME);
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_OPENED, null);
                 }
 
                 @Override
@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -24,9 +22,11 @@ import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.util.Json;
+import com.mopub.mobileads.adcolony.BuildConfig;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -44,21 +44,53 @@ public class AdColonyRewardedVideo extends BaseAd {
 
     private static final String ADAPTER_NAME = AdColonyRewardedVideo.class.getSimpleName();
 
+    // Events handled on the main thread by mMainThreadCallback.
+    private static final int EVENT_VIDEO_READY = 0;
+
     private static boolean sInitialized = false;
     private static LifecycleListener sLifecycleListener = new BaseLifecycleListener();
 
     @NonNull
     private AdColonyAdapterConfiguration mAdColonyAdapterConfiguration;
 
+    private final MainThreadDispatcher.Callback mMainThreadCallback = new MainThreadDispatcher.Callback() {
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            switch (event) {
+                case EVENT_VIDEO_READY:
+                    if (mLoadListener == null) {
+                        MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
+                                MoPubErrorCode.NETWORK_INVALID_STATE.getIntCode(),
+                                MoPubErrorCode.NETWORK_INVALID_STATE);
+                        return;
+                    }
+                    if (hasVideoAvailable()) {
+                        MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                        mLoadListener.onAdLoaded();
+                    } else {
+                        MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                        mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
     private AdColonyInterstitial mAd;
+    private AdColonyListener mAdColonyListener;
     private String mAdColonyClientOptions = "";
-    private static WeakHashMap<String, AdColonyInterstitial> sZoneIdToAdMap = new WeakHashMap<>();
+    // Zone ids are not interned, so a weak-keyed map could lose a loaded ad at any GC. Entries
+    // are removed in onInvalidate instead.
+    private static final Map<String, AdColonyInterstitial> sZoneIdToAdMap =
+            Collections.synchronizedMap(new HashMap<String, AdColonyInterstitial>());
     @NonNull
     private String mAdUnitId = "";
     private boolean mIsLoading = false;
 
     @NonNull
-    private static String mZoneId = AdColonyAdapterConfiguration.DEFAULT_ZONE_ID;
+    private String mZoneId = AdColonyAdapterConfiguration.DEFAULT_ZONE_ID;
 
     @NonNull
     @Override
@@ -69,12 +101,10 @@ public class AdColonyRewardedVideo extends BaseAd {
     private AdColonyAppOptions mAdColonyAppOptions;
 
     // For waiting and notifying the SDK:
-    private final Handler mHandler;
     private final ScheduledThreadPoolExecutor mScheduledThreadPoolExecutor;
 
     public AdColonyRewardedVideo() {
         mScheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1);
-        mHandler = new Handler(Looper.getMainLooper());
         mAdColonyAdapterConfiguration = new AdColonyAdapterConfiguration();
     }
 
@@ -86,13 +116,21 @@ public class AdColonyRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         mScheduledThreadPoolExecutor.shutdownNow();
-        AdColonyInterstitial ad = sZoneIdToAdMap.get(mZoneId);
+        AdColonyInterstitial ad = sZoneIdToAdMap.remove(mZoneId);
         if (ad != null) {
             ad.destroy();
-            sZoneIdToAdMap.remove(mZoneId);
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "AdColony rewarded video destroyed");
         }
+        mAd = null;
+
+        // AdColony keeps the reward listener globally, and it holds this adapter's listeners.
+        if (mAdColonyListener != null && AdColony.getRewardListener() == mAdColonyListener) {
+            AdColony.removeRewardListener();
+        }
+        mAdColonyListener = null;
     }
 
     @Override
@@ -152,6 +190,9 @@ public class AdColonyRewardedVideo extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         final Map<String, String> extras = adData.getExtras();
@@ -214,7 +255,7 @@ public class AdColonyRewardedVideo extends BaseAd {
 
         final AdColonyAdOptions mAdColonyAdOptions = mAdColonyAdapterConfiguration.getRewardAdOptionsFromExtras(extras, mAdUnitId);
 
-        final AdColonyListener mAdColonyListener = new AdColonyListener(mAdColonyAdOptions);
+        mAdColonyListener = new AdColonyListener(mAdColonyAdOptions);
         AdColony.setRewardListener(mAdColonyListener);
         AdColony.requestInterstitial(mZoneId, mAdColonyListener, mAdColonyAdOptions);
         scheduleOnVideoReady();
@@ -265,24 +306,7 @@ public class AdColonyRewardedVideo extends BaseAd {
                     mAd = sZoneIdToAdMap.get(mZoneId);
                     mIsLoading = false;
                     mScheduledThreadPoolExecutor.shutdownNow();
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mLoadListener == null) {
-                                MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                                        MoPubErrorCode.NETWORK_INVALID_STATE.getIntCode(),
-                                        MoPubErrorCode.NETWORK_INVALID_STATE);
-                                return;
-                            }
-                            if (hasVideoAvailable()) {
-                                MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                                mLoadListener.onAdLoaded();
-                            } else {
-                                MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
-                                mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                            }
-                        }
-                    });
+                    MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_VIDEO_READY, null);
                 }
             }
         };
@@ -0,0 +1,78 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+
+import androidx.annotation.NonNull;
+
+import com.adcolony.sdk.AdColonyInterstitialListener;
+import com.adcolony.sdk.AdColonyZone;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+/**
+ * AdColony hands over a filled ad only through the adapter's one-second polling thread, so a
+ * thousand filled lifecycles would take over a quarter of an hour. This drives the no-fill
+ * lifecycle, which still registers and releases the zone and the global reward listener.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowAdColony.class, instrumentedPackages = "com.adcolony.sdk")
+public class AdColonyRewardedVideoLifecycleTest {
+    private static final int LIFECYCLE_ITERATIONS = 1000;
+
+    @Test
+    public void repeatedNoFillLifecycles_shouldReportInOrderAndNotLeak() {
+        new AdapterLifecycleHarness<>(new AdapterLifecycleHarness.Driver<AdColonyRewardedVideo>() {
+            @NonNull
+            @Override
+            public AdColonyRewardedVideo createAdapter() {
+                return new AdColonyRewardedVideo();
+            }
+
+            @NonNull
+            @Override
+            public AdData createAdData() {
+                final Map<String, String> extras = new HashMap<>();
+                extras.put("appId", "appId");
+                extras.put("zoneId", "zone");
+                extras.put("allZoneIds", "[\"zone\"]");
+
+                return new AdData.Builder().extras(extras).build();
+            }
+
+            @Override
+            public void completeLoad(@NonNull final AdColonyRewardedVideo adapter) {
+                final AdColonyInterstitialListener requestListener =
+                        ShadowAdColony.takeRequestListener();
+                assertNotNull(requestListener);
+                requestListener.onRequestNotFilled(mock(AdColonyZone.class));
+            }
+
+            @Override
+            public void show(@NonNull final AdColonyRewardedVideo adapter,
+                             @NonNull final Activity activity) {
+                // Never called, since no load succeeds.
+            }
+
+            @NonNull
+            @Override
+            public List<String> getExpectedCallbacks() {
+                return Collections.singletonList("onAdLoadFailed");
+            }
+        }).run(LIFECYCLE_ITERATIONS);
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.os.Looper;
+
+import com.adcolony.sdk.AdColony;
+import com.adcolony.sdk.AdColonyInterstitial;
+import com.adcolony.sdk.AdColonyInterstitialListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Loads and invalidates AdColony rewarded videos many times, each in its own Activity, and checks
+ * that AdColony's global reward listener and the static zone map let go of every adapter.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowAdColony.class, instrumentedPackages = "com.adcolony.sdk")
+public class AdColonyRewardedVideoRetentionTest {
+    private static final int LIFECYCLE_ITERATIONS = 50;
+    private static final String ZONE_ID = "zone";
+
+    private RetentionProbe mProbe;
+
+    @Before
+    public void setUp() {
+        mProbe = new RetentionProbe();
+    }
+
+    @Test
+    public void onInvalidate_afterFilledLoad_shouldNotRetainAdapterOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runLifecycle(i, true);
+        }
+
+        assertNull(AdColony.getRewardListener());
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void onInvalidate_withLoadPending_shouldNotRetainAdapterOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runLifecycle(i, false);
+        }
+
+        assertNull(AdColony.getRewardListener());
+        mProbe.assertAllCollected();
+    }
+
+    private void runLifecycle(final int iteration, final boolean fill) {
+        final ActivityController<Activity> activityController =
+                Robolectric.buildActivity(Activity.class).create();
+        final Activity activity = activityController.get();
+        final AdColonyRewardedVideo adapter = new AdColonyRewardedVideo();
+
+        adapter.mLoadListener = mock(AdLifecycleListener.LoadListener.class);
+        adapter.load(activity, adData());
+
+        final AdColonyInterstitialListener requestListener = ShadowAdColony.takeRequestListener();
+        assertNotNull(requestListener);
+
+        final AdColonyInterstitial ad = mock(AdColonyInterstitial.class);
+        if (fill) {
+            when(ad.getZoneID()).thenReturn(ZONE_ID);
+            requestListener.onRequestFilled(ad);
+        }
+
+        adapter.onInvalidate();
+        activityController.destroy();
+        shadowOf(Looper.getMainLooper()).idle();
+
+        if (fill) {
+            verify(ad).destroy();
+        }
+
+        mProbe.track(adapter, "AdColonyRewardedVideo #" + iteration);
+        mProbe.track(activity, "Activity #" + iteration);
+    }
+
+    private static AdData adData() {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put("appId", "appId");
+        extras.put("zoneId", ZONE_ID);
+        extras.put("allZoneIds", "[\"" + ZONE_ID + "\"]");
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+
+import com.adcolony.sdk.AdColonyInterstitialListener;
+import com.adcolony.sdk.AdColonyZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts many AdColony rewarded video loads before any of them completes, and checks that no load
+ * sees another one's zone or listener.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowAdColony.class, instrumentedPackages = "com.adcolony.sdk")
+public class AdColonyRewardedVideoTest {
+    private static final int CONCURRENT_LOADS = 50;
+
+    private Activity mActivity;
+    private AdColonyRewardedVideo[] mAdapters;
+    private AdLifecycleListener.LoadListener[] mLoadListeners;
+    private AdColonyInterstitialListener[] mRequestListeners;
+
+    @Before
+    public void setUp() {
+        mActivity = Robolectric.buildActivity(Activity.class).create().get();
+        mAdapters = new AdColonyRewardedVideo[CONCURRENT_LOADS];
+        mLoadListeners = new AdLifecycleListener.LoadListener[CONCURRENT_LOADS];
+        mRequestListeners = new AdColonyInterstitialListener[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            mAdapters[i] = new AdColonyRewardedVideo();
+            mLoadListeners[i] = mock(AdLifecycleListener.LoadListener.class);
+            mAdapters[i].mLoadListener = mLoadListeners[i];
+            mAdapters[i].load(mActivity, adData(zoneId(i)));
+
+            mRequestListeners[i] = ShadowAdColony.takeRequestListener();
+            assertNotNull(mRequestListeners[i]);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        // Stops each adapter's polling for a filled ad.
+        for (final AdColonyRewardedVideo adapter : mAdapters) {
+            adapter.onInvalidate();
+        }
+    }
+
+    @Test
+    public void load_withInterleavedLoads_shouldKeepEachZone() {
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            assertEquals(zoneId(i), mAdapters[i].getAdNetworkId());
+        }
+    }
+
+    @Test
+    public void onRequestNotFilled_withInterleavedLoads_shouldOnlyFailThatLoad() {
+        final int notFilled = CONCURRENT_LOADS / 2;
+
+        mRequestListeners[notFilled].onRequestNotFilled(zone(notFilled));
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            if (i == notFilled) {
+                verify(mLoadListeners[i]).onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+            } else {
+                verifyNoInteractions(mLoadListeners[i]);
+            }
+        }
+    }
+
+    @Test
+    public void onRequestNotFilled_inReverseOrder_shouldFailEachLoadOnce() {
+        for (int i = CONCURRENT_LOADS - 1; i >= 0; i--) {
+            mRequestListeners[i].onRequestNotFilled(zone(i));
+        }
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            verify(mLoadListeners[i]).onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+            verifyNoMoreInteractions(mLoadListeners[i]);
+            assertEquals(zoneId(i), mAdapters[i].getAdNetworkId());
+        }
+    }
+
+    private static String zoneId(final int index) {
+        return "zone" + index;
+    }
+
+    private static AdColonyZone zone(final int index) {
+        final AdColonyZone zone = mock(AdColonyZone.class);
+        when(zone.getZoneID()).thenReturn(zoneId(index));
+        return zone;
+    }
+
+    private static AdData adData(final String zoneId) {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put("appId", "appId");
+        extras.put("zoneId", zoneId);
+        extras.put("allZoneIds", "[\"" + zoneId + "\"]");
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
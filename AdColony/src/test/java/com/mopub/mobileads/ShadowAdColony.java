@@ -0,0 +1,90 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+
+import androidx.annotation.Nullable;
+
+import com.adcolony.sdk.AdColony;
+import com.adcolony.sdk.AdColonyAdOptions;
+import com.adcolony.sdk.AdColonyAppOptions;
+import com.adcolony.sdk.AdColonyInterstitialListener;
+import com.adcolony.sdk.AdColonyRewardListener;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.annotation.Resetter;
+
+/**
+ * Stands in for the AdColony SDK in JVM tests. It keeps the global reward listener and the
+ * listener of the last interstitial request, as AdColony would, and never touches the network.
+ */
+@Implements(AdColony.class)
+public class ShadowAdColony {
+    @Nullable
+    private static AdColonyRewardListener sRewardListener;
+    @Nullable
+    private static AdColonyInterstitialListener sRequestListener;
+
+    @Implementation
+    protected static boolean configure(final Activity activity, final AdColonyAppOptions options,
+                                       final String appId, final String... zoneIds) {
+        return true;
+    }
+
+    @Implementation
+    protected static boolean setAppOptions(final AdColonyAppOptions options) {
+        return true;
+    }
+
+    @Implementation
+    protected static String getSDKVersion() {
+        return "4.6.0";
+    }
+
+    @Implementation
+    protected static boolean setRewardListener(final AdColonyRewardListener listener) {
+        sRewardListener = listener;
+        return true;
+    }
+
+    @Implementation
+    @Nullable
+    protected static AdColonyRewardListener getRewardListener() {
+        return sRewardListener;
+    }
+
+    @Implementation
+    protected static boolean removeRewardListener() {
+        sRewardListener = null;
+        return true;
+    }
+
+    @Implementation
+    protected static boolean requestInterstitial(final String zoneId,
+                                                 final AdColonyInterstitialListener listener,
+                                                 final AdColonyAdOptions options) {
+        sRequestListener = listener;
+        return true;
+    }
+
+    /**
+     * Returns the listener of the last interstitial request and forgets it, as AdColony does once
+     * the request is filled.
+     */
+    @Nullable
+    static AdColonyInterstitialListener takeRequestListener() {
+        final AdColonyInterstitialListener listener = sRequestListener;
+        sRequestListener = null;
+        return listener;
+    }
+
+    @Resetter
+    public static void reset() {
+        sRewardListener = null;
+        sRequestListener = null;
+    }
+}
@@ -19,6 +19,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.util.Views;
+import com.mopub.mobileads.admob.BuildConfig;
 
 import java.util.Collections;
 import java.util.Map;
@@ -63,6 +64,9 @@ public class GooglePlayServicesBanner extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         adWidth = adData.getAdWidth();
         adHeight = adData.getAdHeight();
         final Map<String, String> extras = adData.getExtras();
@@ -156,6 +160,8 @@ public class GooglePlayServicesBanner extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         Views.removeFromParent(mGoogleAdView);
 
         if (mGoogleAdView != null) {
@@ -18,6 +18,7 @@ import com.google.android.gms.ads.interstitial.InterstitialAdLoadCallback;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.admob.BuildConfig;
 
 import java.util.Collections;
 import java.util.Map;
@@ -64,6 +65,9 @@ public class GooglePlayServicesInterstitial extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         mContext = context;
 
         setAutomaticImpressionAndClickTracking(false);
@@ -252,6 +256,8 @@ public class GooglePlayServicesInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mGoogleInterstitialAd != null) {
             mGoogleInterstitialAd = null;
         }
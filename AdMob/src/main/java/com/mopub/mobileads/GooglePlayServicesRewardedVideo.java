@@ -23,6 +23,7 @@ import com.mopub.common.MediationSettings;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.admob.BuildConfig;
 
 import java.util.Collections;
 import java.util.Map;
@@ -128,6 +129,8 @@ public class GooglePlayServicesRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mRewardedAd != null) {
             mRewardedAd = null;
         }
@@ -169,6 +172,9 @@ public class GooglePlayServicesRewardedVideo extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         mContext = context;
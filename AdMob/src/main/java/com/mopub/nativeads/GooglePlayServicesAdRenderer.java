@@ -118,10 +118,17 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
             mViewHolderMap.put(view, viewHolder);
         }
 
-        NativeAdView nativeAdView = new NativeAdView(view.getContext());
-
-        updateNativeAdview(nativeAd, viewHolder, nativeAdView);
-        insertGoogleNativeAdView(nativeAdView, view, nativeAd.shouldSwapMargins());
+        // Recycled ad views keep their Google native ad view and media view, so rebinding only
+        // swaps the ad instead of rebuilding the view hierarchy and the video surface.
+        NativeAdView nativeAdView = viewHolder.mNativeAdView;
+        if (nativeAdView == null) {
+            nativeAdView = new NativeAdView(view.getContext());
+            updateNativeAdview(nativeAd, viewHolder, nativeAdView);
+            insertGoogleNativeAdView(nativeAdView, view, nativeAd.shouldSwapMargins());
+            viewHolder.mNativeAdView = nativeAdView;
+        } else {
+            updateNativeAdview(nativeAd, viewHolder, nativeAdView);
+        }
     }
 
     /**
@@ -198,10 +205,14 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
                 staticNativeViewHolder.mTextView, staticNativeAd.getText());
         nativeAdView.setBodyView(staticNativeViewHolder.mTextView);
         if (staticNativeViewHolder.mMediaView != null) {
-            MediaView mediaview = new MediaView(nativeAdView.getContext());
-            mediaview.setImageScaleType(ScaleType.CENTER_CROP);
-            staticNativeViewHolder.mMediaView.removeAllViews();
-            staticNativeViewHolder.mMediaView.addView(mediaview);
+            MediaView mediaview = staticNativeViewHolder.mGoogleMediaView;
+            if (mediaview == null) {
+                mediaview = new MediaView(nativeAdView.getContext());
+                mediaview.setImageScaleType(ScaleType.CENTER_CROP);
+                staticNativeViewHolder.mMediaView.removeAllViews();
+                staticNativeViewHolder.mMediaView.addView(mediaview);
+                staticNativeViewHolder.mGoogleMediaView = mediaview;
+            }
             nativeAdView.setMediaView(mediaview);
         }
 
@@ -220,9 +231,13 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
         }
         // Add the AdChoices icon to the container if one is provided by the publisher.
         if (staticNativeViewHolder.mAdChoicesIconContainer != null) {
-            AdChoicesView adChoicesView = new AdChoicesView(nativeAdView.getContext());
-            staticNativeViewHolder.mAdChoicesIconContainer.removeAllViews();
-            staticNativeViewHolder.mAdChoicesIconContainer.addView(adChoicesView);
+            AdChoicesView adChoicesView = staticNativeViewHolder.mAdChoicesView;
+            if (adChoicesView == null) {
+                adChoicesView = new AdChoicesView(nativeAdView.getContext());
+                staticNativeViewHolder.mAdChoicesIconContainer.removeAllViews();
+                staticNativeViewHolder.mAdChoicesIconContainer.addView(adChoicesView);
+                staticNativeViewHolder.mAdChoicesView = adChoicesView;
+            }
             nativeAdView.setAdChoicesView(adChoicesView);
         }
 
@@ -267,8 +282,13 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
         @Nullable
         GooglePlayServicesMediaLayout mMediaView;
 
-        private static final GoogleStaticNativeViewHolder EMPTY_VIEW_HOLDER =
-                new GoogleStaticNativeViewHolder();
+        // Google views created on first render and reused when the ad view is recycled.
+        @Nullable
+        NativeAdView mNativeAdView;
+        @Nullable
+        MediaView mGoogleMediaView;
+        @Nullable
+        AdChoicesView mAdChoicesView;
 
         @NonNull
         public static GoogleStaticNativeViewHolder fromViewBinder(@NonNull View view,
@@ -320,7 +340,8 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
             } catch (ClassCastException exception) {
                 MoPubLog.log(CUSTOM_WITH_THROWABLE, "Could not cast from id in ViewBinder to " +
                         "expected View type", exception);
-                return EMPTY_VIEW_HOLDER;
+                // Each ad view gets its own holder since the Google views are stored on it.
+                return new GoogleStaticNativeViewHolder();
             }
         }
     }
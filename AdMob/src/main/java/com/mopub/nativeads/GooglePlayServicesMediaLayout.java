@@ -28,6 +28,8 @@ import com.mopub.common.util.Drawables;
 import com.mopub.mobileads.VastVideoProgressBarWidget;
 import com.mopub.mobileads.admob.R;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class GooglePlayServicesMediaLayout extends RelativeLayout {
     public enum Mode {IMAGE, PLAYING, LOADING, BUFFERING, PAUSED, FINISHED}
 
@@ -73,6 +75,23 @@ public class GooglePlayServicesMediaLayout extends RelativeLayout {
 
     private boolean mIsInitialized;
 
+    @NonNull
+    private final AtomicBoolean mViewStateUpdatePending = new AtomicBoolean();
+    @NonNull
+    private final Runnable mUpdateViewStateRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mViewStateUpdatePending.set(false);
+            updateViewState();
+        }
+    };
+
+    // Last aspect-ratio size and the measure specs it was computed for
+    private int mLastWidthMeasureSpec = -1;
+    private int mLastHeightMeasureSpec = -1;
+    private int mAspectWidth;
+    private int mAspectHeight;
+
     // Measurements
     private final int mControlSizePx;
     private final int mGradientStripHeightPx;
@@ -219,43 +238,52 @@ public class GooglePlayServicesMediaLayout extends RelativeLayout {
 
     @Override
     protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        // The aspect-ratio size only depends on the measure specs, so reuse it while they are
+        // unchanged. The size is applied through the specs passed to the children rather than
+        // through the LayoutParams, which would request another layout pass.
+        if (widthMeasureSpec != mLastWidthMeasureSpec || heightMeasureSpec != mLastHeightMeasureSpec) {
+            computeAspectSize(widthMeasureSpec, heightMeasureSpec);
+            mLastWidthMeasureSpec = widthMeasureSpec;
+            mLastHeightMeasureSpec = heightMeasureSpec;
+        }
+
+        super.onMeasure(MeasureSpec.makeMeasureSpec(mAspectWidth, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(mAspectHeight, MeasureSpec.EXACTLY));
+    }
+
+    private void computeAspectSize(final int widthMeasureSpec, final int heightMeasureSpec) {
         final int widthMode = MeasureSpec.getMode(widthMeasureSpec);
         final int heightMode = MeasureSpec.getMode(heightMeasureSpec);
 
         final int measWidth = MeasureSpec.getSize(widthMeasureSpec);
         final int measHeight = MeasureSpec.getSize(heightMeasureSpec);
 
-        final int curWidth = getMeasuredWidth();
-        final int curHeight = getMeasuredHeight();
-
         int finalWidth;
-        if (widthMode == MeasureSpec.EXACTLY) {
+        if (widthMode != MeasureSpec.UNSPECIFIED) {
+            // Fill the width we are offered.
             finalWidth = measWidth;
-        } else if (widthMode == MeasureSpec.AT_MOST) {
-            // Cap width at max width.
-            finalWidth = Math.min(measWidth, curWidth);
+        } else if (heightMode != MeasureSpec.UNSPECIFIED) {
+            // Width is meaningless. Derive it from the height bound.
+            finalWidth = (int) (ASPECT_MULTIPLIER_HEIGHT_TO_WIDTH * measHeight);
         } else {
-            // MeasWidth is meaningless. Stay with current width.
-            finalWidth = curWidth;
+            // Neither dimension is bounded. Stay with current width.
+            finalWidth = getMeasuredWidth();
         }
 
         // Set height based on width + height constraints.
         int finalHeight = (int) (ASPECT_MULTIPLIER_WIDTH_TO_HEIGHT * finalWidth);
 
         // Check if the layout is giving us bounds smaller than we want, conform to those if needed.
-        if (heightMode == MeasureSpec.EXACTLY && measHeight < finalHeight) {
+        if (heightMode != MeasureSpec.UNSPECIFIED && measHeight < finalHeight) {
             finalHeight = measHeight;
             finalWidth = (int) (ASPECT_MULTIPLIER_HEIGHT_TO_WIDTH * finalHeight);
         }
 
-        if (Math.abs(finalHeight - curHeight) >= 2
-                || Math.abs(finalWidth - curWidth) >= 2) {
-            MoPubLog.log(CUSTOM, String.format("Resetting mediaLayout size to w: %d h: %d", finalWidth, finalHeight));
-            getLayoutParams().width = finalWidth;
-            getLayoutParams().height = finalHeight;
+        if (finalWidth != mAspectWidth || finalHeight != mAspectHeight) {
+            mAspectWidth = finalWidth;
+            mAspectHeight = finalHeight;
+            MoPubLog.log(CUSTOM, "Measured mediaLayout size to w: " + finalWidth + " h: " + finalHeight);
         }
-
-        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
     }
 
     public void setMainImageDrawable(@NonNull Drawable drawable) {
@@ -282,12 +310,11 @@ public class GooglePlayServicesMediaLayout extends RelativeLayout {
     public void setMode(@NonNull final Mode mode) {
         Preconditions.checkNotNull(mode);
         mMode = mode;
-        post(new Runnable() {
-            @Override
-            public void run() {
-                updateViewState();
-            }
-        });
+
+        // Apply only the latest mode once per frame, however often it changes in between.
+        if (mViewStateUpdatePending.compareAndSet(false, true)) {
+            postOnAnimation(mUpdateViewStateRunnable);
+        }
     }
 
     @Nullable
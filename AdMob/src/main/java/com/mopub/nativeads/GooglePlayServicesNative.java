@@ -17,6 +17,8 @@ import com.google.android.gms.ads.nativead.NativeAdOptions;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.GooglePlayServicesAdapterConfiguration;
+import com.mopub.mobileads.LoadWatchdog;
+import com.mopub.mobileads.admob.BuildConfig;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -96,7 +98,7 @@ public class GooglePlayServicesNative extends CustomEventNative {
     /**
      * String to store the AdMob ad unit ID.
      */
-    private static String mAdUnitId;
+    private String mAdUnitId;
 
     @NonNull
     private final GooglePlayServicesAdapterConfiguration mGooglePlayServicesAdapterConfiguration;
@@ -107,7 +109,7 @@ public class GooglePlayServicesNative extends CustomEventNative {
 
     @Override
     protected void loadNativeAd(@NonNull final Context context,
-                                @NonNull final CustomEventNativeListener customEventNativeListener,
+                                @NonNull CustomEventNativeListener customEventNativeListener,
                                 @NonNull Map<String, Object> localExtras,
                                 @NonNull Map<String, String> serverExtras) {
 
@@ -116,6 +118,9 @@ public class GooglePlayServicesNative extends CustomEventNative {
         Preconditions.checkNotNull(localExtras);
         Preconditions.checkNotNull(context);
 
+        customEventNativeListener = LoadWatchdog.watch(context, customEventNativeListener,
+                BuildConfig.NETWORK_NAME, serverExtras.get(KEY_EXTRA_AD_UNIT_ID), serverExtras);
+
         if (!sIsInitialized.getAndSet(true)) {
             MobileAds.initialize(context);
         }
@@ -170,6 +175,11 @@ public class GooglePlayServicesNative extends CustomEventNative {
          */
         private com.google.android.gms.ads.nativead.NativeAd mNativeAd;
 
+        /**
+         * String to store the AdMob ad unit ID this ad was requested for.
+         */
+        private String mAdUnitId;
+
         public GooglePlayServicesNativeAd(
                 CustomEventNativeListener customEventNativeListener) {
             this.mCustomEventNativeListener = customEventNativeListener;
@@ -332,6 +342,7 @@ public class GooglePlayServicesNative extends CustomEventNative {
          */
         public void loadAd(final Context context, String adUnitId,
                            Map<String, Object> localExtras) {
+            mAdUnitId = adUnitId;
             final AdLoader.Builder builder = new AdLoader.Builder(context, adUnitId);
             // Get the experimental swap margins extra.
             if (localExtras.containsKey(KEY_EXPERIMENTAL_EXTRA_SWAP_MARGINS)) {
@@ -651,9 +662,13 @@ public class GooglePlayServicesNative extends CustomEventNative {
                 setPrice(nativeAd.getPrice());
             }
         }
+
+        private String getAdNetworkId() {
+            return mAdUnitId;
+        }
     }
 
-    private static String getAdNetworkId() {
+    private String getAdNetworkId() {
         return mAdUnitId;
     }
 }
@@ -0,0 +1,169 @@
+// Copyright 2018-2020 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class GooglePlayServicesMediaLayoutTest {
+    private static final int WIDTH_PX = 1080;
+    private static final int HEIGHT_PX = 1920;
+    // 16:9 for the full width
+    private static final int MEDIA_HEIGHT_PX = WIDTH_PX * 9 / 16;
+    private static final int ITEM_COUNT = 20;
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+    }
+
+    @Test
+    public void onMeasure_shouldKeepAspectRatio_shouldNotTouchLayoutParams() {
+        final CountingMediaLayout subject = new CountingMediaLayout(mContext);
+        final FrameLayout parent = new FrameLayout(mContext);
+        parent.addView(subject, new FrameLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        layOut(parent);
+
+        assertEquals(WIDTH_PX, subject.getMeasuredWidth());
+        assertEquals(MEDIA_HEIGHT_PX, subject.getMeasuredHeight());
+        assertEquals(ViewGroup.LayoutParams.MATCH_PARENT, subject.getLayoutParams().width);
+        assertEquals(ViewGroup.LayoutParams.WRAP_CONTENT, subject.getLayoutParams().height);
+        assertFalse(subject.isLayoutRequested());
+        assertFalse(parent.isLayoutRequested());
+    }
+
+    @Test
+    public void onMeasure_inRecyclerView_shouldMeasureOncePerFrame() {
+        final RecyclerView recyclerView = new RecyclerView(mContext);
+        recyclerView.setLayoutManager(new LinearLayoutManager(mContext));
+        recyclerView.setAdapter(new MediaLayoutAdapter());
+
+        // First frame: every bound media layout is measured exactly once, and measuring does not
+        // ask for another pass.
+        layOut(recyclerView);
+
+        assertTrue(recyclerView.getChildCount() > 1);
+        for (int i = 0; i < recyclerView.getChildCount(); i++) {
+            final CountingMediaLayout mediaLayout = (CountingMediaLayout) recyclerView.getChildAt(i);
+            assertEquals(1, mediaLayout.mMeasureCount);
+            assertEquals(MEDIA_HEIGHT_PX, mediaLayout.getMeasuredHeight());
+            assertFalse(mediaLayout.isLayoutRequested());
+        }
+        assertFalse(recyclerView.isLayoutRequested());
+
+        // Next frame with nothing changed: no media layout is measured again.
+        layOut(recyclerView);
+
+        for (int i = 0; i < recyclerView.getChildCount(); i++) {
+            assertEquals(1, ((CountingMediaLayout) recyclerView.getChildAt(i)).mMeasureCount);
+        }
+    }
+
+    @Test
+    public void setMode_calledSeveralTimesInOneFrame_shouldPostOneUpdate_shouldApplyLastMode() {
+        final CountingMediaLayout subject = new CountingMediaLayout(mContext);
+
+        subject.setMode(GooglePlayServicesMediaLayout.Mode.LOADING);
+        subject.setMode(GooglePlayServicesMediaLayout.Mode.PLAYING);
+        subject.setMode(GooglePlayServicesMediaLayout.Mode.PAUSED);
+
+        assertEquals(1, subject.mPostedActions.size());
+
+        subject.runPostedActions();
+
+        assertEquals(View.INVISIBLE, subject.getMainImageView().getVisibility());
+
+        subject.setMode(GooglePlayServicesMediaLayout.Mode.IMAGE);
+
+        assertEquals(1, subject.mPostedActions.size());
+
+        subject.runPostedActions();
+
+        assertEquals(View.VISIBLE, subject.getMainImageView().getVisibility());
+    }
+
+    private static void layOut(@NonNull final View view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(WIDTH_PX, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT_PX, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, WIDTH_PX, HEIGHT_PX);
+    }
+
+    /**
+     * Counts measure passes and holds on to animation callbacks instead of posting them.
+     */
+    private static class CountingMediaLayout extends GooglePlayServicesMediaLayout {
+        int mMeasureCount;
+        final List<Runnable> mPostedActions = new ArrayList<>();
+
+        CountingMediaLayout(@NonNull final Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+            mMeasureCount++;
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+        }
+
+        @Override
+        public void postOnAnimation(final Runnable action) {
+            mPostedActions.add(action);
+        }
+
+        void runPostedActions() {
+            final List<Runnable> actions = new ArrayList<>(mPostedActions);
+            mPostedActions.clear();
+            for (final Runnable action : actions) {
+                action.run();
+            }
+        }
+    }
+
+    private static class MediaLayoutAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent,
+                                                          final int viewType) {
+            final CountingMediaLayout mediaLayout = new CountingMediaLayout(parent.getContext());
+            mediaLayout.setLayoutParams(new RecyclerView.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+            return new RecyclerView.ViewHolder(mediaLayout) {
+            };
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull final RecyclerView.ViewHolder holder, final int position) {
+        }
+
+        @Override
+        public int getItemCount() {
+            return ITEM_COUNT;
+        }
+    }
+}
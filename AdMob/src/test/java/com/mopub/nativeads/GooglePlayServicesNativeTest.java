@@ -0,0 +1,116 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.google.android.gms.ads.AdRequest;
+import com.google.android.gms.ads.LoadAdError;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts many Google native loads before any of them completes, and checks that no load sees
+ * another one's ad unit or listener.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = {ShadowMobileAds.class, ShadowAdLoaderBuilder.class},
+        instrumentedPackages = "com.google.android.gms.ads")
+public class GooglePlayServicesNativeTest {
+    private static final int CONCURRENT_LOADS = 50;
+
+    private CustomEventNative.CustomEventNativeListener[] mListeners;
+    private List<ShadowAdLoaderBuilder> mAdLoaders;
+
+    @Before
+    public void setUp() {
+        final Context context = ApplicationProvider.getApplicationContext();
+        mListeners = new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            mListeners[i] = mock(CustomEventNative.CustomEventNativeListener.class);
+            new GooglePlayServicesNative().loadNativeAd(context, mListeners[i],
+                    new HashMap<String, Object>(), serverExtras(adUnitId(i)));
+        }
+
+        mAdLoaders = ShadowAdLoaderBuilder.getBuilders();
+    }
+
+    @Test
+    public void loadNativeAd_withInterleavedLoads_shouldRequestEachAdUnit() {
+        assertEquals(CONCURRENT_LOADS, mAdLoaders.size());
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            assertEquals(adUnitId(i), mAdLoaders.get(i).getAdUnitId());
+            verifyNoInteractions(mListeners[i]);
+        }
+    }
+
+    @Test
+    public void onAdFailedToLoad_inReverseOrder_shouldFailEachLoadOnce() {
+        for (int i = CONCURRENT_LOADS - 1; i >= 0; i--) {
+            mAdLoaders.get(i).getAdListener().onAdFailedToLoad(
+                    loadAdError(i % 2 == 0
+                            ? AdRequest.ERROR_CODE_NO_FILL
+                            : AdRequest.ERROR_CODE_NETWORK_ERROR));
+        }
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            verify(mListeners[i]).onNativeAdFailed(i % 2 == 0
+                    ? NativeErrorCode.NETWORK_NO_FILL
+                    : NativeErrorCode.CONNECTION_ERROR);
+            verifyNoMoreInteractions(mListeners[i]);
+        }
+    }
+
+    @Test
+    public void onAdFailedToLoad_withInterleavedLoads_shouldOnlyFailThatLoad() {
+        final int failed = CONCURRENT_LOADS / 2;
+
+        mAdLoaders.get(failed).getAdListener().onAdFailedToLoad(
+                loadAdError(AdRequest.ERROR_CODE_NO_FILL));
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            if (i == failed) {
+                verify(mListeners[i]).onNativeAdFailed(NativeErrorCode.NETWORK_NO_FILL);
+            } else {
+                verifyNoInteractions(mListeners[i]);
+            }
+        }
+    }
+
+    private static String adUnitId(final int index) {
+        return "adUnit" + index;
+    }
+
+    private static LoadAdError loadAdError(final int code) {
+        final LoadAdError loadAdError = mock(LoadAdError.class);
+        when(loadAdError.getCode()).thenReturn(code);
+        return loadAdError;
+    }
+
+    private static Map<String, String> serverExtras(final String adUnitId) {
+        final Map<String, String> serverExtras = new HashMap<>();
+        serverExtras.put(GooglePlayServicesNative.KEY_EXTRA_AD_UNIT_ID, adUnitId);
+        return serverExtras;
+    }
+}
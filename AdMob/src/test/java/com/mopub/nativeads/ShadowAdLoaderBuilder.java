@@ -0,0 +1,97 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.ads.AdListener;
+import com.google.android.gms.ads.AdLoader;
+import com.google.android.gms.ads.nativead.NativeAd;
+import com.google.android.gms.ads.nativead.NativeAdOptions;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.annotation.RealObject;
+import org.robolectric.annotation.Resetter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Stands in for Google's AdLoader.Builder in JVM tests. It records the ad unit and listeners of
+ * every loader built, in order, and builds loaders that never request an ad.
+ */
+@Implements(AdLoader.Builder.class)
+public class ShadowAdLoaderBuilder {
+    private static final List<ShadowAdLoaderBuilder> sBuilders = new ArrayList<>();
+
+    @RealObject
+    private AdLoader.Builder mRealBuilder;
+
+    @Nullable
+    private String mAdUnitId;
+    @Nullable
+    private NativeAd.OnNativeAdLoadedListener mNativeAdLoadedListener;
+    @Nullable
+    private AdListener mAdListener;
+
+    @Implementation
+    protected void __constructor__(final Context context, final String adUnitId) {
+        mAdUnitId = adUnitId;
+        sBuilders.add(this);
+    }
+
+    @Implementation
+    protected AdLoader.Builder forNativeAd(final NativeAd.OnNativeAdLoadedListener listener) {
+        mNativeAdLoadedListener = listener;
+        return mRealBuilder;
+    }
+
+    @Implementation
+    protected AdLoader.Builder withAdListener(final AdListener listener) {
+        mAdListener = listener;
+        return mRealBuilder;
+    }
+
+    @Implementation
+    protected AdLoader.Builder withNativeAdOptions(final NativeAdOptions options) {
+        return mRealBuilder;
+    }
+
+    @Implementation
+    protected AdLoader build() {
+        return mock(AdLoader.class);
+    }
+
+    @Nullable
+    String getAdUnitId() {
+        return mAdUnitId;
+    }
+
+    @Nullable
+    NativeAd.OnNativeAdLoadedListener getNativeAdLoadedListener() {
+        return mNativeAdLoadedListener;
+    }
+
+    @Nullable
+    AdListener getAdListener() {
+        return mAdListener;
+    }
+
+    @NonNull
+    static List<ShadowAdLoaderBuilder> getBuilders() {
+        return new ArrayList<>(sBuilders);
+    }
+
+    @Resetter
+    public static void reset() {
+        sBuilders.clear();
+    }
+}
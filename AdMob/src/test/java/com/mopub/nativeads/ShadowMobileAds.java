@@ -0,0 +1,27 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.content.Context;
+
+import com.google.android.gms.ads.MobileAds;
+import com.google.android.gms.ads.RequestConfiguration;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Keeps the Google Mobile Ads SDK from starting in JVM tests.
+ */
+@Implements(MobileAds.class)
+public class ShadowMobileAds {
+    @Implementation
+    protected static void initialize(final Context context) {
+    }
+
+    @Implementation
+    protected static void setRequestConfiguration(final RequestConfiguration requestConfiguration) {
+    }
+}
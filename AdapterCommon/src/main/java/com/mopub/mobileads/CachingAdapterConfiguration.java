@@ -0,0 +1,67 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.BaseAdapterConfiguration;
+import com.mopub.common.DataKeys;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base adapter configuration that only persists initialization parameters when they change.
+ * <p>
+ * Adapters call {@link #setCachedInitializationParameters(Context, Map)} on every ad load with
+ * that load's extras, and {@link BaseAdapterConfiguration} rewrites SharedPreferences each time.
+ * This keeps the last persisted parameters of each adapter configuration in memory and skips the
+ * write when nothing has changed.
+ */
+public abstract class CachingAdapterConfiguration extends BaseAdapterConfiguration {
+
+    // Last persisted parameters of each adapter configuration class. Guarded by itself.
+    private static final Map<Class<?>, Map<String, String>> sPersistedParameters = new HashMap<>();
+
+    /**
+     * Caches the network initialization parameters. These are handed back to initializeNetwork()
+     * on the next app launch, so the network can be initialized before the MoPub configuration
+     * response arrives.
+     * <p>
+     * The per-request ad markup is dropped before comparing, since it changes with every bid and
+     * is never used for initialization. SharedPreferences applies the remaining writes off the main
+     * thread.
+     *
+     * @param context       Context to reach SharedPreferences.
+     * @param configuration Map of network initialization parameters.
+     */
+    @Override
+    public void setCachedInitializationParameters(@NonNull final Context context,
+                                                  @Nullable final Map<String, String> configuration) {
+        if (configuration == null || configuration.isEmpty()) {
+            return;
+        }
+
+        final Map<String, String> parameters = new HashMap<>(configuration);
+        parameters.remove(DataKeys.ADM_KEY);
+
+        synchronized (sPersistedParameters) {
+            Map<String, String> persistedParameters = sPersistedParameters.get(getClass());
+            if (persistedParameters == null) {
+                persistedParameters = getCachedInitializationParameters(context);
+            }
+
+            if (parameters.equals(persistedParameters)) {
+                sPersistedParameters.put(getClass(), persistedParameters);
+                return;
+            }
+
+            // Persisted under the same lock as the comparison, so concurrent writers reach
+            // SharedPreferences in the same order as the in-memory copy and the two cannot
+            // disagree. The write itself is an in-memory commit that is applied asynchronously.
+            sPersistedParameters.put(getClass(), parameters);
+            super.setCachedInitializationParameters(context, parameters);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.AdapterConfiguration;
+import com.mopub.common.OnNetworkInitializationFinishedListener;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Lets an adapter configuration defer its network SDK initialization.
+ * <p>
+ * When the mediated network configuration contains lazyInitialization=true, MoPub SDK
+ * initialization does not start the network SDK. The SDK is then started by the first ad request
+ * for that network. If lazyInitializationIdleDelayMillis is set, it is also started the first
+ * time the main thread goes idle once that much time has passed.
+ */
+public final class LazyNetworkInitializer {
+
+    public static final String LAZY_INITIALIZATION_KEY = "lazyInitialization";
+    public static final String LAZY_INITIALIZATION_IDLE_DELAY_KEY = "lazyInitializationIdleDelayMillis";
+
+    private static final String ADAPTER_NAME = LazyNetworkInitializer.class.getSimpleName();
+
+    private LazyNetworkInitializer() {
+    }
+
+    public static boolean isLazyInitializationEnabled(@Nullable final Map<String, String> configuration) {
+        return configuration != null && Boolean.parseBoolean(configuration.get(LAZY_INITIALIZATION_KEY));
+    }
+
+    /**
+     * Defers the given adapter configuration's initialization if lazy initialization is enabled.
+     * In that case the listener is told initialization succeeded, and the deferred initialization
+     * later calls {@link AdapterConfiguration#initializeNetwork} with lazy initialization turned
+     * off, so it goes through the adapter's usual consent and settings setup.
+     *
+     * @return true if initialization was deferred and the caller should return.
+     */
+    public static boolean deferIfEnabled(@NonNull final AdapterConfiguration adapterConfiguration,
+                                         @NonNull final Context context,
+                                         @Nullable final Map<String, String> configuration,
+                                         @NonNull final OnNetworkInitializationFinishedListener listener) {
+        Preconditions.checkNotNull(adapterConfiguration);
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(listener);
+
+        if (!isLazyInitializationEnabled(configuration)) {
+            return false;
+        }
+
+        final String networkName = adapterConfiguration.getClass().getSimpleName();
+        final long idleDelayMillis = getIdleDelayMillis(configuration);
+
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, networkName + " initialization is deferred until its first " +
+                "ad request" + (idleDelayMillis > 0 ? " or the first idle time after " + idleDelayMillis +
+                "ms." : "."));
+
+        if (idleDelayMillis > 0) {
+            final Context applicationContext = context.getApplicationContext();
+            final Map<String, String> eagerConfiguration = new HashMap<>(configuration);
+            eagerConfiguration.remove(LAZY_INITIALIZATION_KEY);
+
+            runWhenIdle(idleDelayMillis, new Runnable() {
+                @Override
+                public void run() {
+                    adapterConfiguration.initializeNetwork(applicationContext, eagerConfiguration,
+                            new OnNetworkInitializationFinishedListener() {
+                                @Override
+                                public void onNetworkInitializationFinished(@NonNull Class<? extends AdapterConfiguration> clazz,
+                                                                            @NonNull MoPubErrorCode moPubErrorCode) {
+                                    MoPubLog.log(CUSTOM, ADAPTER_NAME, networkName + " deferred " +
+                                            "initialization finished with " + moPubErrorCode);
+                                }
+                            });
+                }
+            });
+        }
+
+        listener.onNetworkInitializationFinished(adapterConfiguration.getClass(),
+                MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
+        return true;
+    }
+
+    private static long getIdleDelayMillis(@NonNull final Map<String, String> configuration) {
+        final String idleDelayValue = configuration.get(LAZY_INITIALIZATION_IDLE_DELAY_KEY);
+        if (TextUtils.isEmpty(idleDelayValue)) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(idleDelayValue);
+        } catch (NumberFormatException e) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Ignoring invalid " + LAZY_INITIALIZATION_IDLE_DELAY_KEY +
+                    " value: " + idleDelayValue);
+            return 0;
+        }
+    }
+
+    /**
+     * Runs the given runnable the first time the main thread's message queue goes idle after the
+     * delay has passed.
+     */
+    private static void runWhenIdle(final long delayMillis, @NonNull final Runnable runnable) {
+        new Handler(Looper.getMainLooper()).postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                // Posted to the main looper, so this is the main thread's queue.
+                Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+                    @Override
+                    public boolean queueIdle() {
+                        runnable.run();
+                        return false;
+                    }
+                });
+            }
+        }, delayMillis);
+    }
+}
@@ -0,0 +1,247 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Recommends a load deadline for each network request based on how long recent loads have taken
+ * for the same network, ad format and placement.
+ * <p>
+ * Each key keeps the latencies of its most recent loads. Loads that hit their deadline are kept
+ * too, as censored samples: all that is known is that they would have taken at least that long.
+ * The deadline is the empirical p95 of these samples with some headroom, and never less than a
+ * fixed floor. When the p95 falls on a censored sample, the real p95 is unknown and the format's
+ * default deadline is used again, so a deadline that was cut too short recovers.
+ * <p>
+ * The samples are persisted, so a new session starts from what earlier sessions observed. Until
+ * enough loads have been seen, the format's default deadline is used.
+ */
+public final class LoadTimeoutPolicy {
+    private static final String ADAPTER_NAME = LoadTimeoutPolicy.class.getSimpleName();
+    private static final String PREFERENCES_NAME = "com.mopub.mobileads.LoadTimeoutPolicy";
+
+    private static final int MAX_SAMPLES = 50;
+    private static final int MIN_SAMPLES = 5;
+    private static final double PERCENTILE = 0.95;
+    private static final double DEADLINE_HEADROOM = 1.5;
+    private static final long MIN_DEADLINE_MILLIS = 2000;
+
+    private static final Map<String, LatencySamples> sSamples = new HashMap<>();
+
+    @Nullable
+    private static SharedPreferences sPreferences;
+
+    private LoadTimeoutPolicy() {
+    }
+
+    /**
+     * @return the recommended load deadline for the given network, format and placement. This is
+     * never longer than the format's default deadline, which stays just under MoPub's own timeout.
+     */
+    public static long getRecommendedTimeoutMillis(@NonNull final Context context,
+                                                   @NonNull final LoadWatchdog.Format format,
+                                                   @NonNull final String networkName,
+                                                   @Nullable final String placementKey) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(format);
+
+        final long defaultTimeoutMillis = format.getDefaultTimeoutMillis();
+
+        synchronized (sSamples) {
+            final LatencySamples samples = getSamples(context,
+                    getKey(format, networkName, placementKey));
+
+            if (samples == null || samples.mCount < MIN_SAMPLES) {
+                return defaultTimeoutMillis;
+            }
+
+            final long percentileMillis = samples.getPercentileMillis(PERCENTILE);
+            if (percentileMillis == Long.MAX_VALUE) {
+                return defaultTimeoutMillis;
+            }
+
+            final long recommendedMillis = (long) (percentileMillis * DEADLINE_HEADROOM);
+            return Math.max(MIN_DEADLINE_MILLIS, Math.min(defaultTimeoutMillis, recommendedMillis));
+        }
+    }
+
+    @VisibleForTesting
+    static void reset() {
+        synchronized (sSamples) {
+            sSamples.clear();
+            sPreferences = null;
+        }
+    }
+
+    /**
+     * Records the latency of a successful load.
+     */
+    public static void recordSuccessfulLoad(@NonNull final Context context,
+                                            @NonNull final LoadWatchdog.Format format,
+                                            @NonNull final String networkName,
+                                            @Nullable final String placementKey,
+                                            final long latencyMillis) {
+        record(context, format, networkName, placementKey, latencyMillis, false);
+    }
+
+    /**
+     * Records a load that was cancelled at its deadline. Its real latency is at least the given
+     * time. Loads that the network failed are not recorded, since their latency says nothing about
+     * how long a fill takes.
+     */
+    public static void recordTimedOutLoad(@NonNull final Context context,
+                                          @NonNull final LoadWatchdog.Format format,
+                                          @NonNull final String networkName,
+                                          @Nullable final String placementKey,
+                                          final long elapsedMillis) {
+        record(context, format, networkName, placementKey, elapsedMillis, true);
+    }
+
+    private static void record(@NonNull final Context context,
+                               @NonNull final LoadWatchdog.Format format,
+                               @NonNull final String networkName,
+                               @Nullable final String placementKey,
+                               final long latencyMillis,
+                               final boolean censored) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(format);
+
+        if (latencyMillis < 0) {
+            return;
+        }
+
+        final String key = getKey(format, networkName, placementKey);
+
+        synchronized (sSamples) {
+            LatencySamples samples = getSamples(context, key);
+
+            if (samples == null) {
+                samples = new LatencySamples();
+                sSamples.put(key, samples);
+            }
+
+            samples.add(latencyMillis, censored);
+
+            if (sPreferences != null) {
+                sPreferences.edit().putString(key, samples.serialize()).apply();
+            }
+        }
+    }
+
+    @Nullable
+    private static LatencySamples getSamples(@NonNull final Context context, @NonNull final String key) {
+        if (sPreferences == null) {
+            sPreferences = context.getApplicationContext()
+                    .getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+        }
+
+        LatencySamples samples = sSamples.get(key);
+
+        if (samples == null) {
+            samples = LatencySamples.deserialize(sPreferences.getString(key, null));
+
+            if (samples != null) {
+                sSamples.put(key, samples);
+            }
+        }
+
+        return samples;
+    }
+
+    @NonNull
+    private static String getKey(@NonNull final LoadWatchdog.Format format,
+                                 @NonNull final String networkName,
+                                 @Nullable final String placementKey) {
+        return networkName + ":" + format + ":" + (placementKey == null ? "" : placementKey);
+    }
+
+    /**
+     * Ring buffer of the most recent load latencies. A censored sample is stored as the negated
+     * elapsed time, and serialized with a trailing '+'.
+     */
+    static class LatencySamples {
+        private final long[] mSamples = new long[MAX_SAMPLES];
+        // Index the next sample is written to.
+        private int mHead;
+        private int mCount;
+
+        void add(final long latencyMillis, final boolean censored) {
+            mSamples[mHead] = censored ? -latencyMillis - 1 : latencyMillis;
+            mHead = (mHead + 1) % MAX_SAMPLES;
+            mCount = Math.min(mCount + 1, MAX_SAMPLES);
+        }
+
+        /**
+         * @return the empirical percentile of the stored samples, or Long.MAX_VALUE if it falls on
+         * a censored sample and is therefore unknown.
+         */
+        long getPercentileMillis(final double percentile) {
+            final long[] sorted = new long[mCount];
+            for (int i = 0; i < mCount; i++) {
+                final long sample = mSamples[i];
+                // Only the lower bound of a censored sample is known, so it sorts above every
+                // observed latency.
+                sorted[i] = sample < 0 ? Long.MAX_VALUE : sample;
+            }
+            Arrays.sort(sorted);
+
+            final int rank = (int) Math.ceil(percentile * mCount) - 1;
+            return sorted[Math.max(0, Math.min(mCount - 1, rank))];
+        }
+
+        @NonNull
+        String serialize() {
+            final StringBuilder builder = new StringBuilder();
+            // Oldest first, so the ring order survives a round trip.
+            for (int i = 0; i < mCount; i++) {
+                final long sample = mSamples[(mHead - mCount + i + MAX_SAMPLES) % MAX_SAMPLES];
+                if (i > 0) {
+                    builder.append(',');
+                }
+                if (sample < 0) {
+                    builder.append(-sample - 1).append('+');
+                } else {
+                    builder.append(sample);
+                }
+            }
+            return builder.toString();
+        }
+
+        @Nullable
+        static LatencySamples deserialize(@Nullable final String serialized) {
+            if (TextUtils.isEmpty(serialized)) {
+                return null;
+            }
+
+            final LatencySamples samples = new LatencySamples();
+            try {
+                for (final String value : serialized.split(",")) {
+                    if (value.endsWith("+")) {
+                        samples.add(Long.parseLong(value.substring(0, value.length() - 1)), true);
+                    } else {
+                        samples.add(Long.parseLong(value), false);
+                    }
+                }
+            } catch (NumberFormatException e) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Discarding unreadable load latency " +
+                        "samples: " + serialized);
+                return null;
+            }
+            return samples;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.nativeads.BaseNativeAd;
+import com.mopub.nativeads.CustomEventNative;
+import com.mopub.nativeads.NativeErrorCode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Enforces an adapter-side deadline on network ad loads. Adapters start watching when a load
+ * begins and stop once the network reports a result. If the network never calls back, the load
+ * is failed with a timeout, so the adapter is invalidated and drops its references instead of
+ * holding on to its views and listeners until MoPub's own timeout fires.
+ * <p>
+ * Most adapters only need {@link #watch(Context, AdLifecycleListener.LoadListener, Format,
+ * String, AdData)} in load() and {@link #cancel(AdLifecycleListener.LoadListener)} in
+ * onInvalidate(). Adapters that have to cancel a network request themselves can use
+ * {@link #startWatching} with their own {@link LoadTimeoutListener}.
+ * <p>
+ * The deadline comes from {@link LoadTimeoutPolicy}, which adapts it to the latency observed for
+ * the network and placement. It can be overridden per ad unit with the
+ * {@link #LOAD_TIMEOUT_MILLIS_KEY} server extra.
+ */
+public final class LoadWatchdog {
+    public static final String LOAD_TIMEOUT_MILLIS_KEY = "loadTimeoutMillis";
+
+    private static final String ADAPTER_NAME = LoadWatchdog.class.getSimpleName();
+
+    private static final Handler sHandler = new Handler(Looper.getMainLooper());
+    private static final Map<LoadTimeoutListener, PendingLoad> sPendingLoads = new HashMap<>();
+    // Guarded by sPendingLoads.
+    private static final Map<String, Integer> sTimeoutCounts = new HashMap<>();
+
+    public enum Format {
+        // MoPub times out inline ads after 10 seconds and fullscreen ads after 30 seconds
+        BANNER(9000),
+        INTERSTITIAL(28000),
+        NATIVE(9000),
+        REWARDED(28000);
+
+        private final long mDefaultTimeoutMillis;
+
+        Format(final long defaultTimeoutMillis) {
+            mDefaultTimeoutMillis = defaultTimeoutMillis;
+        }
+
+        long getDefaultTimeoutMillis() {
+            return mDefaultTimeoutMillis;
+        }
+    }
+
+    public interface LoadTimeoutListener {
+        void onLoadTimeout();
+    }
+
+    private LoadWatchdog() {
+    }
+
+    /**
+     * Starts watching a BaseAd load. Call this at the start of load() and use the returned listener
+     * in place of the original one. The returned listener stops watching when the load finishes,
+     * and ignores the network's callbacks once the load has timed out.
+     *
+     * @return the listener to report the load result to, or null if the given listener is null.
+     */
+    @Nullable
+    public static AdLifecycleListener.LoadListener watch(@NonNull final Context context,
+                                                         @Nullable final AdLifecycleListener.LoadListener loadListener,
+                                                         @NonNull final Format format,
+                                                         @NonNull final String networkName,
+                                                         @NonNull final AdData adData) {
+        Preconditions.checkNotNull(adData);
+
+        if (loadListener == null) {
+            return null;
+        }
+
+        // A listener that is already watched belongs to an earlier load() of the same adapter.
+        final AdLifecycleListener.LoadListener delegate = loadListener instanceof WatchedLoadListener
+                ? ((WatchedLoadListener) loadListener).mDelegate
+                : loadListener;
+        cancel(loadListener);
+
+        final WatchedLoadListener watchedLoadListener = new WatchedLoadListener(delegate);
+        startWatching(context, watchedLoadListener, format, networkName, adData.getAdUnit(),
+                adData.getExtras());
+        return watchedLoadListener;
+    }
+
+    /**
+     * Starts watching a native ad load. Call this at the start of loadNativeAd() and use the
+     * returned listener in place of the original one.
+     */
+    @NonNull
+    public static CustomEventNative.CustomEventNativeListener watch(@NonNull final Context context,
+                                                                    @NonNull final CustomEventNative.CustomEventNativeListener nativeListener,
+                                                                    @NonNull final String networkName,
+                                                                    @Nullable final String placementKey,
+                                                                    @Nullable final Map<String, String> extras) {
+        Preconditions.checkNotNull(nativeListener);
+
+        final WatchedNativeListener watchedNativeListener = new WatchedNativeListener(nativeListener);
+        startWatching(context, watchedNativeListener, Format.NATIVE, networkName, placementKey,
+                extras);
+        return watchedNativeListener;
+    }
+
+    /**
+     * Stops watching the load reported to the given listener, if it came from
+     * {@link #watch(Context, AdLifecycleListener.LoadListener, Format, String, AdData)}. Call this
+     * from onInvalidate().
+     */
+    public static void cancel(@Nullable final AdLifecycleListener.LoadListener loadListener) {
+        if (loadListener instanceof WatchedLoadListener) {
+            ((WatchedLoadListener) loadListener).cancel();
+        }
+    }
+
+    public static void startWatching(@NonNull final Context context,
+                                     @NonNull final LoadTimeoutListener listener,
+                                     @NonNull final Format format,
+                                     @NonNull final String networkName,
+                                     @Nullable final String placementKey,
+                                     @Nullable final Map<String, String> extras) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(format);
+        Preconditions.checkNotNull(networkName);
+
+        final Context applicationContext = context.getApplicationContext();
+        final PendingLoad pendingLoad = new PendingLoad(applicationContext, listener, format,
+                networkName, placementKey, getLoadTimeoutMillis(applicationContext, format,
+                networkName, placementKey, extras));
+
+        final PendingLoad previousLoad;
+        synchronized (sPendingLoads) {
+            previousLoad = sPendingLoads.put(listener, pendingLoad);
+        }
+
+        if (previousLoad != null) {
+            sHandler.removeCallbacks(previousLoad);
+        }
+
+        sHandler.postDelayed(pendingLoad, pendingLoad.mTimeoutMillis);
+    }
+
+    public static void stopWatching(@NonNull final LoadTimeoutListener listener) {
+        Preconditions.checkNotNull(listener);
+
+        removePendingLoad(listener);
+    }
+
+    /**
+     * Stops watching a load that the network filled, and records its latency with
+     * {@link LoadTimeoutPolicy}. Loads cancelled at their deadline are recorded too.
+     */
+    public static void onLoadSucceeded(@NonNull final LoadTimeoutListener listener) {
+        Preconditions.checkNotNull(listener);
+
+        final PendingLoad pendingLoad = removePendingLoad(listener);
+
+        if (pendingLoad != null) {
+            LoadTimeoutPolicy.recordSuccessfulLoad(pendingLoad.mContext, pendingLoad.mFormat,
+                    pendingLoad.mNetworkName, pendingLoad.mPlacementKey,
+                    SystemClock.elapsedRealtime() - pendingLoad.mStartTimeMillis);
+        }
+    }
+
+    public static boolean isLoadPending(@NonNull final LoadTimeoutListener listener) {
+        synchronized (sPendingLoads) {
+            return sPendingLoads.containsKey(listener);
+        }
+    }
+
+    /**
+     * @return the number of loads for the given network cancelled by the watchdog during this
+     * session.
+     */
+    public static int getTimeoutCount(@NonNull final String networkName) {
+        synchronized (sPendingLoads) {
+            final Integer timeoutCount = sTimeoutCounts.get(networkName);
+            return timeoutCount == null ? 0 : timeoutCount;
+        }
+    }
+
+    /**
+     * @return a copy of the number of loads cancelled by the watchdog during this session, keyed
+     * by network name.
+     */
+    @NonNull
+    public static Map<String, Integer> getTimeoutCounts() {
+        synchronized (sPendingLoads) {
+            return new HashMap<>(sTimeoutCounts);
+        }
+    }
+
+    @VisibleForTesting
+    static void reset() {
+        synchronized (sPendingLoads) {
+            for (final PendingLoad pendingLoad : sPendingLoads.values()) {
+                sHandler.removeCallbacks(pendingLoad);
+            }
+            sPendingLoads.clear();
+            sTimeoutCounts.clear();
+        }
+    }
+
+    @Nullable
+    private static PendingLoad removePendingLoad(@NonNull final LoadTimeoutListener listener) {
+        final PendingLoad pendingLoad;
+        synchronized (sPendingLoads) {
+            pendingLoad = sPendingLoads.remove(listener);
+        }
+
+        if (pendingLoad != null) {
+            sHandler.removeCallbacks(pendingLoad);
+        }
+
+        return pendingLoad;
+    }
+
+    private static long getLoadTimeoutMillis(@NonNull final Context context,
+                                             @NonNull final Format format,
+                                             @NonNull final String networkName,
+                                             @Nullable final String placementKey,
+                                             @Nullable final Map<String, String> extras) {
+        final String timeoutMillis = extras != null ? extras.get(LOAD_TIMEOUT_MILLIS_KEY) : null;
+
+        if (!TextUtils.isEmpty(timeoutMillis)) {
+            try {
+                final long parsedTimeoutMillis = Long.parseLong(timeoutMillis);
+
+                if (parsedTimeoutMillis > 0) {
+                    return parsedTimeoutMillis;
+                }
+            } catch (NumberFormatException e) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Ignoring invalid " + LOAD_TIMEOUT_MILLIS_KEY +
+                        " value: " + timeoutMillis);
+            }
+        }
+
+        return LoadTimeoutPolicy.getRecommendedTimeoutMillis(context, format, networkName,
+                placementKey);
+    }
+
+    private static class PendingLoad implements Runnable {
+        @NonNull
+        private final Context mContext;
+        @NonNull
+        private final LoadTimeoutListener mListener;
+        @NonNull
+        private final Format mFormat;
+        @NonNull
+        private final String mNetworkName;
+        @Nullable
+        private final String mPlacementKey;
+        private final long mTimeoutMillis;
+        private final long mStartTimeMillis;
+
+        PendingLoad(@NonNull final Context context, @NonNull final LoadTimeoutListener listener,
+                    @NonNull final Format format, @NonNull final String networkName,
+                    @Nullable final String placementKey, final long timeoutMillis) {
+            mContext = context;
+            mListener = listener;
+            mFormat = format;
+            mNetworkName = networkName;
+            mPlacementKey = placementKey;
+            mTimeoutMillis = timeoutMillis;
+            mStartTimeMillis = SystemClock.elapsedRealtime();
+        }
+
+        @Override
+        public void run() {
+            final int timeoutCount;
+            synchronized (sPendingLoads) {
+                if (sPendingLoads.get(mListener) != this) {
+                    return;
+                }
+
+                sPendingLoads.remove(mListener);
+
+                final Integer previousCount = sTimeoutCounts.get(mNetworkName);
+                timeoutCount = previousCount == null ? 1 : previousCount + 1;
+                sTimeoutCounts.put(mNetworkName, timeoutCount);
+            }
+
+            final long elapsedMillis = SystemClock.elapsedRealtime() - mStartTimeMillis;
+
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, mNetworkName + " " + mFormat + " load did not " +
+                    "finish after " + elapsedMillis + "ms. Cancelling it. " + mNetworkName +
+                    " load timeouts this session: " + timeoutCount);
+
+            // Without this, only loads faster than the deadline would be recorded, and the
+            // deadline could only ever shrink.
+            LoadTimeoutPolicy.recordTimedOutLoad(mContext, mFormat, mNetworkName, mPlacementKey,
+                    elapsedMillis);
+
+            mListener.onLoadTimeout();
+        }
+    }
+
+    /**
+     * Forwards the first load result to MoPub, and a timeout if the network reports nothing in
+     * time. Anything the network reports after that is dropped.
+     */
+    private static class WatchedLoadListener implements AdLifecycleListener.LoadListener,
+            LoadTimeoutListener {
+        @NonNull
+        private final AdLifecycleListener.LoadListener mDelegate;
+        private final AtomicBoolean mFinished = new AtomicBoolean();
+
+        WatchedLoadListener(@NonNull final AdLifecycleListener.LoadListener delegate) {
+            mDelegate = delegate;
+        }
+
+        @Override
+        public void onAdLoaded() {
+            if (!mFinished.getAndSet(true)) {
+                onLoadSucceeded(this);
+                mDelegate.onAdLoaded();
+            }
+        }
+
+        @Override
+        public void onAdLoadFailed(@NonNull final MoPubErrorCode errorCode) {
+            if (!mFinished.getAndSet(true)) {
+                stopWatching(this);
+                mDelegate.onAdLoadFailed(errorCode);
+            }
+        }
+
+        @Override
+        public void onLoadTimeout() {
+            if (!mFinished.getAndSet(true)) {
+                mDelegate.onAdLoadFailed(MoPubErrorCode.NETWORK_TIMEOUT);
+            }
+        }
+
+        void cancel() {
+            mFinished.set(true);
+            stopWatching(this);
+        }
+    }
+
+    private static class WatchedNativeListener implements CustomEventNative.CustomEventNativeListener,
+            LoadTimeoutListener {
+        @NonNull
+        private final CustomEventNative.CustomEventNativeListener mDelegate;
+        private final AtomicBoolean mFinished = new AtomicBoolean();
+
+        WatchedNativeListener(@NonNull final CustomEventNative.CustomEventNativeListener delegate) {
+            mDelegate = delegate;
+        }
+
+        @Override
+        public void onNativeAdLoaded(final BaseNativeAd nativeAd) {
+            if (!mFinished.getAndSet(true)) {
+                onLoadSucceeded(this);
+                mDelegate.onNativeAdLoaded(nativeAd);
+            }
+        }
+
+        @Override
+        public void onNativeAdFailed(final NativeErrorCode errorCode) {
+            if (!mFinished.getAndSet(true)) {
+                stopWatching(this);
+                mDelegate.onNativeAdFailed(errorCode);
+            }
+        }
+
+        @Override
+        public void onLoadTimeout() {
+            if (!mFinished.getAndSet(true)) {
+                mDelegate.onNativeAdFailed(NativeErrorCode.NETWORK_TIMEOUT);
+            }
+        }
+    }
+}
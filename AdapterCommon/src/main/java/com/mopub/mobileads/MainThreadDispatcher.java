@@ -0,0 +1,306 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.Locale;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Delivers adapter events to the main thread.
+ * <p>
+ * An adapter implements {@link Callback} once and passes an event code and an optional argument
+ * for each event, so delivering an event allocates nothing. Events that cannot run inline are
+ * queued in pooled entries and run together from a single posted message, so a burst of network
+ * SDK callbacks costs one main thread message instead of one per callback.
+ * <p>
+ * Events keep their order. An event is only run inline when it is dispatched on the main thread
+ * and nothing is queued ahead of it, including events still waiting in a batch that is running.
+ */
+public final class MainThreadDispatcher {
+
+    /**
+     * Receives events on the main thread.
+     */
+    public interface Callback {
+        /**
+         * @param event    the event code the adapter dispatched.
+         * @param argument the argument the adapter dispatched with the event, if any.
+         */
+        void onMainThreadEvent(int event, @Nullable Object argument);
+    }
+
+    private static final String ADAPTER_NAME = MainThreadDispatcher.class.getSimpleName();
+
+    // Batches whose oldest event waited longer than a frame are logged.
+    private static final long SLOW_BATCH_MILLIS = 16;
+    private static final int MAX_POOL_SIZE = 16;
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+    private static final Object LOCK = new Object();
+
+    private static final class Entry {
+        @Nullable
+        Callback mCallback;
+        int mEvent;
+        @Nullable
+        Object mArgument;
+        long mEnqueuedAtMillis;
+        @Nullable
+        Entry mNext;
+    }
+
+    // The queued events, oldest first, and the pool of unused entries. Guarded by LOCK.
+    @Nullable
+    private static Entry sHead;
+    @Nullable
+    private static Entry sTail;
+    @Nullable
+    private static Entry sPool;
+    private static int sPoolSize;
+    private static int sQueueDepth;
+    private static boolean sBatchPosted;
+    // Set while a batch runs, so an event dispatched from one of its callbacks waits for the rest
+    // of the batch instead of running inline ahead of it.
+    private static boolean sDraining;
+
+    // Guarded by LOCK.
+    private static long sInlineCount;
+    private static long sQueuedCount;
+    private static long sBatchCount;
+    private static int sMaxQueueDepth;
+    private static long sTotalLatencyMillis;
+    private static long sMaxLatencyMillis;
+
+    private static final Runnable DRAIN_RUNNABLE = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    private MainThreadDispatcher() {
+    }
+
+    /**
+     * Delivers an event on the main thread. It runs inline when called on the main thread with
+     * nothing queued or running, so only use this for network SDK callbacks. Use {@link #post} for events
+     * raised from within the adapter's own methods.
+     */
+    public static void dispatch(@NonNull final Callback callback, final int event,
+                                @Nullable final Object argument) {
+        Preconditions.checkNotNull(callback);
+
+        final boolean isMainThread = Looper.myLooper() == Looper.getMainLooper();
+        synchronized (LOCK) {
+            if (!isMainThread || sHead != null || sDraining) {
+                enqueue(callback, event, argument);
+                return;
+            }
+            sInlineCount++;
+        }
+        callback.onMainThreadEvent(event, argument);
+    }
+
+    /**
+     * Delivers an event on the main thread, never inline. An event raised while the adapter is in
+     * the middle of load() or show() then reaches MoPub after that call has returned.
+     */
+    public static void post(@NonNull final Callback callback, final int event,
+                            @Nullable final Object argument) {
+        Preconditions.checkNotNull(callback);
+
+        synchronized (LOCK) {
+            enqueue(callback, event, argument);
+        }
+    }
+
+    /**
+     * @return the dispatch counts and queueing latency since the process started.
+     */
+    @NonNull
+    public static Stats getStats() {
+        synchronized (LOCK) {
+            return new Stats(sInlineCount, sQueuedCount, sBatchCount, sMaxQueueDepth,
+                    sTotalLatencyMillis, sMaxLatencyMillis);
+        }
+    }
+
+    @VisibleForTesting
+    static void resetStats() {
+        synchronized (LOCK) {
+            sInlineCount = 0;
+            sQueuedCount = 0;
+            sBatchCount = 0;
+            sMaxQueueDepth = 0;
+            sTotalLatencyMillis = 0;
+            sMaxLatencyMillis = 0;
+        }
+    }
+
+    // Must hold LOCK.
+    private static void enqueue(@NonNull final Callback callback, final int event,
+                                @Nullable final Object argument) {
+        Entry entry = sPool;
+        if (entry != null) {
+            sPool = entry.mNext;
+            sPoolSize--;
+            entry.mNext = null;
+        } else {
+            entry = new Entry();
+        }
+        entry.mCallback = callback;
+        entry.mEvent = event;
+        entry.mArgument = argument;
+        entry.mEnqueuedAtMillis = SystemClock.uptimeMillis();
+
+        if (sTail == null) {
+            sHead = entry;
+        } else {
+            sTail.mNext = entry;
+        }
+        sTail = entry;
+        sQueueDepth++;
+        sMaxQueueDepth = Math.max(sMaxQueueDepth, sQueueDepth);
+
+        if (!sBatchPosted) {
+            sBatchPosted = true;
+            MAIN_HANDLER.post(DRAIN_RUNNABLE);
+        }
+    }
+
+    private static void drain() {
+        final Entry batch;
+        final int batchSize;
+        synchronized (LOCK) {
+            batch = sHead;
+            batchSize = sQueueDepth;
+            sHead = null;
+            sTail = null;
+            sQueueDepth = 0;
+            sBatchPosted = false;
+            sDraining = true;
+        }
+
+        long totalLatencyMillis = 0;
+        long maxLatencyMillis = 0;
+        try {
+            for (Entry entry = batch; entry != null; entry = entry.mNext) {
+                final long latencyMillis = SystemClock.uptimeMillis() - entry.mEnqueuedAtMillis;
+                totalLatencyMillis += latencyMillis;
+                maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
+
+                final Callback callback = entry.mCallback;
+                final Object argument = entry.mArgument;
+                entry.mCallback = null;
+                entry.mArgument = null;
+                if (callback != null) {
+                    callback.onMainThreadEvent(entry.mEvent, argument);
+                }
+            }
+        } finally {
+            synchronized (LOCK) {
+                sDraining = false;
+            }
+        }
+
+        final Stats stats;
+        synchronized (LOCK) {
+            Entry entry = batch;
+            while (entry != null && sPoolSize < MAX_POOL_SIZE) {
+                final Entry next = entry.mNext;
+                entry.mNext = sPool;
+                sPool = entry;
+                sPoolSize++;
+                entry = next;
+            }
+
+            sQueuedCount += batchSize;
+            sBatchCount++;
+            sTotalLatencyMillis += totalLatencyMillis;
+            sMaxLatencyMillis = Math.max(sMaxLatencyMillis, maxLatencyMillis);
+            stats = getStats();
+        }
+
+        if (maxLatencyMillis > SLOW_BATCH_MILLIS) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Ran " + batchSize + " queued events after " +
+                    "waiting up to " + maxLatencyMillis + "ms. " + stats);
+        }
+    }
+
+    /**
+     * Snapshot of the dispatcher's counters.
+     */
+    public static final class Stats {
+        private final long mInlineCount;
+        private final long mQueuedCount;
+        private final long mBatchCount;
+        private final int mMaxQueueDepth;
+        private final long mTotalLatencyMillis;
+        private final long mMaxLatencyMillis;
+
+        Stats(final long inlineCount, final long queuedCount, final long batchCount,
+              final int maxQueueDepth, final long totalLatencyMillis, final long maxLatencyMillis) {
+            mInlineCount = inlineCount;
+            mQueuedCount = queuedCount;
+            mBatchCount = batchCount;
+            mMaxQueueDepth = maxQueueDepth;
+            mTotalLatencyMillis = totalLatencyMillis;
+            mMaxLatencyMillis = maxLatencyMillis;
+        }
+
+        /**
+         * @return the number of events run inline on the main thread.
+         */
+        public long getInlineCount() {
+            return mInlineCount;
+        }
+
+        /**
+         * @return the number of queued events that have run.
+         */
+        public long getQueuedCount() {
+            return mQueuedCount;
+        }
+
+        /**
+         * @return the number of main thread messages that ran queued events.
+         */
+        public long getBatchCount() {
+            return mBatchCount;
+        }
+
+        public int getMaxQueueDepth() {
+            return mMaxQueueDepth;
+        }
+
+        /**
+         * @return the average time a queued event waited for the main thread.
+         */
+        public double getAverageLatencyMillis() {
+            return mQueuedCount == 0 ? 0 : (double) mTotalLatencyMillis / mQueuedCount;
+        }
+
+        public long getMaxLatencyMillis() {
+            return mMaxLatencyMillis;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "inline: %d, queued: %d in %d batches, " +
+                            "max queue depth: %d, latency avg: %.1fms, max: %dms", mInlineCount,
+                    mQueuedCount, mBatchCount, mMaxQueueDepth, getAverageLatencyMillis(),
+                    mMaxLatencyMillis);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.Robolectric;
+import org.robolectric.android.controller.ActivityController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Drives a {@link BaseAd} through load, show and invalidate many times on Robolectric, each time
+ * in its own Activity. The network SDK is replaced by whatever fakes the {@link Driver} sets up.
+ * <p>
+ * Each lifecycle must report exactly the driver's expected callbacks, in order, and nothing after
+ * invalidate. Once all lifecycles have run, no adapter or Activity may still be reachable, and no
+ * static collection in the watched classes may have grown. The bytes allocated by each lifecycle
+ * are returned in a {@link Report}.
+ */
+public final class AdapterLifecycleHarness<T extends BaseAd> {
+    /**
+     * Longer than any load timeout, so a callback the adapter failed to cancel still arrives
+     * before the lifecycle is checked.
+     */
+    private static final Duration PENDING_CALLBACKS_DELAY = Duration.ofSeconds(30);
+
+    private static final List<Class<?>> COMMON_STATIC_HOLDERS = Arrays.<Class<?>>asList(
+            LoadWatchdog.class, LoadTimeoutPolicy.class, CachingAdapterConfiguration.class);
+
+    /**
+     * Plays the network SDK's part in one lifecycle.
+     */
+    public interface Driver<T extends BaseAd> {
+        @NonNull
+        T createAdapter();
+
+        @NonNull
+        AdData createAdData();
+
+        /**
+         * Delivers the network SDK's callbacks for the load the adapter just started.
+         */
+        void completeLoad(@NonNull T adapter);
+
+        /**
+         * Shows the loaded ad and delivers the network SDK's callbacks up to the point the ad is
+         * gone. Inline drivers deliver the callbacks of the ad coming on screen.
+         */
+        void show(@NonNull T adapter, @NonNull Activity activity);
+
+        /**
+         * The listener methods one lifecycle must call, in order.
+         */
+        @NonNull
+        List<String> getExpectedCallbacks();
+    }
+
+    @NonNull
+    private final Driver<T> mDriver;
+    @NonNull
+    private final List<Class<?>> mStaticHolders = new ArrayList<>(COMMON_STATIC_HOLDERS);
+
+    public AdapterLifecycleHarness(@NonNull final Driver<T> driver) {
+        mDriver = driver;
+    }
+
+    /**
+     * Also checks the static collections of these classes, such as a network router's map of
+     * listeners. The adapter's own class is always checked.
+     */
+    @NonNull
+    public AdapterLifecycleHarness<T> watchStatics(@NonNull final Class<?>... classes) {
+        mStaticHolders.addAll(Arrays.asList(classes));
+        return this;
+    }
+
+    @NonNull
+    public Report run(final int iterations) {
+        final RetentionProbe probe = new RetentionProbe();
+        final long[] allocatedBytes = new long[iterations];
+        Map<String, Integer> staticSizes = null;
+        String adapterName = null;
+
+        for (int i = 0; i < iterations; i++) {
+            final ActivityController<Activity> activityController =
+                    Robolectric.buildActivity(Activity.class).create();
+            final Activity activity = activityController.get();
+            final List<String> callbacks = new ArrayList<>();
+            final AdLifecycleListener.LoadListener loadListener =
+                    mock(AdLifecycleListener.LoadListener.class, new RecordingAnswer(callbacks));
+            final AdLifecycleListener.InteractionListener interactionListener =
+                    mock(AdLifecycleListener.InteractionListener.class,
+                            new RecordingAnswer(callbacks));
+
+            final long bytesBefore = getAllocatedBytes();
+            final T adapter = mDriver.createAdapter();
+            adapter.mLoadListener = loadListener;
+            adapter.load(activity, mDriver.createAdData());
+            mDriver.completeLoad(adapter);
+
+            if (callbacks.contains("onAdLoaded")) {
+                adapter.mInteractionListener = interactionListener;
+                mDriver.show(adapter, activity);
+            }
+
+            adapter.onInvalidate();
+            allocatedBytes[i] = getAllocatedBytes() - bytesBefore;
+
+            activityController.destroy();
+            shadowOf(Looper.getMainLooper()).idleFor(PENDING_CALLBACKS_DELAY);
+
+            adapterName = adapter.getClass().getSimpleName();
+            assertEquals(adapterName + " lifecycle #" + i, mDriver.getExpectedCallbacks(),
+                    callbacks);
+
+            if (staticSizes == null) {
+                // The first lifecycle may set up state that is kept for the whole session, such
+                // as the network SDK's initialization. Later lifecycles must not add to it.
+                mStaticHolders.add(adapter.getClass());
+                staticSizes = getStaticCollectionSizes();
+            }
+
+            probe.track(adapter, adapterName + " #" + i);
+            probe.track(activity, "Activity #" + i);
+        }
+
+        if (staticSizes != null) {
+            final Map<String, Integer> finalSizes = getStaticCollectionSizes();
+            final List<String> grown = new ArrayList<>();
+            for (final Map.Entry<String, Integer> entry : finalSizes.entrySet()) {
+                final Integer initialSize = staticSizes.get(entry.getKey());
+                if (initialSize != null && entry.getValue() > initialSize) {
+                    grown.add(entry.getKey() + " " + initialSize + " -> " + entry.getValue());
+                }
+            }
+            if (!grown.isEmpty()) {
+                fail("Static collections grew over " + iterations + " lifecycles: " + grown);
+            }
+        }
+
+        probe.assertAllCollected();
+
+        final Report report = new Report(adapterName, allocatedBytes);
+        System.out.println(report);
+        return report;
+    }
+
+    @NonNull
+    private Map<String, Integer> getStaticCollectionSizes() {
+        final Map<String, Integer> sizes = new LinkedHashMap<>();
+
+        for (final Class<?> holder : mStaticHolders) {
+            for (final Field field : holder.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+
+                final Object value;
+                try {
+                    field.setAccessible(true);
+                    value = field.get(null);
+                } catch (IllegalAccessException e) {
+                    continue;
+                }
+
+                final String name = holder.getSimpleName() + "." + field.getName();
+                if (value instanceof Collection) {
+                    sizes.put(name, ((Collection<?>) value).size());
+                } else if (value instanceof Map) {
+                    sizes.put(name, ((Map<?, ?>) value).size());
+                }
+            }
+        }
+
+        return sizes;
+    }
+
+    /**
+     * Returns the bytes allocated so far by this thread, or 0 if the JVM cannot tell.
+     */
+    private static long getAllocatedBytes() {
+        final java.lang.management.ThreadMXBean threadMXBean =
+                ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationBean =
+                    (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationBean.isThreadAllocatedMemorySupported()
+                    && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Records the name of every listener method called, in order.
+     */
+    private static class RecordingAnswer implements Answer<Object> {
+        @NonNull
+        private final List<String> mCallbacks;
+
+        RecordingAnswer(@NonNull final List<String> callbacks) {
+            mCallbacks = callbacks;
+        }
+
+        @Override
+        public Object answer(final InvocationOnMock invocation) throws Throwable {
+            if (invocation.getMethod().getDeclaringClass().isInterface()) {
+                mCallbacks.add(invocation.getMethod().getName());
+            }
+            return RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    /**
+     * Bytes allocated on the test thread by each lifecycle, from creating the adapter to
+     * invalidating it.
+     */
+    public static final class Report {
+        @NonNull
+        private final String mAdapterName;
+        @NonNull
+        private final long[] mSortedAllocatedBytes;
+
+        Report(@NonNull final String adapterName, @NonNull final long[] allocatedBytes) {
+            mAdapterName = adapterName;
+            mSortedAllocatedBytes = allocatedBytes.clone();
+            Arrays.sort(mSortedAllocatedBytes);
+        }
+
+        public int getIterations() {
+            return mSortedAllocatedBytes.length;
+        }
+
+        public long getMedianAllocatedBytes() {
+            return percentile(50);
+        }
+
+        public long getP95AllocatedBytes() {
+            return percentile(95);
+        }
+
+        public long getMaxAllocatedBytes() {
+            return mSortedAllocatedBytes.length == 0
+                    ? 0
+                    : mSortedAllocatedBytes[mSortedAllocatedBytes.length - 1];
+        }
+
+        private long percentile(final int percent) {
+            if (mSortedAllocatedBytes.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(percent / 100.0 * mSortedAllocatedBytes.length) - 1;
+            return mSortedAllocatedBytes[Math.max(0, index)];
+        }
+
+        @Override
+        public String toString() {
+            return mAdapterName + ": " + getIterations() + " lifecycles, bytes allocated per "
+                    + "lifecycle median=" + getMedianAllocatedBytes()
+                    + " p95=" + getP95AllocatedBytes()
+                    + " max=" + getMaxAllocatedBytes();
+        }
+    }
+}
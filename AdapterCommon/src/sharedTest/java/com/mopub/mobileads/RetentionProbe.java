@@ -0,0 +1,74 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import androidx.annotation.NonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Holds weak references to objects that must not outlive an ad, and checks after forcing garbage
+ * collection that none of them is still reachable.
+ */
+public final class RetentionProbe {
+    private static final int MAX_GC_ATTEMPTS = 20;
+    private static final int GARBAGE_BLOCK_BYTES = 1024 * 1024;
+
+    private final List<WeakReference<Object>> mReferences = new ArrayList<>();
+    private final List<String> mDescriptions = new ArrayList<>();
+
+    public void track(@NonNull final Object object, @NonNull final String description) {
+        mReferences.add(new WeakReference<>(object));
+        mDescriptions.add(description);
+    }
+
+    /**
+     * Forces garbage collection until every tracked object is gone, and fails with the objects
+     * still reachable if some survive.
+     */
+    public void assertAllCollected() {
+        for (int attempt = 0; attempt < MAX_GC_ATTEMPTS && countRetained() > 0; attempt++) {
+            forceGc();
+        }
+
+        final List<String> retained = new ArrayList<>();
+        for (int i = 0; i < mReferences.size(); i++) {
+            if (mReferences.get(i).get() != null) {
+                retained.add(mDescriptions.get(i));
+            }
+        }
+
+        if (!retained.isEmpty()) {
+            fail(retained.size() + " of " + mReferences.size() + " objects were retained: " + retained);
+        }
+    }
+
+    private int countRetained() {
+        int retained = 0;
+        for (final WeakReference<Object> reference : mReferences) {
+            if (reference.get() != null) {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    private static void forceGc() {
+        // System.gc() is only a hint. Allocating and dropping some garbage makes a collection
+        // much more likely to actually run.
+        byte[][] garbage = new byte[8][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[GARBAGE_BLOCK_BYTES];
+        }
+        garbage = null;
+
+        System.gc();
+        System.runFinalization();
+    }
+}
@@ -0,0 +1,236 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+public class LoadTimeoutPolicyTest {
+    private static final String NETWORK_NAME = "network";
+    private static final String PLACEMENT_KEY = "placement";
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+        LoadTimeoutPolicy.reset();
+    }
+
+    @After
+    public void tearDown() {
+        LoadTimeoutPolicy.reset();
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withNoSamples_shouldReturnFormatDefault() {
+        for (final LoadWatchdog.Format format : LoadWatchdog.Format.values()) {
+            assertEquals(format.getDefaultTimeoutMillis(), recommended(format));
+        }
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withTooFewSamples_shouldReturnFormatDefault() {
+        recordSuccesses(LoadWatchdog.Format.BANNER, 100, 4);
+
+        assertEquals(9000, recommended(LoadWatchdog.Format.BANNER));
+
+        recordSuccesses(LoadWatchdog.Format.BANNER, 100, 1);
+
+        assertEquals(2000, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_shouldReturnP95WithHeadroom() {
+        // 100ms, 200ms, ..., 2000ms. The p95 of 20 samples is the 19th smallest.
+        for (int i = 1; i <= 20; i++) {
+            record(LoadWatchdog.Format.BANNER, i * 100);
+        }
+
+        assertEquals(1900 * 3 / 2, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_shouldIgnoreSampleOrder() {
+        for (int i = 20; i >= 1; i--) {
+            record(LoadWatchdog.Format.BANNER, i * 100);
+        }
+
+        assertEquals(1900 * 3 / 2, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withFastLoads_shouldNotGoBelowFloor() {
+        recordSuccesses(LoadWatchdog.Format.BANNER, 100, 20);
+        recordSuccesses(LoadWatchdog.Format.REWARDED, 0, 20);
+
+        assertEquals(2000, recommended(LoadWatchdog.Format.BANNER));
+        assertEquals(2000, recommended(LoadWatchdog.Format.REWARDED));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withSlowLoads_shouldNotExceedFormatCap() {
+        for (final LoadWatchdog.Format format : LoadWatchdog.Format.values()) {
+            recordSuccesses(format, 8000, 20);
+        }
+
+        // 8000ms with headroom is 12000ms, which is over the inline caps only.
+        assertEquals(9000, recommended(LoadWatchdog.Format.BANNER));
+        assertEquals(9000, recommended(LoadWatchdog.Format.NATIVE));
+        assertEquals(12000, recommended(LoadWatchdog.Format.INTERSTITIAL));
+        assertEquals(12000, recommended(LoadWatchdog.Format.REWARDED));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withVerySlowLoads_shouldReturnFullscreenCap() {
+        recordSuccesses(LoadWatchdog.Format.INTERSTITIAL, 25000, 20);
+        recordSuccesses(LoadWatchdog.Format.REWARDED, 25000, 20);
+
+        assertEquals(28000, recommended(LoadWatchdog.Format.INTERSTITIAL));
+        assertEquals(28000, recommended(LoadWatchdog.Format.REWARDED));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withCensoredSampleAboveP95_shouldIgnoreIt() {
+        recordSuccesses(LoadWatchdog.Format.BANNER, 3000, 19);
+        recordTimeout(LoadWatchdog.Format.BANNER, 4500);
+
+        assertEquals(4500, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_withCensoredP95_shouldReturnFormatDefault() {
+        recordSuccesses(LoadWatchdog.Format.BANNER, 1000, 18);
+        recordTimeout(LoadWatchdog.Format.BANNER, 2000);
+        recordTimeout(LoadWatchdog.Format.BANNER, 2000);
+
+        // The timed-out loads took at least 2000ms, so the p95 is unknown and the deadline
+        // that cut them off is not trusted.
+        assertEquals(9000, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_afterCensoredSamplesRollOff_shouldAdaptAgain() {
+        recordTimeout(LoadWatchdog.Format.BANNER, 2000);
+        recordTimeout(LoadWatchdog.Format.BANNER, 2000);
+        recordTimeout(LoadWatchdog.Format.BANNER, 2000);
+        recordSuccesses(LoadWatchdog.Format.BANNER, 2000, 17);
+
+        assertEquals(9000, recommended(LoadWatchdog.Format.BANNER));
+
+        // Only the 50 most recent loads are kept.
+        recordSuccesses(LoadWatchdog.Format.BANNER, 2000, 50);
+
+        assertEquals(3000, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_shouldKeepNetworksAndPlacementsApart() {
+        recordSuccesses(LoadWatchdog.Format.BANNER, 100, 20);
+
+        assertEquals(2000, recommended(LoadWatchdog.Format.BANNER));
+        assertEquals(9000, LoadTimeoutPolicy.getRecommendedTimeoutMillis(mContext,
+                LoadWatchdog.Format.BANNER, "otherNetwork", PLACEMENT_KEY));
+        assertEquals(9000, LoadTimeoutPolicy.getRecommendedTimeoutMillis(mContext,
+                LoadWatchdog.Format.BANNER, NETWORK_NAME, "otherPlacement"));
+        assertEquals(9000, LoadTimeoutPolicy.getRecommendedTimeoutMillis(mContext,
+                LoadWatchdog.Format.BANNER, NETWORK_NAME, null));
+    }
+
+    @Test
+    public void recordSuccessfulLoad_withNegativeLatency_shouldIgnoreIt() {
+        recordSuccesses(LoadWatchdog.Format.BANNER, -1, 20);
+
+        assertEquals(9000, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void getRecommendedTimeoutMillis_afterRestart_shouldUsePersistedSamples() {
+        for (int i = 1; i <= 20; i++) {
+            record(LoadWatchdog.Format.BANNER, i * 100);
+        }
+        recordTimeout(LoadWatchdog.Format.BANNER, 2500);
+
+        // Drops the in-memory samples, as a new session would.
+        LoadTimeoutPolicy.reset();
+
+        // 21 samples, with the censored one sorted last. The p95 is the 20th smallest.
+        assertEquals(3000, recommended(LoadWatchdog.Format.BANNER));
+    }
+
+    @Test
+    public void latencySamples_serialize_shouldRoundTrip() {
+        final LoadTimeoutPolicy.LatencySamples samples = new LoadTimeoutPolicy.LatencySamples();
+        samples.add(100, false);
+        samples.add(2000, true);
+        samples.add(0, false);
+
+        final String serialized = samples.serialize();
+
+        assertEquals("100,2000+,0", serialized);
+        assertEquals(serialized,
+                LoadTimeoutPolicy.LatencySamples.deserialize(serialized).serialize());
+    }
+
+    @Test
+    public void latencySamples_serialize_afterWrap_shouldKeepMostRecentInOrder() {
+        final LoadTimeoutPolicy.LatencySamples samples = new LoadTimeoutPolicy.LatencySamples();
+        for (int i = 0; i < 60; i++) {
+            samples.add(i, i % 2 == 0);
+        }
+
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 10; i < 60; i++) {
+            if (i > 10) {
+                expected.append(',');
+            }
+            expected.append(i).append(i % 2 == 0 ? "+" : "");
+        }
+
+        assertEquals(expected.toString(), samples.serialize());
+        assertEquals(expected.toString(),
+                LoadTimeoutPolicy.LatencySamples.deserialize(samples.serialize()).serialize());
+    }
+
+    @Test
+    public void latencySamples_deserialize_withUnreadableValue_shouldReturnNull() {
+        assertNull(LoadTimeoutPolicy.LatencySamples.deserialize("100,fast,200"));
+        assertNull(LoadTimeoutPolicy.LatencySamples.deserialize(""));
+        assertNull(LoadTimeoutPolicy.LatencySamples.deserialize(null));
+    }
+
+    private long recommended(final LoadWatchdog.Format format) {
+        return LoadTimeoutPolicy.getRecommendedTimeoutMillis(mContext, format, NETWORK_NAME,
+                PLACEMENT_KEY);
+    }
+
+    private void record(final LoadWatchdog.Format format, final long latencyMillis) {
+        LoadTimeoutPolicy.recordSuccessfulLoad(mContext, format, NETWORK_NAME, PLACEMENT_KEY,
+                latencyMillis);
+    }
+
+    private void recordSuccesses(final LoadWatchdog.Format format, final long latencyMillis,
+                                 final int count) {
+        for (int i = 0; i < count; i++) {
+            record(format, latencyMillis);
+        }
+    }
+
+    private void recordTimeout(final LoadWatchdog.Format format, final long elapsedMillis) {
+        LoadTimeoutPolicy.recordTimedOutLoad(mContext, format, NETWORK_NAME, PLACEMENT_KEY,
+                elapsedMillis);
+    }
+}
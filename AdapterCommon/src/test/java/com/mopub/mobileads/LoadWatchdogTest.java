@@ -0,0 +1,286 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.os.Looper;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.mopub.nativeads.BaseNativeAd;
+import com.mopub.nativeads.CustomEventNative;
+import com.mopub.nativeads.NativeErrorCode;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class LoadWatchdogTest {
+    private static final String NETWORK_NAME = "network";
+    private static final String OTHER_NETWORK_NAME = "otherNetwork";
+    private static final String PLACEMENT_KEY = "placement";
+    private static final long BANNER_TIMEOUT_MILLIS =
+            LoadWatchdog.Format.BANNER.getDefaultTimeoutMillis();
+
+    private Context mContext;
+    private LoadWatchdog.LoadTimeoutListener mTimeoutListener;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+        mTimeoutListener = mock(LoadWatchdog.LoadTimeoutListener.class);
+        LoadWatchdog.reset();
+        LoadTimeoutPolicy.reset();
+    }
+
+    @After
+    public void tearDown() {
+        LoadWatchdog.reset();
+    }
+
+    @Test
+    public void startWatching_withNoResult_shouldTimeOutAtDefaultDeadline() {
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY, null);
+
+        idleFor(BANNER_TIMEOUT_MILLIS - 1);
+        verify(mTimeoutListener, never()).onLoadTimeout();
+        assertTrue(LoadWatchdog.isLoadPending(mTimeoutListener));
+
+        idleFor(1);
+        verify(mTimeoutListener).onLoadTimeout();
+        assertFalse(LoadWatchdog.isLoadPending(mTimeoutListener));
+        assertEquals(1, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void startWatching_withTimeoutExtra_shouldUseIt() {
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY,
+                Collections.singletonMap(LoadWatchdog.LOAD_TIMEOUT_MILLIS_KEY, "500"));
+
+        idleFor(499);
+        verify(mTimeoutListener, never()).onLoadTimeout();
+
+        idleFor(1);
+        verify(mTimeoutListener).onLoadTimeout();
+    }
+
+    @Test
+    public void startWatching_withInvalidTimeoutExtra_shouldUseDefaultDeadline() {
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY,
+                Collections.singletonMap(LoadWatchdog.LOAD_TIMEOUT_MILLIS_KEY, "soon"));
+
+        idleFor(BANNER_TIMEOUT_MILLIS - 1);
+        verify(mTimeoutListener, never()).onLoadTimeout();
+
+        idleFor(1);
+        verify(mTimeoutListener).onLoadTimeout();
+    }
+
+    @Test
+    public void onLoadSucceeded_shouldStopWatching() {
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY, null);
+
+        LoadWatchdog.onLoadSucceeded(mTimeoutListener);
+        idleFor(BANNER_TIMEOUT_MILLIS);
+
+        verify(mTimeoutListener, never()).onLoadTimeout();
+        assertEquals(0, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void stopWatching_shouldStopWatching() {
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY, null);
+
+        LoadWatchdog.stopWatching(mTimeoutListener);
+        idleFor(BANNER_TIMEOUT_MILLIS);
+
+        verify(mTimeoutListener, never()).onLoadTimeout();
+        assertFalse(LoadWatchdog.isLoadPending(mTimeoutListener));
+    }
+
+    @Test
+    public void startWatching_again_shouldReplaceEarlierDeadline() {
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY, null);
+        idleFor(BANNER_TIMEOUT_MILLIS / 2);
+
+        LoadWatchdog.startWatching(mContext, mTimeoutListener, LoadWatchdog.Format.BANNER,
+                NETWORK_NAME, PLACEMENT_KEY, null);
+        idleFor(BANNER_TIMEOUT_MILLIS / 2 + 1);
+        verify(mTimeoutListener, never()).onLoadTimeout();
+
+        idleFor(BANNER_TIMEOUT_MILLIS);
+        verify(mTimeoutListener).onLoadTimeout();
+    }
+
+    @Test
+    public void getTimeoutCount_shouldCountEachNetworkSeparately() {
+        LoadWatchdog.startWatching(mContext, mock(LoadWatchdog.LoadTimeoutListener.class),
+                LoadWatchdog.Format.BANNER, NETWORK_NAME, PLACEMENT_KEY, null);
+        LoadWatchdog.startWatching(mContext, mock(LoadWatchdog.LoadTimeoutListener.class),
+                LoadWatchdog.Format.BANNER, NETWORK_NAME, PLACEMENT_KEY, null);
+        LoadWatchdog.startWatching(mContext, mock(LoadWatchdog.LoadTimeoutListener.class),
+                LoadWatchdog.Format.BANNER, OTHER_NETWORK_NAME, PLACEMENT_KEY, null);
+
+        idleFor(BANNER_TIMEOUT_MILLIS);
+
+        assertEquals(2, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+        assertEquals(1, LoadWatchdog.getTimeoutCount(OTHER_NETWORK_NAME));
+        assertEquals(0, LoadWatchdog.getTimeoutCount("unknown"));
+
+        final Map<String, Integer> expected = new HashMap<>();
+        expected.put(NETWORK_NAME, 2);
+        expected.put(OTHER_NETWORK_NAME, 1);
+        assertEquals(expected, LoadWatchdog.getTimeoutCounts());
+    }
+
+    @Test
+    public void watch_withNullListener_shouldReturnNull() {
+        assertNull(LoadWatchdog.watch(mContext, null, LoadWatchdog.Format.BANNER, NETWORK_NAME,
+                adData()));
+    }
+
+    @Test
+    public void watch_withNoResult_shouldFailWithTimeout_shouldIgnoreLateResult() {
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+        final AdLifecycleListener.LoadListener watchedListener = LoadWatchdog.watch(mContext,
+                loadListener, LoadWatchdog.Format.BANNER, NETWORK_NAME, adData());
+
+        idleFor(BANNER_TIMEOUT_MILLIS);
+        watchedListener.onAdLoaded();
+        watchedListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+
+        verify(loadListener).onAdLoadFailed(MoPubErrorCode.NETWORK_TIMEOUT);
+        verifyNoMoreInteractions(loadListener);
+        assertEquals(1, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void watch_withResult_shouldForwardItOnce_shouldNotTimeOut() {
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+        final AdLifecycleListener.LoadListener watchedListener = LoadWatchdog.watch(mContext,
+                loadListener, LoadWatchdog.Format.BANNER, NETWORK_NAME, adData());
+
+        watchedListener.onAdLoaded();
+        watchedListener.onAdLoaded();
+        idleFor(BANNER_TIMEOUT_MILLIS);
+
+        verify(loadListener).onAdLoaded();
+        verifyNoMoreInteractions(loadListener);
+        assertEquals(0, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void watch_withFailure_shouldForwardIt_shouldNotTimeOut() {
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+        final AdLifecycleListener.LoadListener watchedListener = LoadWatchdog.watch(mContext,
+                loadListener, LoadWatchdog.Format.BANNER, NETWORK_NAME, adData());
+
+        watchedListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+        idleFor(BANNER_TIMEOUT_MILLIS);
+
+        verify(loadListener).onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+        verifyNoMoreInteractions(loadListener);
+    }
+
+    @Test
+    public void cancel_shouldStopWatching_shouldIgnoreLateResult() {
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+        final AdLifecycleListener.LoadListener watchedListener = LoadWatchdog.watch(mContext,
+                loadListener, LoadWatchdog.Format.BANNER, NETWORK_NAME, adData());
+
+        LoadWatchdog.cancel(watchedListener);
+        idleFor(BANNER_TIMEOUT_MILLIS);
+        watchedListener.onAdLoaded();
+
+        verify(loadListener, never()).onAdLoaded();
+        verify(loadListener, never()).onAdLoadFailed(any(MoPubErrorCode.class));
+        assertEquals(0, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void watch_again_shouldWrapOriginalListenerOnce() {
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+        final AdLifecycleListener.LoadListener firstListener = LoadWatchdog.watch(mContext,
+                loadListener, LoadWatchdog.Format.BANNER, NETWORK_NAME, adData());
+        final AdLifecycleListener.LoadListener secondListener = LoadWatchdog.watch(mContext,
+                firstListener, LoadWatchdog.Format.BANNER, NETWORK_NAME, adData());
+
+        firstListener.onAdLoaded();
+        secondListener.onAdLoaded();
+        idleFor(BANNER_TIMEOUT_MILLIS);
+
+        verify(loadListener).onAdLoaded();
+        verifyNoMoreInteractions(loadListener);
+        assertEquals(0, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void watchNative_withNoResult_shouldFailWithTimeout_shouldIgnoreLateResult() {
+        final CustomEventNative.CustomEventNativeListener nativeListener =
+                mock(CustomEventNative.CustomEventNativeListener.class);
+        final CustomEventNative.CustomEventNativeListener watchedListener = LoadWatchdog.watch(
+                mContext, nativeListener, NETWORK_NAME, PLACEMENT_KEY, null);
+
+        idleFor(LoadWatchdog.Format.NATIVE.getDefaultTimeoutMillis());
+        watchedListener.onNativeAdLoaded(mock(BaseNativeAd.class));
+
+        verify(nativeListener).onNativeAdFailed(NativeErrorCode.NETWORK_TIMEOUT);
+        verifyNoMoreInteractions(nativeListener);
+        assertEquals(1, LoadWatchdog.getTimeoutCount(NETWORK_NAME));
+    }
+
+    @Test
+    public void watchNative_withResult_shouldForwardIt_shouldNotTimeOut() {
+        final CustomEventNative.CustomEventNativeListener nativeListener =
+                mock(CustomEventNative.CustomEventNativeListener.class);
+        final CustomEventNative.CustomEventNativeListener watchedListener = LoadWatchdog.watch(
+                mContext, nativeListener, NETWORK_NAME, PLACEMENT_KEY, null);
+        final BaseNativeAd nativeAd = mock(BaseNativeAd.class);
+
+        watchedListener.onNativeAdLoaded(nativeAd);
+        idleFor(LoadWatchdog.Format.NATIVE.getDefaultTimeoutMillis());
+
+        verify(nativeListener).onNativeAdLoaded(nativeAd);
+        verifyNoMoreInteractions(nativeListener);
+    }
+
+    private static AdData adData() {
+        return new AdData.Builder().extras(new HashMap<String, String>()).build();
+    }
+
+    private static void idleFor(final long millis) {
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis));
+    }
+}
@@ -0,0 +1,167 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.os.Looper;
+
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class MainThreadDispatcherTest {
+    private static final int EVENT_COUNT = 100;
+
+    private RecordingCallback mCallback;
+
+    @Before
+    public void setUp() {
+        // Run anything an earlier test left queued before counting.
+        shadowOf(Looper.getMainLooper()).idle();
+        MainThreadDispatcher.resetStats();
+        mCallback = new RecordingCallback();
+    }
+
+    @Test
+    public void dispatch_onMainThreadWithEmptyQueue_shouldRunInline() {
+        MainThreadDispatcher.dispatch(mCallback, 1, "argument");
+
+        assertEquals(Arrays.asList(1), mCallback.mEvents);
+        assertEquals(Arrays.<Object>asList("argument"), mCallback.mArguments);
+        assertEquals(1, MainThreadDispatcher.getStats().getInlineCount());
+        assertEquals(0, MainThreadDispatcher.getStats().getBatchCount());
+    }
+
+    @Test
+    public void post_shouldNotRunInline() {
+        MainThreadDispatcher.post(mCallback, 1, null);
+
+        assertTrue(mCallback.mEvents.isEmpty());
+
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList(1), mCallback.mEvents);
+        assertEquals(0, MainThreadDispatcher.getStats().getInlineCount());
+        assertEquals(1, MainThreadDispatcher.getStats().getQueuedCount());
+    }
+
+    @Test
+    public void dispatch_withEventsQueued_shouldRunAfterThem() {
+        MainThreadDispatcher.post(mCallback, 1, null);
+        MainThreadDispatcher.dispatch(mCallback, 2, null);
+
+        assertTrue(mCallback.mEvents.isEmpty());
+
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList(1, 2), mCallback.mEvents);
+    }
+
+    @Test
+    public void dispatch_fromBackgroundThread_shouldRunInOrderInOneBatch() throws Exception {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < EVENT_COUNT; i++) {
+                    MainThreadDispatcher.dispatch(mCallback, i, i);
+                }
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertTrue(mCallback.mEvents.isEmpty());
+
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(EVENT_COUNT, mCallback.mEvents.size());
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            assertEquals(i, (int) mCallback.mEvents.get(i));
+            assertEquals(i, mCallback.mArguments.get(i));
+        }
+        final MainThreadDispatcher.Stats stats = MainThreadDispatcher.getStats();
+        assertEquals(EVENT_COUNT, stats.getQueuedCount());
+        assertEquals(1, stats.getBatchCount());
+        assertEquals(EVENT_COUNT, stats.getMaxQueueDepth());
+        assertEquals(Looper.getMainLooper().getThread(), mCallback.mThread);
+    }
+
+    @Test
+    public void post_fromCallback_shouldRunInNextBatch() {
+        final MainThreadDispatcher.Callback reentrantCallback = new MainThreadDispatcher.Callback() {
+            @Override
+            public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+                mCallback.onMainThreadEvent(event, argument);
+                if (event == 1) {
+                    MainThreadDispatcher.post(this, 2, null);
+                }
+            }
+        };
+
+        MainThreadDispatcher.post(reentrantCallback, 1, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList(1, 2), mCallback.mEvents);
+        assertEquals(2, MainThreadDispatcher.getStats().getBatchCount());
+    }
+
+    @Test
+    public void dispatch_fromCallback_shouldRunAfterRestOfBatch() {
+        final MainThreadDispatcher.Callback reentrantCallback = new MainThreadDispatcher.Callback() {
+            @Override
+            public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+                mCallback.onMainThreadEvent(event, argument);
+                if (event == 1) {
+                    // E.g. a publisher calling show() from onAdLoaded() and the network SDK
+                    // calling back synchronously.
+                    MainThreadDispatcher.dispatch(this, 3, null);
+                }
+            }
+        };
+
+        MainThreadDispatcher.post(reentrantCallback, 1, null);
+        MainThreadDispatcher.post(reentrantCallback, 2, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList(1, 2, 3), mCallback.mEvents);
+        assertEquals(0, MainThreadDispatcher.getStats().getInlineCount());
+    }
+
+    @Test
+    public void dispatch_afterBatch_shouldRunInlineAgain() {
+        MainThreadDispatcher.post(mCallback, 1, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        MainThreadDispatcher.dispatch(mCallback, 2, null);
+
+        assertEquals(Arrays.asList(1, 2), mCallback.mEvents);
+        assertEquals(1, MainThreadDispatcher.getStats().getInlineCount());
+    }
+
+    private static class RecordingCallback implements MainThreadDispatcher.Callback {
+        final List<Integer> mEvents = new ArrayList<>();
+        final List<Object> mArguments = new ArrayList<>();
+        @Nullable
+        Thread mThread;
+
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            mEvents.add(event);
+            mArguments.add(argument);
+            mThread = Thread.currentThread();
+        }
+    }
+}
@@ -13,7 +13,6 @@ import com.applovin.sdk.AppLovinErrorCodes;
 import com.applovin.sdk.AppLovinMediationProvider;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -21,8 +20,9 @@ import com.mopub.mobileads.applovin.BuildConfig;
 
 import java.util.Map;
 
-public class AppLovinAdapterConfiguration extends BaseAdapterConfiguration {
+public class AppLovinAdapterConfiguration extends CachingAdapterConfiguration {
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
+
     private static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
 
     private static final String CONFIG_KEY_APPLOVIN_SDK_KEY = "sdk_key";
@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 import android.view.View;
 
@@ -27,6 +25,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPub;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.applovin.BuildConfig;
 
 import java.util.Map;
 
@@ -43,7 +42,6 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 public class AppLovinBanner extends BaseAd {
 
     private static final String ADAPTER_NAME = AppLovinBanner.class.getSimpleName();
-    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
     private static final String ZONE_ID_EXTRAS_KEY = "zone_id";
 
     private String mZoneId;
@@ -64,6 +62,9 @@ public class AppLovinBanner extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         final Map<String, String> extras = adData.getExtras();
         if (extras.isEmpty()) {
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "No extras provided");
@@ -181,54 +182,7 @@ public class AppLovinBanner extends BaseAd {
                 }
             });
 
-            final AppLovinAdLoadListener adLoadListener = new AppLovinAdLoadListener() {
-                @Override
-                public void adReceived(final AppLovinAd ad) {
-                    // Ensure logic is ran on main queue
-                    runOnUiThread(new Runnable() {
-                        @Override
-                        public void run() {
-                            MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                            MoPubLog.log(getAdNetworkId(), SHOW_ATTEMPTED, ADAPTER_NAME);
-
-                            mAdView.renderAd(ad);
-                            MoPubLog.log(getAdNetworkId(), SHOW_SUCCESS, ADAPTER_NAME);
-
-                            try {
-                                if (mLoadListener != null) {
-                                    mLoadListener.onAdLoaded();
-                                }
-                            } catch (Throwable th) {
-                                MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener " +
-                                        "of successful ad load.", th);
-                            }
-                        }
-                    });
-                }
-
-                @Override
-                public void failedToReceiveAd(final int errorCode) {
-                    // Ensure logic is ran on main queue
-                    runOnUiThread(new Runnable() {
-                        @Override
-                        public void run() {
-                            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Failed to load banner ad with code: ",
-                                    errorCode);
-                            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                                    AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode).getIntCode(),
-                                    AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
-                            try {
-                                if (mLoadListener != null) {
-                                    mLoadListener.onAdLoadFailed(AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
-                                }
-                            } catch (Throwable th) {
-                                MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify " +
-                                        "listener of failure to receive ad.", th);
-                            }
-                        }
-                    });
-                }
-            };
+            final AppLovinAdLoadListener adLoadListener = new BannerAdLoadListener();
 
             if (hasAdMarkup) {
                 sdk.getAdService().loadNextAdForAdToken(adMarkup, adLoadListener);
@@ -256,6 +210,72 @@ public class AppLovinBanner extends BaseAd {
         }
     }
 
+    /**
+     * Forwards AppLovin load callbacks to the main thread and handles them there.
+     */
+    private class BannerAdLoadListener implements AppLovinAdLoadListener, MainThreadDispatcher.Callback {
+        private static final int EVENT_AD_RECEIVED = 0;
+        private static final int EVENT_FAILED_TO_RECEIVE_AD = 1;
+
+        @Override
+        public void adReceived(final AppLovinAd ad) {
+            // Ensure logic is ran on main queue
+            MainThreadDispatcher.dispatch(this, EVENT_AD_RECEIVED, ad);
+        }
+
+        @Override
+        public void failedToReceiveAd(final int errorCode) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Failed to load banner ad with code: ",
+                    errorCode);
+
+            // Ensure logic is ran on main queue
+            MainThreadDispatcher.dispatch(this, EVENT_FAILED_TO_RECEIVE_AD,
+                    AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
+        }
+
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            if (mAdView == null) {
+                // Invalidated before the load finished.
+                return;
+            }
+
+            switch (event) {
+                case EVENT_AD_RECEIVED:
+                    MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                    MoPubLog.log(getAdNetworkId(), SHOW_ATTEMPTED, ADAPTER_NAME);
+
+                    mAdView.renderAd((AppLovinAd) argument);
+                    MoPubLog.log(getAdNetworkId(), SHOW_SUCCESS, ADAPTER_NAME);
+
+                    try {
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoaded();
+                        }
+                    } catch (Throwable th) {
+                        MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener " +
+                                "of successful ad load.", th);
+                    }
+                    break;
+                case EVENT_FAILED_TO_RECEIVE_AD:
+                    final MoPubErrorCode errorCode = (MoPubErrorCode) argument;
+                    MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(),
+                            errorCode);
+                    try {
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoadFailed(errorCode);
+                        }
+                    } catch (Throwable th) {
+                        MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify " +
+                                "listener of failure to receive ad.", th);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
     @Nullable
     @Override
     protected View getAdView() {
@@ -264,6 +284,13 @@ public class AppLovinBanner extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
+        // AppLovin's ad service may still hold the load listener, and through it this adapter.
+        if (mAdView != null) {
+            mAdView.destroy();
+            mAdView = null;
+        }
     }
 
     @Nullable
@@ -329,15 +356,4 @@ public class AppLovinBanner extends BaseAd {
             return AppLovinSdk.getInstance(context);
         }
     }
-
-    /**
-     * Performs the given runnable on the main thread.
-     */
-    private static void runOnUiThread(final Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
-            runnable.run();
-        } else {
-            UI_HANDLER.post(runnable);
-        }
-    }
 }
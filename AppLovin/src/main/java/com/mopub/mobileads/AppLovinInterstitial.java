@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -26,6 +24,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPub;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.applovin.BuildConfig;
 
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -49,7 +48,9 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
 
     private static final String ADAPTER_NAME = AppLovinInterstitial.class.getSimpleName();
 
-    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
+    // Events handled on the main thread by mMainThreadCallback.
+    private static final int EVENT_AD_RECEIVED = 0;
+    private static final int EVENT_FAILED_TO_RECEIVE_AD = 1;
 
     private AppLovinSdk sdk;
     private Context context;
@@ -68,6 +69,42 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
     @NonNull
     private AppLovinAdapterConfiguration mAppLovinAdapterConfiguration;
 
+    private final MainThreadDispatcher.Callback mMainThreadCallback = new MainThreadDispatcher.Callback() {
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            switch (event) {
+                case EVENT_AD_RECEIVED:
+                    try {
+                        MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoaded();
+                        }
+                    } catch (Throwable th) {
+                        MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of " +
+                                "successful ad load", th);
+                    }
+                    break;
+                case EVENT_FAILED_TO_RECEIVE_AD:
+                    final MoPubErrorCode errorCode = (MoPubErrorCode) argument;
+                    try {
+                        MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
+                                errorCode.getIntCode(), errorCode);
+
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoadFailed(errorCode);
+                        }
+                    } catch (Throwable th) {
+                        MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of failure" +
+                                " to receive ad", th);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
     //
     // MoPub Custom Event Methods
     //
@@ -81,6 +118,9 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         final Map<String, String> extras = adData.getExtras();
         if (extras.isEmpty()) {
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "No server data provided");
@@ -188,6 +228,11 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
 
     @Override
     public void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
+        // AppLovin's ad service may still hold this instance as a pending load listener.
+        context = null;
+        tokenAd = null;
     }
 
     @Nullable
@@ -202,6 +247,10 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
 
     @Override
     public void adReceived(final AppLovinAd ad) {
+        if (context == null) {
+            // Invalidated before the load finished. Queueing the ad would keep it for good.
+            return;
+        }
 
         if (isTokenEvent) {
             tokenAd = ad;
@@ -209,43 +258,18 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
             enqueueAd(ad, mZoneId);
         }
 
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-
-                    if (mLoadListener != null) {
-                        mLoadListener.onAdLoaded();
-                    }
-                } catch (Throwable th) {
-                    MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of " +
-                            "successful ad load", th);
-                }
-            }
-        });
+        MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_AD_RECEIVED, null);
     }
 
     @Override
     public void failedToReceiveAd(final int errorCode) {
+        if (context == null) {
+            // Invalidated before the load finished.
+            return;
+        }
 
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                            AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode).getIntCode(),
-                            AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
-
-                    if (mLoadListener != null) {
-                        mLoadListener.onAdLoadFailed(AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
-                    }
-                } catch (Throwable th) {
-                    MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of failure" +
-                            " to receive ad", th);
-                }
-            }
-        });
+        MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_FAILED_TO_RECEIVE_AD,
+                AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
     }
 
     //
@@ -351,15 +375,4 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
             return AppLovinSdk.getInstance(context);
         }
     }
-
-    /**
-     * Performs the given runnable on the main thread.
-     */
-    private static void runOnUiThread(final Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
-            runnable.run();
-        } else {
-            UI_HANDLER.post(runnable);
-        }
-    }
 }
@@ -24,6 +24,7 @@ import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.applovin.BuildConfig;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +47,10 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
     private static final String ZONE_ID_EXTRAS_KEY = "zone_id";
     private static final String ADAPTER_NAME = AppLovinRewardedVideo.class.getSimpleName();
 
+    // Events handled on the main thread by mMainThreadCallback.
+    private static final int EVENT_AD_RECEIVED = 0;
+    private static final int EVENT_FAILED_TO_RECEIVE_AD = 1;
+
     // A map of Zone -> `AppLovinIncentivizedInterstitial` to be shared by instances of the custom event.
     // This prevents skipping of ads as this adapter will be re-created and preloaded (along with underlying `AppLovinIncentivizedInterstitial`)
     // on every ad load regardless if ad was actually displayed or not.
@@ -67,6 +72,42 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
     @NonNull
     private AppLovinAdapterConfiguration mAppLovinAdapterConfiguration;
 
+    private final MainThreadDispatcher.Callback mMainThreadCallback = new MainThreadDispatcher.Callback() {
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            switch (event) {
+                case EVENT_AD_RECEIVED:
+                    try {
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoaded();
+                        }
+
+                        MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                    } catch (Throwable th) {
+                        MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of " +
+                                "successful ad load.", th);
+                    }
+                    break;
+                case EVENT_FAILED_TO_RECEIVE_AD:
+                    final MoPubErrorCode errorCode = (MoPubErrorCode) argument;
+                    try {
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoadFailed(errorCode);
+                        }
+
+                        MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
+                                errorCode.getIntCode(), errorCode);
+                    } catch (Throwable th) {
+                        MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of failure" +
+                                " to receive ad.", th);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
     //
     // MoPub Custom Event Methods
     //
@@ -117,6 +158,10 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
+
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         parentActivity = (Activity) context;
 
         final Map<String, String> extras = adData.getExtras();
@@ -214,6 +259,13 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
+        // The incentivized ad is shared per zone and keeps this instance as its last listener, so
+        // drop the references that reach the Activity.
+        parentActivity = null;
+        incentivizedInterstitial = null;
+        tokenAd = null;
     }
 
     //
@@ -224,47 +276,27 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
     public void adReceived(final AppLovinAd ad) {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Rewarded video did load ad: " + ad.getAdIdNumber());
 
+        if (parentActivity == null) {
+            // Invalidated before the load finished.
+            return;
+        }
+
         if (isTokenEvent) {
             tokenAd = ad;
         }
 
-        parentActivity.runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    if (mLoadListener != null) {
-                        mLoadListener.onAdLoaded();
-                    }
-
-                    MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                } catch (Throwable th) {
-                    MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of " +
-                            "successful ad load.", th);
-                }
-            }
-        });
+        MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_AD_RECEIVED, null);
     }
 
     @Override
     public void failedToReceiveAd(final int errorCode) {
+        if (parentActivity == null) {
+            // Invalidated before the load finished.
+            return;
+        }
 
-        parentActivity.runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    if (mLoadListener != null) {
-                        mLoadListener.onAdLoadFailed(AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
-                    }
-
-                    MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                            AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode).getIntCode(),
-                            AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
-                } catch (Throwable th) {
-                    MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Unable to notify listener of failure" +
-                            " to receive ad.", th);
-                }
-            }
-        });
+        MainThreadDispatcher.dispatch(mMainThreadCallback, EVENT_FAILED_TO_RECEIVE_AD,
+                AppLovinAdapterConfiguration.getMoPubErrorCode(errorCode));
     }
 
     //
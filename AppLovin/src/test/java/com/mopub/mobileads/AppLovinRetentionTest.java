@@ -0,0 +1,132 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.os.Looper;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinErrorCodes;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Invalidates AppLovin ads with their load still pending, delivers the load result afterwards as
+ * AppLovin's ad service would, and checks that neither the Activity nor the loaded ad is still
+ * reachable. The adapters are kept alive throughout, since the ad service holds them as load
+ * listeners.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class AppLovinRetentionTest {
+    private static final int LIFECYCLE_ITERATIONS = 50;
+
+    private RetentionProbe mProbe;
+    // Stands in for AppLovin's ad service, which keeps a load listener until the load finishes.
+    private List<AppLovinAdLoadListener> mPendingLoadListeners;
+
+    @Before
+    public void setUp() {
+        mProbe = new RetentionProbe();
+        mPendingLoadListeners = new ArrayList<>();
+    }
+
+    @Test
+    public void interstitial_withLoadCallbacksAfterInvalidate_shouldNotRetainAdOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runInterstitialLifecycle(i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void rewardedVideo_withLoadCallbacksAfterInvalidate_shouldNotRetainActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runRewardedVideoLifecycle(i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    private void runInterstitialLifecycle(final int iteration) {
+        final ActivityController<Activity> activityController =
+                Robolectric.buildActivity(Activity.class).create();
+        final Activity activity = activityController.get();
+        final AppLovinInterstitial adapter = new AppLovinInterstitial();
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+
+        adapter.mLoadListener = loadListener;
+        // There is no AppLovin SDK key in tests, so the load fails once the Activity is kept.
+        adapter.load(activity, adData("zone"));
+        mPendingLoadListeners.add(adapter);
+
+        adapter.onInvalidate();
+        activityController.destroy();
+
+        final AppLovinAd ad = mock(AppLovinAd.class);
+        adapter.adReceived(ad);
+        adapter.failedToReceiveAd(AppLovinErrorCodes.NO_FILL);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(loadListener).onAdLoadFailed(MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+        verifyNoMoreInteractions(loadListener);
+
+        // A queued ad would stay in the static per-zone queue.
+        mProbe.track(ad, "AppLovinAd #" + iteration);
+        mProbe.track(activity, "Activity #" + iteration);
+    }
+
+    private void runRewardedVideoLifecycle(final int iteration) {
+        final ActivityController<Activity> activityController =
+                Robolectric.buildActivity(Activity.class).create();
+        final Activity activity = activityController.get();
+        final AppLovinRewardedVideo adapter = new AppLovinRewardedVideo();
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+
+        adapter.mLoadListener = loadListener;
+        // Empty extras fail the load once the Activity is kept, without reaching AppLovin.
+        adapter.load(activity, adData(null));
+        mPendingLoadListeners.add(adapter);
+
+        adapter.onInvalidate();
+        activityController.destroy();
+
+        adapter.adReceived(mock(AppLovinAd.class));
+        adapter.failedToReceiveAd(AppLovinErrorCodes.NO_FILL);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(loadListener).onAdLoadFailed(MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+        verifyNoMoreInteractions(loadListener);
+
+        mProbe.track(activity, "Activity #" + iteration);
+    }
+
+    private static AdData adData(final String zoneId) {
+        final Map<String, String> extras = new HashMap<>();
+        if (zoneId != null) {
+            extras.put("zone_id", zoneId);
+        }
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
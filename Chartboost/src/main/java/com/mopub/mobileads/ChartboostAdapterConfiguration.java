@@ -9,7 +9,6 @@ import androidx.annotation.Nullable;
 import com.chartboost.sdk.Chartboost;
 import com.chartboost.sdk.Libraries.CBLogging;
 import com.chartboost.sdk.Privacy.model.GDPR;
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
@@ -24,7 +23,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_FAILED;
 
-public class ChartboostAdapterConfiguration extends BaseAdapterConfiguration {
+public class ChartboostAdapterConfiguration extends CachingAdapterConfiguration {
 
     private static final ChartboostShared.ChartboostSingletonDelegate sDelegate = 
             new ChartboostShared.ChartboostSingletonDelegate();
@@ -82,6 +81,10 @@ public class ChartboostAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        if (LazyNetworkInitializer.deferIfEnabled(this, context, configuration, listener)) {
+            return;
+        }
+
         boolean networkInitializationSucceeded = false;
         synchronized (ChartboostAdapterConfiguration.class) {
             try {
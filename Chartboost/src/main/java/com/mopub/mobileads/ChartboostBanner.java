@@ -23,6 +23,7 @@ import com.chartboost.sdk.Events.ChartboostShowEvent;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.chartboost.BuildConfig;
 
 import java.util.Map;
 
@@ -74,6 +75,9 @@ public class ChartboostBanner extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         if(Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost Banners are not compatible with Android API < 21. " +
                     "Will fail the request prematurely.");
@@ -172,6 +176,8 @@ public class ChartboostBanner extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Finished showing Chartboost " +
                 "banner. Invalidating adapter...");
 
@@ -11,6 +11,7 @@ import com.chartboost.sdk.Chartboost;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.chartboost.BuildConfig;
 
 import java.util.Map;
 
@@ -68,6 +69,9 @@ public class ChartboostInterstitial extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         final Map<String, String> extras = adData.getExtras();
@@ -133,6 +137,8 @@ public class ChartboostInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         ChartboostShared.getDelegate().unregisterLoadListener(mLocation);
         ChartboostShared.getDelegate().unregisterInteractionListener(mLocation);
     }
@@ -12,6 +12,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MediationSettings;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.chartboost.BuildConfig;
 
 import java.lang.ref.WeakReference;
 import java.util.Map;
@@ -79,6 +80,9 @@ public class ChartboostRewardedVideo extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         // Activity check for context
@@ -180,6 +184,8 @@ public class ChartboostRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         ChartboostShared.getDelegate().unregisterLoadListener(mLocation);
         ChartboostShared.getDelegate().unregisterInteractionListener(mLocation);
     }
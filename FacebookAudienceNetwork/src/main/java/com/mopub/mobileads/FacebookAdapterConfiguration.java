@@ -8,7 +8,6 @@ import androidx.annotation.Nullable;
 
 import com.facebook.ads.AudienceNetworkAds;
 import com.facebook.ads.BidderTokenProvider;
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
@@ -24,12 +23,13 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
-public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
+public class FacebookAdapterConfiguration extends CachingAdapterConfiguration {
     private static final String NATIVE_BANNER_KEY = "native_banner";
     private static final String PLACEMENT_IDS_KEY = "placement_ids";
 
     private static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
+
     private static final String SDK_VERSION = com.facebook.ads.BuildConfig.VERSION_NAME;
 
     private static Boolean isNativeBanner;
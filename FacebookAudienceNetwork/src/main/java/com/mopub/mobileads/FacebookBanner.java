@@ -19,6 +19,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.util.Views;
+import com.mopub.mobileads.facebookaudiencenetwork.BuildConfig;
 
 import java.util.Map;
 
@@ -61,6 +62,9 @@ public class FacebookBanner extends BaseAd implements AdListener {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         if (!AudienceNetworkAds.isInitialized(context)) {
             AudienceNetworkAds.initialize(context);
         }
@@ -104,6 +108,8 @@ public class FacebookBanner extends BaseAd implements AdListener {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mFacebookBanner != null) {
             Views.removeFromParent(mFacebookBanner);
             mFacebookBanner.destroy();
@@ -17,6 +17,7 @@ import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.facebookaudiencenetwork.BuildConfig;
 
 import java.util.Map;
 
@@ -90,6 +91,9 @@ public class FacebookInterstitial extends BaseAd implements InterstitialAdExtend
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         if (!AudienceNetworkAds.isInitialized(context)) {
             AudienceNetworkAds.initialize(context);
         }
@@ -148,6 +152,8 @@ public class FacebookInterstitial extends BaseAd implements InterstitialAdExtend
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         cancelExpirationTimer();
         if (mFacebookInterstitial != null) {
             mFacebookInterstitial.destroy();
@@ -18,6 +18,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.facebookaudiencenetwork.BuildConfig;
 
 import java.util.Map;
 
@@ -108,6 +109,9 @@ public class FacebookRewardedVideo extends BaseAd implements RewardedVideoAdExte
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         final Map<String, String> extras = adData.getExtras();
@@ -165,6 +169,8 @@ public class FacebookRewardedVideo extends BaseAd implements RewardedVideoAdExte
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         cancelExpirationTimer();
         if (mRewardedVideoAd != null) {
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Performing cleanup tasks...");
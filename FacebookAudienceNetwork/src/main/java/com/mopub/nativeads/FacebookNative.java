@@ -1,12 +1,16 @@
 package com.mopub.nativeads;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import com.facebook.ads.Ad;
 import com.facebook.ads.AdError;
@@ -15,13 +19,20 @@ import com.facebook.ads.MediaView;
 import com.facebook.ads.NativeAd;
 import com.facebook.ads.NativeAdBase;
 import com.facebook.ads.NativeAdListener;
+import com.facebook.ads.NativeAdsManager;
 import com.facebook.ads.NativeBannerAd;
 import com.mopub.common.DataKeys;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.FacebookAdapterConfiguration;
+import com.mopub.mobileads.LoadWatchdog;
+import com.mopub.mobileads.facebookaudiencenetwork.BuildConfig;
+import com.mopub.mobileads.facebookaudiencenetwork.R;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +54,7 @@ import static com.mopub.nativeads.NativeErrorCode.IMAGE_DOWNLOAD_FAILURE;
 import static com.mopub.nativeads.NativeErrorCode.INVALID_RESPONSE;
 import static com.mopub.nativeads.NativeErrorCode.NETWORK_INVALID_REQUEST;
 import static com.mopub.nativeads.NativeErrorCode.NETWORK_NO_FILL;
+import static com.mopub.nativeads.NativeErrorCode.NETWORK_TIMEOUT;
 import static com.mopub.nativeads.NativeErrorCode.UNEXPECTED_RESPONSE_CODE;
 import static com.mopub.nativeads.NativeErrorCode.UNSPECIFIED;
 
@@ -51,8 +63,22 @@ public class FacebookNative extends CustomEventNative {
     private static final String ADAPTER_NAME = FacebookNative.class.getSimpleName();
     private static final String NATIVE_BANNER_KEY = "native_banner";
 
+    /**
+     * Server extra holding how many native ads (1 - 10) to prefetch per placement through
+     * Audience Network's NativeAdsManager. Requests are then served from the prefetched pool.
+     */
+    public static final String PREFETCH_AD_COUNT_KEY = "prefetch_ad_count";
+
+    private static final int MAX_PREFETCH_AD_COUNT = 10;
+    private static final int MAX_CLICKABLE_VIEW_DEPTH = 10;
+    private static final int MAX_CLICKABLE_VIEW_COUNT = 64;
+
+    // Traversal buffers reused across calls. Views are only prepared on the main thread.
+    private static final ArrayList<View> sTraversalViews = new ArrayList<>();
+    private static int[] sTraversalDepths = new int[16];
+
     private Boolean isNativeBanner;
-    private static String mPlacementId;
+    private String mPlacementId;
 
     @NonNull
     private FacebookAdapterConfiguration mFacebookAdapterConfiguration;
@@ -64,7 +90,7 @@ public class FacebookNative extends CustomEventNative {
 
     @Override
     protected void loadNativeAd(@NonNull final Context context,
-                                @NonNull final CustomEventNativeListener customEventNativeListener,
+                                @NonNull CustomEventNativeListener customEventNativeListener,
                                 @NonNull final Map<String, Object> localExtras,
                                 @NonNull final Map<String, String> serverExtras) {
         Preconditions.checkNotNull(context);
@@ -72,6 +98,9 @@ public class FacebookNative extends CustomEventNative {
         Preconditions.checkNotNull(localExtras);
         Preconditions.checkNotNull(serverExtras);
 
+        customEventNativeListener = LoadWatchdog.watch(context, customEventNativeListener,
+                BuildConfig.NETWORK_NAME, serverExtras.get(PLACEMENT_ID_KEY), serverExtras);
+
         if (!AudienceNetworkAds.isInitialized(context)) {
             AudienceNetworkAds.initialize(context);
         }
@@ -88,6 +117,8 @@ public class FacebookNative extends CustomEventNative {
         }
 
         final String bid = serverExtras.get(DataKeys.ADM_KEY);
+        final int prefetchAdCount = parsePrefetchAdCount(serverExtras.get(PREFETCH_AD_COUNT_KEY));
+
         if (!localExtras.isEmpty()) {
             final Object isNativeBannerObject = localExtras.get(NATIVE_BANNER_KEY);
 
@@ -105,18 +136,29 @@ public class FacebookNative extends CustomEventNative {
             if (isNativeBanner) {
                 final FacebookNativeAd facebookNativeBannerAd =
                         new FacebookNativeAd(context, new NativeBannerAd(context, placementId),
-                                customEventNativeListener, bid);
+                                customEventNativeListener, bid, placementId);
                 facebookNativeBannerAd.loadAd();
 
                 return;
             }
         }
 
+        // NativeAdsManager only serves regular native ads, and bids are for a single ad.
+        if (prefetchAdCount > 1 && TextUtils.isEmpty(bid)) {
+            final FacebookNativeAd facebookNativeAd = new FacebookNativeAd(context, null,
+                    customEventNativeListener, null, placementId);
+            NativeAdPrefetchPool.getInstance(context, placementId, prefetchAdCount)
+                    .request(facebookNativeAd);
+
+            return;
+        }
+
         // The native banner flag is set to false or not set at all.
         // Request a regular native ad.
         final FacebookNativeAd facebookNativeAd =
                 new FacebookNativeAd(context,
-                        new NativeAd(context, placementId), customEventNativeListener, bid);
+                        new NativeAd(context, placementId), customEventNativeListener, bid,
+                        placementId);
         facebookNativeAd.loadAd();
     }
 
@@ -125,17 +167,31 @@ public class FacebookNative extends CustomEventNative {
         return (!TextUtils.isEmpty(mPlacementId));
     }
 
+    private int parsePrefetchAdCount(final String prefetchAdCount) {
+        if (TextUtils.isEmpty(prefetchAdCount)) {
+            return 1;
+        }
+
+        try {
+            return Math.max(1, Math.min(MAX_PREFETCH_AD_COUNT, Integer.parseInt(prefetchAdCount)));
+        } catch (NumberFormatException e) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Ignoring invalid " +
+                    PREFETCH_AD_COUNT_KEY + " value: " + prefetchAdCount);
+            return 1;
+        }
+    }
+
     private static void registerChildViewsForInteraction(final View view,
                                                          final NativeAdBase nativeAdBase,
                                                          @Nullable final MediaView mediaView,
-                                                         final MediaView adIconView) {
+                                                         final MediaView adIconView,
+                                                         final String placementId) {
 
         if (nativeAdBase == null) {
             return;
         }
 
-        final List<View> clickableViews = new ArrayList<>();
-        assembleChildViewsWithLimit(view, clickableViews, 10);
+        final List<View> clickableViews = getClickableViews(view, placementId);
 
         if (nativeAdBase instanceof NativeAd && mediaView != null) {
             NativeAd nativeAd = (NativeAd) nativeAdBase;
@@ -154,53 +210,338 @@ public class FacebookNative extends CustomEventNative {
         }
     }
 
+    /**
+     * Returns the leaf views under {@code view} to register as clickable. The list is cached on
+     * the root view, so a recycled ad view is only walked again after its bounds change or a view
+     * is added to or removed from its hierarchy. Facebook keeps the list it is given, so callers
+     * get a copy that later traversals do not touch.
+     */
+    @VisibleForTesting
+    @NonNull
+    static List<View> getClickableViews(@NonNull final View view,
+                                                final String placementId) {
+        final Object tag = view.getTag(R.id.facebook_clickable_views_tag);
+
+        if (tag instanceof ClickableViews && ((ClickableViews) tag).mIsValid) {
+            return new ArrayList<>(((ClickableViews) tag).mViews);
+        }
+
+        final ClickableViews clickableViews;
+        if (tag instanceof ClickableViews) {
+            clickableViews = (ClickableViews) tag;
+        } else {
+            clickableViews = new ClickableViews();
+            view.setTag(R.id.facebook_clickable_views_tag, clickableViews);
+            view.addOnLayoutChangeListener(clickableViews);
+        }
+
+        clickableViews.stopObservingGroups();
+        assembleChildViewsWithLimit(view, clickableViews.mViews, clickableViews.mObservedGroups,
+                MAX_CLICKABLE_VIEW_DEPTH, MAX_CLICKABLE_VIEW_COUNT, placementId);
+        clickableViews.startObservingGroups();
+        clickableViews.mIsValid = true;
+
+        return new ArrayList<>(clickableViews.mViews);
+    }
+
+    /**
+     * Collects the leaf views under {@code view} in depth-first order. Views at {@code maxDepth}
+     * are added whatever their type, and collection stops after {@code maxCount} views. The view
+     * groups whose children were walked are collected into {@code expandedGroups}, since only
+     * changes to their children can change the result.
+     */
     private static void assembleChildViewsWithLimit(final View view,
-                                                    final List<View> clickableViews, final int limit) {
+                                                    final List<View> clickableViews,
+                                                    final List<ViewGroup> expandedGroups,
+                                                    final int maxDepth, final int maxCount,
+                                                    final String placementId) {
+        clickableViews.clear();
+        expandedGroups.clear();
+
         if (view == null) {
-            MoPubLog.log(getAdNetworkId(), CUSTOM, "View given is null. Ignoring");
+            MoPubLog.log(placementId, CUSTOM, "View given is null. Ignoring");
             return;
         }
 
-        if (limit <= 0) {
-            MoPubLog.log(getAdNetworkId(), CUSTOM, "Depth limit reached; adding this view " +
-                    "regardless of its type.");
-            clickableViews.add(view);
-            return;
+        final ArrayList<View> stack = sTraversalViews;
+        stack.clear();
+        stack.add(view);
+        sTraversalDepths[0] = 0;
+
+        boolean isDepthLimitReached = false;
+
+        while (!stack.isEmpty() && clickableViews.size() < maxCount) {
+            final int index = stack.size() - 1;
+            final View current = stack.remove(index);
+            final int depth = sTraversalDepths[index];
+
+            if (depth >= maxDepth) {
+                isDepthLimitReached = true;
+                clickableViews.add(current);
+                continue;
+            }
+
+            if (current instanceof ViewGroup && ((ViewGroup) current).getChildCount() > 0) {
+                final ViewGroup vg = (ViewGroup) current;
+                expandedGroups.add(vg);
+
+                // Push in reverse so children are visited in order
+                for (int i = vg.getChildCount() - 1; i >= 0; i--) {
+                    pushTraversalView(vg.getChildAt(i), depth + 1);
+                }
+                continue;
+            }
+
+            clickableViews.add(current);
+        }
+
+        stack.clear();
+
+        if (isDepthLimitReached) {
+            MoPubLog.log(placementId, CUSTOM, "Depth limit reached; added the deepest views " +
+                    "regardless of their type.");
         }
+    }
+
+    private static void pushTraversalView(final View view, final int depth) {
+        final int index = sTraversalViews.size();
 
-        if (view instanceof ViewGroup && ((ViewGroup) view).getChildCount() > 0) {
-            final ViewGroup vg = (ViewGroup) view;
-            for (int i = 0; i < vg.getChildCount(); i++) {
-                assembleChildViewsWithLimit(vg.getChildAt(i), clickableViews, limit - 1);
+        if (index == sTraversalDepths.length) {
+            sTraversalDepths = Arrays.copyOf(sTraversalDepths, index * 2);
+        }
+
+        sTraversalViews.add(view);
+        sTraversalDepths[index] = depth;
+    }
+
+    /**
+     * Clickable views cached on an ad's root view until the root's bounds change, or a child is
+     * added to or removed from one of the view groups that were walked. Visibility is not part of
+     * the collected list, so it does not invalidate it.
+     * <p>
+     * The walked groups get this as their hierarchy change listener. They belong to the ad layout
+     * the renderer inflated, which sets no hierarchy change listener of its own.
+     */
+    private static class ClickableViews implements View.OnLayoutChangeListener,
+            ViewGroup.OnHierarchyChangeListener {
+        private final ArrayList<View> mViews = new ArrayList<>();
+        private final ArrayList<ViewGroup> mObservedGroups = new ArrayList<>();
+        private boolean mIsValid;
+
+        void startObservingGroups() {
+            for (final ViewGroup group : mObservedGroups) {
+                group.setOnHierarchyChangeListener(this);
             }
-            return;
         }
 
-        clickableViews.add(view);
+        void stopObservingGroups() {
+            for (final ViewGroup group : mObservedGroups) {
+                group.setOnHierarchyChangeListener(null);
+            }
+            mObservedGroups.clear();
+        }
+
+        @Override
+        public void onLayoutChange(final View v, final int left, final int top, final int right,
+                                   final int bottom, final int oldLeft, final int oldTop,
+                                   final int oldRight, final int oldBottom) {
+            if (right - left != oldRight - oldLeft || bottom - top != oldBottom - oldTop) {
+                mIsValid = false;
+            }
+        }
+
+        @Override
+        public void onChildViewAdded(final View parent, final View child) {
+            mIsValid = false;
+        }
+
+        @Override
+        public void onChildViewRemoved(final View parent, final View child) {
+            mIsValid = false;
+        }
     }
 
-    private static String getAdNetworkId() {
+    private String getAdNetworkId() {
         return mPlacementId;
     }
 
+    /**
+     * Keeps one NativeAdsManager per placement and serves native ad requests from the ads it
+     * loaded. When the pool runs dry it starts loading the next batch, so the following request
+     * can usually be served without waiting on the network.
+     */
+    private static class NativeAdPrefetchPool implements NativeAdsManager.Listener {
+        private static final Map<String, NativeAdPrefetchPool> sPools = new HashMap<>();
+        private static final Handler sTimeoutHandler = new Handler(Looper.getMainLooper());
+
+        // Fail a waiting request before MoPub's own 10 second native timeout does, so the pool
+        // lets go of it.
+        private static final long WAIT_TIMEOUT_MILLIS = 8000;
+        private static final int MAX_WAITING_ADS = 10;
+
+        @NonNull
+        private final String mPlacementId;
+        @NonNull
+        private final NativeAdsManager mNativeAdsManager;
+        private final Deque<FacebookNativeAd> mWaitingAds = new ArrayDeque<>();
+        private int mAvailableAdCount;
+        private boolean mIsLoading;
+
+        private NativeAdPrefetchPool(@NonNull final Context context,
+                                     @NonNull final String placementId, final int adCount) {
+            mPlacementId = placementId;
+            mNativeAdsManager = new NativeAdsManager(context, placementId, adCount);
+            mNativeAdsManager.setListener(this);
+        }
+
+        @NonNull
+        static NativeAdPrefetchPool getInstance(@NonNull final Context context,
+                                                @NonNull final String placementId,
+                                                final int adCount) {
+            NativeAdPrefetchPool pool = sPools.get(placementId);
+
+            if (pool == null) {
+                pool = new NativeAdPrefetchPool(context.getApplicationContext(), placementId,
+                        adCount);
+                sPools.put(placementId, pool);
+            }
+
+            return pool;
+        }
+
+        void request(@NonNull final FacebookNativeAd facebookNativeAd) {
+            if (serve(facebookNativeAd)) {
+                return;
+            }
+
+            if (mWaitingAds.size() >= MAX_WAITING_ADS) {
+                MoPubLog.log(mPlacementId, CUSTOM, ADAPTER_NAME, "Too many requests are " +
+                        "waiting for prefetched Facebook native ads. Failing this one.");
+                facebookNativeAd.onPrefetchFailed(NETWORK_NO_FILL);
+                return;
+            }
+
+            mWaitingAds.add(facebookNativeAd);
+            facebookNativeAd.mPrefetchPool = this;
+            // The waiting ad is the token, so cancel() can remove this callback.
+            sTimeoutHandler.postAtTime(new Runnable() {
+                @Override
+                public void run() {
+                    if (mWaitingAds.remove(facebookNativeAd)) {
+                        facebookNativeAd.mPrefetchPool = null;
+                        MoPubLog.log(mPlacementId, CUSTOM, ADAPTER_NAME, "Timed out waiting " +
+                                "for prefetched Facebook native ads.");
+                        facebookNativeAd.onPrefetchFailed(NETWORK_TIMEOUT);
+                    }
+                }
+            }, facebookNativeAd, SystemClock.uptimeMillis() + WAIT_TIMEOUT_MILLIS);
+
+            loadIfIdle();
+        }
+
+        /**
+         * Stops the given ad from waiting for a prefetched ad, without notifying it.
+         */
+        void cancel(@NonNull final FacebookNativeAd facebookNativeAd) {
+            mWaitingAds.remove(facebookNativeAd);
+            sTimeoutHandler.removeCallbacksAndMessages(facebookNativeAd);
+            facebookNativeAd.mPrefetchPool = null;
+        }
+
+        @Nullable
+        private FacebookNativeAd pollWaitingAd() {
+            final FacebookNativeAd waitingAd = mWaitingAds.poll();
+
+            if (waitingAd != null) {
+                sTimeoutHandler.removeCallbacksAndMessages(waitingAd);
+                waitingAd.mPrefetchPool = null;
+            }
+
+            return waitingAd;
+        }
+
+        private boolean serve(@NonNull final FacebookNativeAd facebookNativeAd) {
+            boolean isServed = false;
+
+            while (!isServed && mAvailableAdCount > 0) {
+                mAvailableAdCount--;
+
+                final NativeAd nativeAd = mNativeAdsManager.nextNativeAd(facebookNativeAd);
+
+                if (nativeAd != null && nativeAd.isAdLoaded() && !nativeAd.isAdInvalidated()) {
+                    facebookNativeAd.onPrefetchedAdLoaded(nativeAd);
+                    isServed = true;
+                }
+            }
+
+            if (mAvailableAdCount == 0) {
+                loadIfIdle();
+            }
+
+            return isServed;
+        }
+
+        private void loadIfIdle() {
+            if (!mIsLoading) {
+                mIsLoading = true;
+                mNativeAdsManager.loadAds();
+
+                MoPubLog.log(mPlacementId, CUSTOM, ADAPTER_NAME, "Prefetching Facebook " +
+                        "native ads.");
+            }
+        }
+
+        @Override
+        public void onAdsLoaded() {
+            mIsLoading = false;
+            mAvailableAdCount = mNativeAdsManager.getUniqueNativeAdCount();
+
+            FacebookNativeAd waitingAd;
+            while ((waitingAd = mWaitingAds.peek()) != null && mAvailableAdCount > 0) {
+                if (serve(waitingAd)) {
+                    pollWaitingAd();
+                }
+            }
+
+            // Requests the batch could not cover have to wait for the refill that serve() started
+        }
+
+        @Override
+        public void onAdError(final AdError adError) {
+            mIsLoading = false;
+
+            FacebookNativeAd waitingAd;
+            while ((waitingAd = pollWaitingAd()) != null) {
+                waitingAd.onError(null, adError);
+            }
+        }
+    }
+
     static class FacebookNativeAd extends BaseNativeAd implements NativeAdListener {
         private static final String SOCIAL_CONTEXT_FOR_AD = "socialContextForAd";
 
-        private final NativeAdBase mNativeAd;
+        private NativeAdBase mNativeAd;
         private final CustomEventNativeListener mCustomEventNativeListener;
 
         private final Map<String, Object> mExtras;
 
         private final String mBid;
+        private final String mPlacementId;
+
+        // The pool this ad is waiting on for a prefetched ad, if any.
+        @Nullable
+        NativeAdPrefetchPool mPrefetchPool;
 
         FacebookNativeAd(final Context context,
                          final NativeAdBase nativeAd,
                          final CustomEventNativeListener customEventNativeListener,
-                         final String bid) {
+                         final String bid,
+                         final String placementId) {
             mNativeAd = nativeAd;
             mCustomEventNativeListener = customEventNativeListener;
             mExtras = new HashMap<String, Object>();
             mBid = bid;
+            mPlacementId = placementId;
         }
 
         void loadAd() {
@@ -217,6 +558,21 @@ public class FacebookNative extends CustomEventNative {
             }
         }
 
+        void onPrefetchedAdLoaded(@NonNull final NativeAd nativeAd) {
+            mNativeAd = nativeAd;
+            onAdLoaded(nativeAd);
+        }
+
+        void onPrefetchFailed(@NonNull final NativeErrorCode errorCode) {
+            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(),
+                    errorCode);
+            mCustomEventNativeListener.onNativeAdFailed(errorCode);
+        }
+
+        private String getAdNetworkId() {
+            return mPlacementId;
+        }
+
         /**
          * Returns the String corresponding to the advertiser name
          */
@@ -336,12 +692,22 @@ public class FacebookNative extends CustomEventNative {
         @Override
         public void clear(@NonNull View view) {
             Preconditions.checkNotNull(view);
-            mNativeAd.unregisterView();
+
+            if (mNativeAd != null) {
+                mNativeAd.unregisterView();
+            }
         }
 
         @Override
         public void destroy() {
-            mNativeAd.destroy();
+            if (mPrefetchPool != null) {
+                mPrefetchPool.cancel(this);
+            }
+
+            // Prefetched ads have no NativeAd until the pool serves them
+            if (mNativeAd != null) {
+                mNativeAd.destroy();
+            }
         }
 
         /**
@@ -377,7 +743,8 @@ public class FacebookNative extends CustomEventNative {
 
         void registerChildViewsForInteraction(final View view, @Nullable final MediaView mediaView,
                                               final MediaView adIconView) {
-            FacebookNative.registerChildViewsForInteraction(view, mNativeAd, mediaView, adIconView);
+            FacebookNative.registerChildViewsForInteraction(view, mNativeAd, mediaView, adIconView,
+                    mPlacementId);
         }
 
         @Override
@@ -0,0 +1,194 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.facebook.ads.AdError;
+import com.facebook.ads.NativeAd;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(instrumentedPackages = "com.facebook.ads")
+public class FacebookNativeTest {
+    private static final String PLACEMENT_ID = "placementId";
+    private static final int CONCURRENT_LOADS = 50;
+
+    private Context mContext;
+    private FrameLayout mRoot;
+    private LinearLayout mContainer;
+    private TextView mTitle;
+    private TextView mText;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+        mRoot = new FrameLayout(mContext);
+        mContainer = new LinearLayout(mContext);
+        mTitle = new TextView(mContext);
+        mText = new TextView(mContext);
+        mContainer.addView(mTitle);
+        mContainer.addView(mText);
+        mRoot.addView(mContainer);
+    }
+
+    @Test
+    public void getClickableViews_shouldReturnLeafViewsInOrder() {
+        final List<View> clickableViews = FacebookNative.getClickableViews(mRoot, PLACEMENT_ID);
+
+        assertEquals(Arrays.<View>asList(mTitle, mText), clickableViews);
+    }
+
+    @Test
+    public void getClickableViews_shouldReturnCopyThatLaterCallsDoNotChange() {
+        final List<View> first = FacebookNative.getClickableViews(mRoot, PLACEMENT_ID);
+
+        mContainer.removeView(mText);
+        final List<View> second = FacebookNative.getClickableViews(mRoot, PLACEMENT_ID);
+
+        assertNotSame(first, second);
+        assertEquals(Arrays.<View>asList(mTitle, mText), first);
+        assertEquals(Arrays.<View>asList(mTitle), second);
+    }
+
+    @Test
+    public void getClickableViews_afterChildSwapAtSameSize_shouldReturnNewChild() {
+        FacebookNative.getClickableViews(mRoot, PLACEMENT_ID);
+
+        final TextView replacement = new TextView(mContext);
+        mContainer.removeView(mText);
+        mContainer.addView(replacement);
+
+        assertEquals(Arrays.<View>asList(mTitle, replacement),
+                FacebookNative.getClickableViews(mRoot, PLACEMENT_ID));
+    }
+
+    @Test
+    public void getClickableViews_afterNestedChildAdded_shouldIncludeIt() {
+        FacebookNative.getClickableViews(mRoot, PLACEMENT_ID);
+
+        final TextView added = new TextView(mContext);
+        mContainer.addView(added, 0);
+
+        assertEquals(Arrays.<View>asList(added, mTitle, mText),
+                FacebookNative.getClickableViews(mRoot, PLACEMENT_ID));
+    }
+
+    @Test
+    public void loadAd_withInterleavedLoads_shouldListenOnlyToOwnAd() {
+        final NativeAd[] nativeAds = new NativeAd[CONCURRENT_LOADS];
+        final FacebookNative.FacebookNativeAd[] ads = startLoads(nativeAds,
+                new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS]);
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            verify(nativeAds[i].buildLoadAdConfig()).withAdListener(ads[i]);
+        }
+    }
+
+    @Test
+    public void onAdLoaded_inReverseOrder_shouldLoadEachAdIntoOwnListener() {
+        final NativeAd[] nativeAds = new NativeAd[CONCURRENT_LOADS];
+        final CustomEventNative.CustomEventNativeListener[] listeners =
+                new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS];
+        final FacebookNative.FacebookNativeAd[] ads = startLoads(nativeAds, listeners);
+
+        for (int i = CONCURRENT_LOADS - 1; i >= 0; i--) {
+            ads[i].onAdLoaded(nativeAds[i]);
+        }
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            assertEquals(nativeAds[i], ads[i].getFacebookNativeAd());
+            verify(listeners[i]).onNativeAdLoaded(ads[i]);
+            verifyNoMoreInteractions(listeners[i]);
+        }
+    }
+
+    @Test
+    public void onAdLoaded_withAnotherLoadsAd_shouldNotHandItOver() {
+        final NativeAd[] nativeAds = new NativeAd[CONCURRENT_LOADS];
+        final CustomEventNative.CustomEventNativeListener[] listeners =
+                new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS];
+        final FacebookNative.FacebookNativeAd[] ads = startLoads(nativeAds, listeners);
+
+        ads[0].onAdLoaded(nativeAds[1]);
+
+        verify(listeners[0]).onNativeAdFailed(NativeErrorCode.NETWORK_NO_FILL);
+        verifyNoMoreInteractions(listeners[0]);
+        for (int i = 1; i < CONCURRENT_LOADS; i++) {
+            verifyNoInteractions(listeners[i]);
+        }
+    }
+
+    @Test
+    public void onError_withInterleavedLoads_shouldOnlyFailThatLoad() {
+        final NativeAd[] nativeAds = new NativeAd[CONCURRENT_LOADS];
+        final CustomEventNative.CustomEventNativeListener[] listeners =
+                new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS];
+        final FacebookNative.FacebookNativeAd[] ads = startLoads(nativeAds, listeners);
+        final int failed = CONCURRENT_LOADS / 2;
+        final AdError adError = mock(AdError.class);
+        when(adError.getErrorCode()).thenReturn(AdError.NO_FILL_ERROR_CODE);
+
+        ads[failed].onError(nativeAds[failed], adError);
+        ads[failed + 1].onAdLoaded(nativeAds[failed + 1]);
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            if (i == failed) {
+                verify(listeners[i]).onNativeAdFailed(NativeErrorCode.NETWORK_NO_FILL);
+                verifyNoMoreInteractions(listeners[i]);
+            } else if (i == failed + 1) {
+                verify(listeners[i]).onNativeAdLoaded(ads[i]);
+                verifyNoMoreInteractions(listeners[i]);
+            } else {
+                verifyNoInteractions(listeners[i]);
+            }
+        }
+    }
+
+    private FacebookNative.FacebookNativeAd[] startLoads(final NativeAd[] nativeAds,
+            final CustomEventNative.CustomEventNativeListener[] listeners) {
+        final FacebookNative.FacebookNativeAd[] ads =
+                new FacebookNative.FacebookNativeAd[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            nativeAds[i] = loadedNativeAd();
+            listeners[i] = mock(CustomEventNative.CustomEventNativeListener.class);
+            ads[i] = new FacebookNative.FacebookNativeAd(mContext, nativeAds[i], listeners[i],
+                    null, PLACEMENT_ID + i);
+            ads[i].loadAd();
+        }
+
+        return ads;
+    }
+
+    private static NativeAd loadedNativeAd() {
+        final NativeAd nativeAd = mock(NativeAd.class, RETURNS_DEEP_STUBS);
+        when(nativeAd.isAdLoaded()).thenReturn(true);
+        return nativeAd;
+    }
+}
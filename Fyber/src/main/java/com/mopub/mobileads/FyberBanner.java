@@ -28,6 +28,7 @@ import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.AdData;
 import com.mopub.mobileads.BaseAd;
 import com.mopub.mobileads.MoPubErrorCode;
+import com.mopub.mobileads.fyber.BuildConfig;
 
 import java.util.Map;
 
@@ -188,6 +189,7 @@ public class FyberBanner extends BaseAd {
 
   @Override
   protected void onInvalidate() {
+    LoadWatchdog.cancel(mLoadListener);
 
     if (mBannerSpot != null) {
       mBannerSpot.destroy();
@@ -217,6 +219,9 @@ public class FyberBanner extends BaseAd {
     Preconditions.checkNotNull(context);
     Preconditions.checkNotNull(adData);
 
+    mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+            BuildConfig.NETWORK_NAME, adData);
+
     setAutomaticImpressionAndClickTracking(false);
 
     final Map<String, String> extras = adData.getExtras();
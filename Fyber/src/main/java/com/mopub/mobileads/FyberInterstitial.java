@@ -23,6 +23,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPub;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.fyber.BuildConfig;
 
 import java.lang.ref.WeakReference;
 import java.util.Map;
@@ -75,6 +76,9 @@ public class FyberInterstitial extends BaseAd {
     Preconditions.checkNotNull(context);
     Preconditions.checkNotNull(adData);
 
+    mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+            BuildConfig.NETWORK_NAME, adData);
+
     if (!(context instanceof Activity)) {
       MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Context passed to load " +
               "was not an Activity. Failing the request, as show will fail");
@@ -233,6 +237,8 @@ public class FyberInterstitial extends BaseAd {
   }
 
   protected void onInvalidate() {
+    LoadWatchdog.cancel(mLoadListener);
+
     if (mInterstitialSpot != null) {
       mInterstitialSpot.destroy();
       mInterstitialSpot = null;
@@ -27,6 +27,7 @@ import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.AdData;
 import com.mopub.mobileads.BaseAd;
 import com.mopub.mobileads.MoPubErrorCode;
+import com.mopub.mobileads.fyber.BuildConfig;
 
 import java.util.Map;
 
@@ -79,6 +80,9 @@ public class FyberRewardedVideo extends BaseAd {
         Preconditions.checkNotNull(adData);
         Preconditions.checkNotNull(context);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
 
         final Map<String, String> extras = adData.getExtras();
@@ -128,6 +132,8 @@ public class FyberRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mRewardedSpot != null) {
             mRewardedSpot.destroy();
             mRewardedSpot = null;
@@ -3,7 +3,6 @@ package com.mopub.mobileads
 import android.content.Context
 import com.inmobi.ads.InMobiAdRequestStatus
 import com.inmobi.sdk.InMobiSdk
-import com.mopub.common.BaseAdapterConfiguration
 import com.mopub.common.MoPub
 import com.mopub.common.OnNetworkInitializationFinishedListener
 import com.mopub.common.logging.MoPubLog
@@ -13,7 +12,7 @@ import com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE
 import com.mopub.mobileads.inmobi.BuildConfig
 import java.lang.reflect.Field
 
-class InMobiAdapterConfiguration : BaseAdapterConfiguration() {
+class InMobiAdapterConfiguration : CachingAdapterConfiguration() {
 
     private val adapterVersionName = BuildConfig.VERSION_NAME
     private val networkName = BuildConfig.NETWORK_NAME
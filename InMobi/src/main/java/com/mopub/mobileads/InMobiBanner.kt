@@ -16,6 +16,7 @@ import com.mopub.common.logging.MoPubLog.AdapterLogEvent
 import com.mopub.mobileads.InMobiAdapterConfiguration.Companion.onInMobiAdFailWithError
 import com.mopub.mobileads.InMobiAdapterConfiguration.Companion.onInMobiAdFailWithEvent
 import com.mopub.mobileads.InMobiAdapterConfiguration.InMobiPlacementIdException
+import com.mopub.mobileads.inmobi.BuildConfig
 import kotlin.math.roundToInt
 
 class InMobiBanner : BaseAd() {
@@ -34,6 +35,8 @@ class InMobiBanner : BaseAd() {
     }
 
     override fun onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener)
+
         MoPubLog.log(AdapterLogEvent.CUSTOM, ADAPTER_NAME, "InMobi banner destroyed")
         mInMobiBanner?.destroy()
         mInMobiBanner = null
@@ -57,6 +60,9 @@ class InMobiBanner : BaseAd() {
     }
 
     override fun load(context: Context, adData: AdData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData)
+
         setAutomaticImpressionAndClickTracking(true)
         val extras: Map<String, String> = adData.extras
 
@@ -14,6 +14,7 @@ import com.mopub.common.logging.MoPubLog.AdapterLogEvent
 import com.mopub.mobileads.InMobiAdapterConfiguration.Companion.onInMobiAdFailWithError
 import com.mopub.mobileads.InMobiAdapterConfiguration.Companion.onInMobiAdFailWithEvent
 import com.mopub.mobileads.InMobiAdapterConfiguration.InMobiPlacementIdException
+import com.mopub.mobileads.inmobi.BuildConfig
 
 class InMobiInterstitial : BaseAd() {
 
@@ -30,6 +31,8 @@ class InMobiInterstitial : BaseAd() {
     }
 
     override fun onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener)
+
         MoPubLog.log(AdapterLogEvent.CUSTOM, ADAPTER_NAME, "InMobi interstitial destroyed")
         if (mInMobiInterstitial != null) {
             mInMobiInterstitial = null
@@ -49,6 +52,9 @@ class InMobiInterstitial : BaseAd() {
     }
 
     override fun load(context: Context, adData: AdData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData)
+
         setAutomaticImpressionAndClickTracking(false)
         val extras: Map<String, String> = adData.extras
 
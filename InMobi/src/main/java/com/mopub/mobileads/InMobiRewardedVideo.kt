@@ -15,6 +15,7 @@ import com.mopub.common.logging.MoPubLog.AdapterLogEvent
 import com.mopub.mobileads.InMobiAdapterConfiguration.Companion.onInMobiAdFailWithError
 import com.mopub.mobileads.InMobiAdapterConfiguration.Companion.onInMobiAdFailWithEvent
 import com.mopub.mobileads.InMobiAdapterConfiguration.InMobiPlacementIdException
+import com.mopub.mobileads.inmobi.BuildConfig
 
 class InMobiRewardedVideo : BaseAd() {
 
@@ -31,6 +32,8 @@ class InMobiRewardedVideo : BaseAd() {
     }
 
     override fun onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener)
+
         MoPubLog.log(AdapterLogEvent.CUSTOM, ADAPTER_NAME, "InMobi rewarded video destroyed")
         if (mInMobiRewardedVideo != null) {
             mInMobiRewardedVideo = null
@@ -50,6 +53,9 @@ class InMobiRewardedVideo : BaseAd() {
     }
 
     override fun load(context: Context, adData: AdData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData)
+
         setAutomaticImpressionAndClickTracking(false)
         val extras: Map<String, String> = adData.extras
 
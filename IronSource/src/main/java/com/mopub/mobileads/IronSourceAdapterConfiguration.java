@@ -30,7 +30,6 @@ import com.ironsource.mediationsdk.IronSource;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.utils.IronSourceUtils;
 import com.ironsource.sdk.utils.Logger;
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
@@ -38,16 +37,19 @@ import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.ironsource.BuildConfig;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
+public class IronSourceAdapterConfiguration extends CachingAdapterConfiguration {
     public static final String IRONSOURCE_ADAPTER_VERSION = "520";
     public static final String DEFAULT_INSTANCE_ID = "0";
 
     private static final String ADAPTER_NAME = IronSourceAdapterConfiguration.class.getSimpleName();
     private static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
+
     private static final String MOPUB_SDK_VERSION = MoPub.SDK_VERSION;
 
     private static final String APPLICATION_KEY = "applicationKey";
@@ -56,6 +58,12 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
     private static final String MEDIATION_TYPE = "mopub";
     private static final String REWARDEDVIDEO_KEY = "rewardedvideo";
 
+    // Ad units ironSource has already been initialized with during this session. Only consulted
+    // in lazy initialization mode, where each ad format initializes on its first ad request.
+    private static final Set<IronSource.AD_UNIT> sInitializedAdUnits = EnumSet.noneOf(IronSource.AD_UNIT.class);
+
+    private static volatile boolean sLazyInitializationEnabled;
+
     @NonNull
     @Override
     public String getAdapterVersion() {
@@ -98,9 +106,16 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
-        boolean networkInitializationSucceeded = false;
+        if (LazyNetworkInitializer.isLazyInitializationEnabled(configuration)) {
+            // Each ad format now initializes only itself, on its first ad request
+            sLazyInitializationEnabled = true;
+        }
 
-        IronSource.setConsent(MoPub.canCollectPersonalInformation());
+        if (LazyNetworkInitializer.deferIfEnabled(this, context, configuration, listener)) {
+            return;
+        }
+
+        boolean networkInitializationSucceeded = false;
 
         synchronized (IronSourceAdapterConfiguration.class) {
             try {
@@ -137,24 +152,48 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
             listener.onNetworkInitializationFinished(IronSourceAdapterConfiguration.class,
                     MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
         }
+    }
 
-        MoPubLog.LogLevel logLevel = MoPubLog.getLogLevel();
-        boolean loggingDisabled = logLevel == MoPubLog.LogLevel.NONE;
+    public static void initIronSourceSDK(@NonNull Context context, @NonNull String appKey, IronSource.AD_UNIT[] adUnitsToInitList) {
+        if (sLazyInitializationEnabled) {
+            adUnitsToInitList = claimUninitializedAdUnits(adUnitsToInitList);
 
-        if (loggingDisabled) {
-            Logger.enableLogging(0);
-        } else {
-            Logger.enableLogging(1);
+            if (adUnitsToInitList.length == 0) {
+                return;
+            }
         }
-    }
 
-    public static void initIronSourceSDK(@NonNull Context context, @NonNull String appKey, IronSource.AD_UNIT[] adUnitsToInitList) {
+        // Applied on every initialization path, including deferred ones, so consent is always set
+        // before ironSource starts
+        IronSource.setConsent(MoPub.canCollectPersonalInformation());
+        Logger.enableLogging(MoPubLog.getLogLevel() == MoPubLog.LogLevel.NONE ? 0 : 1);
+
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "IronSource initialization started with appKey: " + appKey);
         IronSource.setMediationType(MEDIATION_TYPE + IRONSOURCE_ADAPTER_VERSION
                 + "SDK" + getMoPubSdkVersion());
         IronSource.initISDemandOnly(context, appKey, adUnitsToInitList);
     }
 
+    // Returns the subset of the given ad units that have not been initialized yet, and marks them
+    // as initialized.
+    private static IronSource.AD_UNIT[] claimUninitializedAdUnits(@Nullable IronSource.AD_UNIT[] adUnits) {
+        if (adUnits == null || adUnits.length == 0) {
+            return new IronSource.AD_UNIT[0];
+        }
+
+        final List<IronSource.AD_UNIT> uninitializedAdUnits = new ArrayList<>();
+
+        synchronized (sInitializedAdUnits) {
+            for (IronSource.AD_UNIT adUnit : adUnits) {
+                if (sInitializedAdUnits.add(adUnit)) {
+                    uninitializedAdUnits.add(adUnit);
+                }
+            }
+        }
+
+        return uninitializedAdUnits.toArray(new IronSource.AD_UNIT[uninitializedAdUnits.size()]);
+    }
+
     /**
      * IronSource Ad Units to initialize helper methods.
      * IronSource can be configured with Interstitial only, Rewarded Video only modes. Publishers wanting to do this,
@@ -177,6 +216,17 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
         return adUnitsToInit;
     }
 
+    // Same as above, but in lazy initialization mode only the ad unit being requested is initialized
+    public IronSource.AD_UNIT[] getIronSourceAdUnitsToInitList(@NonNull Context context,
+                                                               @Nullable Map<String, String> configuration,
+                                                               @NonNull IronSource.AD_UNIT requestedAdUnit) {
+        if (sLazyInitializationEnabled) {
+            return new IronSource.AD_UNIT[]{requestedAdUnit};
+        }
+
+        return getIronSourceAdUnitsToInitList(context, configuration);
+    }
+
     private IronSource.AD_UNIT[] parseIronSourceAdUnitsToInit(@Nullable Map<String, String> configuration) {
         if (configuration == null || configuration.isEmpty())
             return new IronSource.AD_UNIT[0];
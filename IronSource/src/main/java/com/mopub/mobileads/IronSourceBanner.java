@@ -31,6 +31,7 @@ import com.mopub.common.MoPub;
 import com.mopub.common.MoPubLifecycleManager;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.ironsource.BuildConfig;
 
 import java.util.Map;
 
@@ -88,6 +89,9 @@ public class IronSourceBanner extends BaseAd implements BannerListener {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         if (!(context instanceof Activity)) {
             logAndFailAd(ADAPTER_CONFIGURATION_ERROR, "Context must be an instance of Activity.",
                     getAdNetworkId());
@@ -146,6 +150,8 @@ public class IronSourceBanner extends BaseAd implements BannerListener {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mBannerLayout != null) {
             IronSource.destroyBanner(mBannerLayout);
             mBannerLayout = null;
@@ -163,7 +169,8 @@ public class IronSourceBanner extends BaseAd implements BannerListener {
     private void initIronSourceSDK(Context context, String appKey, Map<String, String> extras) {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "ironSource banner initialization " +
                 "is called with application key: " + appKey);
-        IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras);
+        IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras,
+                IronSource.AD_UNIT.BANNER);
         IronSourceAdapterConfiguration.initIronSourceSDK(context, appKey, adUnitsToInit);
     }
 
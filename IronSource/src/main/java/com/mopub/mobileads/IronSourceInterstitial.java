@@ -16,6 +16,7 @@ import com.mopub.common.MoPub;
 import com.mopub.common.MoPubLifecycleManager;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.ironsource.BuildConfig;
 
 import java.util.Map;
 
@@ -103,7 +104,8 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "ironSource Interstitial initialization is called with applicationKey: " + appKey);
         IronSource.setISDemandOnlyInterstitialListener(this);
 
-        IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras);
+        IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras,
+                IronSource.AD_UNIT.INTERSTITIAL);
         IronSourceAdapterConfiguration.initIronSourceSDK(context, appKey, adUnitsToInit);
     }
 
@@ -123,6 +125,9 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         if (!(context instanceof Activity)) {
@@ -173,6 +178,7 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
     }
 
     @Nullable
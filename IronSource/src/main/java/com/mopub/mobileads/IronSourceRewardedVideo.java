@@ -17,6 +17,7 @@ import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.ironsource.BuildConfig;
 
 import java.util.Map;
 
@@ -86,6 +87,7 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
     }
 
     @Override
@@ -144,7 +146,8 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "ironSource Rewarded Video initialization is called with applicationKey: " + applicationKey);
         IronSource.setISDemandOnlyRewardedVideoListener(this);
 
-        IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras);
+        IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras,
+                IronSource.AD_UNIT.REWARDED_VIDEO);
         IronSourceAdapterConfiguration.initIronSourceSDK(context, applicationKey, adUnitsToInit);
     }
 
@@ -153,6 +156,9 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         if (!(context instanceof Activity)) {
@@ -15,7 +15,6 @@ import com.mbridge.msdk.MBridgeSDK;
 import com.mbridge.msdk.foundation.same.net.Aa;
 import com.mbridge.msdk.mbbid.out.BidManager;
 import com.mbridge.msdk.out.MBConfiguration;
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
@@ -28,7 +27,7 @@ import java.util.Map;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
-public class MintegralAdapterConfiguration extends BaseAdapterConfiguration {
+public class MintegralAdapterConfiguration extends CachingAdapterConfiguration {
     public static final String APP_ID_KEY = "appId";
     public static final String APP_KEY = "appKey";
     public static final String PLACEMENT_ID_KEY = "placementId";
@@ -36,6 +35,7 @@ public class MintegralAdapterConfiguration extends BaseAdapterConfiguration {
 
     private static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
+
     private static final String SDK_VERSION = MBConfiguration.SDK_VERSION;
 
     private static int mAge;
@@ -149,6 +149,26 @@ public class MintegralAdapterConfiguration extends BaseAdapterConfiguration {
         }
     }
 
+    /**
+     * Starts watching a Mintegral load with {@link LoadWatchdog}, keyed by the unit and placement
+     * it was requested for.
+     */
+    public static void startWatchingLoad(@NonNull final Context context,
+                                         @NonNull final LoadWatchdog.LoadTimeoutListener listener,
+                                         @NonNull final LoadWatchdog.Format format,
+                                         @Nullable final Map<String, String> extras) {
+        String placementKey = null;
+
+        if (extras != null) {
+            final String unitId = extras.get(UNIT_ID_KEY);
+            final String placementId = extras.get(PLACEMENT_ID_KEY);
+            placementKey = TextUtils.isEmpty(placementId) ? unitId : unitId + "/" + placementId;
+        }
+
+        LoadWatchdog.startWatching(context, listener, format, MOPUB_NETWORK_NAME, placementKey,
+                extras);
+    }
+
     public static void setTargeting(MBridgeSDK sdk) {
     }
 
@@ -31,6 +31,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 import static com.mopub.mobileads.MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR;
 import static com.mopub.mobileads.MoPubErrorCode.NETWORK_NO_FILL;
+import static com.mopub.mobileads.MoPubErrorCode.NETWORK_TIMEOUT;
 
 public class MintegralBanner extends BaseAd implements BannerAdListener {
     private final String ADAPTER_NAME = this.getClass().getSimpleName();
@@ -46,6 +47,16 @@ public class MintegralBanner extends BaseAd implements BannerAdListener {
     private String mAppKey;
     private String mPlacementId;
 
+    private final LoadWatchdog.LoadTimeoutListener mLoadTimeoutListener =
+            new LoadWatchdog.LoadTimeoutListener() {
+                @Override
+                public void onLoadTimeout() {
+                    releaseBanner();
+                    failAdapter(NETWORK_TIMEOUT, "Mintegral banner did not load in time. " +
+                            "Cancelling the ad request.");
+                }
+            };
+
     public MintegralBanner() {
         mMintegralAdapterConfiguration = new MintegralAdapterConfiguration();
     }
@@ -73,6 +84,9 @@ public class MintegralBanner extends BaseAd implements BannerAdListener {
             return;
         }
 
+        MintegralAdapterConfiguration.startWatchingLoad(context, mLoadTimeoutListener,
+                LoadWatchdog.Format.BANNER, extras);
+
         MintegralAdapterConfiguration.addChannel();
         MintegralAdapterConfiguration.setTargeting(MBridgeSDKFactory.getMBridgeSDK());
 
@@ -80,7 +94,9 @@ public class MintegralBanner extends BaseAd implements BannerAdListener {
                 new MintegralSdkManager.MBSDKInitializeListener() {
                     @Override
                     public void onInitializeSuccess(String appKey, String appID) {
-                        loadBanner(context, extras);
+                        if (LoadWatchdog.isLoadPending(mLoadTimeoutListener)) {
+                            loadBanner(context, extras);
+                        }
                     }
 
                     @Override
@@ -134,7 +150,13 @@ public class MintegralBanner extends BaseAd implements BannerAdListener {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Finished showing Mintegral banner. " +
                 "Invalidating adapter...");
 
+        LoadWatchdog.stopWatching(mLoadTimeoutListener);
+        releaseBanner();
+    }
+
+    private void releaseBanner() {
         if (mBannerAd != null) {
+            mBannerAd.setBannerAdListener(null);
             mBannerAd.release();
             mBannerAd = null;
         }
@@ -172,6 +194,8 @@ public class MintegralBanner extends BaseAd implements BannerAdListener {
         MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, errorMsg);
 
+        LoadWatchdog.stopWatching(mLoadTimeoutListener);
+
         if (mLoadListener != null) {
             mLoadListener.onAdLoadFailed(errorCode);
         }
@@ -206,6 +230,8 @@ public class MintegralBanner extends BaseAd implements BannerAdListener {
 
     @Override
     public void onLoadSuccessed(MBridgeIds mBridgeIds) {
+        LoadWatchdog.onLoadSucceeded(mLoadTimeoutListener);
+
         if (mLoadListener != null && mBannerAd != null) {
             mLoadListener.onAdLoaded();
             mBannerAd.setVisibility(View.VISIBLE);
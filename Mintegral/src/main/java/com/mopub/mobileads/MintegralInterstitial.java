@@ -32,6 +32,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_FAILED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 import static com.mopub.mobileads.MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR;
 import static com.mopub.mobileads.MoPubErrorCode.NETWORK_NO_FILL;
+import static com.mopub.mobileads.MoPubErrorCode.NETWORK_TIMEOUT;
 import static com.mopub.mobileads.MoPubErrorCode.UNSPECIFIED;
 
 public class MintegralInterstitial extends BaseAd implements InterstitialVideoListener {
@@ -46,6 +47,16 @@ public class MintegralInterstitial extends BaseAd implements InterstitialVideoLi
     private String mAppKey;
     private String mPlacementId;
 
+    private final LoadWatchdog.LoadTimeoutListener mLoadTimeoutListener =
+            new LoadWatchdog.LoadTimeoutListener() {
+                @Override
+                public void onLoadTimeout() {
+                    releaseInterstitial();
+                    failAdapter(LOAD_FAILED, NETWORK_TIMEOUT, "Mintegral interstitial did not " +
+                            "load in time. Cancelling the ad request.", true);
+                }
+            };
+
     public MintegralInterstitial() {
         mMintegralAdapterConfiguration = new MintegralAdapterConfiguration();
     }
@@ -84,13 +95,18 @@ public class MintegralInterstitial extends BaseAd implements InterstitialVideoLi
             return;
         }
 
+        MintegralAdapterConfiguration.startWatchingLoad(context, mLoadTimeoutListener,
+                LoadWatchdog.Format.INTERSTITIAL, extras);
+
         MintegralAdapterConfiguration.addChannel();
         MintegralAdapterConfiguration.setTargeting(MBridgeSDKFactory.getMBridgeSDK());
         MintegralAdapterConfiguration.configureMintegralSdk(mAppId, mAppKey, context,
                 new MintegralSdkManager.MBSDKInitializeListener() {
                     @Override
                     public void onInitializeSuccess(String appKey, String appID) {
-                        loadInterstitialVideo(context, extras);
+                        if (LoadWatchdog.isLoadPending(mLoadTimeoutListener)) {
+                            loadInterstitialVideo(context, extras);
+                        }
                     }
 
                     @Override
@@ -149,6 +165,11 @@ public class MintegralInterstitial extends BaseAd implements InterstitialVideoLi
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Finished showing Mintegral " +
                 "interstitial. Invalidating adapter...");
 
+        LoadWatchdog.stopWatching(mLoadTimeoutListener);
+        releaseInterstitial();
+    }
+
+    private void releaseInterstitial() {
         if (mInterstitial != null) {
             mInterstitial.setInterstitialVideoListener(null);
             mInterstitial = null;
@@ -171,6 +192,10 @@ public class MintegralInterstitial extends BaseAd implements InterstitialVideoLi
         MoPubLog.log(getAdNetworkId(), event, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, errorMsg);
 
+        if (loadRelated) {
+            LoadWatchdog.stopWatching(mLoadTimeoutListener);
+        }
+
         if (loadRelated && mLoadListener != null) {
             mLoadListener.onAdLoadFailed(errorCode);
         } else if (!loadRelated && mInteractionListener != null) {
@@ -214,6 +239,7 @@ public class MintegralInterstitial extends BaseAd implements InterstitialVideoLi
 
     @Override
     public void onVideoLoadSuccess(MBridgeIds mBridgeIds) {
+        LoadWatchdog.onLoadSucceeded(mLoadTimeoutListener);
         MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
 
         if (mLoadListener != null) {
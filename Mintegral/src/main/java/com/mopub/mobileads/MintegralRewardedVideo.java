@@ -34,6 +34,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_FAILED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 import static com.mopub.mobileads.MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR;
 import static com.mopub.mobileads.MoPubErrorCode.NETWORK_NO_FILL;
+import static com.mopub.mobileads.MoPubErrorCode.NETWORK_TIMEOUT;
 import static com.mopub.mobileads.MoPubErrorCode.UNSPECIFIED;
 
 public class MintegralRewardedVideo extends BaseAd implements RewardVideoListener {
@@ -50,6 +51,16 @@ public class MintegralRewardedVideo extends BaseAd implements RewardVideoListene
     private String mRewardId;
     private String mUserId;
 
+    private final LoadWatchdog.LoadTimeoutListener mLoadTimeoutListener =
+            new LoadWatchdog.LoadTimeoutListener() {
+                @Override
+                public void onLoadTimeout() {
+                    releaseRewardedVideo();
+                    failAdapter(LOAD_FAILED, NETWORK_TIMEOUT, "Mintegral rewarded video did not " +
+                            "load in time. Cancelling the ad request.", true);
+                }
+            };
+
     public MintegralRewardedVideo() {
         mMintegralAdapterConfiguration = new MintegralAdapterConfiguration();
     }
@@ -103,12 +114,19 @@ public class MintegralRewardedVideo extends BaseAd implements RewardVideoListene
             return;
         }
 
+        MintegralAdapterConfiguration.startWatchingLoad(context, mLoadTimeoutListener,
+                LoadWatchdog.Format.REWARDED, extras);
+
         MintegralAdapterConfiguration.addChannel();
         MintegralAdapterConfiguration.setTargeting(MBridgeSDKFactory.getMBridgeSDK());
         MintegralAdapterConfiguration.configureMintegralSdk(mAppId, mAppKey, context,
                 new MintegralSdkManager.MBSDKInitializeListener() {
                     @Override
                     public void onInitializeSuccess(String appKey, String appID) {
+                        if (!LoadWatchdog.isLoadPending(mLoadTimeoutListener)) {
+                            return;
+                        }
+
                         loadRewardVideo(context, extras);
 
                         MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
@@ -160,6 +178,11 @@ public class MintegralRewardedVideo extends BaseAd implements RewardVideoListene
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Finished showing Mintegral rewarded ad. " +
                 "Invalidating adapter.");
 
+        LoadWatchdog.stopWatching(mLoadTimeoutListener);
+        releaseRewardedVideo();
+    }
+
+    private void releaseRewardedVideo() {
         if (mRewardedVideo != null) {
             mRewardedVideo.setRewardVideoListener(null);
             mRewardedVideo = null;
@@ -192,6 +215,10 @@ public class MintegralRewardedVideo extends BaseAd implements RewardVideoListene
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, errorMsg);
         }
 
+        if (loadRelated) {
+            LoadWatchdog.stopWatching(mLoadTimeoutListener);
+        }
+
         if (loadRelated && mLoadListener != null) {
             mLoadListener.onAdLoadFailed(errorCode);
         } else if (!loadRelated && mInteractionListener != null) {
@@ -213,6 +240,8 @@ public class MintegralRewardedVideo extends BaseAd implements RewardVideoListene
 
     @Override
     public void onVideoLoadSuccess(MBridgeIds mBridgeIds) {
+        LoadWatchdog.onLoadSucceeded(mLoadTimeoutListener);
+
         if (mLoadListener != null) {
             mLoadListener.onAdLoaded();
         }
@@ -1,10 +1,14 @@
 package com.mopub.nativeads;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.view.View;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mbridge.msdk.MBridgeConstans;
 import com.mbridge.msdk.out.Campaign;
@@ -16,8 +20,13 @@ import com.mbridge.msdk.out.NativeListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.MintegralAdapterConfiguration;
+import com.mopub.mobileads.LoadWatchdog;
 import com.mopub.mobileads.MintegralSdkManager;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -30,16 +39,90 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_SUCCESS;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 import static com.mopub.nativeads.NativeErrorCode.CONNECTION_ERROR;
 import static com.mopub.nativeads.NativeErrorCode.NETWORK_NO_FILL;
+import static com.mopub.nativeads.NativeErrorCode.NETWORK_TIMEOUT;
 
 public class MintegralNative extends CustomEventNative {
-    private final String ADAPTER_NAME = this.getClass().getName();
+    /**
+     * Number of campaigns to request per Mintegral native load (1 - 10). Campaigns beyond the
+     * first are kept per placement and serve later requests without another network round-trip.
+     */
+    public static final String NATIVE_AD_BATCH_SIZE_KEY = "nativeAdBatchSize";
 
-    private static CustomEventNativeListener mCustomEventNativeListener;
+    private static final String ADAPTER_NAME = MintegralNative.class.getName();
+
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long INVENTORY_EXPIRY_MILLIS = 30 * 60 * 1000;
+    private static final int IMPRESSION_MIN_PERCENTAGE_VIEWED = 50;
+    private static final int IMPRESSION_MIN_TIME_VIEWED_MILLIS = 1000;
+
+    private CustomEventNativeListener mCustomEventNativeListener;
+
+    private static final Map<String, Deque<InventoryEntry>> sInventory = new HashMap<>();
+    private static final Handler sInventoryHandler = new Handler(Looper.getMainLooper());
+    // Guarded by sInventory.
+    private static boolean sInventorySweepScheduled;
+
+    private static final Runnable sInventorySweep = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (sInventory) {
+                sInventorySweepScheduled = false;
+                sweepExpiredInventory();
+            }
+        }
+    };
 
     private String mAdUnitId;
     private String mAppId;
     private String mAppKey;
     private String mPlacementId;
+    private int mBatchSize = 1;
+
+    private MBridgeNativeAd mPendingNativeAd;
+
+    private final LoadWatchdog.LoadTimeoutListener mLoadTimeoutListener =
+            new LoadWatchdog.LoadTimeoutListener() {
+                @Override
+                public void onLoadTimeout() {
+                    if (mPendingNativeAd != null) {
+                        mPendingNativeAd.releaseHandlers();
+                        mPendingNativeAd = null;
+                    }
+
+                    failAdapter(NETWORK_TIMEOUT, "Mintegral native ad did not load in time. " +
+                            "Cancelling the ad request.");
+                    mCustomEventNativeListener = null;
+                }
+            };
+
+    /**
+     * Receives the result of the load started by {@link #loadNative}. An ad only holds this until
+     * its load finishes, so an ad handed to MoPub does not keep this adapter alive.
+     */
+    private final AdLoadListener mAdLoadListener = new AdLoadListener() {
+        @Override
+        public void onAdLoaded(@NonNull final MBridgeNativeAd ad,
+                               @NonNull final List<Campaign> campaigns) {
+            LoadWatchdog.onLoadSucceeded(mLoadTimeoutListener);
+            mPendingNativeAd = null;
+
+            if (ad.mBatch != null && campaigns.size() > 1) {
+                addToInventory(ad.mBatch, campaigns.subList(1, campaigns.size()));
+            }
+
+            if (mCustomEventNativeListener != null) {
+                mCustomEventNativeListener.onNativeAdLoaded(ad);
+            }
+
+            MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+        }
+
+        @Override
+        public void onAdLoadFailed(@NonNull final NativeErrorCode errorCode,
+                                   @Nullable final String errorMsg) {
+            failAdapter(errorCode, errorMsg);
+        }
+    };
 
     @Override
     protected void loadNativeAd(@NonNull final Context context,
@@ -60,11 +143,29 @@ public class MintegralNative extends CustomEventNative {
             return;
         }
 
+        if (TextUtils.isEmpty(serverExtras.get(ADM_KEY))) {
+            final MBridgeNativeAd inventoryAd = takeFromInventory(context);
+
+            if (inventoryAd != null) {
+                MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Served Mintegral native " +
+                        "ad from a previously loaded batch.");
+
+                customEventNativeListener.onNativeAdLoaded(inventoryAd);
+                return;
+            }
+        }
+
+        MintegralAdapterConfiguration.startWatchingLoad(context, mLoadTimeoutListener,
+                LoadWatchdog.Format.NATIVE, serverExtras);
+
         MintegralAdapterConfiguration.configureMintegralSdk(mAppId, mAppKey, context,
                 new MintegralSdkManager.MBSDKInitializeListener() {
                     @Override
                     public void onInitializeSuccess(String appKey, String appID) {
-                        loadNative(serverExtras, context, customEventNativeListener);
+                        if (LoadWatchdog.isLoadPending(mLoadTimeoutListener)) {
+                            loadNative(serverExtras, context);
+                        }
                     }
 
                     @Override
@@ -74,59 +175,204 @@ public class MintegralNative extends CustomEventNative {
                 });
     }
 
-    private void loadNative(@NonNull Map<String, String> serverExtras, @NonNull Context context,
-                            @NonNull CustomEventNativeListener customEventNativeListener) {
+    private void loadNative(@NonNull Map<String, String> serverExtras, @NonNull Context context) {
         final String bid = serverExtras.get(ADM_KEY);
-        final MBridgeNativeAd MBridgeNativeAd = new MBridgeNativeAd(context, customEventNativeListener, mAdUnitId);
-        MBridgeNativeAd.setBid(bid);
-        MBridgeNativeAd.loadAd();
+        final MBridgeNativeAd nativeAd = new MBridgeNativeAd(context, mAdUnitId, mPlacementId);
+        mPendingNativeAd = nativeAd;
+        nativeAd.loadAd(bid, mBatchSize, mAdLoadListener);
     }
 
-    public class MBridgeNativeAd extends BaseNativeAd implements NativeListener.NativeAdListener,
-            NativeListener.NativeTrackingListener {
+    @NonNull
+    private String getInventoryKey() {
+        return mAdUnitId + "/" + (mPlacementId == null ? "" : mPlacementId);
+    }
+
+    private void addToInventory(@NonNull final NativeAdBatch batch,
+                                @NonNull final List<Campaign> campaigns) {
+        final long expiresAtMillis = SystemClock.elapsedRealtime() + INVENTORY_EXPIRY_MILLIS;
+
+        synchronized (sInventory) {
+            Deque<InventoryEntry> entries = sInventory.get(getInventoryKey());
+
+            if (entries == null) {
+                entries = new ArrayDeque<>();
+                sInventory.put(getInventoryKey(), entries);
+            }
 
-        private String mBid;
+            for (final Campaign campaign : campaigns) {
+                entries.add(new InventoryEntry(batch, campaign, expiresAtMillis));
+            }
+
+            sweepExpiredInventory();
+        }
+    }
+
+    /**
+     * Releases expired campaigns of every placement, so a placement that is never requested again
+     * does not keep its handler alive. Schedules the next sweep while anything is left. Must be
+     * called while holding sInventory.
+     */
+    private static void sweepExpiredInventory() {
+        final long now = SystemClock.elapsedRealtime();
+        long nextExpiryMillis = Long.MAX_VALUE;
+
+        final Iterator<Deque<InventoryEntry>> placements = sInventory.values().iterator();
+        while (placements.hasNext()) {
+            final Deque<InventoryEntry> entries = placements.next();
+            final Iterator<InventoryEntry> iterator = entries.iterator();
+
+            while (iterator.hasNext()) {
+                final InventoryEntry entry = iterator.next();
+
+                if (entry.mExpiresAtMillis <= now) {
+                    iterator.remove();
+                    entry.mBatch.releaseSlot(entry.mCampaign);
+                } else {
+                    nextExpiryMillis = Math.min(nextExpiryMillis, entry.mExpiresAtMillis);
+                }
+            }
+
+            if (entries.isEmpty()) {
+                placements.remove();
+            }
+        }
+
+        if (nextExpiryMillis != Long.MAX_VALUE && !sInventorySweepScheduled) {
+            sInventorySweepScheduled = true;
+            sInventoryHandler.postDelayed(sInventorySweep, nextExpiryMillis - now);
+        }
+    }
+
+    @Nullable
+    private MBridgeNativeAd takeFromInventory(@NonNull final Context context) {
+        synchronized (sInventory) {
+            sweepExpiredInventory();
+
+            final Deque<InventoryEntry> entries = sInventory.get(getInventoryKey());
+
+            if (entries == null) {
+                return null;
+            }
+
+            final InventoryEntry entry = entries.poll();
+
+            if (entries.isEmpty()) {
+                sInventory.remove(getInventoryKey());
+            }
+
+            return entry == null ? null : new MBridgeNativeAd(context, mAdUnitId, mPlacementId,
+                    entry.mBatch, entry.mCampaign);
+        }
+    }
+
+    @NonNull
+    private static Map<String, Object> getNativeProperties(@Nullable final String placementId,
+                                                   @Nullable final String adUnitId,
+                                                   final int adCount) {
+        final Map<String, Object> properties = MBNativeHandler.getNativeProperties(placementId, adUnitId);
+        properties.put(MBridgeConstans.PROPERTIES_AD_NUM, adCount);
+        properties.put(MBridgeConstans.NATIVE_VIDEO_WIDTH, 720);
+        properties.put(MBridgeConstans.NATIVE_VIDEO_HEIGHT, 480);
+        properties.put(MBridgeConstans.NATIVE_VIDEO_SUPPORT, true);
+        return properties;
+    }
+
+    /**
+     * Result of a Mintegral native load.
+     */
+    private interface AdLoadListener {
+        void onAdLoaded(@NonNull MBridgeNativeAd ad, @NonNull List<Campaign> campaigns);
+
+        void onAdLoadFailed(@NonNull NativeErrorCode errorCode, @Nullable String errorMsg);
+    }
+
+    /**
+     * One Mintegral campaign. This is a static class, so an ad that is cached or handed to MoPub
+     * only holds what it is given: the adapter's load listener until the load finishes, and its
+     * handler until the ad is destroyed.
+     */
+    public static class MBridgeNativeAd extends BaseNativeAd implements NativeListener.NativeAdListener,
+            NativeListener.NativeTrackingListener, ImpressionInterface {
+
+        @Nullable
         private final String mUnitId;
+        @Nullable
+        private final String mPlacementId;
+        @Nullable
+        private AdLoadListener mAdLoadListener;
 
         MBNativeHandler mNativeAd;
         MBBidNativeHandler mBiddingNativeAd;
         Context mContext;
         Campaign mCampaign;
+        NativeAdBatch mBatch;
+        ImpressionTracker mImpressionTracker;
+        private boolean mImpressionRecorded;
 
-        MBridgeNativeAd(final Context context,
-                        final CustomEventNativeListener customEventNativeListener,
-                        final String adUnitId) {
+        MBridgeNativeAd(final Context context, @Nullable final String adUnitId,
+                        @Nullable final String placementId) {
             mUnitId = adUnitId;
-            mCustomEventNativeListener = customEventNativeListener;
+            mPlacementId = placementId;
             this.mContext = context;
         }
 
-        void loadAd() {
-            MintegralAdapterConfiguration.setTargeting(MBridgeSDKFactory.getMBridgeSDK());
+        MBridgeNativeAd(final Context context,
+                        @Nullable final String adUnitId,
+                        @Nullable final String placementId,
+                        @NonNull final NativeAdBatch batch,
+                        @NonNull final Campaign campaign) {
+            // The batch is reachable from the static inventory, so keep no Activity in it
+            this(context.getApplicationContext(), adUnitId, placementId);
+
+            mBatch = batch;
+            mCampaign = campaign;
+            mNativeAd = batch.mHandler;
+            batch.attach(campaign, this);
+        }
+
+        /**
+         * Loads campaigns for this ad. Without a bid and with a batch size above one, the handler
+         * belongs to a {@link NativeAdBatch}, which receives the handler's events and passes the
+         * load result on to this ad.
+         */
+        void loadAd(@Nullable final String bid, final int batchSize,
+                    @NonNull final AdLoadListener adLoadListener) {
+            mAdLoadListener = adLoadListener;
 
-            final Map<String, Object> properties = MBNativeHandler.getNativeProperties(mPlacementId, mUnitId);
-            properties.put(MBridgeConstans.PROPERTIES_AD_NUM, 1);
-            properties.put(MBridgeConstans.NATIVE_VIDEO_WIDTH, 720);
-            properties.put(MBridgeConstans.NATIVE_VIDEO_HEIGHT, 480);
-            properties.put(MBridgeConstans.NATIVE_VIDEO_SUPPORT, true);
+            MintegralAdapterConfiguration.setTargeting(MBridgeSDKFactory.getMBridgeSDK());
 
-            if (TextUtils.isEmpty(mBid)) {
-                mNativeAd = new MBNativeHandler(properties, mContext);
-                mNativeAd.setAdListener(this);
-                mNativeAd.setTrackingListener(this);
+            if (TextUtils.isEmpty(bid)) {
+                final Map<String, Object> properties = getNativeProperties(mPlacementId, mUnitId,
+                        batchSize);
+
+                if (batchSize > 1) {
+                    // A batched handler outlives this ad in the static inventory, so it must not
+                    // hold the Activity, and its listener is the batch rather than this ad.
+                    mContext = mContext.getApplicationContext();
+                    mNativeAd = new MBNativeHandler(properties, mContext);
+                    mBatch = new NativeAdBatch(mNativeAd, mUnitId, this);
+                    mNativeAd.setAdListener(mBatch);
+                    mNativeAd.setTrackingListener(mBatch);
+                } else {
+                    mNativeAd = new MBNativeHandler(properties, mContext);
+                    mNativeAd.setAdListener(this);
+                    mNativeAd.setTrackingListener(this);
+                }
                 mNativeAd.load();
             } else {
-                mBiddingNativeAd = new MBBidNativeHandler(properties, mContext);
+                mBiddingNativeAd = new MBBidNativeHandler(getNativeProperties(mPlacementId,
+                        mUnitId, 1), mContext);
                 mBiddingNativeAd.setAdListener(this);
                 mBiddingNativeAd.setTrackingListener(this);
-                mBiddingNativeAd.bidLoad(mBid);
+                mBiddingNativeAd.bidLoad(bid);
             }
 
             MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
         }
 
-        void setBid(String bid) {
-            this.mBid = bid;
+        @Nullable
+        private String getAdNetworkId() {
+            return mUnitId;
         }
 
         @Override
@@ -176,29 +422,41 @@ public class MintegralNative extends CustomEventNative {
 
         @Override
         public void onAdLoaded(List<Campaign> campaigns, int template) {
-            if (campaigns == null || campaigns.size() == 0) {
-                failAdapter(NETWORK_NO_FILL, "No Mintegral native ad campaign active. " +
-                        "Failing adapter.");
+            final AdLoadListener adLoadListener = mAdLoadListener;
+            mAdLoadListener = null;
 
+            if (campaigns == null || campaigns.size() == 0) {
+                if (adLoadListener != null) {
+                    adLoadListener.onAdLoadFailed(NETWORK_NO_FILL, "No Mintegral native ad " +
+                            "campaign active. Failing adapter.");
+                }
                 return;
             }
 
             mCampaign = campaigns.get(0);
-            if (mCustomEventNativeListener != null) {
-                mCustomEventNativeListener.onNativeAdLoaded(MBridgeNativeAd.this);
+
+            if (mBatch != null) {
+                mBatch.onLoaded(mCampaign, this, campaigns.size());
             }
 
-            MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+            if (adLoadListener != null) {
+                adLoadListener.onAdLoaded(this, campaigns);
+            }
         }
 
         @Override
         public void onAdLoadError(String errorMsg) {
-            failAdapter(NETWORK_NO_FILL, errorMsg);
+            final AdLoadListener adLoadListener = mAdLoadListener;
+            mAdLoadListener = null;
+
+            if (adLoadListener != null) {
+                adLoadListener.onAdLoadFailed(NETWORK_NO_FILL, errorMsg);
+            }
         }
 
         @Override
         public void onAdClick(Campaign campaign) {
-            this.notifyAdClicked();
+            notifyAdClicked();
             MoPubLog.log(getAdNetworkId(), CLICKED, ADAPTER_NAME);
         }
 
@@ -209,10 +467,42 @@ public class MintegralNative extends CustomEventNative {
 
         @Override
         public void onLoggingImpression(int adSourceType) {
-            this.notifyAdImpressed();
+            notifyAdImpressed();
             MoPubLog.log(getAdNetworkId(), SHOW_SUCCESS, ADAPTER_NAME);
         }
 
+        @Override
+        public int getImpressionMinPercentageViewed() {
+            return IMPRESSION_MIN_PERCENTAGE_VIEWED;
+        }
+
+        @Nullable
+        @Override
+        public Integer getImpressionMinVisiblePx() {
+            return null;
+        }
+
+        @Override
+        public int getImpressionMinTimeViewed() {
+            return IMPRESSION_MIN_TIME_VIEWED_MILLIS;
+        }
+
+        @Override
+        public void recordImpression(@NonNull final View view) {
+            notifyAdImpressed();
+            MoPubLog.log(getAdNetworkId(), SHOW_SUCCESS, ADAPTER_NAME);
+        }
+
+        @Override
+        public boolean isImpressionRecorded() {
+            return mImpressionRecorded;
+        }
+
+        @Override
+        public void setImpressionRecorded() {
+            mImpressionRecorded = true;
+        }
+
         @Override
         public void prepare(@NonNull View view) {
         }
@@ -221,6 +511,9 @@ public class MintegralNative extends CustomEventNative {
         public void clear(@NonNull View view) {
             Preconditions.checkNotNull(view);
 
+            if (mImpressionTracker != null) {
+                mImpressionTracker.removeView(view);
+            }
             if (mNativeAd != null) {
                 mNativeAd.unregisterView(view, mCampaign);
             }
@@ -235,19 +528,49 @@ public class MintegralNative extends CustomEventNative {
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Finished showing Mintegral " +
                     "native ads. Invalidating adapter...");
 
-            if (mNativeAd != null) {
+            releaseHandlers();
+            mContext = null;
+        }
+
+        /**
+         * Drops the load listener and gives up this ad's handler. A batched handler is only
+         * released once none of its campaigns is in use.
+         */
+        void releaseHandlers() {
+            mAdLoadListener = null;
+
+            if (mImpressionTracker != null) {
+                mImpressionTracker.destroy();
+                mImpressionTracker = null;
+            }
+
+            if (mBatch != null) {
+                if (mNativeAd != null) {
+                    mBatch.releaseSlot(mCampaign);
+                    mNativeAd = null;
+                }
+                mBatch = null;
+            } else if (mNativeAd != null) {
                 mNativeAd.release();
                 mNativeAd.setAdListener(null);
+                mNativeAd.setTrackingListener(null);
                 mNativeAd = null;
             } else if (mBiddingNativeAd != null) {
                 mBiddingNativeAd.bidRelease();
                 mBiddingNativeAd.setAdListener(null);
+                mBiddingNativeAd.setTrackingListener(null);
+                mBiddingNativeAd = null;
             }
-
-            mCustomEventNativeListener = null;
         }
 
         void registerViewForInteraction(View view) {
+            if (mBatch != null && mNativeAd != null) {
+                if (mImpressionTracker == null) {
+                    mImpressionTracker = new ImpressionTracker(mContext);
+                }
+                mImpressionTracker.addView(view, this);
+            }
+
             if (mNativeAd != null) {
                 mNativeAd.registerView(view, mCampaign);
             } else if (mBiddingNativeAd != null) {
@@ -287,12 +610,28 @@ public class MintegralNative extends CustomEventNative {
             mAppKey = serverExtras.get(MintegralAdapterConfiguration.APP_KEY);
             mPlacementId = serverExtras.get(MintegralAdapterConfiguration.PLACEMENT_ID_KEY);
 
+            mBatchSize = parseBatchSize(serverExtras.get(NATIVE_AD_BATCH_SIZE_KEY));
+
             return !TextUtils.isEmpty(mAppId) && !TextUtils.isEmpty(mAppKey) && !TextUtils.isEmpty(mAdUnitId);
         }
 
         return false;
     }
 
+    private int parseBatchSize(final String batchSize) {
+        if (TextUtils.isEmpty(batchSize)) {
+            return 1;
+        }
+
+        try {
+            return Math.max(1, Math.min(MAX_BATCH_SIZE, Integer.parseInt(batchSize)));
+        } catch (NumberFormatException e) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Ignoring invalid " +
+                    NATIVE_AD_BATCH_SIZE_KEY + " value: " + batchSize);
+            return 1;
+        }
+    }
+
     private void failAdapter(final NativeErrorCode errorCode, final String errorMsg) {
         MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
 
@@ -300,6 +639,9 @@ public class MintegralNative extends CustomEventNative {
             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, errorMsg);
         }
 
+        LoadWatchdog.stopWatching(mLoadTimeoutListener);
+        mPendingNativeAd = null;
+
         if (mCustomEventNativeListener != null) {
             mCustomEventNativeListener.onNativeAdFailed(errorCode);
         }
@@ -308,4 +650,165 @@ public class MintegralNative extends CustomEventNative {
     private String getAdNetworkId() {
         return mAdUnitId;
     }
+
+    /**
+     * One MBNativeHandler load that may return several campaigns. The batch is the handler's
+     * listener: it passes the load result to the ad that started the load, and routes clicks to
+     * the ad currently showing the clicked campaign. Impressions do not say which campaign was
+     * seen, so batched ads record their own through an ImpressionTracker. The handler is released
+     * once every campaign has been destroyed or has expired.
+     */
+    private static class NativeAdBatch implements NativeListener.NativeAdListener,
+            NativeListener.NativeTrackingListener {
+        @NonNull
+        private final MBNativeHandler mHandler;
+        @Nullable
+        private final String mAdUnitId;
+        private final Map<Campaign, MBridgeNativeAd> mAds = new HashMap<>();
+        // The ad that started the load, until the load finishes.
+        @Nullable
+        private MBridgeNativeAd mLoadingAd;
+        // Campaigns not yet destroyed or expired. Zero until the load finishes.
+        private int mOpenSlots;
+        private boolean mReleased;
+
+        NativeAdBatch(@NonNull final MBNativeHandler handler, @Nullable final String adUnitId,
+                      @NonNull final MBridgeNativeAd loadingAd) {
+            mHandler = handler;
+            mAdUnitId = adUnitId;
+            mLoadingAd = loadingAd;
+        }
+
+        void onLoaded(@NonNull final Campaign campaign, @NonNull final MBridgeNativeAd ad,
+                      final int campaignCount) {
+            mOpenSlots = campaignCount;
+            attach(campaign, ad);
+        }
+
+        void attach(@NonNull final Campaign campaign, @NonNull final MBridgeNativeAd ad) {
+            mAds.put(campaign, ad);
+        }
+
+        /**
+         * Gives up one campaign. A campaign that never loaded releases the whole batch, since
+         * nothing else can use its handler.
+         */
+        void releaseSlot(@Nullable final Campaign campaign) {
+            mAds.remove(campaign);
+
+            if (campaign == null || --mOpenSlots <= 0) {
+                release();
+            }
+        }
+
+        private void release() {
+            if (mReleased) {
+                return;
+            }
+            mReleased = true;
+            mLoadingAd = null;
+            mAds.clear();
+            mHandler.release();
+            mHandler.setAdListener(null);
+            mHandler.setTrackingListener(null);
+        }
+
+        @Override
+        public void onAdLoaded(final List<Campaign> campaigns, final int template) {
+            final MBridgeNativeAd loadingAd = mLoadingAd;
+            mLoadingAd = null;
+
+            if (loadingAd != null) {
+                loadingAd.onAdLoaded(campaigns, template);
+            }
+        }
+
+        @Override
+        public void onAdLoadError(final String errorMsg) {
+            final MBridgeNativeAd loadingAd = mLoadingAd;
+            mLoadingAd = null;
+
+            if (loadingAd != null) {
+                loadingAd.onAdLoadError(errorMsg);
+            }
+        }
+
+        @Override
+        public void onAdClick(final Campaign campaign) {
+            final MBridgeNativeAd clickedAd = mAds.get(campaign);
+
+            if (clickedAd != null) {
+                clickedAd.onAdClick(campaign);
+            }
+        }
+
+        @Override
+        public void onAdFramesLoaded(final List<Frame> list) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onAdFramesLoaded");
+        }
+
+        @Override
+        public void onLoggingImpression(final int adSourceType) {
+        }
+
+        @Override
+        public void onStartRedirection(final Campaign campaign, final String url) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onStartRedirection: " + url);
+        }
+
+        @Override
+        public void onRedirectionFailed(final Campaign campaign, final String url) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onRedirectionFailed: " + url);
+        }
+
+        @Override
+        public void onFinishRedirection(final Campaign campaign, final String url) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onFinishRedirection: " + url);
+        }
+
+        @Override
+        public void onDownloadStart(final Campaign campaign) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onDownloadStart");
+        }
+
+        @Override
+        public void onDownloadFinish(final Campaign campaign) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onDownloadFinish");
+        }
+
+        @Override
+        public void onDownloadProgress(final int progress) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onDownloadProgress");
+        }
+
+        @Override
+        public boolean onInterceptDefaultLoadingDialog() {
+            return false;
+        }
+
+        @Override
+        public void onShowLoading(final Campaign campaign) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onShowLoading");
+        }
+
+        @Override
+        public void onDismissLoading(final Campaign campaign) {
+            MoPubLog.log(mAdUnitId, CUSTOM, ADAPTER_NAME, "onDismissLoading");
+        }
+    }
+
+    private static class InventoryEntry {
+        @NonNull
+        private final NativeAdBatch mBatch;
+        @NonNull
+        private final Campaign mCampaign;
+        private final long mExpiresAtMillis;
+
+        InventoryEntry(@NonNull final NativeAdBatch batch, @NonNull final Campaign campaign,
+                       final long expiresAtMillis) {
+            mBatch = batch;
+            mCampaign = campaign;
+            mExpiresAtMillis = expiresAtMillis;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.app.Activity;
+import android.os.Looper;
+
+import com.mopub.mobileads.RetentionProbe;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Creates and destroys Mintegral native ads many times, each in its own Activity, and checks that
+ * no Activity survives once the ad is done with. The ads are kept alive, as MoPub may keep a
+ * destroyed native ad around.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MintegralNativeRetentionTest {
+    private static final int LIFECYCLE_ITERATIONS = 50;
+
+    private RetentionProbe mProbe;
+
+    @Before
+    public void setUp() {
+        mProbe = new RetentionProbe();
+    }
+
+    @Test
+    public void destroy_shouldNotRetainActivity() {
+        final List<MintegralNative.MBridgeNativeAd> destroyedAds = new ArrayList<>();
+
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final ActivityController<Activity> activityController =
+                    Robolectric.buildActivity(Activity.class).create();
+            final Activity activity = activityController.get();
+            final MintegralNative.MBridgeNativeAd ad =
+                    new MintegralNative.MBridgeNativeAd(activity, "unitId", "placementId");
+
+            ad.destroy();
+            activityController.destroy();
+            destroyedAds.add(ad);
+
+            mProbe.track(activity, "Activity #" + i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void loadNativeAd_withFailedLoad_shouldNotRetainAdapterOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final ActivityController<Activity> activityController =
+                    Robolectric.buildActivity(Activity.class).create();
+            final Activity activity = activityController.get();
+            final MintegralNative adapter = new MintegralNative();
+            final CustomEventNative.CustomEventNativeListener listener =
+                    mock(CustomEventNative.CustomEventNativeListener.class);
+
+            // Missing keys fail the load before Mintegral is called.
+            adapter.loadNativeAd(activity, listener, new HashMap<String, Object>(),
+                    new HashMap<String, String>());
+            activityController.destroy();
+            shadowOf(Looper.getMainLooper()).idle();
+
+            verify(listener).onNativeAdFailed(NativeErrorCode.NATIVE_ADAPTER_CONFIGURATION_ERROR);
+
+            mProbe.track(adapter, "MintegralNative #" + i);
+            mProbe.track(activity, "Activity #" + i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+}
@@ -0,0 +1,98 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.content.Context;
+import android.os.Looper;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Starts many Mintegral native loads before any of them completes, and checks that each result
+ * reaches only the listener of the load it belongs to.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowMBridgeSDKFactory.class, instrumentedPackages = "com.mbridge.msdk.out")
+public class MintegralNativeTest {
+    private static final int CONCURRENT_LOADS = 50;
+    // Longer than the longest native load deadline.
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(10);
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+    }
+
+    @Test
+    public void loadNativeAd_withInterleavedLoads_shouldTimeOutEachLoadOnItsOwnListener() {
+        final CustomEventNative.CustomEventNativeListener[] listeners =
+                new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            listeners[i] = mock(CustomEventNative.CustomEventNativeListener.class);
+            new MintegralNative().loadNativeAd(mContext, listeners[i],
+                    new HashMap<String, Object>(), serverExtras("unit" + i));
+        }
+
+        for (final CustomEventNative.CustomEventNativeListener listener : listeners) {
+            verifyNoInteractions(listener);
+        }
+
+        shadowOf(Looper.getMainLooper()).idleFor(LOAD_TIMEOUT);
+
+        for (final CustomEventNative.CustomEventNativeListener listener : listeners) {
+            verify(listener).onNativeAdFailed(NativeErrorCode.NETWORK_TIMEOUT);
+            verifyNoMoreInteractions(listener);
+        }
+    }
+
+    @Test
+    public void loadNativeAd_withFailingLoadAmongPendingLoads_shouldOnlyFailThatLoad() {
+        final CustomEventNative.CustomEventNativeListener pendingListener =
+                mock(CustomEventNative.CustomEventNativeListener.class);
+        final CustomEventNative.CustomEventNativeListener failingListener =
+                mock(CustomEventNative.CustomEventNativeListener.class);
+
+        new MintegralNative().loadNativeAd(mContext, pendingListener,
+                new HashMap<String, Object>(), serverExtras("unit"));
+        new MintegralNative().loadNativeAd(mContext, failingListener,
+                new HashMap<String, Object>(), new HashMap<String, String>());
+
+        verify(failingListener).onNativeAdFailed(
+                NativeErrorCode.NATIVE_ADAPTER_CONFIGURATION_ERROR);
+        verifyNoInteractions(pendingListener);
+
+        shadowOf(Looper.getMainLooper()).idleFor(LOAD_TIMEOUT);
+
+        verify(pendingListener).onNativeAdFailed(NativeErrorCode.NETWORK_TIMEOUT);
+        verifyNoMoreInteractions(failingListener);
+    }
+
+    private static Map<String, String> serverExtras(final String unitId) {
+        final Map<String, String> serverExtras = new HashMap<>();
+        serverExtras.put("appId", "appId");
+        serverExtras.put("appKey", "appKey");
+        serverExtras.put("unitId", unitId);
+        return serverExtras;
+    }
+}
@@ -0,0 +1,23 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import com.mbridge.msdk.MBridgeSDK;
+import com.mbridge.msdk.out.MBridgeSDKFactory;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Hides the Mintegral SDK in JVM tests, so loads start and are watched but never reach the
+ * network. They end when the load watchdog gives up on them.
+ */
+@Implements(MBridgeSDKFactory.class)
+public class ShadowMBridgeSDKFactory {
+    @Implementation
+    protected static MBridgeSDK getMBridgeSDK() {
+        return null;
+    }
+}
@@ -6,7 +6,6 @@ import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
@@ -20,7 +19,7 @@ import java.util.Map;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
-public class OguryAdapterConfiguration extends BaseAdapterConfiguration {
+public class OguryAdapterConfiguration extends CachingAdapterConfiguration {
     public static final String CHOICE_MANAGER_CONSENT_ORIGIN = "MOPUB";
 
     private static final String ADAPTER_NAME = OguryAdapterConfiguration.class.getSimpleName();
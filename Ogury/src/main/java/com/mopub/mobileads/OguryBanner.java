@@ -14,6 +14,7 @@ import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.privacy.ConsentStatus;
 import com.mopub.common.privacy.PersonalInfoManager;
+import com.mopub.mobileads.ogury.BuildConfig;
 import com.ogury.cm.OguryChoiceManagerExternal;
 import com.ogury.core.OguryError;
 import com.ogury.ed.OguryAdImpressionListener;
@@ -65,6 +66,9 @@ public class OguryBanner extends BaseAd implements OguryBannerAdListener, OguryA
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
 
         if (personalInfoManager != null) {
@@ -123,6 +127,8 @@ public class OguryBanner extends BaseAd implements OguryBannerAdListener, OguryA
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mBanner != null) {
             mBanner.destroy();
             mBanner = null;
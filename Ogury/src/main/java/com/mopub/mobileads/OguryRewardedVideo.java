@@ -14,6 +14,7 @@ import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.privacy.ConsentStatus;
 import com.mopub.common.privacy.PersonalInfoManager;
+import com.mopub.mobileads.ogury.BuildConfig;
 import com.ogury.cm.OguryChoiceManagerExternal;
 import com.ogury.core.OguryError;
 import com.ogury.ed.OguryAdImpressionListener;
@@ -68,6 +69,9 @@ public class OguryRewardedVideo extends BaseAd implements OguryOptinVideoAdListe
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
 
         if (personalInfoManager != null) {
@@ -136,6 +140,8 @@ public class OguryRewardedVideo extends BaseAd implements OguryOptinVideoAdListe
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         mOptInVideo = null;
     }
 
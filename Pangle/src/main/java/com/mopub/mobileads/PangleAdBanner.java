@@ -17,6 +17,7 @@ import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.pangle.BuildConfig;
 
 import java.util.List;
 import java.util.Map;
@@ -33,7 +34,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 public class PangleAdBanner extends BaseAd {
     private static final String ADAPTER_NAME = PangleAdBanner.class.getSimpleName();
 
-    private static String mPlacementId;
+    private String mPlacementId;
     private PangleAdapterConfiguration mPangleAdapterConfiguration;
 
     private Context mContext;
@@ -52,6 +53,9 @@ public class PangleAdBanner extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         mContext = context;
@@ -202,6 +206,8 @@ public class PangleAdBanner extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mAdExpressBannerLoader != null) {
             mAdExpressBannerLoader.destroy();
             mAdExpressBannerLoader = null;
@@ -15,6 +15,7 @@ import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.pangle.BuildConfig;
 
 import java.util.Map;
 
@@ -45,6 +46,9 @@ public class PangleAdInterstitial extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         mContext = context;
         setAutomaticImpressionAndClickTracking(false);
         final Map<String, String> extras = adData.getExtras();
@@ -126,6 +130,8 @@ public class PangleAdInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mFullVideoLoader != null) {
             mFullVideoLoader.destroy();
         }
@@ -3,6 +3,9 @@ package com.mopub.nativeads;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
@@ -21,8 +24,14 @@ import com.bytedance.sdk.openadsdk.TTImage;
 import com.bytedance.sdk.openadsdk.TTNativeAd;
 import com.mopub.common.DataKeys;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.LoadWatchdog;
 import com.mopub.mobileads.PangleAdapterConfiguration;
+import com.mopub.mobileads.pangle.BuildConfig;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -37,7 +46,41 @@ import static com.mopub.nativeads.NativeErrorCode.NETWORK_NO_FILL;
 public class PangleAdNative extends CustomEventNative {
     private static final String ADAPTER_NAME = PangleAdNative.class.getSimpleName();
 
+    /**
+     * Number of feed ads to request per Pangle load (1 - 3). Ads beyond the first are buffered
+     * per placement and serve later native requests without another network round-trip.
+     */
+    public static final String NATIVE_AD_BATCH_SIZE_KEY = "nativeAdBatchSize";
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final int MAX_BUFFERED_ADS_PER_PLACEMENT = 5;
+    private static final long BUFFERED_AD_EXPIRY_MILLIS = 30 * 60 * 1000;
+
+    private static final Object sAdNativeLock = new Object();
+    private static final Map<String, Deque<BufferedFeedAd>> sBufferedAds = new HashMap<>();
+    private static final Handler sBufferedAdsHandler = new Handler(Looper.getMainLooper());
+
+    // The application-context TTAdNative and the manager that created it. Guarded by sAdNativeLock.
+    @Nullable
+    private static TTAdNative sAdNative;
+    @Nullable
+    private static TTAdManager sAdNativeManager;
+
+    // Guarded by sBufferedAds.
+    private static boolean sBufferedAdsSweepScheduled;
+
+    private static final Runnable sBufferedAdsSweep = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (sBufferedAds) {
+                sBufferedAdsSweepScheduled = false;
+                sweepExpiredBufferedAds();
+            }
+        }
+    };
+
     private String mPlacementId = "";
+    private int mBatchSize = 1;
     private Context mContext;
     private CustomEventNativeListener mCustomEventNativeListener;
     private PangleAdapterConfiguration mPangleAdapterConfiguration;
@@ -48,6 +91,13 @@ public class PangleAdNative extends CustomEventNative {
 
     @Override
     protected void loadNativeAd(Context context, CustomEventNativeListener customEventNativeListener, Map<String, Object> localExtras, Map<String, String> serverExtras) {
+        if (customEventNativeListener != null) {
+            customEventNativeListener = LoadWatchdog.watch(context, customEventNativeListener,
+                    BuildConfig.NETWORK_NAME, serverExtras != null
+                            ? serverExtras.get(PangleAdapterConfiguration.AD_PLACEMENT_ID_EXTRA_KEY)
+                            : null, serverExtras);
+        }
+
         this.mContext = context;
         this.mCustomEventNativeListener = customEventNativeListener;
 
@@ -69,6 +119,7 @@ public class PangleAdNative extends CustomEventNative {
                 return;
             }
             adm = serverExtras.get(DataKeys.ADM_KEY);
+            mBatchSize = parseBatchSize(serverExtras.get(NATIVE_AD_BATCH_SIZE_KEY));
 
             /** Init Pangle SDK if fail to initialize in the adapterConfiguration */
             final String appId = serverExtras.get(PangleAdapterConfiguration.APP_ID_EXTRA_KEY);
@@ -76,6 +127,21 @@ public class PangleAdNative extends CustomEventNative {
             adManager = PangleAdapterConfiguration.getPangleSdkManager();
 
             mPangleAdapterConfiguration.setCachedInitializationParameters(context, serverExtras);
+
+            if (TextUtils.isEmpty(adm)) {
+                final TTFeedAd bufferedAd = takeBufferedAd(mPlacementId);
+
+                if (bufferedAd != null) {
+                    MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+                    MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Served Pangle native " +
+                            "ad from a previously loaded batch.");
+
+                    if (customEventNativeListener != null) {
+                        customEventNativeListener.onNativeAdLoaded(new PangleNativeAd(bufferedAd));
+                    }
+                    return;
+                }
+            }
         }
 
         /** default media view ad size */
@@ -93,10 +159,12 @@ public class PangleAdNative extends CustomEventNative {
                         + ", mediaViewHeight=" + mediaViewHeight);
 
         if (adManager != null) {
-            final TTAdNative adNative = adManager.createAdNative(mContext);
+            final TTAdNative adNative = getAdNative(adManager, mContext);
+            final boolean isBidding = !TextUtils.isEmpty(adm);
             final AdSlot adSlot = new AdSlot.Builder()
                     .setCodeId(mPlacementId)
                     .setImageAcceptedSize(mediaViewWidth, mediaViewHeight)
+                    .setAdCount(isBidding ? 1 : mBatchSize)
                     .withBid(adm)
                     .build();
 
@@ -120,10 +188,12 @@ public class PangleAdNative extends CustomEventNative {
                     if (ads != null && ads.size() > 0) {
                         MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
 
+                        if (!isBidding && ads.size() > 1) {
+                            bufferAds(mPlacementId, ads.subList(1, ads.size()));
+                        }
+
                         if (mCustomEventNativeListener != null) {
-                            for (TTFeedAd ad : ads) {
-                                mCustomEventNativeListener.onNativeAdLoaded(new PangleNativeAd(ad));
-                            }
+                            mCustomEventNativeListener.onNativeAdLoaded(new PangleNativeAd(ads.get(0)));
                         }
                     } else {
                         MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
@@ -149,6 +219,128 @@ public class PangleAdNative extends CustomEventNative {
         return mPlacementId;
     }
 
+    private int parseBatchSize(final String batchSize) {
+        if (TextUtils.isEmpty(batchSize)) {
+            return 1;
+        }
+
+        try {
+            return Math.max(1, Math.min(MAX_BATCH_SIZE, Integer.parseInt(batchSize)));
+        } catch (NumberFormatException e) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Ignoring invalid " +
+                    NATIVE_AD_BATCH_SIZE_KEY + " value: " + batchSize);
+            return 1;
+        }
+    }
+
+    /**
+     * Returns one TTAdNative for the whole app. It is created with the application context, so
+     * neither it nor the feed ads it loads, which may sit in sBufferedAds, hold an Activity.
+     */
+    @NonNull
+    private static TTAdNative getAdNative(@NonNull final TTAdManager adManager,
+                                          @NonNull final Context context) {
+        synchronized (sAdNativeLock) {
+            if (sAdNative == null || sAdNativeManager != adManager) {
+                sAdNative = adManager.createAdNative(context.getApplicationContext());
+                sAdNativeManager = adManager;
+            }
+
+            return sAdNative;
+        }
+    }
+
+    private static void bufferAds(@NonNull final String placementId,
+                                  @NonNull final List<TTFeedAd> ads) {
+        final long expiresAtMillis = SystemClock.elapsedRealtime() + BUFFERED_AD_EXPIRY_MILLIS;
+
+        synchronized (sBufferedAds) {
+            Deque<BufferedFeedAd> bufferedAds = sBufferedAds.get(placementId);
+
+            if (bufferedAds == null) {
+                bufferedAds = new ArrayDeque<>();
+                sBufferedAds.put(placementId, bufferedAds);
+            }
+
+            for (final TTFeedAd ad : ads) {
+                if (bufferedAds.size() >= MAX_BUFFERED_ADS_PER_PLACEMENT) {
+                    break;
+                }
+
+                bufferedAds.add(new BufferedFeedAd(ad, expiresAtMillis));
+            }
+
+            sweepExpiredBufferedAds();
+        }
+    }
+
+    /**
+     * Drops expired ads of every placement, so a placement that is never requested again does not
+     * keep its ads. Schedules the next sweep while anything is left. Must be called while holding
+     * sBufferedAds.
+     */
+    private static void sweepExpiredBufferedAds() {
+        final long now = SystemClock.elapsedRealtime();
+        long nextExpiryMillis = Long.MAX_VALUE;
+
+        final Iterator<Deque<BufferedFeedAd>> placements = sBufferedAds.values().iterator();
+        while (placements.hasNext()) {
+            final Deque<BufferedFeedAd> bufferedAds = placements.next();
+            final Iterator<BufferedFeedAd> iterator = bufferedAds.iterator();
+
+            while (iterator.hasNext()) {
+                final BufferedFeedAd bufferedAd = iterator.next();
+
+                if (bufferedAd.mExpiresAtMillis <= now) {
+                    iterator.remove();
+                } else {
+                    nextExpiryMillis = Math.min(nextExpiryMillis, bufferedAd.mExpiresAtMillis);
+                }
+            }
+
+            if (bufferedAds.isEmpty()) {
+                placements.remove();
+            }
+        }
+
+        if (nextExpiryMillis != Long.MAX_VALUE && !sBufferedAdsSweepScheduled) {
+            sBufferedAdsSweepScheduled = true;
+            sBufferedAdsHandler.postDelayed(sBufferedAdsSweep, nextExpiryMillis - now);
+        }
+    }
+
+    @Nullable
+    private static TTFeedAd takeBufferedAd(@NonNull final String placementId) {
+        synchronized (sBufferedAds) {
+            sweepExpiredBufferedAds();
+
+            final Deque<BufferedFeedAd> bufferedAds = sBufferedAds.get(placementId);
+
+            if (bufferedAds == null) {
+                return null;
+            }
+
+            final BufferedFeedAd bufferedAd = bufferedAds.poll();
+
+            if (bufferedAds.isEmpty()) {
+                sBufferedAds.remove(placementId);
+            }
+
+            return bufferedAd == null ? null : bufferedAd.mAd;
+        }
+    }
+
+    private static class BufferedFeedAd {
+        @NonNull
+        private final TTFeedAd mAd;
+        private final long mExpiresAtMillis;
+
+        BufferedFeedAd(@NonNull final TTFeedAd ad, final long expiresAtMillis) {
+            mAd = ad;
+            mExpiresAtMillis = expiresAtMillis;
+        }
+    }
+
 
     protected class PangleNativeAd extends BaseNativeAd implements TTNativeAd.AdInteractionListener {
 
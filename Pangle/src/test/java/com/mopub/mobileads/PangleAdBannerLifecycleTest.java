@@ -0,0 +1,113 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.bytedance.sdk.openadsdk.AdSlot;
+import com.bytedance.sdk.openadsdk.TTAdManager;
+import com.bytedance.sdk.openadsdk.TTAdNative;
+import com.bytedance.sdk.openadsdk.TTNativeExpressAd;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowTTAdSdk.class, instrumentedPackages = "com.bytedance.sdk.openadsdk")
+public class PangleAdBannerLifecycleTest {
+    private static final int LIFECYCLE_ITERATIONS = 1000;
+
+    @Test
+    public void repeatedLifecycles_shouldReportInOrderAndNotLeak() {
+        new AdapterLifecycleHarness<>(new AdapterLifecycleHarness.Driver<PangleAdBanner>() {
+            // Held for one lifecycle only, so the harness can check the adapter is released.
+            @Nullable
+            private TTAdNative mAdNative;
+            @Nullable
+            private TTNativeExpressAd.ExpressAdInteractionListener mInteractionListener;
+            @Nullable
+            private View mBannerView;
+
+            @NonNull
+            @Override
+            public PangleAdBanner createAdapter() {
+                final TTAdManager adManager = mock(TTAdManager.class);
+                mAdNative = mock(TTAdNative.class);
+                when(adManager.createAdNative(any(Context.class))).thenReturn(mAdNative);
+                ShadowTTAdSdk.setAdManager(adManager);
+
+                return new PangleAdBanner();
+            }
+
+            @NonNull
+            @Override
+            public AdData createAdData() {
+                final Map<String, String> extras = new HashMap<>();
+                extras.put(PangleAdapterConfiguration.AD_PLACEMENT_ID_EXTRA_KEY, "placement");
+
+                return new AdData.Builder().extras(extras).build();
+            }
+
+            @Override
+            public void completeLoad(@NonNull final PangleAdBanner adapter) {
+                final ArgumentCaptor<TTAdNative.NativeExpressAdListener> loadListenerCaptor =
+                        ArgumentCaptor.forClass(TTAdNative.NativeExpressAdListener.class);
+                verify(mAdNative).loadBannerExpressAd(any(AdSlot.class),
+                        loadListenerCaptor.capture());
+                mAdNative = null;
+                ShadowTTAdSdk.setAdManager(null);
+
+                final TTNativeExpressAd ad = mock(TTNativeExpressAd.class);
+                loadListenerCaptor.getValue().onNativeExpressAdLoad(Collections.singletonList(ad));
+
+                final ArgumentCaptor<TTNativeExpressAd.ExpressAdInteractionListener>
+                        interactionListenerCaptor = ArgumentCaptor.forClass(
+                        TTNativeExpressAd.ExpressAdInteractionListener.class);
+                verify(ad).setExpressInteractionListener(interactionListenerCaptor.capture());
+                verify(ad).render();
+
+                mInteractionListener = interactionListenerCaptor.getValue();
+                mBannerView = new View(ApplicationProvider.<Context>getApplicationContext());
+                mInteractionListener.onRenderSuccess(mBannerView, 320, 50);
+            }
+
+            @Override
+            public void show(@NonNull final PangleAdBanner adapter,
+                             @NonNull final Activity activity) {
+                mInteractionListener.onAdShow(mBannerView, 0);
+                mInteractionListener.onAdClicked(mBannerView, 0);
+
+                mInteractionListener = null;
+                mBannerView = null;
+            }
+
+            @NonNull
+            @Override
+            public List<String> getExpectedCallbacks() {
+                return Arrays.asList("onAdLoaded", "onAdShown", "onAdImpression", "onAdClicked");
+            }
+        }).run(LIFECYCLE_ITERATIONS);
+    }
+}
@@ -0,0 +1,127 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.bytedance.sdk.openadsdk.AdSlot;
+import com.bytedance.sdk.openadsdk.TTAdManager;
+import com.bytedance.sdk.openadsdk.TTAdNative;
+import com.bytedance.sdk.openadsdk.TTNativeExpressAd;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts many Pangle banner loads before any of them completes, and checks that no load sees
+ * another one's placement or listener.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowTTAdSdk.class, instrumentedPackages = "com.bytedance.sdk.openadsdk")
+public class PangleAdBannerTest {
+    private static final int CONCURRENT_LOADS = 50;
+
+    private PangleAdBanner[] mAdapters;
+    private AdLifecycleListener.LoadListener[] mLoadListeners;
+    private List<AdSlot> mAdSlots;
+    private List<TTAdNative.NativeExpressAdListener> mPangleListeners;
+
+    @Before
+    public void setUp() {
+        final Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        final TTAdManager adManager = mock(TTAdManager.class);
+        final TTAdNative adNative = mock(TTAdNative.class);
+        when(adManager.createAdNative(any(Context.class))).thenReturn(adNative);
+        ShadowTTAdSdk.setAdManager(adManager);
+
+        mAdapters = new PangleAdBanner[CONCURRENT_LOADS];
+        mLoadListeners = new AdLifecycleListener.LoadListener[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            mAdapters[i] = new PangleAdBanner();
+            mLoadListeners[i] = mock(AdLifecycleListener.LoadListener.class);
+            mAdapters[i].mLoadListener = mLoadListeners[i];
+            mAdapters[i].load(activity, adData(placementId(i)));
+        }
+
+        final ArgumentCaptor<AdSlot> adSlotCaptor = ArgumentCaptor.forClass(AdSlot.class);
+        final ArgumentCaptor<TTAdNative.NativeExpressAdListener> listenerCaptor =
+                ArgumentCaptor.forClass(TTAdNative.NativeExpressAdListener.class);
+        verify(adNative, times(CONCURRENT_LOADS)).loadBannerExpressAd(adSlotCaptor.capture(),
+                listenerCaptor.capture());
+        mAdSlots = adSlotCaptor.getAllValues();
+        mPangleListeners = listenerCaptor.getAllValues();
+    }
+
+    @Test
+    public void load_withInterleavedLoads_shouldRequestAndKeepEachPlacement() {
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            assertEquals(placementId(i), mAdSlots.get(i).getCodeId());
+            assertEquals(placementId(i), mAdapters[i].getAdNetworkId());
+        }
+    }
+
+    @Test
+    public void onError_inReverseOrder_shouldFailEachLoadOnce() {
+        for (int i = CONCURRENT_LOADS - 1; i >= 0; i--) {
+            mPangleListeners.get(i).onError(PangleAdapterConfiguration.NO_AD, "No ad");
+        }
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            verify(mLoadListeners[i]).onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+            verifyNoMoreInteractions(mLoadListeners[i]);
+        }
+    }
+
+    @Test
+    public void onNativeExpressAdLoad_withInterleavedLoads_shouldOnlyRenderThatLoadsAd() {
+        final int loaded = CONCURRENT_LOADS / 2;
+        final TTNativeExpressAd ad = mock(TTNativeExpressAd.class);
+
+        mPangleListeners.get(loaded).onNativeExpressAdLoad(Collections.singletonList(ad));
+        mPangleListeners.get(loaded + 1).onError(PangleAdapterConfiguration.NO_AD, "No ad");
+
+        verify(ad).render();
+        verify(mLoadListeners[loaded], never()).onAdLoadFailed(any(MoPubErrorCode.class));
+        verify(mLoadListeners[loaded + 1]).onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            if (i != loaded && i != loaded + 1) {
+                verifyNoInteractions(mLoadListeners[i]);
+            }
+        }
+    }
+
+    private static String placementId(final int index) {
+        return "placement" + index;
+    }
+
+    private static AdData adData(final String placementId) {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put(PangleAdapterConfiguration.AD_PLACEMENT_ID_EXTRA_KEY, placementId);
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
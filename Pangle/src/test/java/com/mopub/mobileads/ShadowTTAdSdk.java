@@ -0,0 +1,38 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import androidx.annotation.Nullable;
+
+import com.bytedance.sdk.openadsdk.TTAdManager;
+import com.bytedance.sdk.openadsdk.TTAdSdk;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.annotation.Resetter;
+
+/**
+ * Hands out the ad manager a test provides in place of Pangle's.
+ */
+@Implements(TTAdSdk.class)
+public class ShadowTTAdSdk {
+    @Nullable
+    private static TTAdManager sAdManager;
+
+    @Implementation
+    @Nullable
+    protected static TTAdManager getAdManager() {
+        return sAdManager;
+    }
+
+    static void setAdManager(@Nullable final TTAdManager adManager) {
+        sAdManager = adManager;
+    }
+
+    @Resetter
+    public static void reset() {
+        sAdManager = null;
+    }
+}
@@ -10,7 +10,6 @@ import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -29,7 +28,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THRO
  * <p>
  * Future MoPub adapter implementations may refer to the implementation here for best practices.
  */
-public class ReferenceAdapterConfiguration extends BaseAdapterConfiguration {
+public class ReferenceAdapterConfiguration extends CachingAdapterConfiguration {
 
     // Declare any global constants/keys needed by the adapter here for readability. Ensure you
     // are alphabetizing and grouping your constants based on names and visibility identifiers.
@@ -14,6 +14,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.referencenetwork.BuildConfig;
 import com.mopub.sdk.ReferenceFullScreenAd;
 
 import java.util.Map;
@@ -115,6 +116,17 @@ public class ReferenceFullscreenAdapter extends BaseAd
             mAdUnitId = extras.get("adUnitId");
             mIsRewarded = Boolean.parseBoolean(extras.get("isRewarded"));
 
+            /*
+             * Fail the load if the network SDK does not report a result in time, instead of
+             * holding on to this adapter until MoPub's own timeout fires. Stop watching in
+             * onInvalidate().
+             */
+            final LoadWatchdog.Format format = mIsRewarded
+                    ? LoadWatchdog.Format.REWARDED
+                    : LoadWatchdog.Format.INTERSTITIAL;
+            mLoadListener = LoadWatchdog.watch(context, mLoadListener, format,
+                    BuildConfig.NETWORK_NAME, adData);
+
             mReferenceAdapterConfiguration.setCachedInitializationParameters(context, extras);
         } else {
             failAdRequest("Reference fullscreen ad failed to load because no data is provided " +
@@ -152,6 +164,8 @@ public class ReferenceFullscreenAdapter extends BaseAd
      */
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mFullScreenAd != null) {
             mFullScreenAd.destroy();
             mFullScreenAd = null;
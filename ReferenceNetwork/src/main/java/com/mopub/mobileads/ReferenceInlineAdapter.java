@@ -14,6 +14,7 @@ import androidx.annotation.Nullable;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.referencenetwork.BuildConfig;
 import com.mopub.sdk.ReferenceInlineAd;
 
 import java.util.Map;
@@ -74,6 +75,9 @@ public class ReferenceInlineAdapter extends BaseAd
      */
     @Override
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         // It is recommended to fail fast if required parameters are invalid
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
@@ -134,6 +138,8 @@ public class ReferenceInlineAdapter extends BaseAd
      */
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mInlineAd != null) {
             mInlineAd.destroy();
             mInlineAd = null;
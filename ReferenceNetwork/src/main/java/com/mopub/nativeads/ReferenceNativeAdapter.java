@@ -12,7 +12,9 @@ import androidx.annotation.Nullable;
 
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.LoadWatchdog;
 import com.mopub.mobileads.ReferenceAdapterConfiguration;
+import com.mopub.mobileads.referencenetwork.BuildConfig;
 import com.mopub.sdk.ReferenceNativeAdBase;
 
 import java.util.Map;
@@ -38,8 +40,7 @@ public class ReferenceNativeAdapter extends CustomEventNative {
     private static final String ADAPTER_NAME = ReferenceNativeAdapter.class.getSimpleName();
     private static final String AD_UNIT_ID_KEY = "mAdUnitId";
 
-    private static String mAdUnitId;
-    private static CustomEventNativeListener mCustomEventNativeListener;
+    private String mAdUnitId;
 
     @NonNull
     private final ReferenceAdapterConfiguration mReferenceAdapterConfiguration;
@@ -66,7 +67,7 @@ public class ReferenceNativeAdapter extends CustomEventNative {
      */
     @Override
     protected void loadNativeAd(@NonNull final Context context,
-                                @NonNull final CustomEventNativeListener customEventNativeListener,
+                                @NonNull CustomEventNativeListener customEventNativeListener,
                                 @NonNull final Map<String, Object> localExtras,
                                 @NonNull final Map<String, String> serverExtras) {
 
@@ -76,6 +77,9 @@ public class ReferenceNativeAdapter extends CustomEventNative {
         Preconditions.checkNotNull(localExtras);
         Preconditions.checkNotNull(serverExtras);
 
+        customEventNativeListener = LoadWatchdog.watch(context, customEventNativeListener,
+                BuildConfig.NETWORK_NAME, serverExtras.get(AD_UNIT_ID_KEY), serverExtras);
+
         /*
          * serverExtras contains network-specific data that you have entered on the MoPub dashboard.
          * Parse for the data needed by the network SDK to request ads and handle the ad experience.
@@ -91,26 +95,37 @@ public class ReferenceNativeAdapter extends CustomEventNative {
         }
 
         final ReferenceNativeAd referenceNativeAd = new ReferenceNativeAd(new ReferenceNativeAdBase(context),
-                customEventNativeListener);
+                customEventNativeListener, getAdNetworkId());
 
         referenceNativeAd.loadAd();
     }
 
-    private static String getAdNetworkId() {
+    private String getAdNetworkId() {
         return mAdUnitId == null ? "" : mAdUnitId;
     }
 
     public static class ReferenceNativeAd extends BaseNativeAd implements ReferenceNativeAdBase.ReferenceNativeAdListener {
         private ReferenceNativeAdBase mNativeAd;
+        private CustomEventNativeListener mCustomEventNativeListener;
+
+        @NonNull
+        private final String mAdUnitId;
 
         ReferenceNativeAd(final ReferenceNativeAdBase nativeAd,
-                          final CustomEventNativeListener customEventNativeListener) {
+                          final CustomEventNativeListener customEventNativeListener,
+                          @NonNull final String adUnitId) {
             mNativeAd = nativeAd;
             mCustomEventNativeListener = customEventNativeListener;
+            mAdUnitId = adUnitId;
 
             mNativeAd.setAdListener(this);
         }
 
+        @NonNull
+        private String getAdNetworkId() {
+            return mAdUnitId;
+        }
+
         void loadAd() {
             mNativeAd.loadAd();
             MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
@@ -206,6 +221,11 @@ public class ReferenceNativeAdapter extends CustomEventNative {
          */
         @Override
         public void prepare(@NonNull View view) {
+            Preconditions.checkNotNull(view);
+
+            if (mNativeAd != null) {
+                mNativeAd.registerViewForInteraction(view);
+            }
         }
 
         /**
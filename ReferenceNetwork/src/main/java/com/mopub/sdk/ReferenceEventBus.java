@@ -0,0 +1,90 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A simple network SDK implementation that works with the reference adapters.
+ * <p>
+ * Relays fullscreen ad events from {@link ReferenceFullScreenActivity} to the listener of the ad
+ * that launched it. Listeners are looked up by broadcast identifier, so posting an event costs
+ * the same however many ads are live, and a listener is dropped once its ad is dismissed.
+ * <p>
+ * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
+ */
+public final class ReferenceEventBus {
+    private static final Map<Long, ReferenceFullScreenAd.ReferenceFullScreenAdListener> sListeners =
+            new HashMap<>();
+
+    private ReferenceEventBus() {
+    }
+
+    public static void register(final long broadcastIdentifier,
+                                @NonNull final ReferenceFullScreenAd.ReferenceFullScreenAdListener listener) {
+        Preconditions.checkNotNull(listener);
+
+        synchronized (sListeners) {
+            sListeners.put(broadcastIdentifier, listener);
+        }
+    }
+
+    public static void unregister(final long broadcastIdentifier) {
+        synchronized (sListeners) {
+            sListeners.remove(broadcastIdentifier);
+        }
+    }
+
+    /**
+     * @param action one of the {@link ReferenceIntentActions} constants.
+     */
+    public static void post(final long broadcastIdentifier, @NonNull final String action) {
+        Preconditions.checkNotNull(action);
+
+        final boolean isDismiss = ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS.equals(action);
+        final ReferenceFullScreenAd.ReferenceFullScreenAdListener listener;
+
+        synchronized (sListeners) {
+            listener = isDismiss
+                    ? sListeners.remove(broadcastIdentifier)
+                    : sListeners.get(broadcastIdentifier);
+        }
+
+        dispatch(listener, action);
+    }
+
+    private static void dispatch(@Nullable final ReferenceFullScreenAd.ReferenceFullScreenAdListener listener,
+                                 @NonNull final String action) {
+        if (listener == null) {
+            return;
+        }
+
+        switch (action) {
+            case ReferenceIntentActions.ACTION_FULLSCREEN_FAIL:
+                listener.onFullScreenAdLoadFailed();
+                break;
+            case ReferenceIntentActions.ACTION_FULLSCREEN_SHOW:
+                listener.onFullScreenAdShown();
+                break;
+            case ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS:
+                listener.onFullScreenAdDismissed();
+                break;
+            case ReferenceIntentActions.ACTION_FULLSCREEN_CLICK:
+                listener.onFullScreenAdClicked();
+                break;
+            case ReferenceIntentActions.ACTION_REWARDED_AD_REWARD:
+                listener.onFullScreenAdRewarded();
+                break;
+            default:
+                break;
+        }
+    }
+}
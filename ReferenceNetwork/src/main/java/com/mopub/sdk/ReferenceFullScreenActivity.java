@@ -103,7 +103,7 @@ public class ReferenceFullScreenActivity extends Activity {
             });
         }
 
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_SHOW);
+        ReferenceEventBus.post(mBroadcastIdentifier, ACTION_FULLSCREEN_SHOW);
     }
 
     @Override
@@ -111,10 +111,10 @@ public class ReferenceFullScreenActivity extends Activity {
         super.onBackPressed();
 
         if (mIsAdRewarded) {
-            ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_REWARDED_AD_REWARD);
+            ReferenceEventBus.post(mBroadcastIdentifier, ACTION_REWARDED_AD_REWARD);
         }
 
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_DISMISS);
+        ReferenceEventBus.post(mBroadcastIdentifier, ACTION_FULLSCREEN_DISMISS);
 
         cleanUp();
     }
@@ -124,10 +124,10 @@ public class ReferenceFullScreenActivity extends Activity {
         super.onDestroy();
 
         if (mIsAdRewarded) {
-            ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_REWARDED_AD_REWARD);
+            ReferenceEventBus.post(mBroadcastIdentifier, ACTION_REWARDED_AD_REWARD);
         }
 
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_DISMISS);
+        ReferenceEventBus.post(mBroadcastIdentifier, ACTION_FULLSCREEN_DISMISS);
 
         cleanUp();
     }
@@ -145,7 +145,7 @@ public class ReferenceFullScreenActivity extends Activity {
     }
 
     private void performClick() {
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_CLICK);
+        ReferenceEventBus.post(mBroadcastIdentifier, ACTION_FULLSCREEN_CLICK);
 
         final Intent browserIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(CLICKTHROUGH_URL));
         browserIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
@@ -35,6 +35,10 @@ public class ReferenceFullScreenAd extends RelativeLayout {
     @Nullable
     private WebView mFullscreenAdContainer;
 
+    // Identifier the listener is registered under while the ad is showing, or null.
+    @Nullable
+    private Long mBroadcastIdentifier;
+
     public interface ReferenceFullScreenAdListener {
         void onFullScreenAdLoaded();
 
@@ -80,14 +84,22 @@ public class ReferenceFullScreenAd extends RelativeLayout {
             mFullscreenAdContainer.destroy();
             mFullscreenAdContainer = null;
         }
+
+        // The event bus only drops the listener on dismiss. Without this, an ad invalidated while
+        // its activity never reported a dismiss would stay reachable from the bus.
+        if (mBroadcastIdentifier != null) {
+            ReferenceEventBus.unregister(mBroadcastIdentifier);
+            mBroadcastIdentifier = null;
+        }
     }
 
     public void show() {
         long broadcastIdentifier = Utils.generateUniqueId();
-        final ReferenceEventForwardingBroadcastReceiver mBroadcastReceiver = new
-                ReferenceEventForwardingBroadcastReceiver(mListener, broadcastIdentifier);
 
-        mBroadcastReceiver.register(mBroadcastReceiver, mContext);
+        if (mListener != null) {
+            ReferenceEventBus.register(broadcastIdentifier, mListener);
+            mBroadcastIdentifier = broadcastIdentifier;
+        }
 
         final Intent fullScreenActivity = new Intent(mContext, ReferenceFullScreenActivity.class);
         fullScreenActivity.putExtra(ReferenceConstants.FULLSCREEN_MARKUP_KEY, mFullscreenAdMarkup);
@@ -12,7 +12,7 @@ package com.mopub.sdk;
 public class ReferenceIntentActions {
 
     /**
-     * IntentActions are used by a reference broadcast receiver to relay information about the
+     * IntentActions are posted to {@link ReferenceEventBus} to relay information about the
      * current state of a base ad activity.
      */
     public static final String ACTION_FULLSCREEN_FAIL = "com.mopub.sdk.action.fullscreen.fail";
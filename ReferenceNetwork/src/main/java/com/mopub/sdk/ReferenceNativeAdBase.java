@@ -15,7 +15,12 @@ import android.view.View;
 import android.view.ViewConfiguration;
 import android.view.ViewGroup;
 
-import java.util.Arrays;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
 
@@ -26,12 +31,50 @@ import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
  * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
  */
 public class ReferenceNativeAdBase extends Activity {
-    private final Context mContext;
-    private final String[] mNativeAdViewIds = {"native_main_image", "native_icon_image", "native_title",
+    private static final String NATIVE_MAIN_IMAGE_ID = "native_main_image";
+    private static final String[] NATIVE_AD_VIEW_IDS = {NATIVE_MAIN_IMAGE_ID, "native_icon_image", "native_title",
             "native_text", "native_sponsored_text_view", "native_cta", "native_privacy_information_icon_image"};
 
+    /**
+     * Resource IDs of {@link #NATIVE_AD_VIEW_IDS} per package, resolved once with getIdentifier().
+     */
+    private static final Map<String, NativeAdViewIds> sNativeAdViewIds = new HashMap<>();
+
+    private final Context mContext;
+
     private ReferenceNativeAdListener mListener;
 
+    @Nullable
+    private WeakReference<View> mAdViewReference;
+
+    private final View.OnTouchListener mClickTouchListener = new View.OnTouchListener() {
+        long startTime = 0;
+
+        @SuppressLint("ClickableViewAccessibility")
+        @Override
+        public boolean onTouch(View v, MotionEvent event) {
+            if (event.getAction() == MotionEvent.ACTION_DOWN) {
+                startTime = System.currentTimeMillis();
+            }
+
+            if (event.getAction() == MotionEvent.ACTION_UP) {
+                // So that we don't track clicks when swiping on the view
+                if (System.currentTimeMillis() - startTime < ViewConfiguration.getTapTimeout()) {
+                    if (mListener != null) {
+                        mListener.onAdClicked();
+                    }
+
+                    final Intent browserIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(CLICKTHROUGH_URL));
+                    browserIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+
+                    mContext.startActivity(browserIntent);
+                }
+            }
+
+            return true;
+        }
+    };
+
     public ReferenceNativeAdBase(Context context) {
         mContext = context;
     }
@@ -50,6 +93,14 @@ public class ReferenceNativeAdBase extends Activity {
         this.mListener = listener;
     }
 
+    /**
+     * Sets the view the native ad is rendered into. Impression and click tracking only look at
+     * this view's hierarchy.
+     */
+    public void registerViewForInteraction(@NonNull final View adView) {
+        mAdViewReference = new WeakReference<>(adView);
+    }
+
     public void loadAd() {
         final Handler handler = new Handler();
         handler.postDelayed(new Runnable() {
@@ -62,13 +113,18 @@ public class ReferenceNativeAdBase extends Activity {
                     handler.postDelayed(new Runnable() {
                         @Override
                         public void run() {
-                            if (mContext instanceof Activity) {
+                            final View adView = mAdViewReference != null ?
+                                    mAdViewReference.get() : null;
+
+                            // Assuming the ad is immediately shown, attempt to track impression
+                            // and attach click listeners 1000ms after the native ad has loaded
+                            if (adView != null) {
+                                trackImpressionAndClick(adView);
+                            } else if (mContext instanceof Activity) {
                                 final Activity activity = (Activity) mContext;
                                 final ViewGroup vg = activity.getWindow().getDecorView().
                                         findViewById(android.R.id.content);
 
-                                // Assuming the ad is immediately shown, attempt to track impression
-                                // and attach click listeners 1000ms after the native ad has loaded
                                 trackImpressionAndClick(vg);
                             }
                         }
@@ -78,55 +134,23 @@ public class ReferenceNativeAdBase extends Activity {
         }, 500);
     }
 
-    public void trackImpressionAndClick(ViewGroup parent) {
-        for (int i = 0; i < parent.getChildCount(); i++) {
-            final View view = parent.getChildAt(i);
+    public void trackImpressionAndClick(@NonNull final View adView) {
+        final NativeAdViewIds nativeAdViewIds = NativeAdViewIds.forContext(adView.getContext());
 
-            if (view instanceof ViewGroup) {
-                trackImpressionAndClick((ViewGroup) view);
-            } else {
-                if (view.getId() != View.NO_ID) {
-                    String id = view.getResources().getResourceName(view.getId());
-                    id = id.substring(id.indexOf('/') + 1);
+        for (final int viewId : nativeAdViewIds.mViewIds) {
+            final View view = adView.findViewById(viewId);
 
-                    // A view has an ID matching one of the IDs from the native ad layout
-                    if (Arrays.asList(mNativeAdViewIds).contains(id)) {
-                        if (id.equals("native_main_image") && view.getVisibility() == View.VISIBLE) {
-                            if (mListener != null) {
-                                mListener.onAdImpression();
-                            }
-                        }
-
-                        view.setOnTouchListener(new View.OnTouchListener() {
-                            long startTime = 0;
-
-                            @SuppressLint("ClickableViewAccessibility")
-                            @Override
-                            public boolean onTouch(View v, MotionEvent event) {
-                                if (event.getAction() == MotionEvent.ACTION_DOWN) {
-                                    startTime = System.currentTimeMillis();
-                                }
-
-                                if (event.getAction() == MotionEvent.ACTION_UP) {
-                                    // So that we don't track clicks when swiping on the view
-                                    if (System.currentTimeMillis() - startTime < ViewConfiguration.getTapTimeout()) {
-                                        if (mListener != null) {
-                                            mListener.onAdClicked();
-                                        }
-
-                                        final Intent browserIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(CLICKTHROUGH_URL));
-                                        browserIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
-
-                                        mContext.startActivity(browserIntent);
-                                    }
-                                }
+            if (view == null) {
+                continue;
+            }
 
-                                return true;
-                            }
-                        });
-                    }
+            if (viewId == nativeAdViewIds.mMainImageId && view.getVisibility() == View.VISIBLE) {
+                if (mListener != null) {
+                    mListener.onAdImpression();
                 }
             }
+
+            view.setOnTouchListener(mClickTouchListener);
         }
     }
 
@@ -165,4 +189,60 @@ public class ReferenceNativeAdBase extends Activity {
     public void destroy() {
         mListener = null;
     }
+
+    /**
+     * The native ad view IDs that exist in a package, mapped to their resource IDs.
+     */
+    private static class NativeAdViewIds {
+        private final int[] mViewIds;
+        private final int mMainImageId;
+
+        private NativeAdViewIds(final int[] viewIds, final int mainImageId) {
+            mViewIds = viewIds;
+            mMainImageId = mainImageId;
+        }
+
+        @NonNull
+        static NativeAdViewIds forContext(@NonNull final Context context) {
+            final String packageName = context.getPackageName();
+
+            synchronized (sNativeAdViewIds) {
+                NativeAdViewIds nativeAdViewIds = sNativeAdViewIds.get(packageName);
+
+                if (nativeAdViewIds == null) {
+                    nativeAdViewIds = resolve(context, packageName);
+                    sNativeAdViewIds.put(packageName, nativeAdViewIds);
+                }
+
+                return nativeAdViewIds;
+            }
+        }
+
+        @NonNull
+        private static NativeAdViewIds resolve(@NonNull final Context context,
+                                               @NonNull final String packageName) {
+            final int[] resolvedIds = new int[NATIVE_AD_VIEW_IDS.length];
+            int count = 0;
+            int mainImageId = View.NO_ID;
+
+            for (final String name : NATIVE_AD_VIEW_IDS) {
+                final int id = context.getResources().getIdentifier(name, "id", packageName);
+
+                if (id == 0) {
+                    continue;
+                }
+
+                resolvedIds[count++] = id;
+
+                if (NATIVE_MAIN_IMAGE_ID.equals(name)) {
+                    mainImageId = id;
+                }
+            }
+
+            final int[] viewIds = new int[count];
+            System.arraycopy(resolvedIds, 0, viewIds, 0, count);
+
+            return new NativeAdViewIds(viewIds, mainImageId);
+        }
+    }
 }
@@ -0,0 +1,125 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.content.Intent;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import com.mopub.sdk.ReferenceConstants;
+import com.mopub.sdk.ReferenceEventBus;
+import com.mopub.sdk.ReferenceIntentActions;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotNull;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReferenceAdapterLifecycleTest {
+    private static final int LIFECYCLE_ITERATIONS = 1000;
+    // The reference inline ad reports its impression 500ms after loading.
+    private static final Duration IMPRESSION_DELAY = Duration.ofSeconds(1);
+
+    @Test
+    public void fullscreenAdapter_repeatedLifecycles_shouldReportInOrderAndNotLeak() {
+        new AdapterLifecycleHarness<>(new AdapterLifecycleHarness.Driver<ReferenceFullscreenAdapter>() {
+            @NonNull
+            @Override
+            public ReferenceFullscreenAdapter createAdapter() {
+                return new ReferenceFullscreenAdapter();
+            }
+
+            @NonNull
+            @Override
+            public AdData createAdData() {
+                return adData();
+            }
+
+            @Override
+            public void completeLoad(@NonNull final ReferenceFullscreenAdapter adapter) {
+                // The reference SDK loads fullscreen ads synchronously.
+            }
+
+            @Override
+            public void show(@NonNull final ReferenceFullscreenAdapter adapter,
+                             @NonNull final Activity activity) {
+                adapter.show();
+
+                final Intent intent = shadowOf(activity).getNextStartedActivity();
+                assertNotNull(intent);
+                final long broadcastIdentifier =
+                        intent.getLongExtra(ReferenceConstants.BROADCAST_IDENTIFIER_KEY, -1);
+
+                ReferenceEventBus.post(broadcastIdentifier,
+                        ReferenceIntentActions.ACTION_FULLSCREEN_SHOW);
+                ReferenceEventBus.post(broadcastIdentifier,
+                        ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+                ReferenceEventBus.post(broadcastIdentifier,
+                        ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS);
+            }
+
+            @NonNull
+            @Override
+            public List<String> getExpectedCallbacks() {
+                return Arrays.asList("onAdLoaded", "onAdShown", "onAdImpression", "onAdClicked",
+                        "onAdDismissed");
+            }
+        }).watchStatics(ReferenceEventBus.class).run(LIFECYCLE_ITERATIONS);
+    }
+
+    @Test
+    public void inlineAdapter_repeatedLifecycles_shouldReportInOrderAndNotLeak() {
+        new AdapterLifecycleHarness<>(new AdapterLifecycleHarness.Driver<ReferenceInlineAdapter>() {
+            @NonNull
+            @Override
+            public ReferenceInlineAdapter createAdapter() {
+                return new ReferenceInlineAdapter();
+            }
+
+            @NonNull
+            @Override
+            public AdData createAdData() {
+                return adData();
+            }
+
+            @Override
+            public void completeLoad(@NonNull final ReferenceInlineAdapter adapter) {
+                // The reference SDK loads inline ads synchronously.
+            }
+
+            @Override
+            public void show(@NonNull final ReferenceInlineAdapter adapter,
+                             @NonNull final Activity activity) {
+                assertNotNull(adapter.getAdView());
+                shadowOf(Looper.getMainLooper()).idleFor(IMPRESSION_DELAY);
+            }
+
+            @NonNull
+            @Override
+            public List<String> getExpectedCallbacks() {
+                return Arrays.asList("onAdLoaded", "onAdImpression");
+            }
+        }).run(LIFECYCLE_ITERATIONS);
+    }
+
+    private static AdData adData() {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put("adUnitId", "adUnit");
+        extras.put("isRewarded", "false");
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
@@ -0,0 +1,149 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.content.Intent;
+import android.os.Looper;
+import android.view.View;
+
+import com.mopub.sdk.ReferenceConstants;
+import com.mopub.sdk.ReferenceEventBus;
+import com.mopub.sdk.ReferenceIntentActions;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Loads, shows and invalidates reference ads many times, each in its own Activity, and checks
+ * that no adapter, Activity or ad View is still reachable once the ad has been invalidated.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ReferenceAdapterRetentionTest {
+    private static final int LIFECYCLE_ITERATIONS = 50;
+    // Longer than any callback the reference SDK posts after a load.
+    private static final Duration PENDING_CALLBACKS_DELAY = Duration.ofSeconds(2);
+
+    private RetentionProbe mProbe;
+
+    @Before
+    public void setUp() {
+        mProbe = new RetentionProbe();
+    }
+
+    @Test
+    public void fullscreenAdapter_afterDismissAndInvalidate_shouldNotRetainAdOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runFullscreenLifecycle(i, true, true);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void fullscreenAdapter_withInvalidateWhileShowing_shouldNotRetainAdOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runFullscreenLifecycle(i, true, false);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void fullscreenAdapter_withInvalidateBeforeShow_shouldNotRetainAdOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runFullscreenLifecycle(i, false, false);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void inlineAdapter_afterInvalidate_shouldNotRetainAdViewOrActivity() {
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            runInlineLifecycle(i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    private void runFullscreenLifecycle(final int iteration, final boolean show,
+                                        final boolean dismiss) {
+        final ActivityController<Activity> activityController =
+                Robolectric.buildActivity(Activity.class).create();
+        final Activity activity = activityController.get();
+        final ReferenceFullscreenAdapter adapter = new ReferenceFullscreenAdapter();
+
+        adapter.mLoadListener = mock(AdLifecycleListener.LoadListener.class);
+        adapter.load(activity, adData());
+
+        if (show) {
+            adapter.mInteractionListener = mock(AdLifecycleListener.InteractionListener.class);
+            adapter.show();
+
+            final Intent intent = shadowOf(activity).getNextStartedActivity();
+            assertNotNull(intent);
+            final long broadcastIdentifier =
+                    intent.getLongExtra(ReferenceConstants.BROADCAST_IDENTIFIER_KEY, -1);
+
+            ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_SHOW);
+            if (dismiss) {
+                ReferenceEventBus.post(broadcastIdentifier,
+                        ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS);
+            }
+        }
+
+        adapter.onInvalidate();
+        activityController.destroy();
+        shadowOf(Looper.getMainLooper()).idleFor(PENDING_CALLBACKS_DELAY);
+
+        mProbe.track(adapter, "ReferenceFullscreenAdapter #" + iteration);
+        mProbe.track(activity, "Activity #" + iteration);
+    }
+
+    private void runInlineLifecycle(final int iteration) {
+        final ActivityController<Activity> activityController =
+                Robolectric.buildActivity(Activity.class).create();
+        final Activity activity = activityController.get();
+        final ReferenceInlineAdapter adapter = new ReferenceInlineAdapter();
+
+        adapter.mLoadListener = mock(AdLifecycleListener.LoadListener.class);
+        adapter.load(activity, adData());
+        adapter.mInteractionListener = mock(AdLifecycleListener.InteractionListener.class);
+
+        final View adView = adapter.getAdView();
+        assertNotNull(adView);
+        // The impression is reported a little after the load, while the ad is on screen.
+        shadowOf(Looper.getMainLooper()).idleFor(PENDING_CALLBACKS_DELAY);
+
+        adapter.onInvalidate();
+        activityController.destroy();
+        shadowOf(Looper.getMainLooper()).idleFor(PENDING_CALLBACKS_DELAY);
+
+        mProbe.track(adapter, "ReferenceInlineAdapter #" + iteration);
+        mProbe.track(adView, "inline ad View #" + iteration);
+        mProbe.track(activity, "Activity #" + iteration);
+    }
+
+    private static AdData adData() {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put("adUnitId", "adUnit");
+        extras.put("isRewarded", "false");
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
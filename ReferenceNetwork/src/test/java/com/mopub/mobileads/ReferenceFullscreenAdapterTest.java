@@ -0,0 +1,168 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+import android.content.Intent;
+
+import com.mopub.common.MoPubReward;
+import com.mopub.sdk.ReferenceConstants;
+import com.mopub.sdk.ReferenceEventBus;
+import com.mopub.sdk.ReferenceFullScreenActivity;
+import com.mopub.sdk.ReferenceIntentActions;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReferenceFullscreenAdapterTest {
+    private static final int LIFECYCLE_ITERATIONS = 1000;
+
+    private Activity mActivity;
+    private AdLifecycleListener.LoadListener mLoadListener;
+    private AdLifecycleListener.InteractionListener mInteractionListener;
+    private ReferenceFullscreenAdapter mSubject;
+
+    @Before
+    public void setUp() {
+        mActivity = Robolectric.buildActivity(Activity.class).create().get();
+        mLoadListener = mock(AdLifecycleListener.LoadListener.class);
+        mInteractionListener = mock(AdLifecycleListener.InteractionListener.class);
+        mSubject = new ReferenceFullscreenAdapter();
+    }
+
+    @Test
+    public void load_withExtras_shouldReportLoaded() {
+        load(mSubject, mLoadListener, false);
+
+        verify(mLoadListener).onAdLoaded();
+        verify(mLoadListener, never()).onAdLoadFailed(any(MoPubErrorCode.class));
+        assertEquals("adUnit", mSubject.getAdNetworkId());
+    }
+
+    @Test
+    public void load_withEmptyExtras_shouldFailWithNoFill() {
+        mSubject.mLoadListener = mLoadListener;
+
+        mSubject.load(mActivity, new AdData.Builder().extras(new HashMap<String, String>()).build());
+
+        verify(mLoadListener).onAdLoadFailed(MoPubErrorCode.NO_FILL);
+        verify(mLoadListener, never()).onAdLoaded();
+    }
+
+    @Test
+    public void show_withRewardedAd_shouldForwardEventsInOrder_shouldStopAfterDismiss() {
+        load(mSubject, mLoadListener, true);
+
+        final long broadcastIdentifier = show(mSubject, mInteractionListener);
+        ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_SHOW);
+        ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+        ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_REWARDED_AD_REWARD);
+        ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS);
+        // The ad's listener was dropped on dismiss, so late events go nowhere.
+        ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+
+        final InOrder inOrder = inOrder(mInteractionListener);
+        inOrder.verify(mInteractionListener).onAdShown();
+        inOrder.verify(mInteractionListener).onAdImpression();
+        inOrder.verify(mInteractionListener).onAdClicked();
+        inOrder.verify(mInteractionListener).onAdComplete(any(MoPubReward.class));
+        inOrder.verify(mInteractionListener).onAdDismissed();
+        verifyNoMoreInteractions(mInteractionListener);
+    }
+
+    @Test
+    public void show_withInterstitialAd_shouldNotReward() {
+        load(mSubject, mLoadListener, false);
+
+        final long broadcastIdentifier = show(mSubject, mInteractionListener);
+        ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_REWARDED_AD_REWARD);
+
+        verify(mInteractionListener, never()).onAdComplete(any(MoPubReward.class));
+    }
+
+    @Test
+    public void show_afterInvalidate_shouldFailToShow() {
+        load(mSubject, mLoadListener, false);
+        mSubject.onInvalidate();
+
+        mSubject.mInteractionListener = mInteractionListener;
+        mSubject.show();
+
+        verify(mInteractionListener).onAdFailed(MoPubErrorCode.NO_FILL);
+        verify(mInteractionListener, never()).onAdShown();
+        assertNull(shadowOf(mActivity).getNextStartedActivity());
+    }
+
+    @Test
+    public void lifecycle_repeated_shouldReportEachAdOnce() {
+        final AdLifecycleListener.LoadListener loadListener =
+                mock(AdLifecycleListener.LoadListener.class);
+        final AdLifecycleListener.InteractionListener interactionListener =
+                mock(AdLifecycleListener.InteractionListener.class);
+
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final ReferenceFullscreenAdapter adapter = new ReferenceFullscreenAdapter();
+            load(adapter, loadListener, false);
+
+            final long broadcastIdentifier = show(adapter, interactionListener);
+            ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_SHOW);
+            ReferenceEventBus.post(broadcastIdentifier, ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS);
+
+            adapter.onInvalidate();
+        }
+
+        verify(loadListener, times(LIFECYCLE_ITERATIONS)).onAdLoaded();
+        verify(interactionListener, times(LIFECYCLE_ITERATIONS)).onAdShown();
+        verify(interactionListener, times(LIFECYCLE_ITERATIONS)).onAdImpression();
+        verify(interactionListener, times(LIFECYCLE_ITERATIONS)).onAdDismissed();
+        verify(interactionListener, never()).onAdFailed(any(MoPubErrorCode.class));
+    }
+
+    private void load(final ReferenceFullscreenAdapter adapter,
+                      final AdLifecycleListener.LoadListener loadListener,
+                      final boolean isRewarded) {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put("adUnitId", "adUnit");
+        extras.put("isRewarded", String.valueOf(isRewarded));
+
+        adapter.mLoadListener = loadListener;
+        adapter.load(mActivity, new AdData.Builder().extras(extras).build());
+    }
+
+    /**
+     * Shows the ad and returns the broadcast identifier its fullscreen activity was started with.
+     */
+    private long show(final ReferenceFullscreenAdapter adapter,
+                      final AdLifecycleListener.InteractionListener interactionListener) {
+        adapter.mInteractionListener = interactionListener;
+        adapter.show();
+
+        final Intent intent = shadowOf(mActivity).getNextStartedActivity();
+        assertNotNull(intent);
+        assertEquals(ReferenceFullScreenActivity.class.getName(), intent.getComponent().getClassName());
+
+        return intent.getLongExtra(ReferenceConstants.BROADCAST_IDENTIFIER_KEY, -1);
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.nativeads;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Looper;
+import android.view.View;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.mopub.mobileads.RetentionProbe;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Starts many reference native loads before any of them completes, the way several MoPubNative
+ * requests interleave on the main thread, and checks that no load sees another one's state.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ReferenceNativeAdapterTest {
+    private static final int CONCURRENT_LOADS = 200;
+    // ReferenceNativeAdBase reports a fill after this long.
+    private static final Duration LOAD_DELAY = Duration.ofMillis(500);
+    // ReferenceNativeAdBase tracks the impression this long after the fill.
+    private static final Duration IMPRESSION_DELAY = Duration.ofMillis(1000);
+    private static final int LIFECYCLE_ITERATIONS = 50;
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+    }
+
+    @Test
+    public void loadNativeAd_withInterleavedLoads_shouldDeliverEachAdToItsOwnListener() {
+        final CustomEventNative.CustomEventNativeListener[] listeners =
+                new CustomEventNative.CustomEventNativeListener[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            listeners[i] = mock(CustomEventNative.CustomEventNativeListener.class);
+            new ReferenceNativeAdapter().loadNativeAd(mContext, listeners[i],
+                    new HashMap<String, Object>(), serverExtras("adUnit" + i));
+        }
+
+        shadowOf(Looper.getMainLooper()).idleFor(LOAD_DELAY);
+
+        final Set<BaseNativeAd> ads = Collections.newSetFromMap(new IdentityHashMap<BaseNativeAd, Boolean>());
+        for (final CustomEventNative.CustomEventNativeListener listener : listeners) {
+            final ArgumentCaptor<BaseNativeAd> adCaptor = ArgumentCaptor.forClass(BaseNativeAd.class);
+            verify(listener).onNativeAdLoaded(adCaptor.capture());
+            verify(listener, never()).onNativeAdFailed(any(NativeErrorCode.class));
+            ads.add(adCaptor.getValue());
+        }
+
+        assertEquals(CONCURRENT_LOADS, ads.size());
+    }
+
+    @Test
+    public void loadNativeAd_withFailingLoadAmongPendingLoads_shouldOnlyFailThatLoad() {
+        final CustomEventNative.CustomEventNativeListener pendingListener =
+                mock(CustomEventNative.CustomEventNativeListener.class);
+        final CustomEventNative.CustomEventNativeListener failingListener =
+                mock(CustomEventNative.CustomEventNativeListener.class);
+
+        new ReferenceNativeAdapter().loadNativeAd(mContext, pendingListener,
+                new HashMap<String, Object>(), serverExtras("adUnit"));
+        new ReferenceNativeAdapter().loadNativeAd(mContext, failingListener,
+                new HashMap<String, Object>(), new HashMap<String, String>());
+
+        verify(failingListener).onNativeAdFailed(NativeErrorCode.NETWORK_NO_FILL);
+        verifyNoInteractions(pendingListener);
+
+        shadowOf(Looper.getMainLooper()).idleFor(LOAD_DELAY);
+
+        verify(pendingListener).onNativeAdLoaded(any(BaseNativeAd.class));
+        verify(failingListener, never()).onNativeAdLoaded(any(BaseNativeAd.class));
+    }
+
+    @Test
+    public void onAdImpression_withSeveralLoadedAds_shouldOnlyNotifyThatAd() {
+        final ReferenceNativeAdapter.ReferenceNativeAd[] ads =
+                new ReferenceNativeAdapter.ReferenceNativeAd[CONCURRENT_LOADS];
+        final BaseNativeAd.NativeEventListener[] eventListeners =
+                new BaseNativeAd.NativeEventListener[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            final CustomEventNative.CustomEventNativeListener listener =
+                    mock(CustomEventNative.CustomEventNativeListener.class);
+            new ReferenceNativeAdapter().loadNativeAd(mContext, listener,
+                    new HashMap<String, Object>(), serverExtras("adUnit" + i));
+            shadowOf(Looper.getMainLooper()).idleFor(LOAD_DELAY);
+
+            final ArgumentCaptor<BaseNativeAd> adCaptor = ArgumentCaptor.forClass(BaseNativeAd.class);
+            verify(listener).onNativeAdLoaded(adCaptor.capture());
+            ads[i] = (ReferenceNativeAdapter.ReferenceNativeAd) adCaptor.getValue();
+            eventListeners[i] = mock(BaseNativeAd.NativeEventListener.class);
+            ads[i].setNativeEventListener(eventListeners[i]);
+        }
+
+        final int impressed = CONCURRENT_LOADS / 2;
+        ads[impressed].onAdImpression();
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            if (i == impressed) {
+                verify(eventListeners[i]).onAdImpressed();
+            } else {
+                verifyNoInteractions(eventListeners[i]);
+            }
+        }
+    }
+
+    @Test
+    public void destroy_afterRepeatedLifecycles_shouldNotRetainAdViewOrActivity() {
+        final RetentionProbe probe = new RetentionProbe();
+
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final ActivityController<Activity> activityController =
+                    Robolectric.buildActivity(Activity.class).create();
+            final Activity activity = activityController.get();
+            final CustomEventNative.CustomEventNativeListener listener =
+                    mock(CustomEventNative.CustomEventNativeListener.class);
+
+            new ReferenceNativeAdapter().loadNativeAd(activity, listener,
+                    new HashMap<String, Object>(), serverExtras("adUnit" + i));
+            shadowOf(Looper.getMainLooper()).idleFor(LOAD_DELAY);
+
+            final ArgumentCaptor<BaseNativeAd> adCaptor = ArgumentCaptor.forClass(BaseNativeAd.class);
+            verify(listener).onNativeAdLoaded(adCaptor.capture());
+            final BaseNativeAd ad = adCaptor.getValue();
+            final View adView = new View(activity);
+            ad.setNativeEventListener(mock(BaseNativeAd.NativeEventListener.class));
+            ad.prepare(adView);
+            shadowOf(Looper.getMainLooper()).idleFor(IMPRESSION_DELAY);
+
+            ad.clear(adView);
+            ad.destroy();
+            activityController.destroy();
+
+            probe.track(ad, "ReferenceNativeAd #" + i);
+            probe.track(adView, "native ad View #" + i);
+            probe.track(activity, "Activity #" + i);
+            // Drop the recorded invocations, which hold on to the loaded ad.
+            reset(listener);
+        }
+
+        probe.assertAllCollected();
+    }
+
+    private static Map<String, String> serverExtras(final String adUnitId) {
+        final Map<String, String> serverExtras = new HashMap<>();
+        serverExtras.put("mAdUnitId", adUnitId);
+        return serverExtras;
+    }
+}
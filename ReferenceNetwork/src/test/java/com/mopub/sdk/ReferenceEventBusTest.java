@@ -0,0 +1,137 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.sdk;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReferenceEventBusTest {
+    private static final int MANY_LIVE_ADS = 1000;
+
+    private final List<Long> mRegisteredIdentifiers = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (final long broadcastIdentifier : mRegisteredIdentifiers) {
+            ReferenceEventBus.unregister(broadcastIdentifier);
+        }
+    }
+
+    @Test
+    public void post_shouldOnlyReachListenerWithSameIdentifier() {
+        final CountingListener first = register(1);
+        final CountingListener second = register(2);
+
+        ReferenceEventBus.post(1, ReferenceIntentActions.ACTION_FULLSCREEN_SHOW);
+        ReferenceEventBus.post(1, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+
+        assertEquals(1, first.mShown);
+        assertEquals(1, first.mClicked);
+        assertEquals(0, second.mShown);
+        assertEquals(0, second.mClicked);
+    }
+
+    @Test
+    public void post_withDismiss_shouldUnregisterListener() {
+        final CountingListener listener = register(1);
+
+        ReferenceEventBus.post(1, ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS);
+        ReferenceEventBus.post(1, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+
+        assertEquals(1, listener.mDismissed);
+        assertEquals(0, listener.mClicked);
+    }
+
+    @Test
+    public void post_withUnknownIdentifier_shouldDoNothing() {
+        final CountingListener listener = register(1);
+
+        ReferenceEventBus.post(2, ReferenceIntentActions.ACTION_FULLSCREEN_SHOW);
+
+        assertEquals(0, listener.mShown);
+    }
+
+    @Test
+    public void post_withManyLiveAds_shouldReachEachListenerOnce() {
+        final CountingListener[] listeners = new CountingListener[MANY_LIVE_ADS];
+        for (int i = 0; i < MANY_LIVE_ADS; i++) {
+            listeners[i] = register(i);
+        }
+
+        for (int i = 0; i < MANY_LIVE_ADS; i++) {
+            ReferenceEventBus.post(i, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+        }
+
+        for (final CountingListener listener : listeners) {
+            assertEquals(1, listener.mClicked);
+            assertEquals(0, listener.mShown);
+        }
+    }
+
+    @Test
+    public void unregister_shouldStopDeliveringOnlyToThatListener() {
+        final CountingListener first = register(1);
+        final CountingListener second = register(2);
+
+        ReferenceEventBus.unregister(1);
+        ReferenceEventBus.post(1, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+        ReferenceEventBus.post(2, ReferenceIntentActions.ACTION_FULLSCREEN_CLICK);
+
+        assertEquals(0, first.mClicked);
+        assertEquals(1, second.mClicked);
+    }
+
+    private CountingListener register(final long broadcastIdentifier) {
+        final CountingListener listener = new CountingListener();
+        ReferenceEventBus.register(broadcastIdentifier, listener);
+        mRegisteredIdentifiers.add(broadcastIdentifier);
+        return listener;
+    }
+
+    private static class CountingListener implements ReferenceFullScreenAd.ReferenceFullScreenAdListener {
+        int mShown;
+        int mClicked;
+        int mDismissed;
+
+        @Override
+        public void onFullScreenAdLoaded() {
+        }
+
+        @Override
+        public void onFullScreenAdLoadFailed() {
+        }
+
+        @Override
+        public void onFullScreenAdShowFailed() {
+        }
+
+        @Override
+        public void onFullScreenAdShown() {
+            mShown++;
+        }
+
+        @Override
+        public void onFullScreenAdClicked() {
+            mClicked++;
+        }
+
+        @Override
+        public void onFullScreenAdDismissed() {
+            mDismissed++;
+        }
+
+        @Override
+        public void onFullScreenAdRewarded() {
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.util.Views;
+import com.mopub.mobileads.snapaudiencenetwork.BuildConfig;
 import com.snap.adkit.external.BannerView;
 import com.snap.adkit.external.SnapAdClicked;
 import com.snap.adkit.external.SnapAdDismissed;
@@ -38,7 +39,7 @@ public class SnapAdBanner extends BaseAd {
     private static final String ADAPTER_NAME = SnapAdBanner.class.getSimpleName();
     private static final String SLOT_ID_KEY = "slotId";
 
-    private static String mSlotId;
+    private String mSlotId;
     private BannerView mBannerView;
 
     private final SnapAdAdapterConfiguration mSnapAdAdapterConfiguration;
@@ -64,6 +65,9 @@ public class SnapAdBanner extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         final Map<String, String> extras = adData.getExtras();
@@ -172,6 +176,8 @@ public class SnapAdBanner extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         Views.removeFromParent(mBannerView);
 
         if (mBannerView != null) {
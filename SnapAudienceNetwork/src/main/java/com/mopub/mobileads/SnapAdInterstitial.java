@@ -10,6 +10,7 @@ import androidx.annotation.Nullable;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.snapaudiencenetwork.BuildConfig;
 import com.snap.adkit.dagger.AdKitApplication;
 import com.snap.adkit.external.AdKitSlotType;
 import com.snap.adkit.external.SnapAdClicked;
@@ -41,7 +42,7 @@ public class SnapAdInterstitial extends BaseAd {
     private static final String ADAPTER_NAME = SnapAdInterstitial.class.getSimpleName();
     private static final String SLOT_ID_KEY = "slotId";
 
-    private static String mSlotId;
+    private String mSlotId;
 
     private final SnapAdAdapterConfiguration mSnapAdAdapterConfiguration;
 
@@ -69,6 +70,9 @@ public class SnapAdInterstitial extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         final Map<String, String> extras = adData.getExtras();
@@ -160,6 +164,8 @@ public class SnapAdInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         // no-op
     }
 
@@ -11,6 +11,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.snapaudiencenetwork.BuildConfig;
 import com.snap.adkit.dagger.AdKitApplication;
 import com.snap.adkit.external.AdKitSlotType;
 import com.snap.adkit.external.SnapAdClicked;
@@ -46,7 +47,7 @@ public class SnapAdRewardedVideo extends BaseAd {
     private static final String ADAPTER_NAME = SnapAdRewardedVideo.class.getSimpleName();
     private static final String SLOT_ID_KEY = "slotId";
 
-    private static String mSlotId;
+    private String mSlotId;
     private final SnapAdAdapterConfiguration mSnapAdAdapterConfiguration;
 
     public SnapAdRewardedVideo() {
@@ -73,6 +74,9 @@ public class SnapAdRewardedVideo extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         setAutomaticImpressionAndClickTracking(false);
 
         final Map<String, String> extras = adData.getExtras();
@@ -171,6 +175,8 @@ public class SnapAdRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         // no-op
     }
 
@@ -0,0 +1,60 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+
+import com.snap.adkit.external.BannerView;
+import com.snap.adkit.external.SnapAdEventListener;
+import com.snap.adkit.external.SnapAdSize;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Stands in for Snap's banner view in JVM tests. It records the slot it was asked to load and
+ * its listener, and never starts Snap Ad Kit.
+ */
+@Implements(BannerView.class)
+public class ShadowBannerView {
+    @Nullable
+    private String mSlotId;
+    @Nullable
+    private SnapAdEventListener mListener;
+
+    @Implementation
+    protected void __constructor__(final Context context) {
+    }
+
+    @Implementation
+    protected void setAdSize(final SnapAdSize adSize) {
+    }
+
+    @Implementation
+    protected void setupListener(@Nullable final SnapAdEventListener listener) {
+        mListener = listener;
+    }
+
+    @Implementation
+    protected void loadAd(final String slotId, final String bid) {
+        mSlotId = slotId;
+    }
+
+    @Implementation
+    protected void destroy() {
+    }
+
+    @Nullable
+    String getSlotId() {
+        return mSlotId;
+    }
+
+    @Nullable
+    SnapAdEventListener getListener() {
+        return mListener;
+    }
+}
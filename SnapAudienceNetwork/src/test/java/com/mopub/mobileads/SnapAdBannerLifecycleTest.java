@@ -0,0 +1,82 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+
+import androidx.annotation.NonNull;
+
+import com.mopub.common.DataKeys;
+import com.snap.adkit.external.SnapAdClicked;
+import com.snap.adkit.external.SnapAdKitEvent;
+import com.snap.adkit.external.SnapAdLoadSucceeded;
+import com.snap.adkit.external.SnapAdVisible;
+import com.snap.adkit.external.SnapBannerAdImpressionRecorded;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadow.api.Shadow;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowBannerView.class, instrumentedPackages = "com.snap.adkit.external")
+public class SnapAdBannerLifecycleTest {
+    private static final int LIFECYCLE_ITERATIONS = 1000;
+    private static final String SLOT_ID = "slot";
+
+    @Test
+    public void repeatedLifecycles_shouldReportInOrderAndNotLeak() {
+        new AdapterLifecycleHarness<>(new AdapterLifecycleHarness.Driver<SnapAdBanner>() {
+            @NonNull
+            @Override
+            public SnapAdBanner createAdapter() {
+                return new SnapAdBanner();
+            }
+
+            @NonNull
+            @Override
+            public AdData createAdData() {
+                final Map<String, String> extras = new HashMap<>();
+                extras.put("slotId", SLOT_ID);
+                extras.put(DataKeys.ADUNIT_FORMAT, "banner");
+
+                return new AdData.Builder().extras(extras).build();
+            }
+
+            @Override
+            public void completeLoad(@NonNull final SnapAdBanner adapter) {
+                deliver(adapter, SnapAdLoadSucceeded.class);
+            }
+
+            @Override
+            public void show(@NonNull final SnapAdBanner adapter,
+                             @NonNull final Activity activity) {
+                deliver(adapter, SnapAdVisible.class);
+                deliver(adapter, SnapBannerAdImpressionRecorded.class);
+                deliver(adapter, SnapAdClicked.class);
+            }
+
+            @NonNull
+            @Override
+            public List<String> getExpectedCallbacks() {
+                return Arrays.asList("onAdLoaded", "onAdShown", "onAdImpression", "onAdClicked");
+            }
+        }).run(LIFECYCLE_ITERATIONS);
+    }
+
+    private static void deliver(@NonNull final SnapAdBanner adapter,
+                                @NonNull final Class<? extends SnapAdKitEvent> eventClass) {
+        final ShadowBannerView bannerView = Shadow.extract(adapter.getAdView());
+        bannerView.getListener().onEvent(mock(eventClass), SLOT_ID);
+    }
+}
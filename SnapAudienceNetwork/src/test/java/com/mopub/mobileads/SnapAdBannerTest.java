@@ -0,0 +1,110 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import android.app.Activity;
+
+import com.mopub.common.DataKeys;
+import com.snap.adkit.external.SnapAdLoadFailed;
+import com.snap.adkit.external.SnapAdLoadSucceeded;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadow.api.Shadow;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Starts many Snap banner loads before any of them completes, and checks that no load sees
+ * another one's slot or listener.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = ShadowBannerView.class, instrumentedPackages = "com.snap.adkit.external")
+public class SnapAdBannerTest {
+    private static final int CONCURRENT_LOADS = 50;
+
+    private SnapAdBanner[] mAdapters;
+    private AdLifecycleListener.LoadListener[] mLoadListeners;
+    private ShadowBannerView[] mBannerViews;
+
+    @Before
+    public void setUp() throws Exception {
+        final Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+
+        mAdapters = new SnapAdBanner[CONCURRENT_LOADS];
+        mLoadListeners = new AdLifecycleListener.LoadListener[CONCURRENT_LOADS];
+        mBannerViews = new ShadowBannerView[CONCURRENT_LOADS];
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            mAdapters[i] = new SnapAdBanner();
+            mLoadListeners[i] = mock(AdLifecycleListener.LoadListener.class);
+            mAdapters[i].mLoadListener = mLoadListeners[i];
+            mAdapters[i].load(activity, adData(slotId(i)));
+        }
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            mBannerViews[i] = Shadow.extract(mAdapters[i].getAdView());
+        }
+    }
+
+    @Test
+    public void load_withInterleavedLoads_shouldRequestAndKeepEachSlot() {
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            assertEquals(slotId(i), mBannerViews[i].getSlotId());
+            assertEquals(slotId(i), mAdapters[i].getAdNetworkId());
+        }
+    }
+
+    @Test
+    public void onEvent_withLoadFailedInReverseOrder_shouldFailEachLoadOnce() {
+        for (int i = CONCURRENT_LOADS - 1; i >= 0; i--) {
+            mBannerViews[i].getListener().onEvent(mock(SnapAdLoadFailed.class), slotId(i));
+        }
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            verify(mLoadListeners[i]).onAdLoadFailed(MoPubErrorCode.INLINE_LOAD_ERROR);
+            verifyNoMoreInteractions(mLoadListeners[i]);
+        }
+    }
+
+    @Test
+    public void onEvent_withLoadSucceeded_shouldOnlyCompleteThatLoad() {
+        final int loaded = CONCURRENT_LOADS / 2;
+
+        mBannerViews[loaded].getListener().onEvent(mock(SnapAdLoadSucceeded.class),
+                slotId(loaded));
+
+        for (int i = 0; i < CONCURRENT_LOADS; i++) {
+            if (i == loaded) {
+                verify(mLoadListeners[i]).onAdLoaded();
+            } else {
+                verifyNoInteractions(mLoadListeners[i]);
+            }
+        }
+    }
+
+    private static String slotId(final int index) {
+        return "slot" + index;
+    }
+
+    private static AdData adData(final String slotId) {
+        final Map<String, String> extras = new HashMap<>();
+        extras.put("slotId", slotId);
+        extras.put(DataKeys.ADUNIT_FORMAT, "banner");
+
+        return new AdData.Builder().extras(extras).build();
+    }
+}
@@ -10,8 +10,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -22,6 +20,7 @@ import com.mopub.common.MoPub;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.privacy.PersonalInfoManager;
 import com.mopub.common.util.Json;
+import com.mopub.mobileads.tapjoy.BuildConfig;
 import com.tapjoy.TJActionRequest;
 import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
@@ -55,14 +54,62 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
     public static final String PLACEMENT_NAME = "name";
     public static final String ADAPTER_NAME = TapjoyInterstitial.class.getSimpleName();
     private static final String AD_MARKUP_KEY = "adm";
+
+    // Events handled on the main thread by mMainThreadCallback. Tapjoy may call back from inside
+    // requestContent() and showContent(), so these are always posted rather than run inline.
+    private static final int EVENT_REQUEST_SUCCESS = 0;
+    private static final int EVENT_REQUEST_FAILURE = 1;
+    private static final int EVENT_CONTENT_SHOW = 2;
+    private static final int EVENT_CONTENT_DISMISS = 3;
+
     private String mPlacementName;
     private static TJPrivacyPolicy tjPrivacyPolicy;
 
     @NonNull
     private TapjoyAdapterConfiguration mTapjoyAdapterConfiguration;
 
+    private final MainThreadDispatcher.Callback mMainThreadCallback = new MainThreadDispatcher.Callback() {
+        @Override
+        public void onMainThreadEvent(final int event, @Nullable final Object argument) {
+            switch (event) {
+                case EVENT_REQUEST_SUCCESS:
+                    if (((TJPlacement) argument).isContentAvailable()) {
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoaded();
+                        }
+                        MoPubLog.log(mPlacementName, LOAD_SUCCESS, ADAPTER_NAME);
+                    } else {
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                        }
+                        MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    break;
+                case EVENT_REQUEST_FAILURE:
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                    break;
+                case EVENT_CONTENT_SHOW:
+                    if (mInteractionListener != null) {
+                        mInteractionListener.onAdShown();
+                        mInteractionListener.onAdImpression();
+                    }
+                    MoPubLog.log(mPlacementName, SHOW_SUCCESS, ADAPTER_NAME);
+                    break;
+                case EVENT_CONTENT_DISMISS:
+                    if (mInteractionListener != null) {
+                        mInteractionListener.onAdDismissed();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
+
     private TJPlacement tjPlacement;
-    private Handler mHandler;
 
     static {
         MoPubLog.log(CUSTOM, "Class initialized with network adapter version ", TJC_MOPUB_ADAPTER_VERSION_NUMBER);
@@ -75,8 +122,9 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
 
     @Override
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
 
-        mHandler = new Handler(Looper.getMainLooper());
 
         fetchMoPubGDPRSettings();
 
@@ -134,8 +182,10 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
 
         if (!TextUtils.isEmpty(adMarkup)) {
             try {
-                Map<String, String> auctionData = Json.jsonStringToMap(adMarkup);
-                tjPlacement.setAuctionData(new HashMap<>(auctionData));
+                final Map<String, String> auctionData = Json.jsonStringToMap(adMarkup);
+                // jsonStringToMap() already builds a HashMap, so hand it over without copying
+                tjPlacement.setAuctionData(auctionData instanceof HashMap ?
+                        (HashMap<String, String>) auctionData : new HashMap<>(auctionData));
             } catch (JSONException e) {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
             }
@@ -169,6 +219,8 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         // No custom cleanup to do here.
     }
 
@@ -207,65 +259,26 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
 
     @Override
     public void onRequestSuccess(final TJPlacement placement) {
-        mHandler.post(new Runnable() {
-            @Override
-            public void run() {
-                if (placement.isContentAvailable()) {
-                    if (mLoadListener != null) {
-                        mLoadListener.onAdLoaded();
-                    }
-                    MoPubLog.log(mPlacementName, LOAD_SUCCESS, ADAPTER_NAME);
-                } else {
-                    if (mLoadListener != null) {
-                        mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                    }
-                    MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
-                }
-            }
-        });
+        MainThreadDispatcher.post(mMainThreadCallback, EVENT_REQUEST_SUCCESS, placement);
     }
 
     @Override
     public void onRequestFailure(TJPlacement placement, TJError error) {
 
-        mHandler.post(new Runnable() {
-            @Override
-            public void run() {
-                if (mLoadListener != null) {
-                    mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                }
-                MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
-            }
-        });
+        MainThreadDispatcher.post(mMainThreadCallback, EVENT_REQUEST_FAILURE, null);
     }
 
     @Override
     public void onContentShow(TJPlacement placement) {
 
-        mHandler.post(new Runnable() {
-            @Override
-            public void run() {
-                if (mInteractionListener != null) {
-                    mInteractionListener.onAdShown();
-                    mInteractionListener.onAdImpression();
-                }
-                MoPubLog.log(mPlacementName, SHOW_SUCCESS, ADAPTER_NAME);
-            }
-        });
+        MainThreadDispatcher.post(mMainThreadCallback, EVENT_CONTENT_SHOW, null);
     }
 
     @Override
     public void onContentDismiss(TJPlacement placement) {
         MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy interstitial dismissed");
 
-        mHandler.post(new Runnable() {
-            @Override
-            public void run() {
-                if (mInteractionListener != null) {
-                    mInteractionListener.onAdDismissed();
-                }
-            }
-        });
+        MainThreadDispatcher.post(mMainThreadCallback, EVENT_CONTENT_DISMISS, null);
     }
 
     @Override
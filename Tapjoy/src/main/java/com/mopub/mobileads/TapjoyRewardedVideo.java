@@ -14,6 +14,7 @@ import com.mopub.common.MoPubReward;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.common.privacy.PersonalInfoManager;
 import com.mopub.common.util.Json;
+import com.mopub.mobileads.tapjoy.BuildConfig;
 import com.tapjoy.TJActionRequest;
 import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
@@ -80,6 +81,7 @@ public class TapjoyRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
     }
 
     public TapjoyRewardedVideo() {
@@ -128,6 +130,9 @@ public class TapjoyRewardedVideo extends BaseAd {
 
     @Override
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         fetchMoPubGDPRSettings();
         setAutomaticImpressionAndClickTracking(false);
         final String adMarkup = adData.getExtras().get(AD_MARKUP_KEY);
@@ -164,8 +169,10 @@ public class TapjoyRewardedVideo extends BaseAd {
 
             if (!TextUtils.isEmpty(adm)) {
                 try {
-                    Map<String, String> auctionData = Json.jsonStringToMap(adm);
-                    tjPlacement.setAuctionData(new HashMap<>(auctionData));
+                    final Map<String, String> auctionData = Json.jsonStringToMap(adm);
+                    // jsonStringToMap() already builds a HashMap, so hand it over without copying
+                    tjPlacement.setAuctionData(auctionData instanceof HashMap ?
+                            (HashMap<String, String>) auctionData : new HashMap<>(auctionData));
                 } catch (JSONException e) {
                     MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
                 }
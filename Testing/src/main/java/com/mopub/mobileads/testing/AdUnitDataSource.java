@@ -4,12 +4,15 @@
 
 package com.mopub.mobileads.testing;
 
-import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Handler;
+import android.os.Looper;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -17,6 +20,8 @@ import com.mopub.common.logging.MoPubLog;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM;
 import static com.mopub.mobileads.testing.MoPubSQLiteHelper.COLUMN_AD_TYPE;
@@ -28,7 +33,27 @@ import static com.mopub.mobileads.testing.MoPubSQLiteHelper.COLUMN_USER_GENERATE
 import static com.mopub.mobileads.testing.MoPubSQLiteHelper.TABLE_AD_CONFIGURATIONS;
 import static com.mopub.mobileads.testing.MoPubSampleAdUnit.AdType;
 
+/**
+ * Stores the saved ad units. All database work runs in order on a single background thread that
+ * keeps one connection open until {@link #close()}. Results are delivered on the main thread.
+ */
 class AdUnitDataSource {
+    interface Callback<T> {
+        void onResult(T result);
+    }
+
+    private static final String UPSERT_AD_UNIT = "insert or replace into "
+            + TABLE_AD_CONFIGURATIONS + " ("
+            + COLUMN_AD_UNIT_ID + ", "
+            + COLUMN_DESCRIPTION + ", "
+            + COLUMN_USER_GENERATED + ", "
+            + COLUMN_AD_TYPE + ", "
+            + COLUMN_KEYWORDS
+            + ") values (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_AD_UNIT = "delete from " + TABLE_AD_CONFIGURATIONS
+            + " where " + COLUMN_ID + " = ?";
+
     private Context mContext;
     private MoPubSQLiteHelper mDatabaseHelper;
     private String[] mAllColumns = {
@@ -40,106 +65,211 @@ class AdUnitDataSource {
             COLUMN_KEYWORDS
     };
 
+    @NonNull
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    // Only touched on the executor thread.
+    @Nullable
+    private SQLiteDatabase mDatabase;
+    @Nullable
+    private SQLiteStatement mUpsertStatement;
+    @Nullable
+    private SQLiteStatement mDeleteStatement;
+    private boolean mDefaultsPopulated;
+
     AdUnitDataSource(final Context context) {
         mContext = context.getApplicationContext();
-        mDatabaseHelper = new MoPubSQLiteHelper(context);
-        populateDefaultSampleAdUnits();
+        mDatabaseHelper = new MoPubSQLiteHelper(mContext);
     }
 
-    MoPubSampleAdUnit createDefaultSampleAdUnit(final MoPubSampleAdUnit sampleAdUnit) {
-        return createSampleAdUnit(sampleAdUnit, false);
+    /**
+     * Loads every saved ad unit, adding the default sample ad units first if any are missing.
+     */
+    void loadAllAdUnits(@NonNull final Callback<List<MoPubSampleAdUnit>> callback) {
+        Preconditions.checkNotNull(callback);
+
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                if (!mDefaultsPopulated) {
+                    populateDefaultSampleAdUnits();
+                    mDefaultsPopulated = true;
+                }
+                postResult(callback, getAllAdUnits());
+            }
+        });
     }
 
-    MoPubSampleAdUnit createSampleAdUnit(final MoPubSampleAdUnit sampleAdUnit) {
-        return createSampleAdUnit(sampleAdUnit, true);
+    void createSampleAdUnit(@NonNull final MoPubSampleAdUnit sampleAdUnit,
+                            @Nullable final Callback<MoPubSampleAdUnit> callback) {
+        Preconditions.checkNotNull(sampleAdUnit);
+
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                final MoPubSampleAdUnit newAdConfiguration = upsertSampleAdUnit(sampleAdUnit, true);
+                if (callback != null) {
+                    postResult(callback, newAdConfiguration);
+                }
+            }
+        });
     }
 
-    private MoPubSampleAdUnit createSampleAdUnit(final MoPubSampleAdUnit sampleAdUnit,
-                                                 final boolean isUserGenerated) {
-        deleteAllAdUnitsWithAdUnitIdAndAdTypeAndKeywords(sampleAdUnit.getAdUnitId(),
-                sampleAdUnit.getFragmentClassName(),
-                sampleAdUnit.getKeywords(),
-                isUserGenerated);
-
-        final ContentValues values = new ContentValues();
-        final int userGenerated = isUserGenerated ? 1 : 0;
-        values.put(COLUMN_AD_UNIT_ID, sampleAdUnit.getAdUnitId());
-        values.put(COLUMN_DESCRIPTION, sampleAdUnit.getDescription());
-        values.put(COLUMN_USER_GENERATED, userGenerated);
-        values.put(COLUMN_AD_TYPE, sampleAdUnit.getFragmentClassName());
-        values.put(COLUMN_KEYWORDS, sampleAdUnit.getKeywords());
-
-        final SQLiteDatabase database = mDatabaseHelper.getWritableDatabase();
-        final long insertId = database.insert(TABLE_AD_CONFIGURATIONS, null, values);
-        final Cursor cursor = database.query(TABLE_AD_CONFIGURATIONS, mAllColumns,
-                COLUMN_ID + " = " + insertId, null, null, null, null);
-        cursor.moveToFirst();
-
-        final MoPubSampleAdUnit newAdConfiguration = cursorToAdConfiguration(cursor);
-        cursor.close();
-        database.close();
-
-        if (newAdConfiguration != null) {
-            MoPubLog.log(CUSTOM, "Ad configuration added with id: " + newAdConfiguration.getId());
+    void deleteSampleAdUnit(@NonNull final MoPubSampleAdUnit adConfiguration) {
+        Preconditions.checkNotNull(adConfiguration);
+
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                final long id = adConfiguration.getId();
+                final SQLiteStatement statement = getDeleteStatement();
+                statement.bindLong(1, id);
+                statement.executeUpdateDelete();
+                MoPubLog.log(CUSTOM, "Ad Configuration deleted with id: " + id);
+            }
+        });
+    }
+
+    /**
+     * Closes the connection once all queued work has finished. No more work may be queued after
+     * this is called.
+     */
+    void close() {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                if (mUpsertStatement != null) {
+                    mUpsertStatement.close();
+                    mUpsertStatement = null;
+                }
+                if (mDeleteStatement != null) {
+                    mDeleteStatement.close();
+                    mDeleteStatement = null;
+                }
+                mDatabaseHelper.close();
+                mDatabase = null;
+            }
+        });
+        mExecutor.shutdown();
+    }
+
+    private void execute(@NonNull final Runnable runnable) {
+        if (mExecutor.isShutdown()) {
+            MoPubLog.log(CUSTOM, "Ignoring ad unit database work after the data source was closed.");
+            return;
         }
-        return newAdConfiguration;
+        mExecutor.execute(runnable);
     }
 
-    void deleteSampleAdUnit(final MoPubSampleAdUnit adConfiguration) {
-        final long id = adConfiguration.getId();
-        SQLiteDatabase database = mDatabaseHelper.getWritableDatabase();
-        database.delete(TABLE_AD_CONFIGURATIONS, COLUMN_ID + " = " + id, null);
-        MoPubLog.log(CUSTOM, "Ad Configuration deleted with id: " + id);
-        database.close();
+    private <T> void postResult(@NonNull final Callback<T> callback, final T result) {
+        mMainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                callback.onResult(result);
+            }
+        });
     }
 
-    private void deleteAllAdUnitsWithAdUnitIdAndAdTypeAndKeywords(@NonNull final String adUnitId,
-                                                                  @NonNull final String adType,
-                                                                  @NonNull final String keywords,
-                                                                  boolean isUserGenerated) {
-        Preconditions.checkNotNull(adUnitId);
-        Preconditions.checkNotNull(adType);
-        Preconditions.checkNotNull(keywords);
-
-        final String userGenerated = isUserGenerated ? "1" : "0";
-        final SQLiteDatabase database = mDatabaseHelper.getWritableDatabase();
-        final int numDeletedRows = database.delete(TABLE_AD_CONFIGURATIONS,
-                COLUMN_AD_UNIT_ID + " = '" + adUnitId
-                        + "' AND " + COLUMN_USER_GENERATED + " = " + userGenerated
-                        + " AND " + COLUMN_AD_TYPE + " = '" + adType + "'"
-                        + " AND " + COLUMN_KEYWORDS + " = '" + keywords + "'", null);
-        MoPubLog.log(CUSTOM, numDeletedRows + " rows deleted with adUnitId: " + adUnitId);
-        database.close();
+    @NonNull
+    private SQLiteDatabase getDatabase() {
+        if (mDatabase == null) {
+            mDatabase = mDatabaseHelper.getWritableDatabase();
+        }
+        return mDatabase;
+    }
+
+    @NonNull
+    private SQLiteStatement getUpsertStatement() {
+        if (mUpsertStatement == null) {
+            mUpsertStatement = getDatabase().compileStatement(UPSERT_AD_UNIT);
+        }
+        return mUpsertStatement;
+    }
+
+    @NonNull
+    private SQLiteStatement getDeleteStatement() {
+        if (mDeleteStatement == null) {
+            mDeleteStatement = getDatabase().compileStatement(DELETE_AD_UNIT);
+        }
+        return mDeleteStatement;
+    }
+
+    /**
+     * Saves the ad unit, replacing a saved one with the same ad unit id, ad type, keywords and
+     * origin. The returned ad unit is built from the bound values, so the row is not read back.
+     */
+    @Nullable
+    private MoPubSampleAdUnit upsertSampleAdUnit(@NonNull final MoPubSampleAdUnit sampleAdUnit,
+                                                 final boolean isUserGenerated) {
+        final String description = sampleAdUnit.getDescription() == null
+                ? "" : sampleAdUnit.getDescription();
+        final String keywords = sampleAdUnit.getKeywords() == null
+                ? "" : sampleAdUnit.getKeywords();
+
+        final SQLiteStatement statement = getUpsertStatement();
+        statement.bindString(1, sampleAdUnit.getAdUnitId());
+        statement.bindString(2, description);
+        statement.bindLong(3, isUserGenerated ? 1 : 0);
+        statement.bindString(4, sampleAdUnit.getFragmentClassName());
+        statement.bindString(5, keywords);
+        final long insertId = statement.executeInsert();
+
+        if (insertId == -1) {
+            MoPubLog.log(CUSTOM, "Failed to save ad configuration: " + sampleAdUnit.getAdUnitId());
+            return null;
+        }
+
+        final AdType adType = AdType.fromFragmentClassName(sampleAdUnit.getFragmentClassName());
+        if (adType == null) {
+            return null;
+        }
+
+        MoPubLog.log(CUSTOM, "Ad configuration added with id: " + insertId);
+        return new MoPubSampleAdUnit.Builder(sampleAdUnit.getAdUnitId(), adType)
+                .description(description)
+                .isUserDefined(isUserGenerated)
+                .keywords(keywords)
+                .id(insertId)
+                .build();
     }
 
-    List<MoPubSampleAdUnit> getAllAdUnits() {
+    @NonNull
+    private List<MoPubSampleAdUnit> getAllAdUnits() {
         final List<MoPubSampleAdUnit> adConfigurations = new ArrayList<>();
-        SQLiteDatabase database = mDatabaseHelper.getReadableDatabase();
-        final Cursor cursor = database.query(TABLE_AD_CONFIGURATIONS,
+        final Cursor cursor = getDatabase().query(TABLE_AD_CONFIGURATIONS,
                 mAllColumns, null, null, null, null, null);
-        cursor.moveToFirst();
 
-        while (!cursor.isAfterLast()) {
-            final MoPubSampleAdUnit adConfiguration = cursorToAdConfiguration(cursor);
-            if (adConfiguration != null) {
-                adConfigurations.add(adConfiguration);
+        try {
+            while (cursor.moveToNext()) {
+                final MoPubSampleAdUnit adConfiguration = cursorToAdConfiguration(cursor);
+                if (adConfiguration != null) {
+                    adConfigurations.add(adConfiguration);
+                }
             }
-            cursor.moveToNext();
+        } finally {
+            cursor.close();
         }
 
-        cursor.close();
-        database.close();
         return adConfigurations;
     }
 
     private void populateDefaultSampleAdUnits() {
         final HashSet<MoPubSampleAdUnit> allAdUnits = new HashSet<>(getAllAdUnits());
+        final SQLiteDatabase database = getDatabase();
 
-        for (final MoPubSampleAdUnit defaultAdUnit :
-                SampleAppAdUnits.Defaults.getAdUnits(mContext)) {
-            if (!allAdUnits.contains(defaultAdUnit)) {
-                createDefaultSampleAdUnit(defaultAdUnit);
+        database.beginTransaction();
+        try {
+            for (final MoPubSampleAdUnit defaultAdUnit :
+                    SampleAppAdUnits.Defaults.getAdUnits(mContext)) {
+                if (!allAdUnits.contains(defaultAdUnit)) {
+                    upsertSampleAdUnit(defaultAdUnit, false);
+                }
             }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
         }
     }
 
@@ -0,0 +1,397 @@
+// Copyright 2018-2020 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.AdapterConfiguration;
+import com.mopub.common.BaseAdapterConfiguration;
+import com.mopub.common.OnNetworkInitializationFinishedListener;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.AdColonyAdapterConfiguration;
+import com.mopub.mobileads.AppLovinAdapterConfiguration;
+import com.mopub.mobileads.ChartboostAdapterConfiguration;
+import com.mopub.mobileads.FacebookAdapterConfiguration;
+import com.mopub.mobileads.FyberAdapterConfiguration;
+import com.mopub.mobileads.GooglePlayServicesAdapterConfiguration;
+import com.mopub.mobileads.IronSourceAdapterConfiguration;
+import com.mopub.mobileads.MintegralAdapterConfiguration;
+import com.mopub.mobileads.MoPubErrorCode;
+import com.mopub.mobileads.OguryAdapterConfiguration;
+import com.mopub.mobileads.PangleAdapterConfiguration;
+import com.mopub.mobileads.ReferenceAdapterConfiguration;
+import com.mopub.mobileads.SnapAdAdapterConfiguration;
+import com.mopub.mobileads.TapjoyAdapterConfiguration;
+import com.mopub.mobileads.UnityAdsAdapterConfiguration;
+import com.mopub.mobileads.VerizonAdapterConfiguration;
+import com.mopub.mobileads.VungleAdapterConfiguration;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM;
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.ERROR_WITH_THROWABLE;
+
+/**
+ * Times the initialization of every bundled network adapter. Each adapter's
+ * {@link AdapterConfiguration#initializeNetwork} is called on the main thread, one adapter at a
+ * time, and timed until it reports {@link OnNetworkInitializationFinishedListener}. Running the
+ * adapters one at a time lets main thread stalls be charged to the adapter that caused them.
+ * <p>
+ * Network SDKs only do real work the first time they are initialized, so a profile has to run
+ * before {@link com.mopub.common.MoPub#initializeSdk}. Use {@link #requestProfileOnNextLaunch}
+ * and relaunch the app. The last profile is kept in memory and written as a Chrome JSON trace,
+ * which Perfetto and chrome://tracing can open.
+ */
+class AdapterInitializationProfiler {
+    interface Listener {
+        void onProfileFinished(@NonNull List<Record> records);
+    }
+
+    static class Record {
+        @NonNull
+        final String mNetworkName;
+        // Relative to the start of the profile.
+        long mStartNanos;
+        long mCallNanos;
+        long mFinishNanos = -1;
+        long mMainThreadBlockedNanos;
+        @NonNull
+        String mCallThreadName = "";
+        long mCallThreadId;
+        @Nullable
+        String mFinishThreadName;
+        long mFinishThreadId;
+        @Nullable
+        MoPubErrorCode mErrorCode;
+
+        Record(@NonNull final String networkName) {
+            mNetworkName = networkName;
+        }
+
+        boolean isFinished() {
+            return mFinishNanos >= 0;
+        }
+
+        boolean isSuccess() {
+            return mErrorCode == MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS;
+        }
+
+        long getDurationNanos() {
+            return isFinished() ? mFinishNanos - mStartNanos : TIMEOUT_NANOS;
+        }
+    }
+
+    private static final List<Class<? extends BaseAdapterConfiguration>> ADAPTER_CONFIGURATIONS =
+            Arrays.asList(
+                    AdColonyAdapterConfiguration.class,
+                    AppLovinAdapterConfiguration.class,
+                    ChartboostAdapterConfiguration.class,
+                    FacebookAdapterConfiguration.class,
+                    FyberAdapterConfiguration.class,
+                    GooglePlayServicesAdapterConfiguration.class,
+                    IronSourceAdapterConfiguration.class,
+                    MintegralAdapterConfiguration.class,
+                    OguryAdapterConfiguration.class,
+                    PangleAdapterConfiguration.class,
+                    ReferenceAdapterConfiguration.class,
+                    SnapAdAdapterConfiguration.class,
+                    TapjoyAdapterConfiguration.class,
+                    UnityAdsAdapterConfiguration.class,
+                    VerizonAdapterConfiguration.class,
+                    VungleAdapterConfiguration.class);
+
+    private static final String PREFERENCES_NAME = "adapterInitializationProfiler";
+    private static final String PROFILE_NEXT_LAUNCH_KEY = "profileNextLaunch";
+    private static final String EXPORT_DIRECTORY = "init_profiles";
+    private static final long TIMEOUT_MS = 10000;
+    private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+    private static final long HEARTBEAT_MS = 16;
+    private static final long HEARTBEAT_NANOS = TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_MS);
+
+    @Nullable
+    private static List<Record> sLastProfile;
+    @Nullable
+    private static File sLastTraceFile;
+
+    @NonNull
+    private final Context mContext;
+    @NonNull
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final List<Record> mRecords = new ArrayList<>();
+    private final long mProfileStartNanos = System.nanoTime();
+    private long mLastHeartbeatNanos;
+    private int mCurrentIndex = -1;
+    @Nullable
+    private Listener mListener;
+
+    @NonNull
+    private final Runnable mHeartbeatRunnable = new Runnable() {
+        @Override
+        public void run() {
+            final long now = System.nanoTime();
+            final long stallNanos = now - mLastHeartbeatNanos - HEARTBEAT_NANOS;
+            // Anything shorter than a frame is scheduling noise.
+            if (stallNanos > HEARTBEAT_NANOS && mCurrentIndex < mRecords.size()) {
+                mRecords.get(mCurrentIndex).mMainThreadBlockedNanos += stallNanos;
+            }
+            mLastHeartbeatNanos = now;
+            mHandler.postDelayed(this, HEARTBEAT_MS);
+        }
+    };
+
+    @NonNull
+    private final Runnable mTimeoutRunnable = new Runnable() {
+        @Override
+        public void run() {
+            MoPubLog.log(CUSTOM, mRecords.get(mCurrentIndex).mNetworkName
+                    + " did not finish initializing in time.");
+            startNext();
+        }
+    };
+
+    AdapterInitializationProfiler(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        mContext = context.getApplicationContext();
+    }
+
+    static void requestProfileOnNextLaunch(@NonNull final Context context) {
+        getPreferences(context).edit().putBoolean(PROFILE_NEXT_LAUNCH_KEY, true).apply();
+    }
+
+    /**
+     * @return whether a profile was requested. The request is cleared, so only one launch is
+     * profiled.
+     */
+    static boolean consumeProfileRequest(@NonNull final Context context) {
+        final SharedPreferences preferences = getPreferences(context);
+        if (!preferences.getBoolean(PROFILE_NEXT_LAUNCH_KEY, false)) {
+            return false;
+        }
+        preferences.edit().remove(PROFILE_NEXT_LAUNCH_KEY).apply();
+        return true;
+    }
+
+    @Nullable
+    static List<Record> getLastProfile() {
+        return sLastProfile;
+    }
+
+    @Nullable
+    static File getLastTraceFile() {
+        return sLastTraceFile;
+    }
+
+    /**
+     * Initializes each adapter in turn. Must be called on the main thread.
+     */
+    void run(@NonNull final Listener listener) {
+        Preconditions.checkNotNull(listener);
+
+        if (mListener != null) {
+            return;
+        }
+        mListener = listener;
+
+        for (final Class<? extends BaseAdapterConfiguration> adapterClass : ADAPTER_CONFIGURATIONS) {
+            mRecords.add(new Record(adapterClass.getSimpleName()));
+        }
+        mLastHeartbeatNanos = System.nanoTime();
+        mHandler.postDelayed(mHeartbeatRunnable, HEARTBEAT_MS);
+        startNext();
+    }
+
+    private void startNext() {
+        mHandler.removeCallbacks(mTimeoutRunnable);
+        mCurrentIndex++;
+        if (mCurrentIndex >= mRecords.size()) {
+            finish();
+            return;
+        }
+
+        final int index = mCurrentIndex;
+        final Record record = mRecords.get(index);
+        final BaseAdapterConfiguration adapterConfiguration;
+        try {
+            adapterConfiguration = ADAPTER_CONFIGURATIONS.get(index).newInstance();
+        } catch (Exception e) {
+            MoPubLog.log(ERROR_WITH_THROWABLE, "Unable to create " + record.mNetworkName, e);
+            startNext();
+            return;
+        }
+
+        final Map<String, String> configuration =
+                adapterConfiguration.getCachedInitializationParameters(mContext);
+        final Thread callThread = Thread.currentThread();
+        record.mCallThreadName = callThread.getName();
+        record.mCallThreadId = callThread.getId();
+        record.mStartNanos = System.nanoTime() - mProfileStartNanos;
+        mHandler.postDelayed(mTimeoutRunnable, TIMEOUT_MS);
+
+        try {
+            adapterConfiguration.initializeNetwork(mContext, configuration,
+                    new OnNetworkInitializationFinishedListener() {
+                        @Override
+                        public void onNetworkInitializationFinished(
+                                @NonNull final Class<? extends AdapterConfiguration> clazz,
+                                @NonNull final MoPubErrorCode moPubErrorCode) {
+                            onAdapterFinished(index, moPubErrorCode);
+                        }
+                    });
+        } catch (Exception e) {
+            MoPubLog.log(ERROR_WITH_THROWABLE, record.mNetworkName + " failed to initialize", e);
+            onAdapterFinished(index, MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+        }
+
+        // The call itself held the main thread. Restart the heartbeat so it is not counted twice.
+        record.mCallNanos = System.nanoTime() - mProfileStartNanos - record.mStartNanos;
+        record.mMainThreadBlockedNanos += record.mCallNanos;
+        mLastHeartbeatNanos = System.nanoTime();
+    }
+
+    /**
+     * May be called on any thread.
+     */
+    private void onAdapterFinished(final int index, @NonNull final MoPubErrorCode errorCode) {
+        final long finishNanos = System.nanoTime() - mProfileStartNanos;
+        final Thread finishThread = Thread.currentThread();
+
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                final Record record = mRecords.get(index);
+                if (record.isFinished() || index != mCurrentIndex) {
+                    // Finished twice, or after it timed out.
+                    return;
+                }
+                record.mFinishNanos = finishNanos;
+                record.mFinishThreadName = finishThread.getName();
+                record.mFinishThreadId = finishThread.getId();
+                record.mErrorCode = errorCode;
+                // Let the adapter finish any work it posted before moving on.
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        startNext();
+                    }
+                });
+            }
+        });
+    }
+
+    private void finish() {
+        mHandler.removeCallbacks(mHeartbeatRunnable);
+
+        final List<Record> records = Collections.unmodifiableList(mRecords);
+        sLastProfile = records;
+        sLastTraceFile = export(records);
+
+        final Listener listener = mListener;
+        if (listener != null) {
+            listener.onProfileFinished(records);
+        }
+    }
+
+    @Nullable
+    private File export(@NonNull final List<Record> records) {
+        File directory = mContext.getExternalFilesDir(EXPORT_DIRECTORY);
+        if (directory == null) {
+            directory = new File(mContext.getFilesDir(), EXPORT_DIRECTORY);
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            MoPubLog.log(CUSTOM, "Unable to create " + directory);
+            return null;
+        }
+
+        final File file = new File(directory, "adapter_init_" + System.currentTimeMillis() + ".json");
+        try {
+            final Writer writer = new FileWriter(file);
+            try {
+                writer.write(toTrace(records).toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException | JSONException e) {
+            MoPubLog.log(ERROR_WITH_THROWABLE, "Failed to export adapter initialization trace", e);
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * Builds a Chrome JSON trace. Each adapter gets a slice from its call until it finished, on
+     * the thread it was called on, and a nested slice for the time it held that thread.
+     */
+    @NonNull
+    private static JSONObject toTrace(@NonNull final List<Record> records) throws JSONException {
+        final JSONArray events = new JSONArray();
+        final List<Long> namedThreads = new ArrayList<>();
+
+        for (final Record record : records) {
+            if (!namedThreads.contains(record.mCallThreadId)) {
+                namedThreads.add(record.mCallThreadId);
+                events.put(new JSONObject()
+                        .put("ph", "M")
+                        .put("name", "thread_name")
+                        .put("pid", 0)
+                        .put("tid", record.mCallThreadId)
+                        .put("args", new JSONObject().put("name", record.mCallThreadName)));
+            }
+
+            final JSONObject args = new JSONObject()
+                    .put("result", record.isFinished() ? String.valueOf(record.mErrorCode) : "TIMEOUT")
+                    .put("finishThread", record.mFinishThreadName == null
+                            ? JSONObject.NULL : record.mFinishThreadName)
+                    .put("mainThreadBlockedMs", record.mMainThreadBlockedNanos / 1e6);
+            events.put(new JSONObject()
+                    .put("ph", "X")
+                    .put("cat", "adapter_init")
+                    .put("name", record.mNetworkName)
+                    .put("pid", 0)
+                    .put("tid", record.mCallThreadId)
+                    .put("ts", record.mStartNanos / 1000)
+                    .put("dur", record.getDurationNanos() / 1000)
+                    .put("args", args));
+            events.put(new JSONObject()
+                    .put("ph", "X")
+                    .put("cat", "adapter_init")
+                    .put("name", record.mNetworkName + " initializeNetwork")
+                    .put("pid", 0)
+                    .put("tid", record.mCallThreadId)
+                    .put("ts", record.mStartNanos / 1000)
+                    .put("dur", record.mCallNanos / 1000));
+        }
+
+        return new JSONObject()
+                .put("displayTimeUnit", "ms")
+                .put("traceEvents", events);
+    }
+
+    @NonNull
+    private static SharedPreferences getPreferences(@NonNull final Context context) {
+        return context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -5,6 +5,7 @@
 package com.mopub.mobileads.testing;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.LayoutInflater;
@@ -18,17 +19,41 @@ import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+import static com.mopub.mobileads.testing.Utils.logToast;
+
+/**
+ * Shows which ad callbacks have been called. Long-pressing a row switches to an event log that
+ * appends a timestamped row for every callback instead.
+ */
 public class CallbacksAdapter extends RecyclerView.Adapter<CallbacksAdapter.ViewHolder> {
 
     private static final String TAG = CallbacksAdapter.class.getName();
 
+    // Rebinds only the called state of a row.
+    private static final Object PAYLOAD_CALLED = new Object();
+
+    private static final int MAX_EVENT_LOG_SIZE = 500;
+
     private final int mBackgroundLight;
     private final int mBackgroundDark;
 
     @NonNull
     private List<CallbackDataItem> mCallbacks;
+    @NonNull
+    private final Map<String, Integer> mCallbackPositions = new HashMap<>();
+    @Nullable
+    private Class<? extends Enum> mCallbacksEnumClass;
+
+    private boolean mEventLogEnabled;
+    private long mEventLogStartMillis;
+    private long mLastEventMillis;
+    // Number of rows dropped from the front of the event log, so row colors stay stable.
+    private int mEventLogDroppedCount;
 
     CallbacksAdapter(@NonNull final Context context) {
         mBackgroundDark = context.getResources().getColor(R.color.listDark);
@@ -40,9 +65,30 @@ public class CallbacksAdapter extends RecyclerView.Adapter<CallbacksAdapter.View
     @Override
     public CallbacksAdapter.ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent, final int i) {
         final View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.callback_list_item, parent, false);
+        view.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(final View v) {
+                setEventLogEnabled(!mEventLogEnabled);
+                logToast(v.getContext(), mEventLogEnabled ? "Callback event log on." : "Callback event log off.");
+                return true;
+            }
+        });
         return new ViewHolder(view);
     }
 
+    @Override
+    public void onBindViewHolder(@NonNull final CallbacksAdapter.ViewHolder viewHolder, final int i,
+                                 @NonNull final List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            onBindViewHolder(viewHolder, i);
+            return;
+        }
+
+        if (i >= 0 && i < mCallbacks.size()) {
+            bindCalledState(viewHolder, mCallbacks.get(i));
+        }
+    }
+
     @Override
     public void onBindViewHolder(@NonNull final CallbacksAdapter.ViewHolder viewHolder, final int i) {
         final CallbackDataItem callback;
@@ -58,6 +104,15 @@ public class CallbacksAdapter extends RecyclerView.Adapter<CallbacksAdapter.View
         }
 
         viewHolder.callbackNameTextView.setText(callback.getCallbackName());
+        bindCalledState(viewHolder, callback);
+
+        final int row = mEventLogEnabled ? mEventLogDroppedCount + i : i;
+        final int color = (row & 1) == 0 ? mBackgroundDark : mBackgroundLight;
+        viewHolder.itemView.setBackgroundColor(color);
+    }
+
+    private void bindCalledState(@NonNull final CallbacksAdapter.ViewHolder viewHolder,
+                                 @NonNull final CallbackDataItem callback) {
         final String additionalData = callback.getAdditionalData();
         if (!TextUtils.isEmpty(additionalData)) {
             viewHolder.additionalDataTextView.setText(additionalData);
@@ -72,9 +127,6 @@ public class CallbacksAdapter extends RecyclerView.Adapter<CallbacksAdapter.View
             viewHolder.checkMarkImageView.setVisibility(View.INVISIBLE);
             viewHolder.callbackNameTextView.setEnabled(false);
         }
-
-        final int color = (i & 1) == 0 ? mBackgroundDark : mBackgroundLight;
-        viewHolder.itemView.setBackgroundColor(color);
     }
 
     @Override
@@ -82,31 +134,86 @@ public class CallbacksAdapter extends RecyclerView.Adapter<CallbacksAdapter.View
         return mCallbacks.size();
     }
 
+    /**
+     * Resets the list to one row per callback. In event log mode the log is kept, and event times
+     * are measured from this call instead.
+     */
     void generateCallbackList(@NonNull final Class<? extends Enum> callbacksEnumClass) {
+        mCallbacksEnumClass = callbacksEnumClass;
+        mEventLogStartMillis = SystemClock.elapsedRealtime();
+        mLastEventMillis = mEventLogStartMillis;
+
+        if (mEventLogEnabled) {
+            return;
+        }
+
         mCallbacks.clear();
+        mCallbackPositions.clear();
         for (Enum callback : callbacksEnumClass.getEnumConstants()) {
-            mCallbacks.add(new CallbackDataItem(callback.toString()));
+            final String callbackName = callback.toString();
+            mCallbackPositions.put(callbackName, mCallbacks.size());
+            mCallbacks.add(new CallbackDataItem(callbackName));
         }
         notifyDataSetChanged();
     }
 
+    void setEventLogEnabled(final boolean enabled) {
+        if (mEventLogEnabled == enabled) {
+            return;
+        }
+
+        mEventLogEnabled = enabled;
+        mEventLogDroppedCount = 0;
+        mCallbacks.clear();
+        mCallbackPositions.clear();
+        notifyDataSetChanged();
+
+        if (!enabled && mCallbacksEnumClass != null) {
+            generateCallbackList(mCallbacksEnumClass);
+        }
+    }
+
     void notifyCallbackCalled(@NonNull final String methodName) {
         notifyCallbackCalled(methodName, null);
     }
 
     void notifyCallbackCalled(@NonNull final String methodName,
                               @Nullable final String additionalData) {
-        for (CallbackDataItem item : mCallbacks) {
-            if (item.getCallbackName().equals(methodName)) {
-                item.setCalled();
-                if (!TextUtils.isEmpty(additionalData)) {
-                    item.setAdditionalData(additionalData);
-                }
-
-                notifyDataSetChanged();
-                break;
-            }
+        if (mEventLogEnabled) {
+            appendEvent(methodName, additionalData);
+            return;
+        }
+
+        final Integer position = mCallbackPositions.get(methodName);
+        if (position == null) {
+            return;
+        }
+
+        final CallbackDataItem item = mCallbacks.get(position);
+        item.setCalled();
+        if (!TextUtils.isEmpty(additionalData)) {
+            item.setAdditionalData(additionalData);
+        }
+        notifyItemChanged(position, PAYLOAD_CALLED);
+    }
+
+    private void appendEvent(@NonNull final String methodName, @Nullable final String additionalData) {
+        final long now = SystemClock.elapsedRealtime();
+        final String timing = String.format(Locale.US, "t=%dms (+%dms)",
+                now - mEventLogStartMillis, now - mLastEventMillis);
+        mLastEventMillis = now;
+
+        final CallbackDataItem item = new CallbackDataItem(methodName);
+        item.setCalled();
+        item.setAdditionalData(TextUtils.isEmpty(additionalData) ? timing : timing + " " + additionalData);
+
+        if (mCallbacks.size() >= MAX_EVENT_LOG_SIZE) {
+            mCallbacks.remove(0);
+            mEventLogDroppedCount++;
+            notifyItemRemoved(0);
         }
+        mCallbacks.add(item);
+        notifyItemInserted(mCallbacks.size() - 1);
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
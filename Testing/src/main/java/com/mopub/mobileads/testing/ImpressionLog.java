@@ -0,0 +1,219 @@
+// Copyright 2018-2020 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.network.ImpressionData;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM_WITH_THROWABLE;
+
+/**
+ * Keeps the most recent impressions in a fixed-size ring buffer, so long sessions do not grow
+ * memory. Impressions are stored as received and only formatted when shown or exported.
+ * <p>
+ * Impressions can also be streamed to a JSON Lines file. Lines are appended on a background
+ * thread as impressions arrive.
+ */
+class ImpressionLog {
+    static final int DEFAULT_CAPACITY = 1000;
+
+    interface ExportListener {
+        /**
+         * Called on the export thread when the export file can't be opened. The export has
+         * already been stopped.
+         */
+        void onExportFailed(@NonNull File file, @NonNull IOException exception);
+    }
+
+    static class Entry {
+        @NonNull
+        final String mAdUnitId;
+        @Nullable
+        final ImpressionData mImpressionData;
+
+        Entry(@NonNull final String adUnitId, @Nullable final ImpressionData impressionData) {
+            mAdUnitId = adUnitId;
+            mImpressionData = impressionData;
+        }
+
+        /**
+         * @return the impression formatted for display.
+         */
+        @NonNull
+        String format() {
+            if (mImpressionData == null) {
+                return "adUnitId: " + mAdUnitId + "\ndata= null";
+            }
+            try {
+                return mImpressionData.getJsonRepresentation().toString(2);
+            } catch (JSONException e) {
+                MoPubLog.log(CUSTOM_WITH_THROWABLE, "Can't format impression data.", e);
+                return "adUnitId: " + mAdUnitId;
+            }
+        }
+
+        @NonNull
+        String toJsonLine() throws JSONException {
+            if (mImpressionData != null) {
+                return mImpressionData.getJsonRepresentation().toString();
+            }
+            final JSONObject json = new JSONObject();
+            json.put("adUnitId", mAdUnitId);
+            json.put("data", JSONObject.NULL);
+            return json.toString();
+        }
+    }
+
+    // The ring buffer and mExporting are guarded by this. Export tasks are queued while holding
+    // the lock, so the file gets each impression exactly once and in order.
+    @NonNull
+    private final Entry[] mEntries;
+    // Index the next entry is written to.
+    private int mHead;
+    private int mSize;
+    private boolean mExporting;
+
+    @NonNull
+    private final ExecutorService mExportExecutor = Executors.newSingleThreadExecutor();
+    // Only touched on the export thread.
+    @Nullable
+    private Writer mExportWriter;
+
+    ImpressionLog(final int capacity) {
+        Preconditions.checkArgument(capacity > 0);
+        mEntries = new Entry[capacity];
+    }
+
+    void add(@NonNull final String adUnitId, @Nullable final ImpressionData impressionData) {
+        final Entry entry = new Entry(adUnitId, impressionData);
+
+        synchronized (this) {
+            mEntries[mHead] = entry;
+            mHead = (mHead + 1) % mEntries.length;
+            mSize = Math.min(mSize + 1, mEntries.length);
+
+            if (mExporting) {
+                mExportExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        writeLine(entry);
+                    }
+                });
+            }
+        }
+    }
+
+    synchronized void clear() {
+        for (int i = 0; i < mEntries.length; i++) {
+            mEntries[i] = null;
+        }
+        mHead = 0;
+        mSize = 0;
+    }
+
+    /**
+     * @return the stored entries, newest first. Only the references are copied.
+     */
+    @NonNull
+    synchronized List<Entry> snapshot() {
+        final List<Entry> entries = new ArrayList<>(mSize);
+        for (int i = 1; i <= mSize; i++) {
+            entries.add(mEntries[(mHead - i + mEntries.length) % mEntries.length]);
+        }
+        return entries;
+    }
+
+    synchronized boolean isExporting() {
+        return mExporting;
+    }
+
+    /**
+     * Starts appending impressions to the given file, beginning with the ones already stored.
+     */
+    synchronized void startExport(@NonNull final File file, @NonNull final ExportListener listener) {
+        Preconditions.checkNotNull(file);
+        Preconditions.checkNotNull(listener);
+
+        if (mExporting) {
+            return;
+        }
+
+        final List<Entry> stored = snapshot();
+        mExporting = true;
+
+        mExportExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    mExportWriter = new BufferedWriter(new FileWriter(file, true));
+                } catch (IOException e) {
+                    MoPubLog.log(CUSTOM_WITH_THROWABLE, "Can't open impression export file.", e);
+                    synchronized (ImpressionLog.this) {
+                        mExporting = false;
+                    }
+                    listener.onExportFailed(file, e);
+                    return;
+                }
+                // The snapshot is newest first.
+                for (int i = stored.size() - 1; i >= 0; i--) {
+                    writeLine(stored.get(i));
+                }
+            }
+        });
+    }
+
+    synchronized void stopExport() {
+        if (!mExporting) {
+            return;
+        }
+        mExporting = false;
+
+        mExportExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (mExportWriter == null) {
+                    return;
+                }
+                try {
+                    mExportWriter.close();
+                } catch (IOException e) {
+                    MoPubLog.log(CUSTOM_WITH_THROWABLE, "Can't close impression export file.", e);
+                }
+                mExportWriter = null;
+            }
+        });
+    }
+
+    private void writeLine(@NonNull final Entry entry) {
+        if (mExportWriter == null) {
+            return;
+        }
+        try {
+            mExportWriter.write(entry.toJsonLine());
+            mExportWriter.write('\n');
+            // Keep the file complete if the app is killed during a soak run.
+            mExportWriter.flush();
+        } catch (IOException | JSONException e) {
+            MoPubLog.log(CUSTOM_WITH_THROWABLE, "Can't export impression.", e);
+        }
+    }
+}
@@ -33,8 +33,6 @@ import static androidx.recyclerview.widget.DividerItemDecoration.VERTICAL;
  * create an instance of this fragment.
  */
 public class ImpressionsInfoFragment extends Fragment {
-    private static final String ARG_IMPRESSIONS_LIST = "list_of_impressions";
-
     @Nullable
     private ImpressionsInfoAdapter adapter;
     private View fragmentView;
@@ -44,25 +42,22 @@ public class ImpressionsInfoFragment extends Fragment {
 
     /**
      * Use this factory method to create a new instance of
-     * this fragment using the provided parameter.
+     * this fragment. Impressions are read from the {@link ImpressionLog} of
+     * {@link MoPubSampleActivity}.
      *
-     * @param impressions - list of impressions.
      * @return A new instance of fragment ImpressionsInfoFragment.
      */
-    public static ImpressionsInfoFragment newInstance(@NonNull ArrayList<String> impressions) {
-        final ImpressionsInfoFragment fragment = new ImpressionsInfoFragment();
-        final Bundle args = new Bundle();
-        args.putStringArrayList(ARG_IMPRESSIONS_LIST, impressions);
-        fragment.setArguments(args);
-        return fragment;
+    public static ImpressionsInfoFragment newInstance() {
+        return new ImpressionsInfoFragment();
     }
 
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container,
                              Bundle savedInstanceState) {
-        ArrayList<String> impressionsList = null;
-        if (getArguments() != null) {
-            impressionsList = getArguments().getStringArrayList(ARG_IMPRESSIONS_LIST);
+        List<ImpressionLog.Entry> impressionsList = null;
+        final Activity hostActivity = getActivity();
+        if (hostActivity instanceof MoPubSampleActivity) {
+            impressionsList = ((MoPubSampleActivity) hostActivity).getImpressionLog().snapshot();
         }
 
         // Inflate the layout for this fragment
@@ -75,7 +70,7 @@ public class ImpressionsInfoFragment extends Fragment {
         recyclerView.addItemDecoration(new DividerItemDecoration(recyclerView.getContext(), VERTICAL));
         recyclerView.setDescendantFocusability(FOCUS_AFTER_DESCENDANTS);
 
-        if (adapter.stringList.size() > 0) {
+        if (adapter.impressions.size() > 0) {
             fragmentView.findViewById(R.id.text_no_impressions).setVisibility(View.GONE);
         }
 
@@ -96,28 +91,29 @@ public class ImpressionsInfoFragment extends Fragment {
     void onClear() {
         fragmentView.findViewById(R.id.text_no_impressions).setVisibility(View.VISIBLE);
         if (adapter != null) {
-            adapter.stringList.clear();
+            adapter.impressions.clear();
             adapter.notifyDataSetChanged();
         }
     }
 
     /**
-     * RecyclerView adapter for the impression data list
+     * RecyclerView adapter for the impression data list. Impressions are formatted as their rows
+     * are bound.
      */
     static class ImpressionsInfoAdapter extends RecyclerView.Adapter<ImpressionsInfoAdapter.ImpressionsViewHolder> {
         @NonNull
-        final List<String> stringList;
+        final List<ImpressionLog.Entry> impressions;
         private final int mBackgroundLight;
         private final int mBackgroundDark;
 
-        ImpressionsInfoAdapter(@NonNull final Context context, @Nullable final List<String> list) {
+        ImpressionsInfoAdapter(@NonNull final Context context, @Nullable final List<ImpressionLog.Entry> list) {
             mBackgroundDark = context.getResources().getColor(R.color.listDark);
             mBackgroundLight = context.getResources().getColor(R.color.listLight);
 
             if (list != null) {
-                stringList = list;
+                impressions = list;
             } else {
-                stringList = new ArrayList<>();
+                impressions = new ArrayList<>();
             }
         }
 
@@ -132,12 +128,12 @@ public class ImpressionsInfoFragment extends Fragment {
         @Override
         public void onBindViewHolder(@NonNull ImpressionsViewHolder viewHolder, int i) {
             final int color = (i & 1) == 0 ? mBackgroundDark : mBackgroundLight;
-            viewHolder.bindViewHolder(stringList.get(i), color);
+            viewHolder.bindViewHolder(impressions.get(i).format(), color);
         }
 
         @Override
         public int getItemCount() {
-            return stringList.size();
+            return impressions.size();
         }
 
         /**
@@ -0,0 +1,696 @@
+// Copyright 2018-2020 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.MoPubReward;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.MoPubErrorCode;
+import com.mopub.mobileads.MoPubInterstitial;
+import com.mopub.mobileads.MoPubRewardedAdListener;
+import com.mopub.mobileads.MoPubRewardedAds;
+import com.mopub.mobileads.MoPubView;
+import com.mopub.nativeads.FacebookAdRenderer;
+import com.mopub.nativeads.GooglePlayServicesAdRenderer;
+import com.mopub.nativeads.GooglePlayServicesViewBinder;
+import com.mopub.nativeads.MintegralAdRenderer;
+import com.mopub.nativeads.MoPubNative;
+import com.mopub.nativeads.MoPubStaticNativeAdRenderer;
+import com.mopub.nativeads.NativeAd;
+import com.mopub.nativeads.NativeErrorCode;
+import com.mopub.nativeads.PangleAdRenderer;
+import com.mopub.nativeads.PangleAdViewBinder;
+import com.mopub.nativeads.ReferenceNativeAdRenderer;
+import com.mopub.nativeads.VerizonNativeAdRenderer;
+import com.mopub.nativeads.ViewBinder;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM;
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.ERROR_WITH_THROWABLE;
+
+/**
+ * Loads a set of saved ad units repeatedly and records how each load ends, so network latency
+ * can be compared across adapter versions on the same device. Ads are loaded but never shown.
+ * <p>
+ * Loads either run one at a time, or all at once. Rewarded ads are always loaded one at a time
+ * per ad unit, since the SDK tracks a single rewarded load per ad unit. Since ads are never
+ * shown, a rewarded ad unit that has filled once keeps its ad, and later attempts for it are
+ * answered from that ad without a request. Those attempts are marked as cached and left out of
+ * the fill rate and percentiles.
+ * <p>
+ * Must be used on the main thread.
+ */
+class LoadBenchmark {
+    enum Format {
+        BANNER("Banner"),
+        INTERSTITIAL("Interstitial"),
+        REWARDED("Rewarded"),
+        NATIVE("Native");
+
+        @NonNull
+        private final String mName;
+
+        Format(@NonNull final String name) {
+            mName = name;
+        }
+
+        @NonNull
+        String getName() {
+            return mName;
+        }
+
+        @NonNull
+        static Format fromAdType(@NonNull final MoPubSampleAdUnit.AdType adType) {
+            switch (adType) {
+                case BANNER:
+                case MEDIUM_RECTANGLE:
+                    return BANNER;
+                case INTERSTITIAL:
+                    return INTERSTITIAL;
+                case REWARDED_VIDEO:
+                    return REWARDED;
+                default:
+                    return NATIVE;
+            }
+        }
+    }
+
+    interface Listener {
+        void onAttemptFinished(@NonNull Attempt attempt);
+
+        void onBenchmarkFinished();
+    }
+
+    /**
+     * The outcome of one load.
+     */
+    static class Attempt {
+        @NonNull
+        final MoPubSampleAdUnit mAdUnit;
+        @NonNull
+        final Format mFormat;
+        final int mIndex;
+
+        long mStartTimeMillis;
+        private long mStartElapsedMillis;
+        long mTimeToLoadMillis = -1;
+        boolean mFilled;
+        @Nullable
+        String mErrorCode;
+        @Nullable
+        String mNetwork;
+        // Answered from an ad that was already loaded, without a request.
+        boolean mCached;
+
+        Attempt(@NonNull final MoPubSampleAdUnit adUnit, final int index) {
+            mAdUnit = adUnit;
+            mFormat = Format.fromAdType(adUnit.getAdType());
+            mIndex = index;
+        }
+
+        boolean isFinished() {
+            return mTimeToLoadMillis >= 0;
+        }
+    }
+
+    /**
+     * Time-to-load percentiles of the filled loads of one format. Cached attempts are only
+     * counted in {@link #mCached}.
+     */
+    static class Stats {
+        int mAttempts;
+        int mFills;
+        int mCached;
+        long mP50Millis;
+        long mP95Millis;
+        long mP99Millis;
+    }
+
+    private static final String EXPORT_DIRECTORY = "load_benchmarks";
+
+    @NonNull
+    private final Activity mActivity;
+    @NonNull
+    private final Listener mListener;
+    private final boolean mConcurrent;
+
+    @NonNull
+    private final List<Attempt> mAttempts = new ArrayList<>();
+    @NonNull
+    private final LinkedList<Attempt> mQueue = new LinkedList<>();
+    @NonNull
+    private final List<Runnable> mInFlightCleanups = new ArrayList<>();
+    // Rewarded loads are reported by ad unit id, so only one may run per ad unit.
+    @NonNull
+    private final Map<String, Attempt> mRewardedInFlight = new HashMap<>();
+    private int mInFlightCount;
+    private boolean mRunning;
+
+    LoadBenchmark(@NonNull final Activity activity,
+                  @NonNull final List<MoPubSampleAdUnit> adUnits,
+                  final int attemptsPerAdUnit,
+                  final boolean concurrent,
+                  @NonNull final Listener listener) {
+        Preconditions.checkNotNull(activity);
+        Preconditions.checkNotNull(adUnits);
+        Preconditions.checkNotNull(listener);
+
+        mActivity = activity;
+        mListener = listener;
+        mConcurrent = concurrent;
+
+        for (final MoPubSampleAdUnit adUnit : adUnits) {
+            for (int i = 0; i < attemptsPerAdUnit; i++) {
+                final Attempt attempt = new Attempt(adUnit, i);
+                mAttempts.add(attempt);
+                mQueue.add(attempt);
+            }
+        }
+    }
+
+    void start() {
+        if (mRunning) {
+            return;
+        }
+        mRunning = true;
+        MoPubRewardedAds.setRewardedAdListener(mRewardedAdListener);
+        launchNext();
+    }
+
+    /**
+     * Stops queued loads and destroys the ads still loading. Attempts that have not finished are
+     * left out of the results.
+     */
+    void cancel() {
+        mQueue.clear();
+        for (final Runnable cleanup : new ArrayList<>(mInFlightCleanups)) {
+            cleanup.run();
+        }
+        mInFlightCleanups.clear();
+        mRewardedInFlight.clear();
+        mInFlightCount = 0;
+        finish();
+    }
+
+    boolean isRunning() {
+        return mRunning;
+    }
+
+    int getTotalAttemptCount() {
+        return mAttempts.size();
+    }
+
+    int getFinishedAttemptCount() {
+        return getFinishedAttempts().size();
+    }
+
+    @NonNull
+    Stats getStats(@NonNull final Format format) {
+        final Stats stats = new Stats();
+        final List<Long> loadTimes = new ArrayList<>();
+
+        for (final Attempt attempt : getFinishedAttempts()) {
+            if (attempt.mFormat != format) {
+                continue;
+            }
+            if (attempt.mCached) {
+                stats.mCached++;
+                continue;
+            }
+            stats.mAttempts++;
+            if (attempt.mFilled) {
+                stats.mFills++;
+                loadTimes.add(attempt.mTimeToLoadMillis);
+            }
+        }
+
+        Collections.sort(loadTimes);
+        stats.mP50Millis = percentile(loadTimes, 50);
+        stats.mP95Millis = percentile(loadTimes, 95);
+        stats.mP99Millis = percentile(loadTimes, 99);
+        return stats;
+    }
+
+    /**
+     * Writes the finished attempts as both CSV and JSON to the app's external files directory.
+     *
+     * @return the CSV file, or {@code null} if writing failed.
+     */
+    @Nullable
+    File export(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        File directory = context.getExternalFilesDir(EXPORT_DIRECTORY);
+        if (directory == null) {
+            directory = new File(context.getFilesDir(), EXPORT_DIRECTORY);
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            MoPubLog.log(CUSTOM, "Unable to create " + directory);
+            return null;
+        }
+
+        final String baseName = "load_benchmark_" + System.currentTimeMillis();
+        final File csvFile = new File(directory, baseName + ".csv");
+        final File jsonFile = new File(directory, baseName + ".json");
+        final List<Attempt> attempts = getFinishedAttempts();
+
+        try {
+            write(csvFile, toCsv(attempts));
+            write(jsonFile, toJson(attempts).toString(2));
+        } catch (IOException | JSONException e) {
+            MoPubLog.log(ERROR_WITH_THROWABLE, "Failed to export load benchmark", e);
+            return null;
+        }
+        return csvFile;
+    }
+
+    private void launchNext() {
+        // Loads can fail synchronously and re-enter this method, so take one attempt at a time.
+        while (mRunning && (mConcurrent || mInFlightCount == 0)) {
+            final Attempt attempt = pollLaunchableAttempt();
+            if (attempt == null) {
+                break;
+            }
+            launch(attempt);
+        }
+
+        if (mRunning && mQueue.isEmpty() && mInFlightCount == 0) {
+            finish();
+        }
+    }
+
+    @Nullable
+    private Attempt pollLaunchableAttempt() {
+        final Iterator<Attempt> iterator = mQueue.iterator();
+        while (iterator.hasNext()) {
+            final Attempt attempt = iterator.next();
+            if (attempt.mFormat == Format.REWARDED
+                    && mRewardedInFlight.containsKey(attempt.mAdUnit.getAdUnitId())) {
+                continue;
+            }
+            iterator.remove();
+            return attempt;
+        }
+        return null;
+    }
+
+    private void launch(@NonNull final Attempt attempt) {
+        mInFlightCount++;
+        attempt.mStartTimeMillis = System.currentTimeMillis();
+        attempt.mStartElapsedMillis = SystemClock.elapsedRealtime();
+
+        switch (attempt.mFormat) {
+            case BANNER:
+                loadBanner(attempt);
+                break;
+            case INTERSTITIAL:
+                loadInterstitial(attempt);
+                break;
+            case REWARDED:
+                loadRewarded(attempt);
+                break;
+            case NATIVE:
+            default:
+                loadNative(attempt);
+                break;
+        }
+    }
+
+    private void onAttemptFinished(@NonNull final Attempt attempt, final boolean filled,
+                                   @Nullable final String errorCode, @Nullable final String network,
+                                   @Nullable final Runnable cleanup) {
+        if (!mRunning || attempt.isFinished()) {
+            return;
+        }
+
+        attempt.mTimeToLoadMillis = SystemClock.elapsedRealtime() - attempt.mStartElapsedMillis;
+        attempt.mFilled = filled;
+        attempt.mErrorCode = errorCode;
+        attempt.mNetwork = network;
+
+        if (cleanup != null) {
+            mInFlightCleanups.remove(cleanup);
+            cleanup.run();
+        }
+        mInFlightCount--;
+
+        mListener.onAttemptFinished(attempt);
+        launchNext();
+    }
+
+    private void finish() {
+        if (!mRunning) {
+            return;
+        }
+        mRunning = false;
+        MoPubRewardedAds.setRewardedAdListener(null);
+        mListener.onBenchmarkFinished();
+    }
+
+    private void loadBanner(@NonNull final Attempt attempt) {
+        final MoPubView moPubView = new MoPubView(mActivity);
+        final Runnable cleanup = new Runnable() {
+            @Override
+            public void run() {
+                moPubView.destroy();
+            }
+        };
+        mInFlightCleanups.add(cleanup);
+
+        moPubView.setAdUnitId(attempt.mAdUnit.getAdUnitId());
+        moPubView.setKeywords(attempt.mAdUnit.getKeywords());
+        moPubView.setAdSize(attempt.mAdUnit.getAdType() == MoPubSampleAdUnit.AdType.MEDIUM_RECTANGLE
+                ? MoPubView.MoPubAdSize.HEIGHT_280
+                : MoPubView.MoPubAdSize.HEIGHT_250);
+        moPubView.setAutorefreshEnabled(false);
+        moPubView.setBannerAdListener(new MoPubView.BannerAdListener() {
+            @Override
+            public void onBannerLoaded(@NonNull final MoPubView banner) {
+                onAttemptFinished(attempt, true, null, null, cleanup);
+            }
+
+            @Override
+            public void onBannerFailed(final MoPubView banner, final MoPubErrorCode errorCode) {
+                onAttemptFinished(attempt, false, String.valueOf(errorCode), null, cleanup);
+            }
+
+            @Override
+            public void onBannerClicked(final MoPubView banner) {
+            }
+
+            @Override
+            public void onBannerExpanded(final MoPubView banner) {
+            }
+
+            @Override
+            public void onBannerCollapsed(final MoPubView banner) {
+            }
+        });
+        moPubView.loadAd();
+    }
+
+    private void loadInterstitial(@NonNull final Attempt attempt) {
+        final MoPubInterstitial interstitial =
+                new MoPubInterstitial(mActivity, attempt.mAdUnit.getAdUnitId());
+        final Runnable cleanup = new Runnable() {
+            @Override
+            public void run() {
+                interstitial.destroy();
+            }
+        };
+        mInFlightCleanups.add(cleanup);
+
+        interstitial.setKeywords(attempt.mAdUnit.getKeywords());
+        interstitial.setInterstitialAdListener(new MoPubInterstitial.InterstitialAdListener() {
+            @Override
+            public void onInterstitialLoaded(final MoPubInterstitial interstitial) {
+                onAttemptFinished(attempt, true, null, null, cleanup);
+            }
+
+            @Override
+            public void onInterstitialFailed(final MoPubInterstitial interstitial,
+                                             final MoPubErrorCode errorCode) {
+                onAttemptFinished(attempt, false, String.valueOf(errorCode), null, cleanup);
+            }
+
+            @Override
+            public void onInterstitialShown(final MoPubInterstitial interstitial) {
+            }
+
+            @Override
+            public void onInterstitialClicked(final MoPubInterstitial interstitial) {
+            }
+
+            @Override
+            public void onInterstitialDismissed(final MoPubInterstitial interstitial) {
+            }
+        });
+        interstitial.load();
+    }
+
+    private void loadRewarded(@NonNull final Attempt attempt) {
+        final String adUnitId = attempt.mAdUnit.getAdUnitId();
+
+        // A rewarded ad that is already loaded is returned without a new request, so its time to
+        // load says nothing about the network.
+        if (MoPubRewardedAds.hasRewardedAd(adUnitId)) {
+            attempt.mCached = true;
+            mRewardedInFlight.put(adUnitId, attempt);
+            onRewardedResult(adUnitId, true, null, null);
+            return;
+        }
+
+        mRewardedInFlight.put(adUnitId, attempt);
+        MoPubRewardedAds.loadRewardedAd(adUnitId,
+                new MoPubRewardedAds.RequestParameters(attempt.mAdUnit.getKeywords()));
+    }
+
+    private void onRewardedResult(@NonNull final String adUnitId, final boolean filled,
+                                  @Nullable final String errorCode, @Nullable final String network) {
+        final Attempt attempt = mRewardedInFlight.remove(adUnitId);
+        if (attempt != null) {
+            onAttemptFinished(attempt, filled, errorCode, network, null);
+        }
+    }
+
+    private void loadNative(@NonNull final Attempt attempt) {
+        final MoPubNative[] moPubNative = new MoPubNative[1];
+        final Runnable cleanup = new Runnable() {
+            @Override
+            public void run() {
+                moPubNative[0].destroy();
+            }
+        };
+        mInFlightCleanups.add(cleanup);
+
+        moPubNative[0] = new MoPubNative(mActivity, attempt.mAdUnit.getAdUnitId(),
+                new MoPubNative.MoPubNativeNetworkListener() {
+                    @Override
+                    public void onNativeLoad(final NativeAd nativeAd) {
+                        final String network = nativeAd.getBaseNativeAd().getClass().getSimpleName();
+                        nativeAd.destroy();
+                        onAttemptFinished(attempt, true, null, network, cleanup);
+                    }
+
+                    @Override
+                    public void onNativeFail(final NativeErrorCode errorCode) {
+                        onAttemptFinished(attempt, false, String.valueOf(errorCode), null, cleanup);
+                    }
+                });
+        registerNativeAdRenderers(moPubNative[0]);
+        moPubNative[0].makeRequest();
+    }
+
+    /**
+     * Registers the same renderers as the native sample screens, so a load is not failed because
+     * no renderer supports the winning network.
+     */
+    private static void registerNativeAdRenderers(@NonNull final MoPubNative moPubNative) {
+        moPubNative.registerAdRenderer(new MintegralAdRenderer(
+                new MintegralAdRenderer.ViewBinder.Builder(R.layout.native_ad_list_item)
+                        .titleId(R.id.native_title)
+                        .textId(R.id.native_text)
+                        .mainImageId(R.id.native_main_image)
+                        .iconImageId(R.id.native_icon_image)
+                        .callToActionId(R.id.native_cta)
+                        .build()));
+        moPubNative.registerAdRenderer(new FacebookAdRenderer(
+                new FacebookAdRenderer.FacebookViewBinder.Builder(R.layout.native_ad_fan_list_item)
+                        .titleId(R.id.native_title)
+                        .textId(R.id.native_text)
+                        .mediaViewId(R.id.native_media_view)
+                        .adIconViewId(R.id.native_icon)
+                        .callToActionId(R.id.native_cta)
+                        .adChoicesRelativeLayoutId(R.id.native_privacy_information_icon_layout)
+                        .build()));
+        moPubNative.registerAdRenderer(new GooglePlayServicesAdRenderer(
+                new GooglePlayServicesViewBinder.Builder(R.layout.video_ad_list_item)
+                        .titleId(R.id.native_title)
+                        .textId(R.id.native_text)
+                        .mediaLayoutId(R.id.native_media_layout)
+                        .iconImageId(R.id.native_icon_image)
+                        .callToActionId(R.id.native_cta)
+                        .privacyInformationIconImageId(R.id.native_privacy_information_icon_image)
+                        .build()));
+        moPubNative.registerAdRenderer(new VerizonNativeAdRenderer(
+                new ViewBinder.Builder(R.layout.native_ad_list_item)
+                        .titleId(R.id.native_title)
+                        .textId(R.id.native_text)
+                        .mainImageId(R.id.native_main_image)
+                        .iconImageId(R.id.native_icon_image)
+                        .callToActionId(R.id.native_cta)
+                        .privacyInformationIconImageId(R.id.native_privacy_information_icon_image)
+                        .build()));
+        moPubNative.registerAdRenderer(new PangleAdRenderer(
+                new PangleAdViewBinder.Builder(R.layout.native_ad_pangle_list_item)
+                        .callToActionId(R.id.native_cta)
+                        .decriptionTextId(R.id.native_text)
+                        .iconImageId(R.id.native_icon_image)
+                        .titleId(R.id.native_title)
+                        .mediaViewIdId(R.id.native_main_image)
+                        .build()));
+        moPubNative.registerAdRenderer(new ReferenceNativeAdRenderer(
+                new ReferenceNativeAdRenderer.ReferenceViewBinder.Builder(R.layout.native_ad_list_item)
+                        .titleId(R.id.native_title)
+                        .textId(R.id.native_text)
+                        .mainImageId(R.id.native_main_image)
+                        .iconImageId(R.id.native_icon_image)
+                        .callToActionId(R.id.native_cta)
+                        .adChoicesRelativeLayoutId(R.id.native_privacy_information_icon_layout)
+                        .build()));
+        moPubNative.registerAdRenderer(new MoPubStaticNativeAdRenderer(
+                new ViewBinder.Builder(R.layout.native_ad_list_item)
+                        .titleId(R.id.native_title)
+                        .textId(R.id.native_text)
+                        .mainImageId(R.id.native_main_image)
+                        .iconImageId(R.id.native_icon_image)
+                        .callToActionId(R.id.native_cta)
+                        .privacyInformationIconImageId(R.id.native_privacy_information_icon_image)
+                        .sponsoredTextId(R.id.native_sponsored_text_view)
+                        .build()));
+    }
+
+    @NonNull
+    private final MoPubRewardedAdListener mRewardedAdListener = new MoPubRewardedAdListener() {
+        @Override
+        public void onRewardedAdLoadSuccess(@NonNull final String adUnitId) {
+            onRewardedResult(adUnitId, true, null, null);
+        }
+
+        @Override
+        public void onRewardedAdLoadFailure(@NonNull final String adUnitId,
+                                            @NonNull final MoPubErrorCode errorCode) {
+            onRewardedResult(adUnitId, false, errorCode.toString(), null);
+        }
+
+        @Override
+        public void onRewardedAdStarted(@NonNull final String adUnitId) {
+        }
+
+        @Override
+        public void onRewardedAdShowError(@NonNull final String adUnitId,
+                                          @NonNull final MoPubErrorCode errorCode) {
+        }
+
+        @Override
+        public void onRewardedAdClicked(@NonNull final String adUnitId) {
+        }
+
+        @Override
+        public void onRewardedAdClosed(@NonNull final String adUnitId) {
+        }
+
+        @Override
+        public void onRewardedAdCompleted(@NonNull final Set<String> adUnitIds,
+                                          @NonNull final MoPubReward reward) {
+        }
+    };
+
+    @NonNull
+    private List<Attempt> getFinishedAttempts() {
+        final List<Attempt> finished = new ArrayList<>();
+        for (final Attempt attempt : mAttempts) {
+            if (attempt.isFinished()) {
+                finished.add(attempt);
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted list, or -1 if the list is empty.
+     */
+    private static long percentile(@NonNull final List<Long> sortedValues, final int percentile) {
+        if (sortedValues.isEmpty()) {
+            return -1;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.size());
+        return sortedValues.get(Math.max(0, rank - 1));
+    }
+
+    @NonNull
+    private static String toCsv(@NonNull final List<Attempt> attempts) {
+        final StringBuilder builder = new StringBuilder(
+                "ad_unit_id,description,format,attempt,start_time_millis,time_to_load_millis," +
+                        "filled,cached,error_code,network\n");
+        for (final Attempt attempt : attempts) {
+            builder.append(attempt.mAdUnit.getAdUnitId()).append(',')
+                    .append(csvEscape(attempt.mAdUnit.getDescription())).append(',')
+                    .append(attempt.mFormat.getName()).append(',')
+                    .append(attempt.mIndex).append(',')
+                    .append(attempt.mStartTimeMillis).append(',')
+                    .append(attempt.mTimeToLoadMillis).append(',')
+                    .append(attempt.mFilled).append(',')
+                    .append(attempt.mCached).append(',')
+                    .append(csvEscape(attempt.mErrorCode)).append(',')
+                    .append(csvEscape(attempt.mNetwork)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @NonNull
+    private static JSONArray toJson(@NonNull final List<Attempt> attempts) throws JSONException {
+        final JSONArray array = new JSONArray();
+        for (final Attempt attempt : attempts) {
+            final JSONObject object = new JSONObject();
+            object.put("ad_unit_id", attempt.mAdUnit.getAdUnitId());
+            object.put("description", attempt.mAdUnit.getDescription());
+            object.put("format", attempt.mFormat.getName());
+            object.put("attempt", attempt.mIndex);
+            object.put("start_time_millis", attempt.mStartTimeMillis);
+            object.put("time_to_load_millis", attempt.mTimeToLoadMillis);
+            object.put("filled", attempt.mFilled);
+            object.put("cached", attempt.mCached);
+            object.put("error_code", attempt.mErrorCode == null ? JSONObject.NULL : attempt.mErrorCode);
+            object.put("network", attempt.mNetwork == null ? JSONObject.NULL : attempt.mNetwork);
+            array.put(object);
+        }
+        return array;
+    }
+
+    @NonNull
+    private static String csvEscape(@Nullable final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void write(@NonNull final File file, @NonNull final String contents)
+            throws IOException {
+        final Writer writer = new FileWriter(file);
+        try {
+            writer.write(contents);
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+// Copyright 2018-2020 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import android.app.Activity;
+import android.app.AlertDialog;
+import android.content.DialogInterface;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.CheckBox;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static com.mopub.mobileads.testing.Utils.logToast;
+
+/**
+ * Runs a {@link LoadBenchmark} over a chosen set of saved ad units and shows live time-to-load
+ * percentiles per ad format.
+ */
+public class LoadBenchmarkFragment extends Fragment implements LoadBenchmark.Listener {
+    @Nullable
+    private AdUnitDataSource mAdUnitDataSource;
+    @Nullable
+    private LoadBenchmark mLoadBenchmark;
+
+    private EditText mAttemptsField;
+    private CheckBox mConcurrentCheckBox;
+    private Button mStartButton;
+    private Button mStopButton;
+    private Button mExportButton;
+    private TextView mResultsView;
+
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
+        final View view = inflater.inflate(R.layout.load_benchmark_fragment, container, false);
+
+        mAttemptsField = view.findViewById(R.id.benchmark_attempts);
+        mConcurrentCheckBox = view.findViewById(R.id.benchmark_concurrent);
+        mStartButton = view.findViewById(R.id.benchmark_start_btn);
+        mStopButton = view.findViewById(R.id.benchmark_stop_btn);
+        mExportButton = view.findViewById(R.id.benchmark_export_btn);
+        mResultsView = view.findViewById(R.id.benchmark_results);
+
+        mStartButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                chooseAdUnits();
+            }
+        });
+        mStopButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                if (mLoadBenchmark != null) {
+                    mLoadBenchmark.cancel();
+                }
+            }
+        });
+        mExportButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                exportResults();
+            }
+        });
+
+        final Button closeButton = view.findViewById(R.id.benchmark_close_btn);
+        closeButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                final Activity activity = getActivity();
+                if (activity != null) {
+                    activity.onBackPressed();
+                }
+            }
+        });
+
+        mAdUnitDataSource = new AdUnitDataSource(view.getContext());
+        return view;
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+
+        if (mLoadBenchmark != null) {
+            mLoadBenchmark.cancel();
+            mLoadBenchmark = null;
+        }
+        if (mAdUnitDataSource != null) {
+            mAdUnitDataSource.close();
+            mAdUnitDataSource = null;
+        }
+    }
+
+    private void chooseAdUnits() {
+        if (mAdUnitDataSource == null) {
+            return;
+        }
+
+        mAdUnitDataSource.loadAllAdUnits(new AdUnitDataSource.Callback<List<MoPubSampleAdUnit>>() {
+            @Override
+            public void onResult(@NonNull final List<MoPubSampleAdUnit> adUnits) {
+                final Activity activity = getActivity();
+                if (activity == null || !isAdded()) {
+                    return;
+                }
+                showAdUnitDialog(activity, adUnits);
+            }
+        });
+    }
+
+    private void showAdUnitDialog(@NonNull final Activity activity,
+                                  @NonNull final List<MoPubSampleAdUnit> adUnits) {
+        final List<MoPubSampleAdUnit> sortedAdUnits = new ArrayList<>(adUnits);
+        Collections.sort(sortedAdUnits, MoPubSampleAdUnit.COMPARATOR);
+
+        final String[] names = new String[sortedAdUnits.size()];
+        final boolean[] checked = new boolean[sortedAdUnits.size()];
+        for (int i = 0; i < sortedAdUnits.size(); i++) {
+            final MoPubSampleAdUnit adUnit = sortedAdUnits.get(i);
+            names[i] = adUnit.getHeaderName() + ": " + adUnit.getDescription();
+        }
+
+        new AlertDialog.Builder(activity)
+                .setTitle(R.string.benchmark_select_ad_units)
+                .setMultiChoiceItems(names, checked, new DialogInterface.OnMultiChoiceClickListener() {
+                    @Override
+                    public void onClick(DialogInterface dialog, int which, boolean isChecked) {
+                        checked[which] = isChecked;
+                    }
+                })
+                .setPositiveButton(R.string.benchmark_start, new DialogInterface.OnClickListener() {
+                    @Override
+                    public void onClick(DialogInterface dialog, int which) {
+                        final List<MoPubSampleAdUnit> selected = new ArrayList<>();
+                        for (int i = 0; i < checked.length; i++) {
+                            if (checked[i]) {
+                                selected.add(sortedAdUnits.get(i));
+                            }
+                        }
+                        startBenchmark(selected);
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    private void startBenchmark(@NonNull final List<MoPubSampleAdUnit> adUnits) {
+        final Activity activity = getActivity();
+        if (activity == null) {
+            return;
+        }
+
+        final int attemptsPerAdUnit = getAttemptsPerAdUnit();
+        if (adUnits.isEmpty() || attemptsPerAdUnit <= 0) {
+            logToast(activity, "Choose at least one ad unit and one load.");
+            return;
+        }
+
+        if (mLoadBenchmark != null) {
+            mLoadBenchmark.cancel();
+        }
+        mLoadBenchmark = new LoadBenchmark(activity, adUnits, attemptsPerAdUnit,
+                mConcurrentCheckBox.isChecked(), this);
+
+        mStartButton.setEnabled(false);
+        mStopButton.setEnabled(true);
+        mExportButton.setEnabled(false);
+        mLoadBenchmark.start();
+        updateResults();
+    }
+
+    private int getAttemptsPerAdUnit() {
+        final String attempts = mAttemptsField.getText().toString();
+        if (TextUtils.isEmpty(attempts)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(attempts);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void exportResults() {
+        if (mLoadBenchmark == null) {
+            return;
+        }
+
+        final File file = mLoadBenchmark.export(mResultsView.getContext());
+        if (file == null) {
+            logToast(getActivity(), "Failed to export load benchmark.");
+        } else {
+            logToast(getActivity(), "Exported to " + file.getParent());
+        }
+    }
+
+    private void updateResults() {
+        final LoadBenchmark benchmark = mLoadBenchmark;
+        if (benchmark == null || mResultsView == null) {
+            return;
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        builder.append(benchmark.isRunning() ? "Running " : "Finished ")
+                .append(benchmark.getFinishedAttemptCount())
+                .append('/')
+                .append(benchmark.getTotalAttemptCount())
+                .append(" loads\n\n");
+
+        for (final LoadBenchmark.Format format : LoadBenchmark.Format.values()) {
+            final LoadBenchmark.Stats stats = benchmark.getStats(format);
+            if (stats.mAttempts == 0 && stats.mCached == 0) {
+                continue;
+            }
+            builder.append(String.format(Locale.US,
+                    "%s\n  fill %d/%d\n  p50 %s  p95 %s  p99 %s\n",
+                    format.getName(), stats.mFills, stats.mAttempts,
+                    formatMillis(stats.mP50Millis), formatMillis(stats.mP95Millis),
+                    formatMillis(stats.mP99Millis)));
+            if (stats.mCached > 0) {
+                builder.append(String.format(Locale.US, "  %d cached, not counted\n",
+                        stats.mCached));
+            }
+            builder.append('\n');
+        }
+
+        mResultsView.setText(builder.toString());
+    }
+
+    @NonNull
+    private static String formatMillis(final long millis) {
+        return millis < 0 ? "-" : millis + "ms";
+    }
+
+    // LoadBenchmark.Listener implementation
+    @Override
+    public void onAttemptFinished(@NonNull final LoadBenchmark.Attempt attempt) {
+        updateResults();
+    }
+
+    @Override
+    public void onBenchmarkFinished() {
+        if (mStartButton != null) {
+            mStartButton.setEnabled(true);
+            mStopButton.setEnabled(false);
+            mExportButton.setEnabled(true);
+        }
+        updateResults();
+    }
+}
@@ -92,9 +92,15 @@ public class MoPubListFragment extends ListFragment implements TrashCanClickList
                 .description(name == null ? "" : name)
                 .keywords(keywords == null ? "" : keywords)
                 .build();
-        final MoPubSampleAdUnit newAdUnit = addAdUnit(adUnit);
-        enterAdFragment(newAdUnit, keywords,
-                deeplinkData.getQueryParameter(USER_DATA_KEYWORDS_KEY));
+        final String userDataKeywords = deeplinkData.getQueryParameter(USER_DATA_KEYWORDS_KEY);
+        addAdUnit(adUnit, new AdUnitDataSource.Callback<MoPubSampleAdUnit>() {
+            @Override
+            public void onResult(@NonNull final MoPubSampleAdUnit newAdUnit) {
+                if (isAdded()) {
+                    enterAdFragment(newAdUnit, keywords, userDataKeywords);
+                }
+            }
+        });
     }
 
     @Override
@@ -219,9 +225,13 @@ public class MoPubListFragment extends ListFragment implements TrashCanClickList
             mAdapter = new MoPubSampleListAdapter(getActivity(), this);
 
             mAdUnitDataSource = new AdUnitDataSource(getActivity());
-
-            // If you have a large amount of data, this loading work should be done in the background.
-            mAdapter.addAll(mAdUnitDataSource.getAllAdUnits());
+            mAdUnitDataSource.loadAllAdUnits(new AdUnitDataSource.Callback<List<MoPubSampleAdUnit>>() {
+                @Override
+                public void onResult(@NonNull final List<MoPubSampleAdUnit> adUnits) {
+                    mAdapter.addAll(adUnits);
+                    syncDbAdapter();
+                }
+            });
 
             setListAdapter(mAdapter);
         }
@@ -237,13 +247,41 @@ public class MoPubListFragment extends ListFragment implements TrashCanClickList
         super.onPause();
     }
 
-    @NonNull
-    MoPubSampleAdUnit addAdUnit(@NonNull final MoPubSampleAdUnit moPubSampleAdUnit) {
+    @Override
+    public void onDestroy() {
+        if (mAdUnitDataSource != null) {
+            mAdUnitDataSource.close();
+            mAdUnitDataSource = null;
+        }
+        super.onDestroy();
+    }
+
+    void addAdUnit(@NonNull final MoPubSampleAdUnit moPubSampleAdUnit,
+                   @Nullable final AdUnitDataSource.Callback<MoPubSampleAdUnit> onAdded) {
         Preconditions.checkNotNull(moPubSampleAdUnit);
 
-        final MoPubSampleAdUnit createdAdUnit =
-                mAdUnitDataSource.createSampleAdUnit(moPubSampleAdUnit);
+        if (mAdUnitDataSource == null) {
+            return;
+        }
+
+        mAdUnitDataSource.createSampleAdUnit(moPubSampleAdUnit,
+                new AdUnitDataSource.Callback<MoPubSampleAdUnit>() {
+                    @Override
+                    public void onResult(@Nullable final MoPubSampleAdUnit createdAdUnit) {
+                        if (createdAdUnit == null) {
+                            logToast(getContext(), "Failed to save " + moPubSampleAdUnit.getAdUnitId());
+                            return;
+                        }
+                        onAdUnitAdded(moPubSampleAdUnit, createdAdUnit);
+                        if (onAdded != null) {
+                            onAdded.onResult(createdAdUnit);
+                        }
+                    }
+                });
+    }
 
+    private void onAdUnitAdded(@NonNull final MoPubSampleAdUnit moPubSampleAdUnit,
+                               @NonNull final MoPubSampleAdUnit createdAdUnit) {
         for (int i = 0; i < mAdapter.getCount(); i++) {
             final MoPubSampleAdUnit currentAdUnit = mAdapter.getItem(i);
             if (currentAdUnit != null &&
@@ -258,11 +296,12 @@ public class MoPubListFragment extends ListFragment implements TrashCanClickList
         }
         mAdapter.add(createdAdUnit);
         syncDbAdapter();
-        return createdAdUnit;
     }
 
     void deleteAdUnit(final MoPubSampleAdUnit moPubSampleAdUnit) {
-        mAdUnitDataSource.deleteSampleAdUnit(moPubSampleAdUnit);
+        if (mAdUnitDataSource != null) {
+            mAdUnitDataSource.deleteSampleAdUnit(moPubSampleAdUnit);
+        }
         mAdapter.remove(moPubSampleAdUnit);
         syncDbAdapter();
     }
@@ -375,7 +414,7 @@ public class MoPubListFragment extends ListFragment implements TrashCanClickList
                                             .keywords(keywords)
                                             .isUserDefined(true)
                                             .build();
-                            ((MoPubListFragment) getTargetFragment()).addAdUnit(sampleAdUnit);
+                            ((MoPubListFragment) getTargetFragment()).addAdUnit(sampleAdUnit, null);
                             dismiss();
                         }
                     })
@@ -18,8 +18,10 @@ class MoPubSQLiteHelper extends SQLiteOpenHelper {
     public static final String COLUMN_AD_TYPE = "adType";
     public static final String COLUMN_KEYWORDS = "keywords";
 
+    private static final String INDEX_AD_UNIT = "adConfigurationsAdUnit";
+
     private static final String DATABASE_NAME = "savedConfigurations.db";
-    private static final int DATABASE_VERSION = 4;
+    private static final int DATABASE_VERSION = 5;
 
     private static final String DATABASE_CREATE = "create table " + TABLE_AD_CONFIGURATIONS
             + " ("
@@ -31,6 +33,15 @@ class MoPubSQLiteHelper extends SQLiteOpenHelper {
             + COLUMN_KEYWORDS + " text not null"
             + ");";
 
+    // Lets saves replace an existing ad unit in one statement instead of deleting it first.
+    private static final String INDEX_AD_UNIT_CREATE = "create unique index "
+            + INDEX_AD_UNIT + " on " + TABLE_AD_CONFIGURATIONS + " ("
+            + COLUMN_AD_UNIT_ID + ", "
+            + COLUMN_AD_TYPE + ", "
+            + COLUMN_KEYWORDS + ", "
+            + COLUMN_USER_GENERATED
+            + ");";
+
     public MoPubSQLiteHelper(final Context context) {
         super(context, DATABASE_NAME, null, DATABASE_VERSION);
     }
@@ -38,6 +49,7 @@ class MoPubSQLiteHelper extends SQLiteOpenHelper {
     @Override
     public void onCreate(SQLiteDatabase sqLiteDatabase) {
         sqLiteDatabase.execSQL(DATABASE_CREATE);
+        sqLiteDatabase.execSQL(INDEX_AD_UNIT_CREATE);
     }
 
     @Override
@@ -51,8 +63,11 @@ class MoPubSQLiteHelper extends SQLiteOpenHelper {
 
     @Override
     public void onUpgrade(SQLiteDatabase database, int oldVersion, int newVersion) {
-        if (oldVersion == 3 && newVersion == 4) {
-            addStringColumn(database, COLUMN_KEYWORDS, "");
+        if ((oldVersion == 3 || oldVersion == 4) && newVersion == 5) {
+            if (oldVersion == 3) {
+                addStringColumn(database, COLUMN_KEYWORDS, "");
+            }
+            addAdUnitIndex(database);
         } else {
             Log.w(MoPubSQLiteHelper.class.getName(),
                     "Upgrading database from version " + oldVersion + " to "
@@ -67,6 +82,18 @@ class MoPubSQLiteHelper extends SQLiteOpenHelper {
         onCreate(database);
     }
 
+    private void addAdUnitIndex(final SQLiteDatabase database) {
+        // Older versions could leave duplicates behind. Keep the newest row of each ad unit.
+        database.execSQL("delete from " + TABLE_AD_CONFIGURATIONS
+                + " where " + COLUMN_ID + " not in (select max(" + COLUMN_ID + ") from "
+                + TABLE_AD_CONFIGURATIONS + " group by "
+                + COLUMN_AD_UNIT_ID + ", "
+                + COLUMN_AD_TYPE + ", "
+                + COLUMN_KEYWORDS + ", "
+                + COLUMN_USER_GENERATED + ")");
+        database.execSQL(INDEX_AD_UNIT_CREATE);
+    }
+
     private void addStringColumn(final SQLiteDatabase database,
                                  final String columnName,
                                  final String defaultValue) {
@@ -42,11 +42,10 @@ import com.mopub.network.ImpressionData;
 import com.mopub.network.ImpressionListener;
 import com.mopub.network.ImpressionsEmitter;
 
-import org.json.JSONException;
-
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingDeque;
 
 import static android.Manifest.permission.ACCESS_COARSE_LOCATION;
 import static android.Manifest.permission.CAMERA;
@@ -54,7 +53,6 @@ import static com.mopub.common.Constants.UNUSED_REQUEST_CODE;
 import static com.mopub.common.logging.MoPubLog.LogLevel.DEBUG;
 import static com.mopub.common.logging.MoPubLog.LogLevel.INFO;
 import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM;
-import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM_WITH_THROWABLE;
 
 public class MoPubSampleActivity extends AppCompatActivity
         implements NavigationView.OnNavigationItemSelectedListener {
@@ -93,7 +91,7 @@ public class MoPubSampleActivity extends AppCompatActivity
     private ConsentStatusChangeListener mConsentStatusChangeListener;
 
     @NonNull
-    private final LinkedBlockingDeque<String> mImpressionsList = new LinkedBlockingDeque<>();
+    private final ImpressionLog mImpressionLog = new ImpressionLog(ImpressionLog.DEFAULT_CAPACITY);
     private ImpressionListener mImpressionListener;
 
     @Override
@@ -137,7 +135,18 @@ public class MoPubSampleActivity extends AppCompatActivity
             configBuilder.withLogLevel(INFO);
         }
 
-        MoPub.initializeSdk(this, configBuilder.build(), initSdkListener());
+        final SdkConfiguration sdkConfiguration = configBuilder.build();
+        if (AdapterInitializationProfiler.consumeProfileRequest(this)) {
+            // Adapters only initialize once per process, so profile them before the SDK does.
+            new AdapterInitializationProfiler(this).run(new AdapterInitializationProfiler.Listener() {
+                @Override
+                public void onProfileFinished(@NonNull final List<AdapterInitializationProfiler.Record> records) {
+                    MoPub.initializeSdk(MoPubSampleActivity.this, sdkConfiguration, initSdkListener());
+                }
+            });
+        } else {
+            MoPub.initializeSdk(this, sdkConfiguration, initSdkListener());
+        }
 
         mConsentStatusChangeListener = initConsentChangeListener();
         mPersonalInfoManager = MoPub.getPersonalInformationManager();
@@ -163,6 +172,7 @@ public class MoPubSampleActivity extends AppCompatActivity
         mConsentStatusChangeListener = null;
 
         ImpressionsEmitter.removeListener(mImpressionListener);
+        mImpressionLog.stopExport();
         super.onDestroy();
     }
 
@@ -256,6 +266,7 @@ public class MoPubSampleActivity extends AppCompatActivity
     private static final String NETWORKS_FRAGMENT_TAG = "networks_info_fragment";
     private static final String LIST_FRAGMENT_TAG = "list_fragment";
     private static final String IMPRESSIONS_FRAGMENT_TAG = "impressions_info_fragment";
+    private static final String LOAD_BENCHMARK_FRAGMENT_TAG = "load_benchmark_fragment";
 
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
@@ -264,6 +275,16 @@ public class MoPubSampleActivity extends AppCompatActivity
         return true;
     }
 
+    @Override
+    public boolean onPrepareOptionsMenu(Menu menu) {
+        final MenuItem exportItem = menu.findItem(R.id.action_export_impressions);
+        if (exportItem != null) {
+            exportItem.setTitle(mImpressionLog.isExporting() ?
+                    R.string.stop_export_impressions : R.string.export_impressions);
+        }
+        return super.onPrepareOptionsMenu(menu);
+    }
+
     private void setupNavigationDrawer(Toolbar toolbar) {
         mDrawerLayout = findViewById(R.id.drawer_layout);
         final ActionBarDrawerToggle toggle = new ActionBarDrawerToggle(this,
@@ -304,9 +325,15 @@ public class MoPubSampleActivity extends AppCompatActivity
             case R.id.action_clear_logs:
                 onClearLogs();
                 return true;
+            case R.id.action_export_impressions:
+                onExportImpressions();
+                return true;
             case R.id.qr_scan:
                 onCaptureQrCode();
                 return true;
+            case R.id.action_load_benchmark:
+                onLoadBenchmarkMenu();
+                return true;
             default:
                 return super.onContextItemSelected(item);
         }
@@ -360,7 +387,7 @@ public class MoPubSampleActivity extends AppCompatActivity
     private void onImpressionsMenu() {
         final FragmentManager manager = getSupportFragmentManager();
         if (manager.findFragmentByTag(IMPRESSIONS_FRAGMENT_TAG) == null) {
-            ImpressionsInfoFragment fragment = ImpressionsInfoFragment.newInstance(new ArrayList<>(mImpressionsList));
+            ImpressionsInfoFragment fragment = ImpressionsInfoFragment.newInstance();
             manager.beginTransaction()
                     .replace(R.id.fragment_container, fragment, IMPRESSIONS_FRAGMENT_TAG)
                     .addToBackStack(IMPRESSIONS_FRAGMENT_TAG)
@@ -368,6 +395,16 @@ public class MoPubSampleActivity extends AppCompatActivity
         }
     }
 
+    private void onLoadBenchmarkMenu() {
+        final FragmentManager manager = getSupportFragmentManager();
+        if (manager.findFragmentByTag(LOAD_BENCHMARK_FRAGMENT_TAG) == null) {
+            manager.beginTransaction()
+                    .replace(R.id.fragment_container, new LoadBenchmarkFragment(), LOAD_BENCHMARK_FRAGMENT_TAG)
+                    .addToBackStack(LOAD_BENCHMARK_FRAGMENT_TAG)
+                    .commit();
+        }
+    }
+
     private void onNavPrivacyInfo() {
         final FragmentManager manager = getSupportFragmentManager();
         if (manager.findFragmentByTag(PRIVACY_FRAGMENT_TAG) == null) {
@@ -447,7 +484,42 @@ public class MoPubSampleActivity extends AppCompatActivity
         if (fragment != null) {
             fragment.onClear();
         }
-        mImpressionsList.clear();
+        mImpressionLog.clear();
+    }
+
+    @NonNull
+    ImpressionLog getImpressionLog() {
+        return mImpressionLog;
+    }
+
+    private void onExportImpressions() {
+        if (mImpressionLog.isExporting()) {
+            mImpressionLog.stopExport();
+            Utils.logToast(this, "Impression export stopped.");
+            invalidateOptionsMenu();
+            return;
+        }
+
+        File directory = getExternalFilesDir(null);
+        if (directory == null) {
+            directory = getFilesDir();
+        }
+        final File file = new File(directory, "impressions_" + System.currentTimeMillis() + ".jsonl");
+        mImpressionLog.startExport(file, new ImpressionLog.ExportListener() {
+            @Override
+            public void onExportFailed(@NonNull final File file, @NonNull final IOException exception) {
+                runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Utils.logToast(MoPubSampleActivity.this, "Can't export impressions to " +
+                                file + ": " + exception.getMessage());
+                        invalidateOptionsMenu();
+                    }
+                });
+            }
+        });
+        Utils.logToast(this, "Exporting impressions to " + file);
+        invalidateOptionsMenu();
     }
 
     private ImpressionListener createImpressionsListener() {
@@ -456,15 +528,8 @@ public class MoPubSampleActivity extends AppCompatActivity
             public void onImpression(@NonNull final String adUnitId, @Nullable final ImpressionData impressionData) {
                 MoPubLog.log(CUSTOM, "impression for adUnitId: " + adUnitId);
 
-                if (impressionData == null) {
-                    mImpressionsList.addFirst("adUnitId: " + adUnitId + "\ndata= null");
-                } else {
-                    try {
-                        mImpressionsList.addFirst(impressionData.getJsonRepresentation().toString(2));
-                    } catch (JSONException e) {
-                        MoPubLog.log(CUSTOM_WITH_THROWABLE, "Can't format impression data.", e);
-                    }
-                }
+                // Formatting is left to the impressions screen, which only formats visible rows.
+                mImpressionLog.add(adUnitId, impressionData);
             }
         };
     }
@@ -174,6 +174,10 @@ class MoPubSampleAdUnit implements Comparable<MoPubSampleAdUnit> {
         return mAdType.getFragmentClass().getName();
     }
 
+    AdType getAdType() {
+        return mAdType;
+    }
+
     String getHeaderName() {
         return mAdType.name;
     }
@@ -9,9 +9,11 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.Button;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentStatePagerAdapter;
@@ -31,8 +33,10 @@ import com.mopub.nativeads.RequestParameters;
 import com.mopub.nativeads.VerizonNativeAdRenderer;
 import com.mopub.nativeads.ViewBinder;
 
+import java.io.File;
 import java.util.EnumSet;
 
+import static com.mopub.mobileads.testing.Utils.logToast;
 import static com.mopub.nativeads.RequestParameters.NativeAdAsset;
 
 public class NativeGalleryFragment extends Fragment implements MoPubNativeAdLoadedListener {
@@ -41,6 +45,7 @@ public class NativeGalleryFragment extends Fragment implements MoPubNativeAdLoad
     private CustomPagerAdapter mPagerAdapter;
     private MoPubStreamAdPlacer mStreamAdPlacer;
     private RequestParameters mRequestParameters;
+    private ScrollBenchmark mScrollBenchmark;
 
     @Override
     public View onCreateView(final LayoutInflater inflater, final ViewGroup container,
@@ -53,12 +58,20 @@ public class NativeGalleryFragment extends Fragment implements MoPubNativeAdLoad
             @Override
             public void onClick(View view) {
                 updateRequestParameters(views);
+        mScrollBenchmark = new ScrollBenchmark(getActivity(), "gallery");
 
                 if (mStreamAdPlacer != null) {
                     mStreamAdPlacer.loadAds(mAdConfiguration.getAdUnitId(), mRequestParameters);
                 }
             }
         });
+        final Button scrollBenchmarkButton = (Button) view.findViewById(R.id.scroll_benchmark_button);
+        scrollBenchmarkButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View view) {
+                startScrollBenchmark(scrollBenchmarkButton);
+            }
+        });
 
         final String adUnitId = mAdConfiguration.getAdUnitId();
         views.mDescriptionView.setText(mAdConfiguration.getDescription());
@@ -150,13 +163,13 @@ public class NativeGalleryFragment extends Fragment implements MoPubNativeAdLoad
 
         // The first renderer that can handle a particular native ad gets used.
         // We are prioritizing network renderers.
-        mStreamAdPlacer.registerAdRenderer(mintegralAdRenderer);
-        mStreamAdPlacer.registerAdRenderer(verizonNativeAdRenderer);
-        mStreamAdPlacer.registerAdRenderer(googlePlayServicesAdRenderer);
-        mStreamAdPlacer.registerAdRenderer(facebookAdRenderer);
-        mStreamAdPlacer.registerAdRenderer(pangleAdRenderer);
-        mStreamAdPlacer.registerAdRenderer(referenceNativeAdRenderer);
-        mStreamAdPlacer.registerAdRenderer(moPubStaticNativeAdRenderer);
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(mintegralAdRenderer));
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(verizonNativeAdRenderer));
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(googlePlayServicesAdRenderer));
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(facebookAdRenderer));
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(pangleAdRenderer));
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(referenceNativeAdRenderer));
+        mStreamAdPlacer.registerAdRenderer(mScrollBenchmark.track(moPubStaticNativeAdRenderer));
         mStreamAdPlacer.setAdLoadedListener(this);
 
         mPagerAdapter = new CustomPagerAdapter(getChildFragmentManager(), mStreamAdPlacer);
@@ -190,8 +203,27 @@ public class NativeGalleryFragment extends Fragment implements MoPubNativeAdLoad
                 .build();
     }
 
+    private void startScrollBenchmark(@NonNull final Button button) {
+        button.setEnabled(false);
+        mScrollBenchmark.start(new ScrollBenchmark.Driver() {
+            @Override
+            public void fling(final boolean forward) {
+                mViewPager.setCurrentItem(mViewPager.getCurrentItem() + (forward ? 1 : -1), true);
+            }
+        }, new ScrollBenchmark.Listener() {
+            @Override
+            public void onScrollBenchmarkFinished(@Nullable final File report) {
+                button.setEnabled(true);
+                logToast(getActivity(), report == null
+                        ? mScrollBenchmark.getSummary()
+                        : "Scroll benchmark written to " + report.getName());
+            }
+        });
+    }
+
     @Override
     public void onDestroyView() {
+        mScrollBenchmark.cancel();
         // You must call this or the ad adapter may cause a memory leak.
         mStreamAdPlacer.destroy();
         super.onDestroyView();
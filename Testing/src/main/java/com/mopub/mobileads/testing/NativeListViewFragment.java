@@ -9,9 +9,11 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ArrayAdapter;
+import android.widget.Button;
 import android.widget.ListView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 
 import com.mopub.nativeads.FacebookAdRenderer;
@@ -27,15 +29,20 @@ import com.mopub.nativeads.RequestParameters;
 import com.mopub.nativeads.VerizonNativeAdRenderer;
 import com.mopub.nativeads.ViewBinder;
 
+import java.io.File;
 import java.util.EnumSet;
 
+import static com.mopub.mobileads.testing.Utils.logToast;
 import static com.mopub.nativeads.MoPubNativeAdPositioning.MoPubServerPositioning;
 import static com.mopub.nativeads.RequestParameters.NativeAdAsset;
 
 public class NativeListViewFragment extends Fragment {
+    private static final int SCROLL_BENCHMARK_FLING_MS = 600;
+
     private MoPubAdAdapter mAdAdapter;
     private MoPubSampleAdUnit mAdConfiguration;
     private RequestParameters mRequestParameters;
+    private ScrollBenchmark mScrollBenchmark;
 
     @Override
     public View onCreateView(final LayoutInflater inflater,
@@ -55,6 +62,13 @@ public class NativeListViewFragment extends Fragment {
                 mAdAdapter.loadAds(mAdConfiguration.getAdUnitId(), mRequestParameters);
             }
         });
+        final Button scrollBenchmarkButton = (Button) view.findViewById(R.id.scroll_benchmark_button);
+        scrollBenchmarkButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View view) {
+                startScrollBenchmark(listView, scrollBenchmarkButton);
+            }
+        });
         final String adUnitId = mAdConfiguration.getAdUnitId();
         views.mDescriptionView.setText(mAdConfiguration.getDescription());
         views.mAdUnitIdView.setText(adUnitId);
@@ -69,6 +83,7 @@ public class NativeListViewFragment extends Fragment {
 
         // Create an ad adapter that gets its positioning information from the MoPub Ad Server.
         // This adapter will be used in place of the original adapter for the ListView.
+        mScrollBenchmark = new ScrollBenchmark(getActivity(), "list_view");
         mAdAdapter = new MoPubAdAdapter(getActivity(), adapter, new MoPubServerPositioning());
 
         // Set up a renderer that knows how to put ad data in your custom native view.
@@ -150,13 +165,13 @@ public class NativeListViewFragment extends Fragment {
         // Register the renderers with the MoPubAdAdapter and then set the adapter on the ListView.
         // The first renderer that can handle a particular native ad gets used.
         // We are prioritizing network renderers.
-        mAdAdapter.registerAdRenderer(mintegralAdRenderer);
-        mAdAdapter.registerAdRenderer(referenceNativeAdRenderer);
-        mAdAdapter.registerAdRenderer(verizonNativeAdRenderer);
-        mAdAdapter.registerAdRenderer(googlePlayServicesAdRenderer);
-        mAdAdapter.registerAdRenderer(facebookAdRenderer);
-        mAdAdapter.registerAdRenderer(staticAdRender);
-        mAdAdapter.registerAdRenderer(pangleAdRenderer);
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(mintegralAdRenderer));
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(referenceNativeAdRenderer));
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(verizonNativeAdRenderer));
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(googlePlayServicesAdRenderer));
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(facebookAdRenderer));
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(staticAdRender));
+        mAdAdapter.registerAdRenderer(mScrollBenchmark.track(pangleAdRenderer));
         listView.setAdapter(mAdAdapter);
 
         updateRequestParameters(views);
@@ -185,8 +200,30 @@ public class NativeListViewFragment extends Fragment {
                 .build();
     }
 
+    private void startScrollBenchmark(@NonNull final ListView listView,
+                                      @NonNull final Button button) {
+        button.setEnabled(false);
+        mScrollBenchmark.start(new ScrollBenchmark.Driver() {
+            @Override
+            public void fling(final boolean forward) {
+                // AbsListView#fling needs API 21, so scroll a few screens instead.
+                final int distance = listView.getHeight() * 3;
+                listView.smoothScrollBy(forward ? distance : -distance, SCROLL_BENCHMARK_FLING_MS);
+            }
+        }, new ScrollBenchmark.Listener() {
+            @Override
+            public void onScrollBenchmarkFinished(@Nullable final File report) {
+                button.setEnabled(true);
+                logToast(getActivity(), report == null
+                        ? mScrollBenchmark.getSummary()
+                        : "Scroll benchmark written to " + report.getName());
+            }
+        });
+    }
+
     @Override
     public void onDestroyView() {
+        mScrollBenchmark.cancel();
         // You must call this or the ad adapter may cause a memory leak.
         mAdAdapter.destroy();
         super.onDestroyView();
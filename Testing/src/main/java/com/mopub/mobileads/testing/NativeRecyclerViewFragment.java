@@ -8,6 +8,7 @@ package com.mopub.mobileads.testing;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
+import android.view.ViewConfiguration;
 import android.view.ViewGroup;
 import android.widget.Button;
 import android.widget.TextView;
@@ -33,9 +34,12 @@ import com.mopub.nativeads.RequestParameters;
 import com.mopub.nativeads.VerizonNativeAdRenderer;
 import com.mopub.nativeads.ViewBinder;
 
+import java.io.File;
 import java.util.EnumSet;
 import java.util.Locale;
 
+import static com.mopub.mobileads.testing.Utils.logToast;
+
 public class NativeRecyclerViewFragment extends Fragment {
     private MoPubRecyclerAdapter mRecyclerAdapter;
     private MoPubSampleAdUnit mAdConfiguration;
@@ -45,6 +49,7 @@ public class NativeRecyclerViewFragment extends Fragment {
 
     private LayoutType mLayoutType;
     private RecyclerView mRecyclerView;
+    private ScrollBenchmark mScrollBenchmark;
 
     @Override
     public View onCreateView(final LayoutInflater inflater, @Nullable final ViewGroup container,
@@ -62,6 +67,13 @@ public class NativeRecyclerViewFragment extends Fragment {
                 toggleRecyclerLayout();
             }
         });
+        final Button scrollBenchmarkButton = (Button) view.findViewById(R.id.scroll_benchmark_button);
+        scrollBenchmarkButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(final View v) {
+                startScrollBenchmark(scrollBenchmarkButton);
+            }
+        });
 
         viewHolder.mLoadButton.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -82,6 +94,7 @@ public class NativeRecyclerViewFragment extends Fragment {
 
         final RecyclerView.Adapter originalAdapter = new DemoRecyclerAdapter();
 
+        mScrollBenchmark = new ScrollBenchmark(getActivity(), "recycler_view");
         mRecyclerAdapter = new MoPubRecyclerAdapter(getActivity(), originalAdapter,
                 new MoPubNativeAdPositioning.MoPubServerPositioning());
 
@@ -163,13 +176,13 @@ public class NativeRecyclerViewFragment extends Fragment {
 
         // The first renderer that can handle a particular native ad gets used.
         // We are prioritizing network renderers.
-        mRecyclerAdapter.registerAdRenderer(mintegralAdRenderer);
-        mRecyclerAdapter.registerAdRenderer(verizonNativeAdRenderer);
-        mRecyclerAdapter.registerAdRenderer(googlePlayServicesAdRenderer);
-        mRecyclerAdapter.registerAdRenderer(facebookAdRenderer);
-        mRecyclerAdapter.registerAdRenderer(pangleAdRenderer);
-        mRecyclerAdapter.registerAdRenderer(referenceNativeAdRenderer);
-        mRecyclerAdapter.registerAdRenderer(moPubStaticNativeAdRenderer);
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(mintegralAdRenderer));
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(verizonNativeAdRenderer));
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(googlePlayServicesAdRenderer));
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(facebookAdRenderer));
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(pangleAdRenderer));
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(referenceNativeAdRenderer));
+        mRecyclerAdapter.registerAdRenderer(mScrollBenchmark.track(moPubStaticNativeAdRenderer));
 
         mRecyclerView.setAdapter(mRecyclerAdapter);
         mRecyclerView.setLayoutManager(new LinearLayoutManager(getActivity()));
@@ -209,8 +222,30 @@ public class NativeRecyclerViewFragment extends Fragment {
         }
     }
 
+    private void startScrollBenchmark(@NonNull final Button button) {
+        final int velocity = ViewConfiguration.get(button.getContext())
+                .getScaledMaximumFlingVelocity() / 2;
+
+        button.setEnabled(false);
+        mScrollBenchmark.start(new ScrollBenchmark.Driver() {
+            @Override
+            public void fling(final boolean forward) {
+                mRecyclerView.fling(0, forward ? velocity : -velocity);
+            }
+        }, new ScrollBenchmark.Listener() {
+            @Override
+            public void onScrollBenchmarkFinished(@Nullable final File report) {
+                button.setEnabled(true);
+                logToast(getActivity(), report == null
+                        ? mScrollBenchmark.getSummary()
+                        : "Scroll benchmark written to " + report.getName());
+            }
+        });
+    }
+
     @Override
     public void onDestroyView() {
+        mScrollBenchmark.cancel();
         // You must call this or the ad adapter may cause a memory leak.
         mRecyclerAdapter.destroy();
         super.onDestroyView();
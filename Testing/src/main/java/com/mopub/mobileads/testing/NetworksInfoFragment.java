@@ -21,12 +21,18 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.mopub.common.MoPub;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import static androidx.recyclerview.widget.DividerItemDecoration.VERTICAL;
+import static com.mopub.mobileads.testing.Utils.logToast;
 
 public class NetworksInfoFragment extends Fragment {
+    private static final int TIMELINE_WIDTH = 40;
+    private static final String ADAPTER_CONFIGURATION_SUFFIX = "AdapterConfiguration";
+
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         final View view = inflater.inflate(R.layout.networks_info_fragment, container, false);
@@ -41,6 +47,23 @@ public class NetworksInfoFragment extends Fragment {
             view.findViewById(R.id.text_no_adapters).setVisibility(View.GONE);
         }
 
+        final List<AdapterInitializationProfiler.Record> profile =
+                AdapterInitializationProfiler.getLastProfile();
+        if (profile != null) {
+            final TextView profileView = view.findViewById(R.id.networks_init_profile);
+            profileView.setText(formatTimeline(profile, AdapterInitializationProfiler.getLastTraceFile()));
+            view.findViewById(R.id.networks_init_profile_scroll).setVisibility(View.VISIBLE);
+        }
+
+        final Button profileButton = view.findViewById(R.id.networks_profile_btn);
+        profileButton.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                AdapterInitializationProfiler.requestProfileOnNextLaunch(v.getContext());
+                logToast(v.getContext(), "Adapter initialization will be profiled on the next launch.");
+            }
+        });
+
         final Button closeButton = view.findViewById(R.id.networks_close_btn);
         closeButton.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -54,6 +77,55 @@ public class NetworksInfoFragment extends Fragment {
         return view;
     }
 
+    /**
+     * Renders one row per adapter with a bar showing when it ran, relative to the whole profile.
+     * '#' marks the initializeNetwork call itself and '=' the time until it reported finishing.
+     */
+    @NonNull
+    private static String formatTimeline(@NonNull final List<AdapterInitializationProfiler.Record> records,
+                                         @Nullable final File traceFile) {
+        long profileEndNanos = 1;
+        for (final AdapterInitializationProfiler.Record record : records) {
+            profileEndNanos = Math.max(profileEndNanos,
+                    record.mStartNanos + record.getDurationNanos());
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (final AdapterInitializationProfiler.Record record : records) {
+            String name = record.mNetworkName;
+            if (name.endsWith(ADAPTER_CONFIGURATION_SUFFIX)) {
+                name = name.substring(0, name.length() - ADAPTER_CONFIGURATION_SUFFIX.length());
+            }
+            final String result = !record.isFinished() ? "TIMEOUT"
+                    : record.isSuccess() ? "OK" : "FAILED";
+            builder.append(String.format(Locale.US, "%s  %s  %dms, main thread %dms\n",
+                    name, result, record.getDurationNanos() / 1000000,
+                    record.mMainThreadBlockedNanos / 1000000));
+
+            final int start = (int) (record.mStartNanos * TIMELINE_WIDTH / profileEndNanos);
+            final int end = Math.max(start + 1, (int) ((record.mStartNanos + record.getDurationNanos())
+                    * TIMELINE_WIDTH / profileEndNanos));
+            final int callEnd = Math.min(end, Math.max(start + 1,
+                    (int) ((record.mStartNanos + record.mCallNanos) * TIMELINE_WIDTH / profileEndNanos)));
+            builder.append('|');
+            for (int i = 0; i < TIMELINE_WIDTH; i++) {
+                builder.append(i < start || i >= end ? ' ' : i < callEnd ? '#' : '=');
+            }
+            builder.append("|\n");
+
+            builder.append("  called on ").append(record.mCallThreadName);
+            if (record.mFinishThreadName != null) {
+                builder.append(", finished on ").append(record.mFinishThreadName);
+            }
+            builder.append("\n\n");
+        }
+
+        if (traceFile != null) {
+            builder.append("Trace: ").append(traceFile.getAbsolutePath());
+        }
+        return builder.toString();
+    }
+
     class NetworksInfoAdapter extends RecyclerView.Adapter<NetworksInfoAdapter.ViewHolder> {
         @NonNull
         final List<String> mNetworksInfo;
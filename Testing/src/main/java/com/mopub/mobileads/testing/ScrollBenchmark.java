@@ -0,0 +1,450 @@
+// Copyright 2018-2020 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.WindowManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.nativeads.BaseNativeAd;
+import com.mopub.nativeads.MoPubAdRenderer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.CUSTOM;
+import static com.mopub.common.logging.MoPubLog.SdkLogEvent.ERROR_WITH_THROWABLE;
+
+/**
+ * Measures how a native ad feed scrolls. A {@link Driver} is asked to fling the feed in a fixed
+ * sequence while every frame is timed with {@link Choreographer}. Renderers registered through
+ * {@link #track(MoPubAdRenderer)} record each view they create or bind, and a slow frame is
+ * charged to every renderer that did work during it. Frames without ad work are charged to the
+ * content rows.
+ * <p>
+ * The report is written as JSON to the app's external files directory.
+ */
+class ScrollBenchmark {
+    interface Driver {
+        /**
+         * Starts one fling. Flings alternate direction every few steps, so the feed is scrolled
+         * back over views that have already been bound.
+         */
+        void fling(boolean forward);
+    }
+
+    interface Listener {
+        void onScrollBenchmarkFinished(@Nullable File report);
+    }
+
+    static class RendererStats {
+        @NonNull
+        final String mName;
+        int mCreatedViews;
+        int mBinds;
+        long mWorkNanos;
+        long mMaxWorkNanos;
+        int mFramesWithWork;
+        int mJankyFrames;
+        int mDroppedFrames;
+
+        RendererStats(@NonNull final String name) {
+            mName = name;
+        }
+
+        void reset() {
+            mCreatedViews = 0;
+            mBinds = 0;
+            mWorkNanos = 0;
+            mMaxWorkNanos = 0;
+            mFramesWithWork = 0;
+            mJankyFrames = 0;
+            mDroppedFrames = 0;
+        }
+    }
+
+    private static final String EXPORT_DIRECTORY = "scroll_benchmarks";
+    private static final String CONTENT_NAME = "Content";
+    private static final int FLING_COUNT = 12;
+    private static final int FLINGS_PER_DIRECTION = 3;
+    private static final long FLING_INTERVAL_MS = 1000;
+    // A frame is janky once it runs half a vsync over budget.
+    private static final double JANK_THRESHOLD = 1.5;
+
+    @NonNull
+    private final Context mContext;
+    @NonNull
+    private final String mName;
+    @NonNull
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final long mFrameBudgetNanos;
+
+    // Keyed by renderer class name, in registration order.
+    @NonNull
+    private final Map<String, RendererStats> mRendererStats = new LinkedHashMap<>();
+    @NonNull
+    private final RendererStats mContentStats = new RendererStats(CONTENT_NAME);
+    // Renderers that did work since the last frame callback.
+    @NonNull
+    private final List<RendererStats> mWorkSinceLastFrame = new ArrayList<>();
+    @NonNull
+    private long[] mFrameNanos = new long[512];
+    private int mFrameCount;
+    private long mLastFrameTimeNanos;
+
+    @Nullable
+    private Driver mDriver;
+    @Nullable
+    private Listener mListener;
+    private int mFlingStep;
+    private boolean mRunning;
+
+    @NonNull
+    private final Choreographer.FrameCallback mFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(final long frameTimeNanos) {
+            if (!mRunning) {
+                return;
+            }
+            if (mLastFrameTimeNanos != 0) {
+                recordFrame(frameTimeNanos - mLastFrameTimeNanos);
+            }
+            mLastFrameTimeNanos = frameTimeNanos;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    };
+
+    @NonNull
+    private final Runnable mFlingRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (!mRunning || mDriver == null) {
+                return;
+            }
+            if (mFlingStep >= FLING_COUNT) {
+                finish();
+                return;
+            }
+            mDriver.fling((mFlingStep / FLINGS_PER_DIRECTION) % 2 == 0);
+            mFlingStep++;
+            mHandler.postDelayed(this, FLING_INTERVAL_MS);
+        }
+    };
+
+    ScrollBenchmark(@NonNull final Context context, @NonNull final String name) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(name);
+
+        mContext = context.getApplicationContext();
+        mName = name;
+        mFrameBudgetNanos = (long) (1e9 / getRefreshRate(mContext));
+    }
+
+    /**
+     * Wraps a renderer so the views it creates and binds are charged to it. Register the returned
+     * renderer in place of the original one.
+     * <p>
+     * The wrapper has to be registered for the life of the feed: MoPub gives each registered
+     * renderer its own view type and has no way to swap or unregister one, so it cannot be put in
+     * place only when a benchmark starts. Outside a benchmark it calls straight through to the
+     * wrapped renderer without timing anything.
+     */
+    @NonNull
+    <T extends BaseNativeAd> MoPubAdRenderer<T> track(@NonNull final MoPubAdRenderer<T> renderer) {
+        Preconditions.checkNotNull(renderer);
+
+        final String name = renderer.getClass().getSimpleName();
+        RendererStats stats = mRendererStats.get(name);
+        if (stats == null) {
+            stats = new RendererStats(name);
+            mRendererStats.put(name, stats);
+        }
+        return new TrackedAdRenderer<>(renderer, stats);
+    }
+
+    boolean isRunning() {
+        return mRunning;
+    }
+
+    void start(@NonNull final Driver driver, @NonNull final Listener listener) {
+        Preconditions.checkNotNull(driver);
+        Preconditions.checkNotNull(listener);
+
+        if (mRunning) {
+            return;
+        }
+
+        for (final RendererStats stats : mRendererStats.values()) {
+            stats.reset();
+        }
+        mContentStats.reset();
+        mWorkSinceLastFrame.clear();
+        mFrameCount = 0;
+        mLastFrameTimeNanos = 0;
+        mFlingStep = 0;
+
+        mDriver = driver;
+        mListener = listener;
+        mRunning = true;
+        Choreographer.getInstance().postFrameCallback(mFrameCallback);
+        mHandler.post(mFlingRunnable);
+    }
+
+    void cancel() {
+        if (!mRunning) {
+            return;
+        }
+        stop();
+        mListener = null;
+    }
+
+    private void stop() {
+        mRunning = false;
+        mDriver = null;
+        mHandler.removeCallbacks(mFlingRunnable);
+        Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+    }
+
+    private void finish() {
+        final Listener listener = mListener;
+        stop();
+        mListener = null;
+
+        MoPubLog.log(CUSTOM, getSummary());
+        final File report = export();
+        if (listener != null) {
+            listener.onScrollBenchmarkFinished(report);
+        }
+    }
+
+    private void recordWork(@NonNull final RendererStats stats, final long workNanos) {
+        if (!mRunning) {
+            return;
+        }
+        stats.mWorkNanos += workNanos;
+        stats.mMaxWorkNanos = Math.max(stats.mMaxWorkNanos, workNanos);
+        if (!mWorkSinceLastFrame.contains(stats)) {
+            mWorkSinceLastFrame.add(stats);
+        }
+    }
+
+    @VisibleForTesting
+    void recordFrame(final long frameNanos) {
+        if (mFrameCount == mFrameNanos.length) {
+            mFrameNanos = Arrays.copyOf(mFrameNanos, mFrameCount * 2);
+        }
+        mFrameNanos[mFrameCount++] = frameNanos;
+
+        final boolean janky = frameNanos > mFrameBudgetNanos * JANK_THRESHOLD;
+        final int droppedFrames = janky
+                ? (int) Math.max(1, Math.round((double) frameNanos / mFrameBudgetNanos) - 1)
+                : 0;
+
+        if (mWorkSinceLastFrame.isEmpty()) {
+            if (janky) {
+                mContentStats.mJankyFrames++;
+                mContentStats.mDroppedFrames += droppedFrames;
+            }
+            return;
+        }
+
+        for (final RendererStats stats : mWorkSinceLastFrame) {
+            stats.mFramesWithWork++;
+            if (janky) {
+                stats.mJankyFrames++;
+                stats.mDroppedFrames += droppedFrames;
+            }
+        }
+        mWorkSinceLastFrame.clear();
+    }
+
+    @VisibleForTesting
+    @Nullable
+    RendererStats getRendererStats(@NonNull final String name) {
+        return mRendererStats.get(name);
+    }
+
+    @VisibleForTesting
+    @NonNull
+    RendererStats getContentStats() {
+        return mContentStats;
+    }
+
+    @NonNull
+    String getSummary() {
+        final long[] sorted = getSortedFrames();
+        int jankyFrames = mContentStats.mJankyFrames;
+        for (final RendererStats stats : mRendererStats.values()) {
+            jankyFrames += stats.mJankyFrames;
+        }
+        return String.format(Locale.US, "%s scroll benchmark: %d frames, p50 %.1fms, p99 %.1fms, "
+                        + "%d janky frame attributions",
+                mName, sorted.length, toMillis(percentile(sorted, 50)),
+                toMillis(percentile(sorted, 99)), jankyFrames);
+    }
+
+    @Nullable
+    private File export() {
+        File directory = mContext.getExternalFilesDir(EXPORT_DIRECTORY);
+        if (directory == null) {
+            directory = new File(mContext.getFilesDir(), EXPORT_DIRECTORY);
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            MoPubLog.log(CUSTOM, "Unable to create " + directory);
+            return null;
+        }
+
+        final File file = new File(directory,
+                "scroll_benchmark_" + mName + "_" + System.currentTimeMillis() + ".json");
+        try {
+            final Writer writer = new FileWriter(file);
+            try {
+                writer.write(toJson().toString(2));
+            } finally {
+                writer.close();
+            }
+        } catch (IOException | JSONException e) {
+            MoPubLog.log(ERROR_WITH_THROWABLE, "Failed to export scroll benchmark", e);
+            return null;
+        }
+        return file;
+    }
+
+    @NonNull
+    private JSONObject toJson() throws JSONException {
+        final long[] sorted = getSortedFrames();
+
+        final JSONObject json = new JSONObject();
+        json.put("name", mName);
+        json.put("frameBudgetMs", toMillis(mFrameBudgetNanos));
+        json.put("frames", sorted.length);
+        json.put("p50Ms", toMillis(percentile(sorted, 50)));
+        json.put("p90Ms", toMillis(percentile(sorted, 90)));
+        json.put("p99Ms", toMillis(percentile(sorted, 99)));
+        json.put("maxMs", toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+
+        final JSONArray renderers = new JSONArray();
+        for (final RendererStats stats : mRendererStats.values()) {
+            renderers.put(toJson(stats));
+        }
+        renderers.put(toJson(mContentStats));
+        json.put("renderers", renderers);
+        return json;
+    }
+
+    @NonNull
+    private static JSONObject toJson(@NonNull final RendererStats stats) throws JSONException {
+        final int workCount = stats.mCreatedViews + stats.mBinds;
+
+        final JSONObject json = new JSONObject();
+        json.put("renderer", stats.mName);
+        json.put("createdViews", stats.mCreatedViews);
+        json.put("binds", stats.mBinds);
+        json.put("averageWorkMs", workCount == 0 ? 0 : toMillis(stats.mWorkNanos / workCount));
+        json.put("maxWorkMs", toMillis(stats.mMaxWorkNanos));
+        json.put("framesWithWork", stats.mFramesWithWork);
+        json.put("jankyFrames", stats.mJankyFrames);
+        json.put("droppedFrames", stats.mDroppedFrames);
+        return json;
+    }
+
+    @NonNull
+    private long[] getSortedFrames() {
+        final long[] sorted = Arrays.copyOf(mFrameNanos, mFrameCount);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted frame durations, or 0 when there are none.
+     */
+    @VisibleForTesting
+    static long percentile(@NonNull final long[] sorted, final int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toMillis(final long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+
+    private static float getRefreshRate(@NonNull final Context context) {
+        final WindowManager windowManager =
+                (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        final float refreshRate = windowManager == null
+                ? 0 : windowManager.getDefaultDisplay().getRefreshRate();
+        return refreshRate > 0 ? refreshRate : 60;
+    }
+
+    private class TrackedAdRenderer<T extends BaseNativeAd> implements MoPubAdRenderer<T> {
+        @NonNull
+        private final MoPubAdRenderer<T> mRenderer;
+        @NonNull
+        private final RendererStats mStats;
+
+        TrackedAdRenderer(@NonNull final MoPubAdRenderer<T> renderer,
+                          @NonNull final RendererStats stats) {
+            mRenderer = renderer;
+            mStats = stats;
+        }
+
+        @NonNull
+        @Override
+        public View createAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
+            if (!mRunning) {
+                return mRenderer.createAdView(context, parent);
+            }
+
+            final long start = System.nanoTime();
+            final View view = mRenderer.createAdView(context, parent);
+            mStats.mCreatedViews++;
+            recordWork(mStats, System.nanoTime() - start);
+            return view;
+        }
+
+        @Override
+        public void renderAdView(@NonNull final View view, @NonNull final T ad) {
+            if (!mRunning) {
+                mRenderer.renderAdView(view, ad);
+                return;
+            }
+
+            final long start = System.nanoTime();
+            mRenderer.renderAdView(view, ad);
+            mStats.mBinds++;
+            recordWork(mStats, System.nanoTime() - start);
+        }
+
+        @Override
+        public boolean supports(@NonNull final BaseNativeAd nativeAd) {
+            return mRenderer.supports(nativeAd);
+        }
+    }
+}
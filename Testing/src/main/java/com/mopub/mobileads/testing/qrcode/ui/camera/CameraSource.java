@@ -44,9 +44,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 
 // Note: This requires Google Play Services 8.1 or higher, due to using indirect byte buffers for
 // storing images.
@@ -91,6 +90,15 @@ public class CameraSource {
      */
     private static final float ASPECT_RATIO_TOLERANCE = 0.01f;
 
+    /**
+     * Four frame buffers are needed for working with the camera:
+     *
+     *   one for the frame that is currently being executed upon in doing detection
+     *   one for the next pending frame to process immediately upon completing detection
+     *   two for the frames that the camera uses to populate future preview images
+     */
+    private static final int PREVIEW_BUFFER_COUNT = 4;
+
     @StringDef({
             Camera.Parameters.FOCUS_MODE_CONTINUOUS_PICTURE,
             Camera.Parameters.FOCUS_MODE_CONTINUOUS_VIDEO,
@@ -154,11 +162,13 @@ public class CameraSource {
     private FrameProcessingRunnable mFrameProcessor;
 
     /**
-     * Map to convert between a byte array, received from the camera, and its associated byte
-     * buffer.  We use byte buffers internally because this is a more efficient way to call into
-     * native code later (avoids a potential copy).
+     * Fixed pool of preview buffers.  A byte array received from the camera is matched to its slot
+     * by reference, and the slot indexes the associated byte buffer.  We use byte buffers
+     * internally because this is a more efficient way to call into native code later (avoids a
+     * potential copy).  The pool is kept across stop and start while the preview size is unchanged.
      */
-    private Map<byte[], ByteBuffer> mBytesToByteBuffer = new HashMap<>();
+    private byte[][] mPreviewBuffers;
+    private ByteBuffer[] mPreviewByteBuffers;
 
     //==============================================================================================
     // Builder
@@ -323,9 +333,20 @@ public class CameraSource {
         synchronized (mCameraLock) {
             stop();
             mFrameProcessor.release();
+
+            // drop the buffer pool to prevent oom exceptions
+            mPreviewBuffers = null;
+            mPreviewByteBuffers = null;
         }
     }
 
+    /**
+     * Returns the frame counts and detection latency since this camera source was created.
+     */
+    public FrameStats getFrameStats() {
+        return mFrameProcessor.getFrameStats();
+    }
+
     /**
      * Opens the camera and starts sending preview frames to the underlying detector.  The preview
      * frames are not displayed.
@@ -408,9 +429,6 @@ public class CameraSource {
                 mProcessingThread = null;
             }
 
-            // clear the buffer to prevent oom exceptions
-            mBytesToByteBuffer.clear();
-
             if (mCamera != null) {
                 mCamera.stopPreview();
                 mCamera.setPreviewCallbackWithBuffer(null);
@@ -800,16 +818,12 @@ public class CameraSource {
 
         camera.setParameters(parameters);
 
-        // Four frame buffers are needed for working with the camera:
-        //
-        //   one for the frame that is currently being executed upon in doing detection
-        //   one for the next pending frame to process immediately upon completing detection
-        //   two for the frames that the camera uses to populate future preview images
+        createPreviewBuffers(mPreviewSize);
+        mFrameProcessor.clearPendingFrame();
         camera.setPreviewCallbackWithBuffer(new CameraPreviewCallback());
-        camera.addCallbackBuffer(createPreviewBuffer(mPreviewSize));
-        camera.addCallbackBuffer(createPreviewBuffer(mPreviewSize));
-        camera.addCallbackBuffer(createPreviewBuffer(mPreviewSize));
-        camera.addCallbackBuffer(createPreviewBuffer(mPreviewSize));
+        for (byte[] previewBuffer : mPreviewBuffers) {
+            camera.addCallbackBuffer(previewBuffer);
+        }
 
         return camera;
     }
@@ -1022,32 +1036,107 @@ public class CameraSource {
     }
 
     /**
-     * Creates one buffer for the camera preview callback.  The size of the buffer is based off of
-     * the camera preview size and the format of the camera image.
-     *
-     * @return a new preview buffer of the appropriate size for the current camera settings
+     * Fills the preview buffer pool.  The size of each buffer is based off of the camera preview
+     * size and the format of the camera image.  The existing pool is reused if its buffers are
+     * already the right size.
      */
-    private byte[] createPreviewBuffer(Size previewSize) {
+    private void createPreviewBuffers(Size previewSize) {
         int bitsPerPixel = ImageFormat.getBitsPerPixel(ImageFormat.NV21);
         long sizeInBits = previewSize.getHeight() * previewSize.getWidth() * bitsPerPixel;
         int bufferSize = (int) Math.ceil(sizeInBits / 8.0d) + 1;
 
-        //
-        // NOTICE: This code only works when using play services v. 8.1 or higher.
-        //
-
-        // Creating the byte array this way and wrapping it, as opposed to using .allocate(),
-        // should guarantee that there will be an array to work with.
-        byte[] byteArray = new byte[bufferSize];
-        ByteBuffer buffer = ByteBuffer.wrap(byteArray);
-        if (!buffer.hasArray() || (buffer.array() != byteArray)) {
-            // I don't think that this will ever happen.  But if it does, then we wouldn't be
-            // passing the preview content to the underlying detector later.
-            throw new IllegalStateException("Failed to create valid buffer for camera source.");
+        if (mPreviewBuffers != null && mPreviewBuffers[0].length == bufferSize) {
+            return;
+        }
+
+        byte[][] previewBuffers = new byte[PREVIEW_BUFFER_COUNT][];
+        ByteBuffer[] previewByteBuffers = new ByteBuffer[PREVIEW_BUFFER_COUNT];
+        for (int slot = 0; slot < PREVIEW_BUFFER_COUNT; slot++) {
+            //
+            // NOTICE: This code only works when using play services v. 8.1 or higher.
+            //
+
+            // Creating the byte array this way and wrapping it, as opposed to using .allocate(),
+            // should guarantee that there will be an array to work with.
+            byte[] byteArray = new byte[bufferSize];
+            ByteBuffer buffer = ByteBuffer.wrap(byteArray);
+            if (!buffer.hasArray() || (buffer.array() != byteArray)) {
+                // I don't think that this will ever happen.  But if it does, then we wouldn't be
+                // passing the preview content to the underlying detector later.
+                throw new IllegalStateException("Failed to create valid buffer for camera source.");
+            }
+            previewBuffers[slot] = byteArray;
+            previewByteBuffers[slot] = buffer;
         }
 
-        mBytesToByteBuffer.put(byteArray, buffer);
-        return byteArray;
+        mPreviewBuffers = previewBuffers;
+        mPreviewByteBuffers = previewByteBuffers;
+    }
+
+    /**
+     * Returns the pool slot of a buffer received from the camera, or {@link FrameHandoff#NO_SLOT}
+     * if the buffer is not from the current pool.
+     */
+    private int getPreviewBufferSlot(byte[] data) {
+        byte[][] previewBuffers = mPreviewBuffers;
+        if (previewBuffers == null) {
+            return FrameHandoff.NO_SLOT;
+        }
+        for (int slot = 0; slot < previewBuffers.length; slot++) {
+            if (previewBuffers[slot] == data) {
+                return slot;
+            }
+        }
+        return FrameHandoff.NO_SLOT;
+    }
+
+    /**
+     * Frame counts and detection latency of a camera source.  Latency is measured from the moment
+     * a frame is received from the camera until the detector has finished with it.
+     */
+    public static class FrameStats {
+        private final long mFramesIn;
+        private final long mFramesProcessed;
+        private final long mFramesDropped;
+        private final long mTotalLatencyNanos;
+        private final long mMaxLatencyNanos;
+
+        FrameStats(long framesIn, long framesProcessed, long framesDropped,
+                   long totalLatencyNanos, long maxLatencyNanos) {
+            mFramesIn = framesIn;
+            mFramesProcessed = framesProcessed;
+            mFramesDropped = framesDropped;
+            mTotalLatencyNanos = totalLatencyNanos;
+            mMaxLatencyNanos = maxLatencyNanos;
+        }
+
+        public long getFramesIn() {
+            return mFramesIn;
+        }
+
+        public long getFramesProcessed() {
+            return mFramesProcessed;
+        }
+
+        public long getFramesDropped() {
+            return mFramesDropped;
+        }
+
+        public double getAverageLatencyMillis() {
+            return mFramesProcessed == 0 ? 0 : mTotalLatencyNanos / 1e6 / mFramesProcessed;
+        }
+
+        public double getMaxLatencyMillis() {
+            return mMaxLatencyNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "frames in: %d, processed: %d, dropped: %d, latency avg: %.1fms, max: %.1fms",
+                    mFramesIn, mFramesProcessed, mFramesDropped, getAverageLatencyMillis(),
+                    getMaxLatencyMillis());
+        }
     }
 
     //==============================================================================================
@@ -1060,7 +1149,21 @@ public class CameraSource {
     private class CameraPreviewCallback implements Camera.PreviewCallback {
         @Override
         public void onPreviewFrame(byte[] data, Camera camera) {
-            mFrameProcessor.setNextFrame(data, camera);
+            mFrameProcessor.setNextFrame(data);
+        }
+    }
+
+    /**
+     * Returns the buffer of a pool slot to the camera.
+     */
+    private class CameraBufferRecycler implements FrameHandoff.BufferRecycler {
+        @Override
+        public void recycle(int slot) {
+            Camera camera = mCamera;
+            byte[][] previewBuffers = mPreviewBuffers;
+            if (camera != null && previewBuffers != null) {
+                camera.addCallbackBuffer(previewBuffers[slot]);
+            }
         }
     }
 
@@ -1070,22 +1173,18 @@ public class CameraSource {
      * (i.e., without unnecessary context switching or waiting on the next frame).
      * <p/>
      * While detection is running on a frame, new frames may be received from the camera.  As these
-     * frames come in, the most recent frame is held onto as pending.  As soon as detection and its
-     * associated processing are done for the previous frame, detection on the mostly recently
-     * received frame will immediately start on the same thread.
+     * frames come in, the most recent frame is held onto as pending by a {@link FrameHandoff}.  As
+     * soon as detection and its associated processing are done for the previous frame, detection on
+     * the mostly recently received frame will immediately start on the same thread.
      */
     private class FrameProcessingRunnable implements Runnable {
         private Detector<?> mDetector;
         private long mStartTimeMillis = SystemClock.elapsedRealtime();
 
-        // This lock guards all of the member variables below.
-        private final Object mLock = new Object();
-        private boolean mActive = true;
+        private volatile boolean mActive = true;
 
-        // These pending variables hold the state associated with the new frame awaiting processing.
-        private long mPendingTimeMillis;
-        private int mPendingFrameId = 0;
-        private ByteBuffer mPendingFrameData;
+        private final FrameHandoff mHandoff =
+                new FrameHandoff(PREVIEW_BUFFER_COUNT, new CameraBufferRecycler());
 
         FrameProcessingRunnable(Detector<?> detector) {
             mDetector = detector;
@@ -1097,57 +1196,52 @@ public class CameraSource {
          */
         @SuppressLint("Assert")
         void release() {
-            assert (mProcessingThread.getState() == State.TERMINATED);
+            assert (mProcessingThread == null || mProcessingThread.getState() == State.TERMINATED);
             mDetector.release();
             mDetector = null;
         }
 
+        FrameStats getFrameStats() {
+            return mHandoff.getFrameStats();
+        }
+
         /**
-         * Marks the runnable as active/not active.  Signals any blocked threads to continue.
+         * Forgets the pending frame.  Called before the preview buffers are handed to a newly
+         * opened camera, since they are all returned to it.
          */
-        void setActive(boolean active) {
-            synchronized (mLock) {
-                mActive = active;
-                mLock.notifyAll();
-            }
+        void clearPendingFrame() {
+            mHandoff.clear();
         }
 
         /**
-         * Sets the frame data received from the camera.  This adds the previous unused frame buffer
-         * (if present) back to the camera, and keeps a pending reference to the frame data for
-         * future use.
+         * Marks the runnable as active/not active.  Wakes the processing thread so it can exit.
          */
-        void setNextFrame(byte[] data, Camera camera) {
-            synchronized (mLock) {
-                if (mPendingFrameData != null) {
-                    camera.addCallbackBuffer(mPendingFrameData.array());
-                    mPendingFrameData = null;
-                }
-
-                if (!mBytesToByteBuffer.containsKey(data)) {
-                    Log.d(TAG,
-                            "Skipping frame.  Could not find ByteBuffer associated with the image " +
-                                    "data from the camera.");
-                    return;
-                }
-
-                // Timestamp and frame ID are maintained here, which will give downstream code some
-                // idea of the timing of frames received and when frames were dropped along the way.
-                mPendingTimeMillis = SystemClock.elapsedRealtime() - mStartTimeMillis;
-                mPendingFrameId++;
-                mPendingFrameData = mBytesToByteBuffer.get(data);
+        void setActive(boolean active) {
+            mActive = active;
+            mHandoff.wakeConsumer();
+        }
 
-                // Notify the processor thread if it is waiting on the next frame (see below).
-                mLock.notifyAll();
+        /**
+         * Sets the frame data received from the camera.  This publishes the frame as pending and
+         * returns the frame it replaced (if present) back to the camera.
+         */
+        void setNextFrame(byte[] data) {
+            int slot = getPreviewBufferSlot(data);
+            if (slot == FrameHandoff.NO_SLOT) {
+                Log.d(TAG,
+                        "Skipping frame.  Could not find ByteBuffer associated with the image " +
+                                "data from the camera.");
+                return;
             }
+
+            mHandoff.publish(slot, SystemClock.elapsedRealtime() - mStartTimeMillis);
         }
 
         /**
          * As long as the processing thread is active, this executes detection on frames
          * continuously.  The next pending frame is either immediately available or hasn't been
-         * received yet.  Once it is available, we transfer the frame info to local variables and
-         * run detection on that frame.  It immediately loops back for the next frame without
-         * pausing.
+         * received yet.  Once it is available, we take its slot and run detection on that frame.
+         * It immediately loops back for the next frame without pausing.
          * <p/>
          * If detection takes longer than the time in between new frames from the camera, this will
          * mean that this loop will run without ever waiting on a frame, avoiding any context
@@ -1158,57 +1252,44 @@ public class CameraSource {
          */
         @Override
         public void run() {
-            Frame outputFrame;
-            ByteBuffer data;
-
-            while (true) {
-                synchronized (mLock) {
-                    while (mActive && (mPendingFrameData == null)) {
-                        try {
-                            // Wait for the next frame to be received from the camera, since we
-                            // don't have it yet.
-                            mLock.wait();
-                        } catch (InterruptedException e) {
-                            Log.d(TAG, "Frame processing loop terminated.", e);
+            try {
+                while (mActive) {
+                    // Waits for the next frame to be received from the camera if we don't have it
+                    // yet.  Waking up without a frame just loops back here.
+                    int slot = mHandoff.awaitFrame();
+                    if (slot == FrameHandoff.NO_SLOT) {
+                        if (Thread.interrupted()) {
+                            Log.d(TAG, "Frame processing loop terminated.");
                             return;
                         }
+                        continue;
                     }
 
-                    if (!mActive) {
-                        // Exit the loop once this camera source is stopped or released.  We check
-                        // this here, immediately after the wait() above, to handle the case where
-                        // setActive(false) had been called, triggering the termination of this
-                        // loop.
-                        return;
-                    }
-
-                    outputFrame = new Frame.Builder()
-                            .setImageData(mPendingFrameData, mPreviewSize.getWidth(),
-                                    mPreviewSize.getHeight(), ImageFormat.NV21)
-                            .setId(mPendingFrameId)
-                            .setTimestampMillis(mPendingTimeMillis)
-                            .setRotation(mRotation)
-                            .build();
-
-                    // Hold onto the frame data locally, so that we can use this for detection
-                    // below.  We need to clear mPendingFrameData to ensure that this buffer isn't
-                    // recycled back to the camera before we are done using that data.
-                    data = mPendingFrameData;
-                    mPendingFrameData = null;
+                    processFrame(slot);
                 }
+            } finally {
+                mHandoff.detachConsumer();
+            }
+        }
 
-                // The code below needs to run outside of synchronization, because this will allow
-                // the camera to add pending frame(s) while we are running detection on the current
-                // frame.
-
-                try {
-                    mDetector.receiveFrame(outputFrame);
-                } catch (Throwable t) {
-                    Log.e(TAG, "Exception thrown from receiver.", t);
-                } finally {
-                    mCamera.addCallbackBuffer(data.array());
-                }
+        private void processFrame(int slot) {
+            Frame outputFrame = new Frame.Builder()
+                    .setImageData(mPreviewByteBuffers[slot], mPreviewSize.getWidth(),
+                            mPreviewSize.getHeight(), ImageFormat.NV21)
+                    .setId(mHandoff.getFrameId(slot))
+                    .setTimestampMillis(mHandoff.getTimestampMillis(slot))
+                    .setRotation(mRotation)
+                    .build();
+
+            // Detection runs while the camera keeps publishing newer frames.  This slot is owned
+            // by this thread until the handoff returns its buffer to the camera below.
+            try {
+                mDetector.receiveFrame(outputFrame);
+            } catch (Throwable t) {
+                Log.e(TAG, "Exception thrown from receiver.", t);
+            } finally {
+                mHandoff.finish(slot);
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mopub.mobileads.testing.qrcode.ui.camera;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands preview frames from the camera thread to the processing thread, keeping only the most
+ * recent one.  Frames are identified by the slot of their buffer in a fixed pool; this class does
+ * not touch the buffers themselves, so it can be exercised without a camera.
+ * <p/>
+ * The pending frame is a single slot index that is swapped atomically, so neither thread ever
+ * blocks on the other.  Whoever takes a slot out of the pending position owns its buffer until it
+ * is handed back through {@link BufferRecycler#recycle(int)}.
+ */
+final class FrameHandoff {
+    /**
+     * Marks an empty pending frame slot.
+     */
+    static final int NO_SLOT = -1;
+
+    /**
+     * Gives the buffer of a slot back to the producer, e.g. by returning it to the camera.
+     */
+    interface BufferRecycler {
+        void recycle(int slot);
+    }
+
+    private final BufferRecycler mRecycler;
+
+    // Slot of the frame awaiting processing, or NO_SLOT.
+    private final AtomicInteger mPendingSlot = new AtomicInteger(NO_SLOT);
+
+    // Per slot state for the frame awaiting processing.  These are written by the producer
+    // before the slot is published through mPendingSlot, and read by the consumer after it takes
+    // the slot and before it recycles it.
+    private final long[] mSlotTimeMillis;
+    private final long[] mSlotReceivedNanos;
+    private final int[] mSlotFrameId;
+    private int mNextFrameId = 0;
+
+    private volatile Thread mConsumerThread;
+
+    // The counters change together, so they are guarded by one lock and read as one snapshot.
+    // The lock is only held for a few additions and is almost never contended.
+    private final Object mStatsLock = new Object();
+    private long mFramesIn;
+    private long mFramesDropped;
+    private long mFramesProcessed;
+    private long mTotalLatencyNanos;
+    private long mMaxLatencyNanos;
+
+    FrameHandoff(int slotCount, BufferRecycler recycler) {
+        mRecycler = recycler;
+        mSlotTimeMillis = new long[slotCount];
+        mSlotReceivedNanos = new long[slotCount];
+        mSlotFrameId = new int[slotCount];
+    }
+
+    /**
+     * Publishes the frame in the given slot as pending.  The frame it replaced, if any, is counted
+     * as dropped and its buffer is recycled right away.  Called on the producer thread only.
+     */
+    void publish(int slot, long timestampMillis) {
+        // Timestamp and frame ID are maintained here, which will give downstream code some
+        // idea of the timing of frames received and when frames were dropped along the way.
+        mSlotTimeMillis[slot] = timestampMillis;
+        mSlotReceivedNanos[slot] = System.nanoTime();
+        mSlotFrameId[slot] = ++mNextFrameId;
+
+        // Counted before it is published, so no snapshot has more frames processed or dropped
+        // than received.
+        synchronized (mStatsLock) {
+            mFramesIn++;
+        }
+
+        int replacedSlot = mPendingSlot.getAndSet(slot);
+        if (replacedSlot != NO_SLOT) {
+            synchronized (mStatsLock) {
+                mFramesDropped++;
+            }
+            mRecycler.recycle(replacedSlot);
+        }
+
+        wakeConsumer();
+    }
+
+    /**
+     * Takes the pending frame, or parks the calling thread until one is published or
+     * {@link #wakeConsumer()} is called.  Returns {@link #NO_SLOT} when woken without a frame.
+     * Called on the consumer thread only.
+     */
+    int awaitFrame() {
+        mConsumerThread = Thread.currentThread();
+        int slot = mPendingSlot.getAndSet(NO_SLOT);
+        if (slot == NO_SLOT) {
+            LockSupport.park(this);
+        }
+        return slot;
+    }
+
+    /**
+     * Wakes the consumer if it is waiting in {@link #awaitFrame()}.
+     */
+    void wakeConsumer() {
+        Thread thread = mConsumerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Called by the consumer thread when it stops taking frames.
+     */
+    void detachConsumer() {
+        mConsumerThread = null;
+    }
+
+    int getFrameId(int slot) {
+        return mSlotFrameId[slot];
+    }
+
+    long getTimestampMillis(int slot) {
+        return mSlotTimeMillis[slot];
+    }
+
+    /**
+     * Records the latency of a frame taken through {@link #awaitFrame()} and recycles its buffer.
+     * The latency is read before the buffer goes back to the producer, since the producer may
+     * reuse the slot as soon as it has it.
+     */
+    void finish(int slot) {
+        long latencyNanos = System.nanoTime() - mSlotReceivedNanos[slot];
+        synchronized (mStatsLock) {
+            mFramesProcessed++;
+            mTotalLatencyNanos += latencyNanos;
+            if (latencyNanos > mMaxLatencyNanos) {
+                mMaxLatencyNanos = latencyNanos;
+            }
+        }
+
+        mRecycler.recycle(slot);
+    }
+
+    /**
+     * Forgets the pending frame without recycling it.  Called before all buffers are handed back
+     * to the producer at once.
+     */
+    void clear() {
+        mPendingSlot.set(NO_SLOT);
+    }
+
+    CameraSource.FrameStats getFrameStats() {
+        synchronized (mStatsLock) {
+            return new CameraSource.FrameStats(mFramesIn, mFramesProcessed, mFramesDropped,
+                    mTotalLatencyNanos, mMaxLatencyNanos);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.mopub.nativeads.BaseNativeAd;
+import com.mopub.nativeads.MoPubAdRenderer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LooperMode.Mode.PAUSED)
+public class ScrollBenchmarkTest {
+    // Robolectric's display runs at 60Hz, so a frame is janky from 25ms on.
+    private static final long ON_TIME_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long JANKY_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    // 50ms is three vsyncs, so two frames were dropped.
+    private static final int JANKY_FRAME_DROPPED_FRAMES = 2;
+
+    private Context mContext;
+    private ScrollBenchmark mSubject;
+    private MoPubAdRenderer<BaseNativeAd> mFirstRenderer;
+    private MoPubAdRenderer<BaseNativeAd> mSecondRenderer;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+        mSubject = new ScrollBenchmark(mContext, "test");
+        mFirstRenderer = mSubject.track(new FirstRenderer());
+        mSecondRenderer = mSubject.track(new SecondRenderer());
+    }
+
+    @After
+    public void tearDown() {
+        mSubject.cancel();
+    }
+
+    @Test
+    public void recordFrame_withJankyFrameAfterRendererWork_shouldChargeOnlyThatRenderer() {
+        start();
+
+        bind(mFirstRenderer);
+        mSubject.recordFrame(JANKY_FRAME_NANOS);
+
+        final ScrollBenchmark.RendererStats first = stats(FirstRenderer.class);
+        assertEquals(1, first.mCreatedViews);
+        assertEquals(1, first.mBinds);
+        assertEquals(1, first.mFramesWithWork);
+        assertEquals(1, first.mJankyFrames);
+        assertEquals(JANKY_FRAME_DROPPED_FRAMES, first.mDroppedFrames);
+        assertNoFrames(stats(SecondRenderer.class));
+        assertNoFrames(mSubject.getContentStats());
+    }
+
+    @Test
+    public void recordFrame_withWorkFromTwoRenderers_shouldChargeBoth() {
+        start();
+
+        bind(mFirstRenderer);
+        bind(mSecondRenderer);
+        mSubject.recordFrame(JANKY_FRAME_NANOS);
+
+        assertEquals(1, stats(FirstRenderer.class).mJankyFrames);
+        assertEquals(1, stats(SecondRenderer.class).mJankyFrames);
+        assertNoFrames(mSubject.getContentStats());
+    }
+
+    @Test
+    public void recordFrame_withJankyFrameWithoutAdWork_shouldChargeContent() {
+        start();
+
+        mSubject.recordFrame(JANKY_FRAME_NANOS);
+
+        assertEquals(1, mSubject.getContentStats().mJankyFrames);
+        assertEquals(JANKY_FRAME_DROPPED_FRAMES, mSubject.getContentStats().mDroppedFrames);
+        assertNoFrames(stats(FirstRenderer.class));
+        assertNoFrames(stats(SecondRenderer.class));
+    }
+
+    @Test
+    public void recordFrame_shouldOnlyChargeWorkDoneSinceLastFrame() {
+        start();
+
+        bind(mFirstRenderer);
+        mSubject.recordFrame(ON_TIME_FRAME_NANOS);
+        mSubject.recordFrame(JANKY_FRAME_NANOS);
+
+        final ScrollBenchmark.RendererStats first = stats(FirstRenderer.class);
+        assertEquals(1, first.mFramesWithWork);
+        assertEquals(0, first.mJankyFrames);
+        assertEquals(1, mSubject.getContentStats().mJankyFrames);
+    }
+
+    @Test
+    public void recordFrame_withOnTimeFrame_shouldNotCountJank() {
+        start();
+
+        bind(mFirstRenderer);
+        mSubject.recordFrame(ON_TIME_FRAME_NANOS);
+
+        final ScrollBenchmark.RendererStats first = stats(FirstRenderer.class);
+        assertEquals(1, first.mFramesWithWork);
+        assertEquals(0, first.mJankyFrames);
+        assertEquals(0, first.mDroppedFrames);
+    }
+
+    @Test
+    public void trackedRenderer_whenNotRunning_shouldNotRecordWork() {
+        bind(mFirstRenderer);
+        start();
+        mSubject.recordFrame(JANKY_FRAME_NANOS);
+
+        final ScrollBenchmark.RendererStats first = stats(FirstRenderer.class);
+        assertEquals(0, first.mCreatedViews);
+        assertEquals(0, first.mBinds);
+        assertNoFrames(first);
+        assertEquals(1, mSubject.getContentStats().mJankyFrames);
+    }
+
+    @Test
+    public void track_withSameRendererClassTwice_shouldShareStats() {
+        final MoPubAdRenderer<BaseNativeAd> another = mSubject.track(new FirstRenderer());
+        start();
+
+        bind(mFirstRenderer);
+        bind(another);
+
+        assertEquals(2, stats(FirstRenderer.class).mBinds);
+    }
+
+    @Test
+    public void percentile_shouldReturnNearestRank() {
+        final long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertEquals(50, ScrollBenchmark.percentile(sorted, 50));
+        assertEquals(90, ScrollBenchmark.percentile(sorted, 90));
+        assertEquals(99, ScrollBenchmark.percentile(sorted, 99));
+        assertEquals(100, ScrollBenchmark.percentile(sorted, 100));
+        assertEquals(1, ScrollBenchmark.percentile(sorted, 0));
+    }
+
+    @Test
+    public void percentile_withFewFrames_shouldRoundRankUp() {
+        final long[] sorted = new long[]{10, 20, 30};
+
+        assertEquals(20, ScrollBenchmark.percentile(sorted, 50));
+        assertEquals(30, ScrollBenchmark.percentile(sorted, 99));
+        assertEquals(10, ScrollBenchmark.percentile(new long[]{10}, 99));
+    }
+
+    @Test
+    public void percentile_withNoFrames_shouldReturnZero() {
+        assertEquals(0, ScrollBenchmark.percentile(new long[0], 50));
+    }
+
+    private void start() {
+        // Nothing idles the main looper, so the benchmark's own flings and frame callbacks never
+        // run and each test feeds frames in by hand.
+        mSubject.start(mock(ScrollBenchmark.Driver.class), mock(ScrollBenchmark.Listener.class));
+    }
+
+    private void bind(@NonNull final MoPubAdRenderer<BaseNativeAd> renderer) {
+        final View view = renderer.createAdView(mContext, null);
+        renderer.renderAdView(view, mock(BaseNativeAd.class));
+    }
+
+    @NonNull
+    private ScrollBenchmark.RendererStats stats(@NonNull final Class<?> rendererClass) {
+        return mSubject.getRendererStats(rendererClass.getSimpleName());
+    }
+
+    private static void assertNoFrames(@NonNull final ScrollBenchmark.RendererStats stats) {
+        assertEquals(0, stats.mFramesWithWork);
+        assertEquals(0, stats.mJankyFrames);
+        assertEquals(0, stats.mDroppedFrames);
+    }
+
+    private static class FirstRenderer implements MoPubAdRenderer<BaseNativeAd> {
+        @NonNull
+        @Override
+        public View createAdView(@NonNull final Context context,
+                                 @Nullable final ViewGroup parent) {
+            return new View(context);
+        }
+
+        @Override
+        public void renderAdView(@NonNull final View view, @NonNull final BaseNativeAd ad) {
+        }
+
+        @Override
+        public boolean supports(@NonNull final BaseNativeAd nativeAd) {
+            return true;
+        }
+    }
+
+    private static class SecondRenderer extends FirstRenderer {
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mopub.mobileads.testing.qrcode.ui.camera;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Drives {@link FrameHandoff} the way {@link CameraSource} does, with a producer thread standing
+ * in for the camera and a consumer thread standing in for the detector.
+ */
+public class FrameHandoffTest {
+    private static final int SLOT_COUNT = 4;
+    private static final int WIDTH = 640;
+    private static final int HEIGHT = 480;
+    // NV21: a full resolution Y plane followed by an interleaved VU plane at quarter resolution.
+    private static final int FRAME_SIZE = WIDTH * HEIGHT * 3 / 2;
+    private static final int RECORDED_FRAME_COUNT = 30;
+    private static final int FRAMES_TO_PRODUCE = 500;
+    private static final long FRAME_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    // Each pass over the Y plane stands in for part of the detection work, so the consumer is
+    // usually slower than the producer and frames get dropped and recycled.
+    private static final int DETECTION_PASSES = 4;
+
+    private byte[][] mRecordedFrames;
+    private byte[][] mBuffers;
+    private BlockingQueue<Integer> mFreeSlots;
+    private FrameHandoff mSubject;
+
+    @Before
+    public void setUp() {
+        mRecordedFrames = recordFrames();
+        mBuffers = new byte[SLOT_COUNT][FRAME_SIZE];
+        mFreeSlots = new ArrayBlockingQueue<>(SLOT_COUNT);
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            mFreeSlots.add(slot);
+        }
+        mSubject = new FrameHandoff(SLOT_COUNT, new FrameHandoff.BufferRecycler() {
+            @Override
+            public void recycle(int slot) {
+                // Returning a slot twice, or one that was never taken, would overflow the queue.
+                mFreeSlots.add(slot);
+            }
+        });
+    }
+
+    @Test
+    public void publish_withPendingFrame_shouldDropAndRecycleIt() {
+        mSubject.publish(takeFreeSlot(), 1);
+        final int newestSlot = takeFreeSlot();
+        mSubject.publish(newestSlot, 2);
+
+        assertEquals(SLOT_COUNT - 1, mFreeSlots.size());
+        assertEquals(newestSlot, mSubject.awaitFrame());
+        assertEquals(2, mSubject.getFrameId(newestSlot));
+        assertEquals(2, mSubject.getTimestampMillis(newestSlot));
+
+        mSubject.finish(newestSlot);
+
+        final CameraSource.FrameStats frameStats = mSubject.getFrameStats();
+        assertEquals(2, frameStats.getFramesIn());
+        assertEquals(1, frameStats.getFramesDropped());
+        assertEquals(1, frameStats.getFramesProcessed());
+        assertEquals(SLOT_COUNT, mFreeSlots.size());
+    }
+
+    @Test
+    public void clear_shouldForgetPendingFrame() {
+        mSubject.publish(takeFreeSlot(), 1);
+
+        mSubject.clear();
+        // Without a frame awaitFrame() parks, so give this thread a wake-up permit first.
+        LockSupport.unpark(Thread.currentThread());
+
+        assertEquals(FrameHandoff.NO_SLOT, mSubject.awaitFrame());
+    }
+
+    /**
+     * Feeds recorded NV21 frames from a producer thread to a slower consumer thread.  Checks that
+     * the consumer never sees a buffer the producer is still writing to, that every stats snapshot
+     * is consistent, and that every buffer comes back.  Timing is deliberately not asserted.
+     */
+    @Test
+    public void handoff_withRecordedFrames_shouldDeliverWholeFrames_shouldReportConsistentStats()
+            throws Exception {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final ConsumerRunnable consumer = new ConsumerRunnable(failure);
+        final Thread consumerThread = new Thread(consumer, "FrameHandoffTest consumer");
+        final StatsReaderRunnable statsReader = new StatsReaderRunnable(failure);
+        final Thread statsReaderThread = new Thread(statsReader, "FrameHandoffTest stats");
+        consumerThread.start();
+        statsReaderThread.start();
+
+        final long startNanos = System.nanoTime();
+        int published = 0;
+        for (int i = 0; i < FRAMES_TO_PRODUCE; i++) {
+            // Like the camera, skip the frame when every buffer is still in use.
+            final Integer slot = mFreeSlots.poll();
+            if (slot != null) {
+                final int frameId = published + 1;
+                System.arraycopy(mRecordedFrames[i % RECORDED_FRAME_COUNT], 0, mBuffers[slot], 0,
+                        FRAME_SIZE);
+                stamp(mBuffers[slot], frameId);
+                mSubject.publish(slot, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                published++;
+            }
+            LockSupport.parkNanos(FRAME_INTERVAL_NANOS);
+        }
+
+        consumer.stop();
+        mSubject.wakeConsumer();
+        consumerThread.join();
+        statsReader.stop();
+        statsReaderThread.join();
+
+        assertNull(String.valueOf(failure.get()), failure.get());
+
+        final CameraSource.FrameStats frameStats = mSubject.getFrameStats();
+
+        assertEquals(published, frameStats.getFramesIn());
+        assertEquals(consumer.mProcessed, frameStats.getFramesProcessed());
+        // At most the last published frame can still be pending.
+        final long unaccounted = frameStats.getFramesIn() - frameStats.getFramesProcessed()
+                - frameStats.getFramesDropped();
+        assertTrue("Unaccounted frames: " + unaccounted, unaccounted == 0 || unaccounted == 1);
+        assertTrue(frameStats.getFramesProcessed() > 0);
+        assertEquals(SLOT_COUNT - unaccounted, mFreeSlots.size());
+    }
+
+    private int takeFreeSlot() {
+        return mFreeSlots.remove();
+    }
+
+    /**
+     * Writes the frame ID to the start and the end of the buffer, so a consumer reading a buffer
+     * that is being overwritten sees two different IDs.
+     */
+    private static void stamp(byte[] buffer, int frameId) {
+        ByteBuffer.wrap(buffer).putInt(0, frameId).putInt(FRAME_SIZE - 4, frameId);
+    }
+
+    /**
+     * Builds a short clip of NV21 frames with a moving gradient in the Y plane and a constant
+     * chroma plane, standing in for frames recorded from a camera.
+     */
+    private static byte[][] recordFrames() {
+        final byte[][] frames = new byte[RECORDED_FRAME_COUNT][FRAME_SIZE];
+        for (int frame = 0; frame < RECORDED_FRAME_COUNT; frame++) {
+            final byte[] data = frames[frame];
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    data[y * WIDTH + x] = (byte) (x + y + frame * 8);
+                }
+            }
+            for (int i = WIDTH * HEIGHT; i < FRAME_SIZE; i++) {
+                data[i] = (byte) 128;
+            }
+        }
+        return frames;
+    }
+
+    private class ConsumerRunnable implements Runnable {
+        private final AtomicReference<Throwable> mFailure;
+        private volatile boolean mActive = true;
+        // Only read after the consumer thread has been joined.
+        long mProcessed;
+        long mChecksum;
+
+        ConsumerRunnable(AtomicReference<Throwable> failure) {
+            mFailure = failure;
+        }
+
+        void stop() {
+            mActive = false;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (mActive) {
+                    final int slot = mSubject.awaitFrame();
+                    if (slot == FrameHandoff.NO_SLOT) {
+                        continue;
+                    }
+
+                    try {
+                        detect(slot);
+                    } finally {
+                        mSubject.finish(slot);
+                    }
+                    mProcessed++;
+                }
+            } catch (Throwable t) {
+                mFailure.compareAndSet(null, t);
+            } finally {
+                mSubject.detachConsumer();
+            }
+        }
+
+        private void detect(int slot) {
+            final byte[] buffer = mBuffers[slot];
+            final ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            final int frameId = mSubject.getFrameId(slot);
+            assertEquals(frameId, wrapped.getInt(0));
+
+            for (int pass = 0; pass < DETECTION_PASSES; pass++) {
+                for (int i = 0; i < WIDTH * HEIGHT; i++) {
+                    mChecksum += buffer[i] & 0xff;
+                }
+            }
+
+            // The buffer must not have been touched while it was being processed.
+            assertEquals(frameId, wrapped.getInt(0));
+            assertEquals(frameId, wrapped.getInt(FRAME_SIZE - 4));
+        }
+    }
+
+    private class StatsReaderRunnable implements Runnable {
+        private final AtomicReference<Throwable> mFailure;
+        private volatile boolean mActive = true;
+
+        StatsReaderRunnable(AtomicReference<Throwable> failure) {
+            mFailure = failure;
+        }
+
+        void stop() {
+            mActive = false;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (mActive) {
+                    final CameraSource.FrameStats frameStats = mSubject.getFrameStats();
+                    assertTrue("Inconsistent snapshot: " + frameStats,
+                            frameStats.getFramesProcessed() + frameStats.getFramesDropped()
+                                    <= frameStats.getFramesIn());
+                    assertTrue("Inconsistent snapshot: " + frameStats,
+                            frameStats.getMaxLatencyMillis() >= frameStats.getAverageLatencyMillis());
+                    Thread.yield();
+                }
+            } catch (Throwable t) {
+                mFailure.compareAndSet(null, t);
+            }
+        }
+    }
+}
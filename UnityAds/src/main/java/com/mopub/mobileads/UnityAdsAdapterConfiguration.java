@@ -5,7 +5,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import android.text.TextUtils;
 
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -18,7 +17,7 @@ import java.util.Map;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
-public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
+public class UnityAdsAdapterConfiguration extends CachingAdapterConfiguration {
 
     // Adapter's keys
     public static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
@@ -61,6 +60,10 @@ public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(listener);
 
+        if (LazyNetworkInitializer.deferIfEnabled(this, context, configuration, listener)) {
+            return;
+        }
+
         synchronized (UnityAdsAdapterConfiguration.class) {
             try {
                 if (UnityAds.isInitialized()) {
@@ -10,6 +10,7 @@ import androidx.annotation.Nullable;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.unityads.BuildConfig;
 
 import com.unity3d.ads.IUnityAdsInitializationListener;
 import com.unity3d.ads.UnityAds;
@@ -47,6 +48,9 @@ public class UnityBanner extends BaseAd implements BannerView.IListener {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.BANNER,
+                BuildConfig.NETWORK_NAME, adData);
+
         if (!(context instanceof Activity)) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Failing Unity Ads banner ad request as the context is not an Activity.");
             MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
@@ -143,6 +147,8 @@ public class UnityBanner extends BaseAd implements BannerView.IListener {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (mBannerView != null) {
             mBannerView.destroy();
         }
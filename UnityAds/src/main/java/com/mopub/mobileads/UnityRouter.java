@@ -70,10 +70,9 @@ public class UnityRouter {
     }
 
     static String placementIdForServerExtras(Map<String, String> serverExtras, String defaultPlacementId) {
-        String placementId = null;
-        if (serverExtras.containsKey(PLACEMENT_ID_KEY)) {
-            placementId = serverExtras.get(PLACEMENT_ID_KEY);
-        } else if (serverExtras.containsKey(ZONE_ID_KEY)) {
+        // Single lookup per key; the legacy zoneId is only consulted when placementId is absent
+        String placementId = serverExtras.get(PLACEMENT_ID_KEY);
+        if (placementId == null && !serverExtras.containsKey(PLACEMENT_ID_KEY)) {
             placementId = serverExtras.get(ZONE_ID_KEY);
         }
         return TextUtils.isEmpty(placementId) ? defaultPlacementId : placementId;
@@ -14,6 +14,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.verizon.BuildConfig;
 import com.verizon.ads.ActivityStateManager;
 import com.verizon.ads.Bid;
 import com.verizon.ads.CreativeInfo;
@@ -73,6 +74,8 @@ public class VerizonRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         if (verizonInterstitialAd != null) {
             verizonInterstitialAd.destroy();
             verizonInterstitialAd = null;
@@ -155,6 +158,9 @@ public class VerizonRewardedVideo extends BaseAd {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         final Map<String, String> extras = adData.getExtras();
 
         this.activity = (Activity) context;
@@ -9,8 +9,10 @@ import androidx.annotation.NonNull;
 
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.LoadWatchdog;
 import com.mopub.mobileads.MoPubErrorCode;
 import com.mopub.mobileads.VerizonAdapterConfiguration;
+import com.mopub.mobileads.verizon.BuildConfig;
 import com.verizon.ads.ActivityStateManager;
 import com.verizon.ads.Component;
 import com.verizon.ads.CreativeInfo;
@@ -49,12 +51,12 @@ public class VerizonNative extends CustomEventNative {
     private VerizonStaticNativeAd verizonStaticNativeAd;
     private VerizonNativeListener verizonNativeListener;
     private CustomEventNativeListener customEventNativeListener;
-    private static String mPlacementId;
+    private String mPlacementId;
 
     static final String COMP_ID_VIDEO = "video";
 
     static {
-        MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Verizon Adapter Version: " +
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Verizon Adapter Version: " +
                 VerizonAdapterConfiguration.MEDIATOR_ID);
     }
 
@@ -65,7 +67,7 @@ public class VerizonNative extends CustomEventNative {
 
     @Override
     protected void loadNativeAd(@NonNull final Context context,
-                                @NonNull final CustomEventNativeListener customEventNativeListener,
+                                @NonNull CustomEventNativeListener customEventNativeListener,
                                 @NonNull final Map<String, Object> localExtras,
                                 @NonNull final Map<String, String> serverExtras) {
         Preconditions.checkNotNull(context);
@@ -73,6 +75,9 @@ public class VerizonNative extends CustomEventNative {
         Preconditions.checkNotNull(localExtras);
         Preconditions.checkNotNull(serverExtras);
 
+        customEventNativeListener = LoadWatchdog.watch(context, customEventNativeListener,
+                BuildConfig.NETWORK_NAME, serverExtras.get(PLACEMENT_ID_KEY), serverExtras);
+
         this.customEventNativeListener = customEventNativeListener;
 
         if (serverExtras.isEmpty()) {
@@ -303,7 +308,7 @@ public class VerizonNative extends CustomEventNative {
         return null;
     }
 
-    private static String getAdNetworkId() {
+    private String getAdNetworkId() {
         return mPlacementId;
     }
 
@@ -6,7 +6,6 @@ import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -20,7 +19,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
 
-public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
+public class VungleAdapterConfiguration extends CachingAdapterConfiguration {
 
     public static final String ADAPTER_VERSION = BuildConfig.VERSION_NAME;
     // Vungle's keys
@@ -81,6 +80,10 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
 
         VungleRouter.getInstance().applyVungleNetworkSettings(configuration);
 
+        if (LazyNetworkInitializer.deferIfEnabled(this, context, configuration, listener)) {
+            return;
+        }
+
         boolean networkInitializationSucceeded = false;
 
         synchronized (VungleAdapterConfiguration.class) {
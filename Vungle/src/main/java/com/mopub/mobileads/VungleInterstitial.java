@@ -13,6 +13,7 @@ import androidx.annotation.Nullable;
 import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.vungle.BuildConfig;
 import com.vungle.warren.AdConfig;
 import com.vungle.warren.error.VungleException;
 
@@ -63,6 +64,9 @@ public class VungleInterstitial extends BaseAd {
 
     @Override
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.INTERSTITIAL,
+                BuildConfig.NETWORK_NAME, adData);
+
         mIsPlaying = false;
 
         setAutomaticImpressionAndClickTracking(false);
@@ -114,6 +118,8 @@ public class VungleInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME,
                 "onInvalidate is called for Placement ID:" + mPlacementId);
         sVungleRouter.removeRouterListener(mPlacementId);
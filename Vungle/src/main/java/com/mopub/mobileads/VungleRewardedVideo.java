@@ -12,6 +12,7 @@ import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.mobileads.vungle.BuildConfig;
 import com.vungle.warren.AdConfig;
 import com.vungle.warren.error.VungleException;
 
@@ -108,6 +109,9 @@ public class VungleRewardedVideo extends BaseAd {
 
     @Override
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
+        mLoadListener = LoadWatchdog.watch(context, mLoadListener, LoadWatchdog.Format.REWARDED,
+                BuildConfig.NETWORK_NAME, adData);
+
         mIsPlaying = false;
 
         setAutomaticImpressionAndClickTracking(false);
@@ -167,6 +171,8 @@ public class VungleRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        LoadWatchdog.cancel(mLoadListener);
+
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "onInvalidate is called for Placement ID:" +
                 mPlacementId);
         sVungleRouter.removeRouterListener(mPlacementId);
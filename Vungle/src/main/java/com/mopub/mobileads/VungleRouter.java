@@ -5,6 +5,7 @@ import android.content.Context;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import com.mopub.common.BaseLifecycleListener;
 import com.mopub.common.LifecycleListener;
@@ -28,6 +29,7 @@ import com.vungle.warren.VungleSettings;
 import com.vungle.warren.error.VungleException;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
@@ -243,6 +245,15 @@ public class VungleRouter {
     }
 
     void removeRouterListener(String placementId) {
+        // A request still waiting on initialization would otherwise register its listener once
+        // the SDK is ready, keeping an invalidated ad reachable from this static map.
+        final Iterator<AdRequest> waitingRequests = sWaitingList.keySet().iterator();
+        while (waitingRequests.hasNext()) {
+            if (waitingRequests.next().placementId.equals(placementId)) {
+                waitingRequests.remove();
+            }
+        }
+
         if (!sVungleRouterListeners.containsKey(placementId)) {
             return;
         }
@@ -473,4 +484,12 @@ public class VungleRouter {
                 return UNSPECIFIED;
         }
     }
+
+    @VisibleForTesting
+    static void reset(final boolean initializing) {
+        // Drops every listener and puts the SDK back in the given state, without calling Vungle.
+        sVungleRouterListeners.clear();
+        sWaitingList.clear();
+        sInitState = initializing ? SDKInitState.INITIALIZING : SDKInitState.NOTINITIALIZED;
+    }
 }
@@ -0,0 +1,93 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads;
+
+import com.vungle.warren.AdConfig;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Registers and removes router listeners many times and checks that VungleRouter's static maps
+ * let go of every one of them. The SDK state is set directly, so Vungle itself is never called.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class VungleRouterRetentionTest {
+    private static final int LIFECYCLE_ITERATIONS = 50;
+
+    private RetentionProbe mProbe;
+
+    @Before
+    public void setUp() {
+        mProbe = new RetentionProbe();
+    }
+
+    @After
+    public void tearDown() {
+        VungleRouter.reset(false);
+    }
+
+    @Test
+    public void removeRouterListener_withRegisteredListener_shouldNotRetainIt() {
+        VungleRouter.reset(false);
+
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final VungleRouterListener listener = mock(VungleRouterListener.class);
+
+            VungleRouter.getInstance().addRouterListener("placement" + i, listener);
+            VungleRouter.getInstance().removeRouterListener("placement" + i);
+
+            mProbe.track(listener, "VungleRouterListener #" + i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void removeRouterListener_withLoadWaitingOnInitialization_shouldNotRetainIt() {
+        VungleRouter.reset(true);
+
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final VungleRouterListener listener = mock(VungleRouterListener.class);
+
+            VungleRouter.getInstance().loadAdForPlacement("placement" + i, null, null, listener);
+            VungleRouter.getInstance().loadBannerAd("bannerPlacement" + i, "adMarkup",
+                    AdConfig.AdSize.BANNER, listener);
+            VungleRouter.getInstance().removeRouterListener("placement" + i);
+            VungleRouter.getInstance().removeRouterListener("bannerPlacement" + i);
+
+            mProbe.track(listener, "VungleRouterListener #" + i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+
+    @Test
+    public void removeRouterListener_withSamePlacementLoadedTwice_shouldNotRetainEither() {
+        VungleRouter.reset(true);
+
+        for (int i = 0; i < LIFECYCLE_ITERATIONS; i++) {
+            final VungleRouterListener firstListener = mock(VungleRouterListener.class);
+            final VungleRouterListener secondListener = mock(VungleRouterListener.class);
+
+            // Requests for one placement with different markup wait separately.
+            VungleRouter.getInstance().loadAdForPlacement("placement", "adMarkup" + i, null,
+                    firstListener);
+            VungleRouter.getInstance().loadAdForPlacement("placement", null, null,
+                    secondListener);
+            VungleRouter.getInstance().removeRouterListener("placement");
+
+            mProbe.track(firstListener, "first VungleRouterListener #" + i);
+            mProbe.track(secondListener, "second VungleRouterListener #" + i);
+        }
+
+        mProbe.assertAllCollected();
+    }
+}